@@ -8,10 +8,16 @@ import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
 
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
 import org.jabref.gui.Globals;
+import org.jabref.gui.maintable.BibEntryTableViewModel;
+import org.jabref.gui.maintable.MainTableFieldValueFormatter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
+import org.jabref.logic.importer.AuthorListParser;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.layout.format.HTMLChars;
@@ -21,6 +27,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.field.StandardField;
@@ -46,6 +53,8 @@ import static org.mockito.Mockito.mock;
 public class Benchmarks {
 
     private String bibtexString;
+    // large enough to be split into several chunks by BibtexParser#parseInParallel
+    private String largeBibtexString;
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
@@ -68,6 +77,7 @@ public class Benchmarks {
         }
 
         bibtexString = getOutputWriter().toString();
+        largeBibtexString = bibtexString.repeat(20);
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
@@ -87,6 +97,18 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parseLarge() throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        return parser.parse(new StringReader(largeBibtexString));
+    }
+
+    @Benchmark
+    public ParserResult parseLargeInParallel() throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        return parser.parseInParallel(new StringReader(largeBibtexString));
+    }
+
     @Benchmark
     public String write() throws Exception {
         return getOutputWriter().toString();
@@ -135,6 +157,32 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    @Benchmark
+    public List<AuthorList> parseAuthors() {
+        return database.getEntries().parallelStream()
+                       .map(entry -> AuthorList.parse(entry.getField(StandardField.AUTHOR).orElse("")))
+                       .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<AuthorList> parseAuthorsWithoutCache() {
+        return database.getEntries().parallelStream()
+                       .map(entry -> new AuthorListParser().parse(entry.getField(StandardField.AUTHOR).orElse("")))
+                       .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates the rows of the main table as done when opening a library. Run with "-prof gc" to see the allocated heap.
+     */
+    @Benchmark
+    public List<BibEntryTableViewModel> createMainTableRows() {
+        BibDatabaseContext context = new BibDatabaseContext(database, new MetaData());
+        ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter = new SimpleObjectProperty<>();
+        return database.getEntries().stream()
+                       .map(entry -> new BibEntryTableViewModel(entry, context, fieldValueFormatter))
+                       .collect(Collectors.toList());
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
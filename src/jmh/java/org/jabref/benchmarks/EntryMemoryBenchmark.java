@@ -0,0 +1,85 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained per entry of a parsed library, reported as the secondary result "bytesPerEntry". Run it
+ * before and after a change of the entry representation to compare both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EntryMemoryBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 20_000;
+
+    private String bibtexString;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+        public long bytesPerEntry;
+    }
+
+    @Setup
+    public void init() {
+        Globals.prefs = JabRefPreferences.getInstance();
+
+        Random randomizer = new Random(42);
+        StringBuilder library = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            library.append("@Article{id").append(i).append(",\n")
+                   .append("  author    = {Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB").append(i).append("},\n")
+                   .append("  title     = {This is my title ").append(i).append("},\n")
+                   .append("  journal   = {Journal Title ").append(i % 100).append("},\n")
+                   .append("  year      = {").append(1950 + (i % 70)).append("},\n")
+                   .append("  volume    = {").append(i % 40).append("},\n")
+                   .append("  pages     = {").append(i).append("--").append(i + 10).append("},\n")
+                   .append("  doi       = {10.1000/").append(i).append("},\n")
+                   .append("  keywords  = {testkeyword, keyword").append(i % 10).append("},\n")
+                   .append("  rnd       = {").append(randomizer.nextInt()).append("},\n")
+                   .append("}\n\n");
+        }
+        bibtexString = library.toString();
+    }
+
+    @Benchmark
+    public ParserResult parse(HeapUsage heapUsage) throws IOException {
+        long usedBefore = getUsedHeapAfterGarbageCollection();
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        ParserResult result = parser.parse(new StringReader(bibtexString));
+        long usedAfter = getUsedHeapAfterGarbageCollection();
+
+        heapUsage.bytesPerEntry = (usedAfter - usedBefore) / result.getDatabase().getEntryCount();
+        return result;
+    }
+
+    private static long getUsedHeapAfterGarbageCollection() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,116 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.gui.Globals;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.rules.ContainBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule.ComparisonOperator;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.preferences.JabRefPreferences;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares matching entries with the predicate compiled by {@link GrammarBasedSearchRule} with visiting the parse tree
+ * of the query for every entry, as it was done before.
+ */
+@State(Scope.Thread)
+public class SearchRuleBenchmark {
+
+    private static final String QUERY = "author = \"Lastname5\" and (title = \"title 1\" or not keywords = keyword3)";
+    private static final EnumSet<SearchFlags> SEARCH_FLAGS = EnumSet.noneOf(SearchFlags.class);
+
+    private final List<BibEntry> entries = new ArrayList<>();
+    private GrammarBasedSearchRule rule;
+
+    @Setup
+    public void init() {
+        Globals.prefs = JabRefPreferences.getInstance();
+
+        for (int i = 0; i < 10_000; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("id" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + (i % 10) + " and FirstnameA LastnameA")
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + (i % 100))
+                    .withField(StandardField.YEAR, String.valueOf(1950 + (i % 70)))
+                    .withField(StandardField.KEYWORDS, "testkeyword, keyword" + (i % 10)));
+        }
+
+        rule = new GrammarBasedSearchRule(SEARCH_FLAGS);
+        rule.validateSearchStrings(QUERY);
+    }
+
+    @Benchmark
+    public long compiledPredicate() {
+        return entries.stream().filter(entry -> rule.applyRule(QUERY, entry)).count();
+    }
+
+    @Benchmark
+    public long visitParseTree() {
+        return entries.stream().filter(entry -> new VisitingMatcher(entry).visit(rule.getTree())).count();
+    }
+
+    /**
+     * Matches an entry by visiting the parse tree, creating the comparators for every entry
+     */
+    private static class VisitingMatcher extends SearchBaseVisitor<Boolean> {
+
+        private final BibEntry entry;
+
+        VisitingMatcher(BibEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Boolean visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Boolean visitComparison(SearchParser.ComparisonContext context) {
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
+            if (fieldDescriptor.isPresent()) {
+                return new GrammarBasedSearchRule.Comparator(fieldDescriptor.get().getText(), right, ComparisonOperator.build(context.operator.getText()), SEARCH_FLAGS).compare(entry);
+            } else {
+                return new ContainBasedSearchRule(SEARCH_FLAGS).applyRule(right, entry);
+            }
+        }
+
+        @Override
+        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return !visit(ctx.expression());
+        }
+
+        @Override
+        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                return visit(ctx.left) && visit(ctx.right);
+            } else {
+                return visit(ctx.left) || visit(ctx.right);
+            }
+        }
+    }
+}
@@ -29,7 +29,9 @@ import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.exporter.TemplateExporter;
 import org.jabref.logic.exporter.XmpPdfExporter;
+import org.jabref.logic.importer.BulkIdentifierResolver;
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.ImportCleanup;
 import org.jabref.logic.importer.ImportException;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ImportFormatReader;
@@ -219,6 +221,10 @@ public class ArgumentProcessor {
             }
         }
 
+        if (cli.isResolveIdentifiers()) {
+            resolveIdentifiers(loaded);
+        }
+
         if (cli.isGenerateCitationKeys()) {
             regenerateCitationKeys(loaded);
         }
@@ -641,6 +647,25 @@ public class ArgumentProcessor {
         }
     }
 
+    private void resolveIdentifiers(List<ParserResult> loaded) {
+        BulkIdentifierResolver resolver = new BulkIdentifierResolver(preferencesService.getImportFormatPreferences());
+        for (ParserResult parserResult : loaded) {
+            System.out.println(Localization.lang("Resolving DOIs and ISBNs"));
+            BulkIdentifierResolver.Result result = resolver.resolveMetadata(parserResult.getDatabase().getEntries(),
+                    (done, total) -> System.out.print("\r" + Localization.lang("Resolved %0 of %1 identifiers", Integer.toString(done), Integer.toString(total))));
+            System.out.println();
+
+            ImportCleanup cleanup = new ImportCleanup(parserResult.getDatabaseContext().getMode());
+            result.getFetchedEntries().values().forEach(cleanup::doPostCleanup);
+            BulkIdentifierResolver.mergeMissingFields(result.getFetchedEntries());
+
+            System.out.println(Localization.lang("Completed metadata of %0 entries", Integer.toString(result.getFetchedEntries().size())));
+            if (!result.getUnresolvedIdentifiers().isEmpty()) {
+                System.err.println(Localization.lang("Could not resolve the following identifiers: %0", String.join(", ", result.getUnresolvedIdentifiers())));
+            }
+        }
+    }
+
     private void regenerateCitationKeys(List<ParserResult> loaded) {
         for (ParserResult parserResult : loaded) {
             BibDatabase database = parserResult.getDatabase();
@@ -14,7 +14,10 @@ import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.importer.ImportFormatReader;
+import org.jabref.logic.importer.LibrarySnapshotCache;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.net.HttpResponseCache;
+import org.jabref.logic.net.SharedHttpClient;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.server.RemoteListenerServerLifecycle;
 import org.jabref.logic.util.BuildInfo;
@@ -52,6 +55,11 @@ public class Globals {
     public static final ImportFormatReader IMPORT_FORMAT_READER = new ImportFormatReader();
     public static final TaskExecutor TASK_EXECUTOR = new DefaultTaskExecutor(stateManager);
 
+    /**
+     * Snapshots of parsed libraries to reopen them without parsing
+     */
+    public static final LibrarySnapshotCache LIBRARY_SNAPSHOT_CACHE = new LibrarySnapshotCache(LibrarySnapshotCache.getDefaultDirectory());
+
     /**
      * Each test case initializes this field if required
      */
@@ -105,6 +113,8 @@ public class Globals {
     public static void startBackgroundTasks() {
         Globals.fileUpdateMonitor = new DefaultFileUpdateMonitor();
         JabRefExecutorService.INSTANCE.executeInterruptableTask(Globals.fileUpdateMonitor, "FileUpdateMonitor");
+        JabRefExecutorService.INSTANCE.execute(LIBRARY_SNAPSHOT_CACHE::removeObsoleteSnapshots);
+        JabRefExecutorService.INSTANCE.execute(() -> SharedHttpClient.getInstance().getCache().ifPresent(HttpResponseCache::removeObsoleteResponses));
 
         if (Globals.prefs.getTelemetryPreferences().shouldCollectTelemetry() && !GraphicsEnvironment.isHeadless()) {
             startTelemetryClient();
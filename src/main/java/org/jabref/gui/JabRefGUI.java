@@ -286,7 +286,8 @@ public class JabRefGUI {
                 parsedDatabase = OpenDatabase.loadDatabase(
                         dbFile,
                         preferencesService.getImportFormatPreferences(),
-                        Globals.getFileUpdateMonitor());
+                        Globals.getFileUpdateMonitor(),
+                        Globals.LIBRARY_SNAPSHOT_CACHE);
             } catch (IOException ex) {
                 LOGGER.error("Error opening file '{}'", dbFile, ex);
                 parsedDatabase = ParserResult.fromError(ex);
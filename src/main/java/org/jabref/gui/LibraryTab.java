@@ -30,8 +30,10 @@ import org.jabref.gui.dialogs.AutosaveUiManager;
 import org.jabref.gui.entryeditor.EntryEditor;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.importer.actions.OpenDatabaseAction;
+import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.MainTable;
 import org.jabref.gui.maintable.MainTableDataModel;
+import org.jabref.gui.preview.PreviewCache;
 import org.jabref.gui.specialfields.SpecialFieldDatabaseChangeListener;
 import org.jabref.gui.undo.CountingUndoManager;
 import org.jabref.gui.undo.NamedCompound;
@@ -43,12 +45,14 @@ import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.autosaveandbackup.AutosaveManager;
 import org.jabref.logic.autosaveandbackup.BackupManager;
 import org.jabref.logic.citationstyle.CitationStyleCache;
+import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.pdf.FileAnnotationCache;
 import org.jabref.logic.pdf.search.indexing.IndexingTaskManager;
 import org.jabref.logic.pdf.search.indexing.PdfIndexer;
+import org.jabref.logic.pdf.search.retrieval.PdfSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.shared.DatabaseLocation;
 import org.jabref.logic.util.UpdateField;
@@ -69,6 +73,7 @@ import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.collect.Lists;
 import com.google.common.eventbus.Subscribe;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.Subscription;
@@ -128,7 +133,7 @@ public class LibraryTab extends Tab {
         bibDatabaseContext.getMetaData().registerListener(this);
 
         this.sidePaneManager = frame.getSidePaneManager();
-        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager);
+        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager, Globals.TASK_EXECUTOR);
 
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
@@ -200,9 +205,15 @@ public class LibraryTab extends Tab {
 
     public void onDatabaseLoadingSucceed(ParserResult result) {
         BibDatabaseContext context = result.getDatabaseContext();
-        OpenDatabaseAction.performPostOpenActions(this, result);
+        boolean hasDeferredEntries = result.hasDeferredEntries();
+        if (!hasDeferredEntries) {
+            OpenDatabaseAction.performPostOpenActions(this, result);
+        }
 
         feedData(context);
+        if (hasDeferredEntries) {
+            completeDeferredLoading(result);
+        }
         // a temporary workaround to update groups pane
         stateManager.activeDatabaseProperty().bind(
                 EasyBind.map(frame.getTabbedPane().getSelectionModel().selectedItemProperty(),
@@ -212,6 +223,35 @@ public class LibraryTab extends Tab {
                                                .map(LibraryTab::getBibDatabaseContext)));
     }
 
+    /**
+     * Parses the entries, whose parsing was deferred when opening the library, in the background. Afterwards, loads them
+     * and performs the post open actions on the JavaFX thread. Entries shown or edited in the meantime are parsed on
+     * demand.
+     * <p>
+     * As the library was not loaded from a snapshot, a snapshot for opening it the next time is created afterwards.
+     */
+    private void completeDeferredLoading(ParserResult result) {
+        BackgroundTask.wrap(() -> OpenDatabase.parseDeferredEntries(result))
+                      .onSuccess(ignored -> {
+                          OpenDatabase.completeDeferredLoading(result, preferencesService.getImportFormatPreferences());
+                          OpenDatabaseAction.performPostOpenActions(this, result);
+                          if (!result.getDatabase().isShared()) {
+                              result.getPath().ifPresent(this::storeSnapshot);
+                          }
+                      })
+                      .onFailure(exception -> LOGGER.error("Could not parse entries of library", exception))
+                      .executeWith(Globals.TASK_EXECUTOR);
+    }
+
+    private void storeSnapshot(Path file) {
+        BackgroundTask.wrap(() -> {
+                          OpenDatabase.storeSnapshot(file, preferencesService.getImportFormatPreferences(), Globals.getFileUpdateMonitor(), Globals.LIBRARY_SNAPSHOT_CACHE);
+                          return null;
+                      })
+                      .onFailure(exception -> LOGGER.warn("Could not create snapshot of library", exception))
+                      .executeWith(Globals.TASK_EXECUTOR);
+    }
+
     public void onDatabaseLoadingFailed(Exception ex) {
         String title = Localization.lang("Connection error");
         String content = String.format("%s\n\n%s", ex.getMessage(), Localization.lang("A local copy will be opened."));
@@ -227,7 +267,7 @@ public class LibraryTab extends Tab {
         bibDatabaseContext.getDatabase().registerListener(this);
         bibDatabaseContext.getMetaData().registerListener(this);
 
-        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager);
+        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager, Globals.TASK_EXECUTOR);
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
 
@@ -495,6 +535,15 @@ public class LibraryTab extends Tab {
                                                          .stream()
                                                          .findFirst()
                                                          .ifPresent(entryEditor::setEntry));
+
+        // Render the previews of the entries next to the selected one in advance, so that moving through the table is fast
+        mainTable.addSelectionListener(event -> {
+            int selectedIndex = mainTable.getSelectionModel().getSelectedIndex();
+            if ((mode == BasePanelMode.SHOWING_EDITOR) && (selectedIndex >= 0)) {
+                List<BibEntry> entries = Lists.transform(tableModel.getEntriesFilteredAndSorted(), BibEntryTableViewModel::getEntry);
+                PreviewCache.of(bibDatabaseContext).prefetch(preferencesService.getPreviewPreferences().getCurrentPreviewStyle(), entries, selectedIndex, Globals.TASK_EXECUTOR);
+            }
+        });
     }
 
     public void setupMainPanel() {
@@ -687,6 +736,12 @@ public class LibraryTab extends Tab {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         AutosaveManager.shutdown(bibDatabaseContext);
         BackupManager.shutdown(bibDatabaseContext);
+        PdfSearcher.shutdown(bibDatabaseContext);
+        PreviewCache.shutdown(bibDatabaseContext);
+        if (tableModel != null) {
+            tableModel.unbind();
+        }
+        entryEditor.dispose();
     }
 
     /**
@@ -896,23 +951,29 @@ public class LibraryTab extends Tab {
 
         @Subscribe
         public void listen(FieldChangedEvent fieldChangedEvent) {
-            if (fieldChangedEvent.getField().equals(StandardField.FILE)) {
-                List<LinkedFile> oldFileList = FileFieldParser.parse(fieldChangedEvent.getOldValue());
-                List<LinkedFile> newFileList = FileFieldParser.parse(fieldChangedEvent.getNewValue());
-
-                List<LinkedFile> addedFiles = new ArrayList<>(newFileList);
-                addedFiles.remove(oldFileList);
-                List<LinkedFile> removedFiles = new ArrayList<>(oldFileList);
-                removedFiles.remove(newFileList);
-
-                try {
-                    indexingTaskManager.addToIndex(PdfIndexer.of(bibDatabaseContext, preferencesService.getFilePreferences()), fieldChangedEvent.getBibEntry(), addedFiles, bibDatabaseContext);
-                    indexingTaskManager.removeFromIndex(PdfIndexer.of(bibDatabaseContext, preferencesService.getFilePreferences()), fieldChangedEvent.getBibEntry(), removedFiles);
-                } catch (IOException e) {
-                    LOGGER.warn("I/O error when writing lucene index", e);
+            for (FieldChange change : fieldChangedEvent.getFieldChanges()) {
+                if (change.getField().equals(StandardField.FILE)) {
+                    updateIndexedFiles(change);
                 }
             }
         }
+
+        private void updateIndexedFiles(FieldChange fileChange) {
+            List<LinkedFile> oldFileList = FileFieldParser.parse(fileChange.getOldValue());
+            List<LinkedFile> newFileList = FileFieldParser.parse(fileChange.getNewValue());
+
+            List<LinkedFile> addedFiles = new ArrayList<>(newFileList);
+            addedFiles.remove(oldFileList);
+            List<LinkedFile> removedFiles = new ArrayList<>(oldFileList);
+            removedFiles.remove(newFileList);
+
+            try {
+                indexingTaskManager.addToIndex(PdfIndexer.of(bibDatabaseContext, preferencesService.getFilePreferences()), fileChange.getEntry(), addedFiles, bibDatabaseContext);
+                indexingTaskManager.removeFromIndex(PdfIndexer.of(bibDatabaseContext, preferencesService.getFilePreferences()), fileChange.getEntry(), removedFiles);
+            } catch (IOException e) {
+                LOGGER.warn("I/O error when writing lucene index", e);
+            }
+        }
     }
 
     public IndexingTaskManager getIndexingTaskManager() {
@@ -11,6 +11,7 @@ import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.ReadOnlyListWrapper;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
@@ -51,6 +52,9 @@ public class StateManager {
     private final ObservableMap<BibDatabaseContext, ObservableList<GroupTreeNode>> selectedGroups = FXCollections.observableHashMap();
     private final OptionalObjectProperty<SearchQuery> activeSearchQuery = OptionalObjectProperty.empty();
     private final ObservableMap<BibDatabaseContext, IntegerProperty> searchResultMap = FXCollections.observableHashMap();
+    private final EasyBinding<Number> activeSearchResultSize = EasyBind.wrapNullable(Bindings.valueAt(searchResultMap, activeDatabase.orElse(null)))
+                                                                       .mapObservable(resultSize -> resultSize)
+                                                                       .orElse(0);
     private final OptionalObjectProperty<Node> focusOwner = OptionalObjectProperty.empty();
     private final ObservableList<Task<?>> backgroundTasks = FXCollections.observableArrayList(task -> new Observable[]{task.progressProperty(), task.runningProperty()});
     private final EasyBinding<Boolean> anyTaskRunning = EasyBind.reduce(backgroundTasks, tasks -> tasks.anyMatch(Task::isRunning));
@@ -85,6 +89,14 @@ public class StateManager {
         return searchResultMap.getOrDefault(activeDatabase.getValue().orElse(new BibDatabaseContext()), new SimpleIntegerProperty(0));
     }
 
+    /**
+     * The number of entries of the active database matched by the active search. As the search runs in the background,
+     * it changes after the search query changed.
+     */
+    public ObservableValue<Number> activeSearchResultSizeProperty() {
+        return activeSearchResultSize;
+    }
+
     public ReadOnlyListProperty<GroupTreeNode> activeGroupProperty() {
         return activeGroups.getReadOnlyProperty();
     }
@@ -8,8 +8,7 @@ import org.jabref.gui.JabRefFrame;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.ActionHelper;
 import org.jabref.gui.actions.SimpleCommand;
-import org.jabref.gui.undo.NamedCompound;
-import org.jabref.gui.undo.UndoableKeyChange;
+import org.jabref.gui.undo.UndoableFieldChanges;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
@@ -97,7 +96,7 @@ public class GenerateCitationKeyAction extends SimpleCommand {
     private BackgroundTask generateKeysInBackground() {
         return new BackgroundTask<Void>() {
 
-            private NamedCompound compound;
+            private UndoableFieldChanges compound;
 
             @Override
             protected Void call() {
@@ -110,13 +109,13 @@ public class GenerateCitationKeyAction extends SimpleCommand {
                     });
                     stateManager.getActiveDatabase().ifPresent(databaseContext -> {
                         // generate the new citation keys for each entry
-                        compound = new NamedCompound(Localization.lang("Autogenerate citation keys"));
+                        compound = new UndoableFieldChanges(Localization.lang("Autogenerate citation keys"));
                         CitationKeyGenerator keyGenerator =
                                 new CitationKeyGenerator(databaseContext, preferencesService.getCitationKeyPatternPreferences());
                         int entriesDone = 0;
                         for (BibEntry entry : entries) {
                             keyGenerator.generateAndSetKey(entry)
-                                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
+                                        .ifPresent(compound::add);
                             entriesDone++;
                             int finalEntriesDone = entriesDone;
                             DefaultTaskExecutor.runInJavaFXThread(() -> {
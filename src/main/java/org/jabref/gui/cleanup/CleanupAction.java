@@ -1,7 +1,11 @@
 package org.jabref.gui.cleanup;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.gui.DialogService;
 import org.jabref.gui.Globals;
@@ -9,8 +13,7 @@ import org.jabref.gui.JabRefFrame;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.ActionHelper;
 import org.jabref.gui.actions.SimpleCommand;
-import org.jabref.gui.undo.NamedCompound;
-import org.jabref.gui.undo.UndoableFieldChange;
+import org.jabref.gui.undo.UndoableFieldChanges;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.logic.cleanup.CleanupPreset;
 import org.jabref.logic.cleanup.CleanupWorker;
@@ -87,24 +90,6 @@ public class CleanupAction extends SimpleCommand {
         });
     }
 
-    /**
-     * Runs the cleanup on the entry and records the change.
-     */
-    private void doCleanup(BibDatabaseContext databaseContext, CleanupPreset preset, BibEntry entry, NamedCompound ce) {
-        // Create and run cleaner
-        CleanupWorker cleaner = new CleanupWorker(
-                databaseContext,
-                preferences.getCleanupPreferences(Globals.journalAbbreviationRepository),
-                preferences.getTimestampPreferences());
-
-        List<FieldChange> changes = cleaner.cleanup(preset, entry);
-
-        // Register undo action
-        for (FieldChange change : changes) {
-            ce.addEdit(new UndoableFieldChange(change));
-        }
-    }
-
     private void showResults() {
         if (isCanceled) {
             return;
@@ -127,17 +112,25 @@ public class CleanupAction extends SimpleCommand {
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreset cleanupPreset) {
         preferences.setCleanupPreset(cleanupPreset);
 
-        for (BibEntry entry : stateManager.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+        CleanupWorker cleaner = new CleanupWorker(
+                databaseContext,
+                preferences.getCleanupPreferences(Globals.journalAbbreviationRepository),
+                preferences.getTimestampPreferences());
 
-            doCleanup(databaseContext, cleanupPreset, entry, ce);
+        List<FieldChange> changes = cleaner.cleanupEntries(cleanupPreset, new ArrayList<>(stateManager.getSelectedEntries()));
 
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                frame.getUndoManager().addEdit(ce);
-            }
+        // One undo step for the whole cleanup
+        UndoableFieldChanges ce = new UndoableFieldChanges(Localization.lang("Cleanup entries"));
+        Set<BibEntry> modifiedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FieldChange change : changes) {
+            ce.add(change);
+            modifiedEntries.add(change.getEntry());
+        }
+        ce.end();
+
+        modifiedEntriesCount = modifiedEntries.size();
+        if (ce.hasEdits()) {
+            frame.getUndoManager().addEdit(ce);
         }
     }
 }
@@ -209,6 +209,13 @@ public class EntryEditor extends BorderPane {
         libraryTab.entryEditorClosing();
     }
 
+    /**
+     * Releases the resources held by the tabs. Called when the library is closed.
+     */
+    public void dispose() {
+        entryEditorTabs.forEach(EntryEditorTab::close);
+    }
+
     @FXML
     private void deleteEntry() {
         libraryTab.delete(entry);
@@ -269,7 +276,7 @@ public class EntryEditor extends BorderPane {
         entryEditorTabs.add(sourceTab);
 
         // LaTeX citations tab
-        entryEditorTabs.add(new LatexCitationsTab(databaseContext, preferencesService, taskExecutor, dialogService));
+        entryEditorTabs.add(new LatexCitationsTab(databaseContext, preferencesService, taskExecutor, dialogService, fileMonitor));
 
         entryEditorTabs.add(new FulltextSearchResultsTab(stateManager, preferencesService, dialogService));
 
@@ -57,4 +57,11 @@ public abstract class EntryEditorTab extends Tab {
     protected void previousPreviewStyle() {
         // do nothing by default
     }
+
+    /**
+     * Releases resources held by this tab, e.g., watched files. Called when the entry editor is not used anymore.
+     */
+    protected void close() {
+        // do nothing by default
+    }
 }
@@ -21,6 +21,7 @@ import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
 import com.tobiasdiez.easybind.EasyBind;
@@ -33,8 +34,8 @@ public class LatexCitationsTab extends EntryEditorTab {
     private final CitationsDisplay citationsDisplay;
 
     public LatexCitationsTab(BibDatabaseContext databaseContext, PreferencesService preferencesService,
-                             TaskExecutor taskExecutor, DialogService dialogService) {
-        this.viewModel = new LatexCitationsTabViewModel(databaseContext, preferencesService, taskExecutor, dialogService);
+                             TaskExecutor taskExecutor, DialogService dialogService, FileUpdateMonitor fileUpdateMonitor) {
+        this.viewModel = new LatexCitationsTabViewModel(databaseContext, preferencesService, taskExecutor, dialogService, fileUpdateMonitor);
         this.searchPane = new GridPane();
         this.progressIndicator = new ProgressIndicator();
         this.citationsDisplay = new CitationsDisplay();
@@ -129,6 +130,11 @@ public class LatexCitationsTab extends EntryEditorTab {
         viewModel.init(entry);
     }
 
+    @Override
+    protected void close() {
+        viewModel.close();
+    }
+
     @Override
     public boolean shouldShow(BibEntry entry) {
         return viewModel.shouldShow();
@@ -1,16 +1,10 @@
 package org.jabref.gui.entryeditor;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyListWrapper;
@@ -23,19 +17,17 @@ import javafx.collections.ObservableList;
 import org.jabref.gui.AbstractViewModel;
 import org.jabref.gui.DialogService;
 import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.LatexCitationIndex;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.texparser.Citation;
-import org.jabref.model.texparser.LatexParserResult;
+import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 public class LatexCitationsTabViewModel extends AbstractViewModel {
 
     enum Status {
@@ -45,26 +37,26 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         ERROR
     }
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(LatexCitationsTabViewModel.class);
-    private static final String TEX_EXT = ".tex";
     private final BibDatabaseContext databaseContext;
     private final PreferencesService preferencesService;
     private final TaskExecutor taskExecutor;
     private final DialogService dialogService;
+    private final FileUpdateMonitor fileUpdateMonitor;
     private final ObjectProperty<Path> directory;
     private final ObservableList<Citation> citationList;
     private final ObjectProperty<Status> status;
     private final StringProperty searchError;
     private Future<?> searchTask;
-    private LatexParserResult latexParserResult;
+    private LatexCitationIndex citationIndex;
     private BibEntry currentEntry;
 
     public LatexCitationsTabViewModel(BibDatabaseContext databaseContext, PreferencesService preferencesService,
-                                      TaskExecutor taskExecutor, DialogService dialogService) {
+                                      TaskExecutor taskExecutor, DialogService dialogService, FileUpdateMonitor fileUpdateMonitor) {
         this.databaseContext = databaseContext;
         this.preferencesService = preferencesService;
         this.taskExecutor = taskExecutor;
         this.dialogService = dialogService;
+        this.fileUpdateMonitor = fileUpdateMonitor;
         this.directory = new SimpleObjectProperty<>(databaseContext.getMetaData().getLatexFileDirectory(preferencesService.getUser())
                                                                    .orElseGet(preferencesService::getWorkingDir));
         this.citationList = FXCollections.observableArrayList();
@@ -125,42 +117,65 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         searchTask.cancel(true);
     }
 
+    /**
+     * The directory is indexed once. Afterwards, each search only lists the files of the directory, so that new and
+     * removed files are noticed, and parses new and modified files. In between, the index is kept up to date by
+     * watching the LaTeX files, so that the citations of the current entry are shown again after a file was saved.
+     */
     private Collection<Citation> searchAndParse(String citeKey) throws IOException {
         Path newDirectory = databaseContext.getMetaData().getLatexFileDirectory(preferencesService.getUser())
                                            .orElseGet(preferencesService::getWorkingDir);
 
-        if (latexParserResult == null || !newDirectory.equals(directory.get())) {
-            directory.set(newDirectory);
-
-            if (!newDirectory.toFile().exists()) {
-                throw new IOException(String.format("Current search directory does not exist: %s", newDirectory));
-            }
+        LatexCitationIndex index = getCitationIndex(newDirectory);
+        if (index != null) {
+            index.update();
+            return index.getCitations(citeKey);
+        }
 
-            List<Path> texFiles = searchDirectory(newDirectory, new ArrayList<>());
-            latexParserResult = new DefaultLatexParser().parse(texFiles);
+        // The index of the previous directory is not needed anymore, even if the new directory does not exist
+        setCitationIndex(null);
+        directory.set(newDirectory);
+        if (!newDirectory.toFile().exists()) {
+            throw new IOException(String.format("Current search directory does not exist: %s", newDirectory));
         }
 
-        return latexParserResult.getCitationsByKey(citeKey);
+        LatexCitationIndex newIndex = new LatexCitationIndex(newDirectory, fileUpdateMonitor);
+        newIndex.update();
+        newIndex.addListener(this::refreshCitations);
+        setCitationIndex(newIndex);
+        return newIndex.getCitations(citeKey);
     }
 
-    private List<Path> searchDirectory(Path directory, List<Path> texFiles) {
-        Map<Boolean, List<Path>> fileListPartition;
-        try (Stream<Path> filesStream = Files.list(directory)) {
-            fileListPartition = filesStream.collect(Collectors.partitioningBy(path -> path.toFile().isDirectory()));
-        } catch (IOException e) {
-            LOGGER.error(String.format("%s while searching files: %s", e.getClass().getName(), e.getMessage()));
-            return texFiles;
+    private synchronized LatexCitationIndex getCitationIndex(Path currentDirectory) {
+        if ((citationIndex == null) || !citationIndex.getDirectory().equals(currentDirectory)) {
+            return null;
         }
+        return citationIndex;
+    }
 
-        List<Path> subDirectories = fileListPartition.get(true);
-        List<Path> files = fileListPartition.get(false)
-                                            .stream()
-                                            .filter(path -> path.toString().endsWith(TEX_EXT))
-                                            .collect(Collectors.toList());
-        texFiles.addAll(files);
-        subDirectories.forEach(subDirectory -> searchDirectory(subDirectory, texFiles));
+    private synchronized void setCitationIndex(LatexCitationIndex newIndex) {
+        if (citationIndex != null) {
+            citationIndex.close();
+        }
+        citationIndex = newIndex;
+    }
 
-        return texFiles;
+    /**
+     * Shows the citations of the current entry again after a LaTeX file was modified.
+     */
+    private void refreshCitations() {
+        DefaultTaskExecutor.runInJavaFXThread(() -> {
+            if ((currentEntry == null) || (status.get() == Status.IN_PROGRESS)) {
+                return;
+            }
+            currentEntry.getCitationKey().ifPresent(citeKey -> {
+                LatexCitationIndex index = getCitationIndex(directory.get());
+                if (index != null) {
+                    citationList.setAll(index.getCitations(citeKey));
+                    status.set(citationList.isEmpty() ? Status.NO_RESULTS : Status.CITATIONS_FOUND);
+                }
+            });
+        });
     }
 
     public void setLatexDirectory() {
@@ -173,6 +188,14 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         init(currentEntry);
     }
 
+    /**
+     * Cancels the search and stops watching the LaTeX files. Called when the entry editor is not used anymore.
+     */
+    public void close() {
+        cancelSearch();
+        setCitationIndex(null);
+    }
+
     public boolean shouldShow() {
         return preferencesService.getEntryEditorPreferences().shouldShowLatexCitationsTab();
     }
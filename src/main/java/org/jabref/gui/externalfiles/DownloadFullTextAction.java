@@ -2,10 +2,10 @@ package org.jabref.gui.externalfiles;
 
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.concurrent.Task;
 
@@ -16,6 +16,7 @@ import org.jabref.gui.actions.ActionHelper;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.fieldeditors.LinkedFileViewModel;
+import org.jabref.logic.importer.BulkIdentifierResolver;
 import org.jabref.logic.importer.FulltextFetchers;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -82,12 +83,13 @@ public class DownloadFullTextAction extends SimpleCommand {
         Task<Map<BibEntry, Optional<URL>>> findFullTextsTask = new Task<>() {
             @Override
             protected Map<BibEntry, Optional<URL>> call() {
-                Map<BibEntry, Optional<URL>> downloads = new ConcurrentHashMap<>();
-                int count = 0;
+                FulltextFetchers fetchers = new FulltextFetchers(preferences.getImportFormatPreferences());
+                Map<BibEntry, URL> fullTexts = new BulkIdentifierResolver(preferences.getImportFormatPreferences())
+                        .lookUp(entries, fetchers::findFullTextPDF, this::updateProgress);
+
+                Map<BibEntry, Optional<URL>> downloads = new IdentityHashMap<>();
                 for (BibEntry entry : entries) {
-                    FulltextFetchers fetchers = new FulltextFetchers(preferences.getImportFormatPreferences());
-                    downloads.put(entry, fetchers.findFullTextPDF(entry));
-                    updateProgress(++count, entries.size());
+                    downloads.put(entry, Optional.ofNullable(fullTexts.get(entry)));
                 }
                 return downloads;
             }
@@ -1,16 +1,22 @@
 package org.jabref.gui.groups;
 
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
-import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -33,17 +39,21 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AutomaticGroup;
+import org.jabref.model.groups.AutomaticGroupIndex;
 import org.jabref.model.groups.GroupEntryChanger;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.TexGroup;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.collect.Sets;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.EasyObservableList;
 
 public class GroupNodeViewModel {
 
+    private static final Comparator<GroupNodeViewModel> BY_DISPLAY_NAME = (group1, group2) -> group1.getDisplayName().compareToIgnoreCase(group2.getDisplayName());
+
     private final String displayName;
     private final boolean isRoot;
     private final ObservableList<GroupNodeViewModel> children;
@@ -51,6 +61,7 @@ public class GroupNodeViewModel {
     private final StateManager stateManager;
     private final GroupTreeNode groupNode;
     private final ObservableList<BibEntry> matchedEntries = FXCollections.observableArrayList();
+    private final IntegerProperty hits = new SimpleIntegerProperty();
     private final SimpleBooleanProperty hasChildren;
     private final SimpleBooleanProperty expandedProperty = new SimpleBooleanProperty();
     private final BooleanBinding anySelectedEntriesMatched;
@@ -60,8 +71,21 @@ public class GroupNodeViewModel {
     private final ObservableList<BibEntry> entriesList;
     private final PreferencesService preferencesService;
     private final InvalidationListener onInvalidatedGroup = (listener) -> refreshGroup();
+    /**
+     * The index of the subgroups of the automatic group this node is or belongs to, otherwise null
+     */
+    private final AutomaticGroupIndex subgroupIndex;
+    private boolean subgroupsCreated;
+    /**
+     * The citation keys of the AUX file of a {@link TexGroup} the matched entries were determined for
+     */
+    private Set<String> keysOfMatchedEntries;
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode, CustomLocalDragboard localDragBoard, PreferencesService preferencesService) {
+        this(databaseContext, stateManager, taskExecutor, groupNode, localDragBoard, preferencesService, null);
+    }
+
+    private GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode, CustomLocalDragboard localDragBoard, PreferencesService preferencesService, AutomaticGroupIndex subgroupIndex) {
         this.databaseContext = Objects.requireNonNull(databaseContext);
         this.taskExecutor = Objects.requireNonNull(taskExecutor);
         this.stateManager = Objects.requireNonNull(stateManager);
@@ -71,30 +95,45 @@ public class GroupNodeViewModel {
 
         displayName = new LatexToUnicodeFormatter().format(groupNode.getName());
         isRoot = groupNode.isRoot();
+        hasChildren = new SimpleBooleanProperty();
         if (groupNode.getGroup() instanceof AutomaticGroup) {
-            AutomaticGroup automaticGroup = (AutomaticGroup) groupNode.getGroup();
-
-            children = automaticGroup.createSubgroups(this.databaseContext.getDatabase().getEntries())
-                                     .stream()
-                                     .map(this::toViewModel)
-                                     .sorted((group1, group2) -> group1.getDisplayName().compareToIgnoreCase(group2.getDisplayName()))
-                                     .collect(Collectors.toCollection(FXCollections::observableArrayList));
+            // The subgroups are only created when this group is expanded, as there may be thousands of them
+            this.subgroupIndex = new AutomaticGroupIndex((AutomaticGroup) groupNode.getGroup());
+            this.subgroupIndex.updateEntries(databaseContext.getDatabase().getEntries());
+            children = FXCollections.observableArrayList();
+            hasChildren.set(this.subgroupIndex.hasSubgroups());
         } else {
+            this.subgroupIndex = subgroupIndex;
             children = EasyBind.mapBacked(groupNode.getChildren(), this::toViewModel);
+            hasChildren.bind(Bindings.isNotEmpty(children));
         }
         if (groupNode.getGroup() instanceof TexGroup) {
             databaseContext.getMetaData().groupsBinding().addListener(new WeakInvalidationListener(onInvalidatedGroup));
         }
-        hasChildren = new SimpleBooleanProperty();
-        hasChildren.bind(Bindings.isNotEmpty(children));
-        updateMatchedEntries();
         expandedProperty.set(groupNode.getGroup().isExpanded());
-        expandedProperty.addListener((observable, oldValue, newValue) -> groupNode.getGroup().setExpanded(newValue));
+        expandedProperty.addListener((observable, oldValue, newValue) -> {
+            groupNode.getGroup().setExpanded(newValue);
+            if (newValue) {
+                createSubgroups();
+            }
+        });
+        if (expandedProperty.get()) {
+            createSubgroups();
+        }
+
+        if (isAutomaticSubgroup()) {
+            // The index counts the entries of the subgroup, so there is no need to observe the database
+            updateSubgroupHits();
+            entriesList = null;
+        } else {
+            hits.bind(Bindings.size(matchedEntries));
+            updateMatchedEntries();
 
-        // Register listener
-        // The wrapper created by the FXCollections will set a weak listener on the wrapped list. This weak listener gets garbage collected. Hence, we need to maintain a reference to this list.
-        entriesList = databaseContext.getDatabase().getEntries();
-        entriesList.addListener(this::onDatabaseChanged);
+            // Register listener
+            // The wrapper created by the FXCollections will set a weak listener on the wrapped list. This weak listener gets garbage collected. Hence, we need to maintain a reference to this list.
+            entriesList = databaseContext.getDatabase().getEntries();
+            entriesList.addListener(this::onDatabaseChanged);
+        }
 
         EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), groupNode::matches);
         anySelectedEntriesMatched = selectedEntriesMatchStatus.anyMatch(matched -> matched);
@@ -111,7 +150,96 @@ public class GroupNodeViewModel {
     }
 
     private GroupNodeViewModel toViewModel(GroupTreeNode child) {
-        return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, child, localDragBoard, preferencesService);
+        return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, child, localDragBoard, preferencesService, subgroupIndex);
+    }
+
+    private boolean isAutomaticGroup() {
+        return groupNode.getGroup() instanceof AutomaticGroup;
+    }
+
+    /**
+     * Returns whether this is a (nested) subgroup of an automatic group
+     */
+    private boolean isAutomaticSubgroup() {
+        return (subgroupIndex != null) && !isAutomaticGroup();
+    }
+
+    /**
+     * Creates the view models of the subgroups of an automatic group, if not done already
+     */
+    private void createSubgroups() {
+        if (!isAutomaticGroup() || subgroupsCreated) {
+            return;
+        }
+        subgroupsCreated = true;
+        children.setAll(subgroupIndex.getSubgroups()
+                                     .stream()
+                                     .map(this::toViewModel)
+                                     .sorted(BY_DISPLAY_NAME)
+                                     .collect(Collectors.toList()));
+    }
+
+    /**
+     * Creates the subgroups of the automatic groups in this subtree that have a (nested) subgroup matching the given
+     * search string, so that the group filter finds them. The subgroups of other automatic groups are still only
+     * created when the group is expanded.
+     */
+    void createSubgroupsMatchedBy(String searchString) {
+        if (isAutomaticGroup() && !subgroupsCreated
+                && subgroupIndex.getSubgroups().stream().anyMatch(subgroup -> isMatchedBy(subgroup, searchString))) {
+            createSubgroups();
+        }
+        children.forEach(child -> child.createSubgroupsMatchedBy(searchString));
+    }
+
+    private static boolean isMatchedBy(GroupTreeNode node, String searchString) {
+        return StringUtil.containsIgnoreCase(new LatexToUnicodeFormatter().format(node.getName()), searchString)
+                || node.getChildren().stream().anyMatch(child -> isMatchedBy(child, searchString));
+    }
+
+    /**
+     * Updates the given top-level subgroups of an automatic group after the entries belonging to them changed
+     */
+    private void updateSubgroups(Set<AbstractGroup> changedSubgroups) {
+        if (changedSubgroups.isEmpty()) {
+            return;
+        }
+        hasChildren.set(subgroupIndex.hasSubgroups());
+        if (!subgroupsCreated) {
+            return;
+        }
+
+        for (AbstractGroup changedSubgroup : changedSubgroups) {
+            Optional<GroupNodeViewModel> oldChild = children.stream()
+                                                            .filter(child -> child.getGroupNode().getGroup().equals(changedSubgroup))
+                                                            .findFirst();
+            Optional<GroupTreeNode> newNode = subgroupIndex.getSubgroup(changedSubgroup);
+            if (oldChild.isPresent() && newNode.isPresent() && oldChild.get().getGroupNode().equals(newNode.get())) {
+                // Only the number of entries changed
+                oldChild.get().updateSubgroupHits();
+                continue;
+            }
+
+            oldChild.ifPresent(children::remove);
+            newNode.ifPresent(node -> {
+                oldChild.ifPresent(child -> node.getGroup().setExpanded(child.getGroupNode().getGroup().isExpanded()));
+                GroupNodeViewModel newChild = toViewModel(node);
+                int index = 0;
+                while ((index < children.size()) && (BY_DISPLAY_NAME.compare(children.get(index), newChild) < 0)) {
+                    index++;
+                }
+                children.add(index, newChild);
+            });
+        }
+    }
+
+    private void updateSubgroupHits() {
+        List<AbstractGroup> path = groupNode.getPathFromRoot()
+                                            .stream()
+                                            .map(GroupTreeNode::getGroup)
+                                            .collect(Collectors.toList());
+        hits.set(subgroupIndex.getEntryCount(path));
+        children.forEach(GroupNodeViewModel::updateSubgroupHits);
     }
 
     public List<FieldChange> addEntriesToGroup(List<BibEntry> entries) {
@@ -161,8 +289,8 @@ public class GroupNodeViewModel {
         return groupNode.getGroup().getDescription().orElse("");
     }
 
-    public IntegerBinding getHits() {
-        return Bindings.size(matchedEntries);
+    public ReadOnlyIntegerProperty getHits() {
+        return hits;
     }
 
     @Override
@@ -225,6 +353,9 @@ public class GroupNodeViewModel {
      */
     private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
         while (change.next()) {
+            if (isAutomaticGroup()) {
+                updateSubgroupIndex(change);
+            }
             if (change.wasPermutated()) {
                 // Nothing to do, as permutation doesn't change matched entries
             } else if (change.wasUpdated()) {
@@ -252,9 +383,24 @@ public class GroupNodeViewModel {
         }
     }
 
+    private void updateSubgroupIndex(ListChangeListener.Change<? extends BibEntry> change) {
+        Set<AbstractGroup> changedSubgroups = new HashSet<>();
+        if (change.wasUpdated()) {
+            changedSubgroups.addAll(subgroupIndex.updateEntries(change.getList().subList(change.getFrom(), change.getTo())));
+        } else if (!change.wasPermutated()) {
+            changedSubgroups.addAll(subgroupIndex.removeEntries(change.getRemoved()));
+            changedSubgroups.addAll(subgroupIndex.updateEntries(change.getAddedSubList()));
+        }
+        updateSubgroups(changedSubgroups);
+    }
+
     private void refreshGroup() {
         DefaultTaskExecutor.runInJavaFXThread(() -> {
-            updateMatchedEntries(); // Update the entries matched by the group
+            if (keysOfMatchedEntries != null) {
+                updateMatchedEntriesOfChangedKeys((TexGroup) groupNode.getGroup());
+            } else {
+                updateMatchedEntries(); // Update the entries matched by the group
+            }
             // "Re-add" to the selected groups if it were selected, this refreshes the entries the user views
             ObservableList<GroupTreeNode> selectedGroups = this.stateManager.getSelectedGroup(this.databaseContext);
             if (selectedGroups.remove(this.groupNode)) {
@@ -268,6 +414,21 @@ public class GroupNodeViewModel {
         // We could be more intelligent and try to figure out the new number of hits based on the entry change
         // for example, a previously matched entry gets removed -> hits = hits - 1
         if (preferencesService.getDisplayGroupCount()) {
+            if (groupNode.getGroup() instanceof TexGroup) {
+                TexGroup texGroup = (TexGroup) groupNode.getGroup();
+                BackgroundTask
+                        .wrap(() -> {
+                            Set<String> keys = texGroup.getKeysUsedInAux();
+                            return Map.entry(keys, groupNode.findMatches(databaseContext.getDatabase()));
+                        })
+                        .onSuccess(keysAndEntries -> {
+                            keysOfMatchedEntries = keysAndEntries.getKey();
+                            matchedEntries.setAll(keysAndEntries.getValue());
+                        })
+                        .executeWith(taskExecutor);
+                return;
+            }
+
             BackgroundTask
                     .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
                     .onSuccess(entries -> {
@@ -278,6 +439,36 @@ public class GroupNodeViewModel {
         }
     }
 
+    /**
+     * Updates the matched entries of a {@link TexGroup} after its AUX file changed. Only the entries whose citation key
+     * was added to or removed from the AUX file are checked again.
+     */
+    private void updateMatchedEntriesOfChangedKeys(TexGroup texGroup) {
+        Set<String> previousKeys = keysOfMatchedEntries;
+        BackgroundTask
+                .wrap(() -> {
+                    Set<String> keys = texGroup.getKeysUsedInAux();
+                    List<BibEntry> changedEntries = Sets.symmetricDifference(previousKeys, keys)
+                                                        .stream()
+                                                        .flatMap(key -> databaseContext.getDatabase().getEntriesByCitationKey(key).stream())
+                                                        .collect(Collectors.toList());
+                    return Map.entry(keys, changedEntries);
+                })
+                .onSuccess(keysAndChangedEntries -> {
+                    keysOfMatchedEntries = keysAndChangedEntries.getKey();
+                    for (BibEntry changedEntry : keysAndChangedEntries.getValue()) {
+                        if (groupNode.matches(changedEntry)) {
+                            if (!matchedEntries.contains(changedEntry)) {
+                                matchedEntries.add(changedEntry);
+                            }
+                        } else {
+                            matchedEntries.remove(changedEntry);
+                        }
+                    }
+                })
+                .executeWith(taskExecutor);
+    }
+
     public GroupTreeNode addSubgroup(AbstractGroup subgroup) {
         return groupNode.addSubgroup(subgroup);
     }
@@ -8,6 +8,7 @@ import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleListProperty;
@@ -29,6 +30,7 @@ import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.ExplicitGroup;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.model.strings.StringUtil;
 import org.jabref.preferences.PreferencesService;
 
 import com.tobiasdiez.easybind.EasyBind;
@@ -61,12 +63,24 @@ public class GroupTreeViewModel extends AbstractViewModel {
         EasyBind.subscribe(selectedGroups, this::onSelectedGroupChanged);
 
         // Set-up bindings
+        // The subgroups of automatic groups are created on expansion only, so the ones matched by the filter have to be
+        // created before the filter is applied. Thus, these listeners have to be registered before the bindings.
+        filterText.addListener((InvalidationListener) observable -> createSubgroupsMatchedByFilter());
+        rootGroup.addListener((InvalidationListener) observable -> createSubgroupsMatchedByFilter());
         filterPredicate.bind(EasyBind.map(filterText, text -> group -> group.isMatchedBy(text)));
 
         // Init
         refresh();
     }
 
+    private void createSubgroupsMatchedByFilter() {
+        String text = filterText.get();
+        GroupNodeViewModel root = rootGroup.get();
+        if (!StringUtil.isBlank(text) && (root != null)) {
+            root.createSubgroupsMatchedBy(text);
+        }
+    }
+
     private void refresh() {
         onActiveDatabaseChanged(stateManager.activeDatabaseProperty().getValue());
     }
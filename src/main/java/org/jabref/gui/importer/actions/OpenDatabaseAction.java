@@ -50,6 +50,9 @@ public class OpenDatabaseAction extends SimpleCommand {
             // Check for new custom entry types loaded from the BIB file:
             new CheckForNewEntryTypesAction());
 
+    // Libraries larger than this (in bytes) are shown before the fields of their entries are parsed
+    private static final long DEFER_ENTRY_PARSING_THRESHOLD = 10 * 1024 * 1024;
+
     private final JabRefFrame frame;
     private final PreferencesService preferencesService;
     private final StateManager stateManager;
@@ -189,15 +192,35 @@ public class OpenDatabaseAction extends SimpleCommand {
 
         ParserResult result;
         try {
-            result = OpenDatabase.loadDatabase(fileToLoad,
-                    preferencesService.getImportFormatPreferences(),
-                    Globals.getFileUpdateMonitor());
+            if (Files.size(fileToLoad) > DEFER_ENTRY_PARSING_THRESHOLD) {
+                Optional<ParserResult> snapshot = OpenDatabase.loadDatabaseFromSnapshot(fileToLoad,
+                        preferencesService.getImportFormatPreferences(),
+                        Globals.getFileUpdateMonitor(),
+                        Globals.LIBRARY_SNAPSHOT_CACHE);
+                if (snapshot.isPresent()) {
+                    result = snapshot.get();
+                } else {
+                    // the remaining fields are parsed in the background after the library is shown, see LibraryTab
+                    result = OpenDatabase.loadDatabaseDeferringEntries(fileToLoad,
+                            preferencesService.getImportFormatPreferences(),
+                            Globals.getFileUpdateMonitor());
+                }
+            } else {
+                result = OpenDatabase.loadDatabase(fileToLoad,
+                        preferencesService.getImportFormatPreferences(),
+                        Globals.getFileUpdateMonitor(),
+                        Globals.LIBRARY_SNAPSHOT_CACHE);
+            }
         } catch (IOException e) {
             result = ParserResult.fromError(e);
             LOGGER.error("Error opening file '{}'", fileToLoad, e);
         }
 
         if (result.getDatabase().isShared()) {
+            if (result.hasDeferredEntries()) {
+                // the entries are synchronized with the shared database, thus they have to be complete
+                OpenDatabase.completeDeferredLoading(result, preferencesService.getImportFormatPreferences());
+            }
             try {
                 new SharedDatabaseUIManager(frame).openSharedDatabaseFromParserResult(result);
             } catch (SQLException | DatabaseNotSupportedException | InvalidDBMSConnectionPropertiesException |
@@ -1,7 +1,9 @@
 package org.jabref.gui.importer.fetcher;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.undo.UndoManager;
 
@@ -17,7 +19,7 @@ import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.BindingsHelper;
 import org.jabref.gui.util.DefaultTaskExecutor;
-import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.BulkIdentifierResolver;
 import org.jabref.logic.importer.IdFetcher;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.FieldChange;
@@ -88,35 +90,34 @@ public class LookupIdentifierAction<T extends Identifier> extends SimpleCommand
 
     private String lookupIdentifiers(List<BibEntry> bibEntries) {
         String totalCount = Integer.toString(bibEntries.size());
-        NamedCompound namedCompound = new NamedCompound(Localization.lang("Look up %0", fetcher.getIdentifierName()));
-        int count = 0;
-        int foundCount = 0;
-        for (BibEntry bibEntry : bibEntries) {
-            count++;
+        AtomicInteger foundCount = new AtomicInteger();
+        BulkIdentifierResolver resolver = new BulkIdentifierResolver(Globals.prefs.getImportFormatPreferences());
+        Map<BibEntry, T> identifiers = resolver.lookUp(bibEntries, bibEntry -> {
+            Optional<T> identifier = fetcher.findIdentifier(bibEntry);
+            identifier.ifPresent(found -> foundCount.incrementAndGet());
+            return identifier;
+        }, (done, total) -> {
             final String statusMessage = Localization.lang("Looking up %0... - entry %1 out of %2 - found %3",
-                    fetcher.getIdentifierName(), Integer.toString(count), totalCount, Integer.toString(foundCount));
+                    fetcher.getIdentifierName(), Integer.toString(done), totalCount, Integer.toString(foundCount.get()));
             DefaultTaskExecutor.runInJavaFXThread(() -> frame.getDialogService().notify(statusMessage));
-            Optional<T> identifier = Optional.empty();
-            try {
-                identifier = fetcher.findIdentifier(bibEntry);
-            } catch (FetcherException e) {
-                LOGGER.error("Could not fetch " + fetcher.getIdentifierName(), e);
-            }
-            if (identifier.isPresent() && !bibEntry.hasField(identifier.get().getDefaultField())) {
-                Optional<FieldChange> fieldChange = bibEntry.setField(identifier.get().getDefaultField(), identifier.get().getNormalized());
+        });
+
+        NamedCompound namedCompound = new NamedCompound(Localization.lang("Look up %0", fetcher.getIdentifierName()));
+        int determinedCount = 0;
+        for (BibEntry bibEntry : bibEntries) {
+            T identifier = identifiers.get(bibEntry);
+            if ((identifier != null) && !bibEntry.hasField(identifier.getDefaultField())) {
+                Optional<FieldChange> fieldChange = bibEntry.setField(identifier.getDefaultField(), identifier.getNormalized());
                 if (fieldChange.isPresent()) {
                     namedCompound.addEdit(new UndoableFieldChange(fieldChange.get()));
-                    foundCount++;
-                    final String nextStatusMessage = Localization.lang("Looking up %0... - entry %1 out of %2 - found %3",
-                            fetcher.getIdentifierName(), Integer.toString(count), totalCount, Integer.toString(foundCount));
-                    DefaultTaskExecutor.runInJavaFXThread(() -> frame.getDialogService().notify(nextStatusMessage));
+                    determinedCount++;
                 }
             }
         }
         namedCompound.end();
-        if (foundCount > 0) {
+        if (determinedCount > 0) {
             undoManager.addEdit(namedCompound);
         }
-        return Localization.lang("Determined %0 for %1 entries", fetcher.getIdentifierName(), Integer.toString(foundCount));
+        return Localization.lang("Determined %0 for %1 entries", fetcher.getIdentifierName(), Integer.toString(determinedCount));
     }
 }
@@ -15,7 +15,7 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.ActionHelper;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.actions.StandardActions;
-import org.jabref.gui.undo.NamedCompound;
+import org.jabref.gui.undo.UndoableFieldChanges;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -88,7 +88,7 @@ public class AbbreviateAction extends SimpleCommand {
                 Globals.journalAbbreviationRepository,
                 abbreviationType);
 
-        NamedCompound ce = new NamedCompound(Localization.lang("Abbreviate journal names"));
+        UndoableFieldChanges ce = new UndoableFieldChanges(Localization.lang("Abbreviate journal names"));
 
         // Collect all callables to execute in one collection.
         Set<Callable<Boolean>> tasks = entries.stream().<Callable<Boolean>>map(entry -> () ->
@@ -121,7 +121,7 @@ public class AbbreviateAction extends SimpleCommand {
     private String unabbreviate(BibDatabaseContext databaseContext, List<BibEntry> entries) {
         UndoableUnabbreviator undoableAbbreviator = new UndoableUnabbreviator(Globals.journalAbbreviationRepository);
 
-        NamedCompound ce = new NamedCompound(Localization.lang("Unabbreviate journal names"));
+        UndoableFieldChanges ce = new UndoableFieldChanges(Localization.lang("Unabbreviate journal names"));
         int count = entries.stream().mapToInt(entry ->
                 (int) FieldFactory.getJournalNameFields().stream().filter(journalField ->
                         undoableAbbreviator.unabbreviate(databaseContext.getDatabase(), entry, journalField, ce)).count()).sum();
@@ -1,8 +1,6 @@
 package org.jabref.gui.journals;
 
-import javax.swing.undo.CompoundEdit;
-
-import org.jabref.gui.undo.UndoableFieldChange;
+import org.jabref.gui.undo.UndoableFieldChanges;
 import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
@@ -25,10 +23,10 @@ public class UndoableAbbreviator {
      * @param database  The database the entry belongs to, or null if no database.
      * @param entry     The entry to be treated.
      * @param fieldName The field name (e.g. "journal")
-     * @param ce        If the entry is changed, add an edit to this compound.
+     * @param ce        If the entry is changed, add the change to these changes.
      * @return true if the entry was changed, false otherwise.
      */
-    public boolean abbreviate(BibDatabase database, BibEntry entry, Field fieldName, CompoundEdit ce) {
+    public boolean abbreviate(BibDatabase database, BibEntry entry, Field fieldName, UndoableFieldChanges ce) {
         if (!entry.hasField(fieldName)) {
             return false;
         }
@@ -50,7 +48,7 @@ public class UndoableAbbreviator {
         }
 
         entry.setField(fieldName, newText);
-        ce.addEdit(new UndoableFieldChange(entry, fieldName, origText, newText));
+        ce.add(entry, fieldName, origText, newText);
         return true;
     }
 
@@ -1,8 +1,6 @@
 package org.jabref.gui.journals;
 
-import javax.swing.undo.CompoundEdit;
-
-import org.jabref.gui.undo.UndoableFieldChange;
+import org.jabref.gui.undo.UndoableFieldChanges;
 import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
@@ -22,10 +20,10 @@ public class UndoableUnabbreviator {
      *
      * @param entry The entry to be treated.
      * @param field The field
-     * @param ce    If the entry is changed, add an edit to this compound.
+     * @param ce    If the entry is changed, add the change to these changes.
      * @return true if the entry was changed, false otherwise.
      */
-    public boolean unabbreviate(BibDatabase database, BibEntry entry, Field field, CompoundEdit ce) {
+    public boolean unabbreviate(BibDatabase database, BibEntry entry, Field field, UndoableFieldChanges ce) {
         if (!entry.hasField(field)) {
             return false;
         }
@@ -47,7 +45,7 @@ public class UndoableUnabbreviator {
         Abbreviation abbreviation = journalAbbreviationRepository.get(text).get(); // Must be here.
         String newText = abbreviation.getName();
         entry.setField(field, newText);
-        ce.addEdit(new UndoableFieldChange(entry, field, origText, newText));
+        ce.add(entry, field, origText, newText);
         return true;
     }
 }
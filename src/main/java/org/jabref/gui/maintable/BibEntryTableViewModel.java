@@ -1,5 +1,6 @@
 package org.jabref.gui.maintable;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,22 +32,28 @@ import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.EasyBinding;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
 
+/**
+ * The view model of a row of the main table.
+ * <p>
+ * A view model is created for each entry of the library, but the table only shows a few rows at a time. Therefore, the
+ * bindings providing the cell values are created on first access, i.e., only for rows the table has shown. The values
+ * of field columns are only weakly referenced: a cell keeps its value alive while it shows it, afterwards the binding
+ * may be collected and is created again when needed. All bindings are invalidated when the entry changes.
+ */
 public class BibEntryTableViewModel {
     private final BibEntry entry;
+    private final BibDatabaseContext bibDatabaseContext;
     private final ObservableValue<MainTableFieldValueFormatter> fieldValueFormatter;
-    private final Map<OrFields, ObservableValue<String>> fieldValues = new HashMap<>();
-    private final Map<SpecialField, OptionalBinding<SpecialFieldValueViewModel>> specialFieldValues = new HashMap<>();
-    private final EasyBinding<List<LinkedFile>> linkedFiles;
-    private final EasyBinding<Map<Field, String>> linkedIdentifiers;
-    private final Binding<List<AbstractGroup>> matchedGroups;
+    private Map<OrFields, WeakReference<ObservableValue<String>>> fieldValues;
+    private Map<SpecialField, OptionalBinding<SpecialFieldValueViewModel>> specialFieldValues;
+    private EasyBinding<List<LinkedFile>> linkedFiles;
+    private EasyBinding<Map<Field, String>> linkedIdentifiers;
+    private Binding<List<AbstractGroup>> matchedGroups;
 
     public BibEntryTableViewModel(BibEntry entry, BibDatabaseContext bibDatabaseContext, ObservableValue<MainTableFieldValueFormatter> fieldValueFormatter) {
         this.entry = entry;
+        this.bibDatabaseContext = bibDatabaseContext;
         this.fieldValueFormatter = fieldValueFormatter;
-
-        this.linkedFiles = getField(StandardField.FILE).map(FileFieldParser::parse).orElse(Collections.emptyList());
-        this.linkedIdentifiers = createLinkedIdentifiersBinding(entry);
-        this.matchedGroups = createMatchedGroupsBinding(bibDatabaseContext, entry);
     }
 
     private static EasyBinding<Map<Field, String>> createLinkedIdentifiersBinding(BibEntry entry) {
@@ -85,18 +92,30 @@ public class BibEntryTableViewModel {
     }
 
     public ObservableValue<List<LinkedFile>> getLinkedFiles() {
+        if (linkedFiles == null) {
+            linkedFiles = getField(StandardField.FILE).map(FileFieldParser::parse).orElse(Collections.emptyList());
+        }
         return linkedFiles;
     }
 
     public ObservableValue<Map<Field, String>> getLinkedIdentifiers() {
+        if (linkedIdentifiers == null) {
+            linkedIdentifiers = createLinkedIdentifiersBinding(entry);
+        }
         return linkedIdentifiers;
     }
 
     public ObservableValue<List<AbstractGroup>> getMatchedGroups() {
+        if (matchedGroups == null) {
+            matchedGroups = createMatchedGroupsBinding(bibDatabaseContext, entry);
+        }
         return matchedGroups;
     }
 
     public ObservableValue<Optional<SpecialFieldValueViewModel>> getSpecialField(SpecialField field) {
+        if (specialFieldValues == null) {
+            specialFieldValues = new HashMap<>();
+        }
         OptionalBinding<SpecialFieldValueViewModel> value = specialFieldValues.get(field);
         if (value != null) {
             return value;
@@ -108,7 +127,11 @@ public class BibEntryTableViewModel {
     }
 
     public ObservableValue<String> getFields(OrFields fields) {
-        ObservableValue<String> value = fieldValues.get(fields);
+        if (fieldValues == null) {
+            fieldValues = new HashMap<>();
+        }
+        WeakReference<ObservableValue<String>> reference = fieldValues.get(fields);
+        ObservableValue<String> value = reference == null ? null : reference.get();
         if (value != null) {
             return value;
         }
@@ -116,10 +139,18 @@ public class BibEntryTableViewModel {
         ArrayList<Observable> observables = new ArrayList<>(List.of(entry.getObservables()));
         observables.add(fieldValueFormatter);
 
-        value = Bindings.createStringBinding(() ->
-                        fieldValueFormatter.getValue().formatFieldsValues(fields, entry),
+        // the formatted value is kept by the entry until it changes, thus sorting the table does not format it again
+        value = Bindings.createStringBinding(() -> {
+                    MainTableFieldValueFormatter formatter = fieldValueFormatter.getValue();
+                    if (entry.referencesOtherEntriesOrStrings()) {
+                        // changes of the crossref parent or of strings are not noticed by the entry
+                        return formatter.formatFieldsValues(fields, entry);
+                    }
+                    return entry.getDerivedValue(List.of(formatter, fields), e -> formatter.formatFieldsValues(fields, e));
+                },
                 observables.toArray(Observable[]::new));
-        fieldValues.put(fields, value);
+        // the binding is only weakly referenced by its dependencies, thus it can be collected if no cell shows it
+        fieldValues.put(fields, new WeakReference<>(value));
         return value;
     }
 }
@@ -14,8 +14,11 @@ import javafx.collections.transformation.SortedList;
 
 import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
+import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.search.SearchQuery;
+import org.jabref.logic.search.SearchResults;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
@@ -24,18 +27,31 @@ import org.jabref.model.search.matchers.MatcherSets;
 import org.jabref.preferences.PreferencesService;
 
 import com.tobiasdiez.easybind.EasyBind;
+import com.tobiasdiez.easybind.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class MainTableDataModel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MainTableDataModel.class);
+
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final SortedList<BibEntryTableViewModel> entriesSorted;
     private final GroupViewMode groupViewMode;
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter;
     private final PreferencesService preferencesService;
     private final BibDatabaseContext bibDatabaseContext;
+    private final TaskExecutor taskExecutor;
+
+    // The results of the active search query, which are replaced as a whole when the search of a new query finished
+    private final ObjectProperty<Optional<SearchResults>> searchResults = new SimpleObjectProperty<>(Optional.empty());
+    private BackgroundTask<Optional<SearchResults>> runningSearch;
+    private final Subscription searchQuerySubscription;
 
-    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager) {
+    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager, TaskExecutor taskExecutor) {
         this.preferencesService = preferencesService;
         this.bibDatabaseContext = context;
+        this.taskExecutor = taskExecutor;
         this.fieldValueFormatter = new SimpleObjectProperty<>(
                 new MainTableFieldValueFormatter(preferencesService, bibDatabaseContext));
 
@@ -45,8 +61,9 @@ public class MainTableDataModel {
 
         entriesFiltered = new FilteredList<>(entriesViewModel);
         entriesFiltered.predicateProperty().bind(
-                EasyBind.combine(stateManager.activeGroupProperty(), stateManager.activeSearchQueryProperty(), (groups, query) -> entry -> isMatched(groups, query, entry))
+                EasyBind.combine(stateManager.activeGroupProperty(), searchResults, (groups, results) -> entry -> isMatched(groups, results, entry))
         );
+        searchQuerySubscription = EasyBind.subscribe(stateManager.activeSearchQueryProperty(), this::search);
 
         IntegerProperty resultSize = new SimpleIntegerProperty();
         resultSize.bind(Bindings.size(entriesFiltered));
@@ -57,13 +74,46 @@ public class MainTableDataModel {
 
     }
 
-    private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return isMatchedByGroup(groups, entry) && isMatchedBySearch(query, entry);
+    /**
+     * Searches the entries in the background. A search that is still running is canceled, as its results are outdated.
+     * The entries shown in the table are updated when the search finished.
+     */
+    private void search(Optional<SearchQuery> query) {
+        if (runningSearch != null) {
+            runningSearch.cancel();
+            runningSearch = null;
+        }
+        if (query.isEmpty()) {
+            searchResults.set(Optional.empty());
+            return;
+        }
+
+        List<BibEntry> entries = List.copyOf(bibDatabaseContext.getEntries());
+        Optional<SearchResults> previousResults = searchResults.get();
+        BackgroundTask<Optional<SearchResults>> search = new BackgroundTask<>() {
+            @Override
+            protected Optional<SearchResults> call() {
+                return SearchResults.search(query.get(), entries, previousResults, this::isCanceled);
+            }
+        };
+        search.onSuccess(results -> {
+                  if (runningSearch == search) {
+                      runningSearch = null;
+                      results.ifPresent(result -> searchResults.set(Optional.of(result)));
+                  }
+              })
+              .onFailure(exception -> LOGGER.error("Could not search entries", exception));
+        runningSearch = search;
+        search.executeWith(taskExecutor);
     }
 
-    private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return query.map(matcher -> matcher.isMatch(entry.getEntry()))
-                    .orElse(true);
+    private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchResults> results, BibEntryTableViewModel entry) {
+        return isMatchedByGroup(groups, entry) && isMatchedBySearch(results, entry);
+    }
+
+    private boolean isMatchedBySearch(Optional<SearchResults> results, BibEntryTableViewModel entry) {
+        return results.map(matcher -> matcher.isMatch(entry.getEntry()))
+                      .orElse(true);
     }
 
     private boolean isMatchedByGroup(ObservableList<GroupTreeNode> groups, BibEntryTableViewModel entry) {
@@ -90,6 +140,18 @@ public class MainTableDataModel {
         return entriesSorted;
     }
 
+    /**
+     * Stops searching the entries when the search query changes. This has to be called when the model is not used
+     * anymore, as the search query is shared by all libraries.
+     */
+    public void unbind() {
+        searchQuerySubscription.unsubscribe();
+        if (runningSearch != null) {
+            runningSearch.cancel();
+            runningSearch = null;
+        }
+    }
+
     public void refresh() {
         this.fieldValueFormatter.setValue(new MainTableFieldValueFormatter(preferencesService, bibDatabaseContext));
     }
@@ -1,5 +1,6 @@
 package org.jabref.gui.maintable;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
@@ -26,6 +27,29 @@ public class MainTableFieldValueFormatter {
         this.bibDatabase = bibDatabaseContext.getDatabase();
     }
 
+    /**
+     * Formatters are equal if they format values the same way. Thus, they can be used as part of the key of values
+     * cached by the entries, see {@link BibEntry#getDerivedValue}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if ((o == null) || (getClass() != o.getClass())) {
+            return false;
+        }
+        MainTableFieldValueFormatter that = (MainTableFieldValueFormatter) o;
+        return (displayStyle == that.displayStyle)
+                && (abbreviationStyle == that.abbreviationStyle)
+                && (bibDatabase == that.bibDatabase);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(displayStyle, abbreviationStyle, System.identityHashCode(bibDatabase));
+    }
+
     /**
      * Format fields for {@link BibEntryTableViewModel}, according to user preferences and with latex translated to
      * unicode if possible.
@@ -0,0 +1,264 @@
+package org.jabref.gui.preview;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.exporter.ExporterFactory;
+import org.jabref.logic.layout.TextBasedPreviewLayout;
+import org.jabref.logic.preview.PreviewLayout;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.util.BoundedCache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the rendered previews of the entries of a library.
+ * <p>
+ * Rendering a preview, in particular with a citation style, takes long enough to be noticed when moving through the
+ * entries with the arrow keys. Therefore, the previews are cached by the layout and the version of the entry, so that
+ * an entry is only rendered again after it changed. Additionally, the previews of the entries next to the selected one
+ * can be rendered in the background, see {@link #prefetch(PreviewLayout, List, int, TaskExecutor)}.
+ * <p>
+ * Previews of entries with a crossref or a string reference are not cached, as changes of the parent entry or the
+ * strings are not noticed, see {@link BibEntry#referencesOtherEntriesOrStrings()}.
+ * <p>
+ * The time spent rendering is recorded, so that slow layouts can be found.
+ */
+public class PreviewCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreviewCache.class);
+
+    private static final int MAX_CACHED_PREVIEWS = 500;
+
+    // The number of entries before and after the selected one that are rendered in advance
+    private static final int PREFETCH_DISTANCE = 3;
+
+    // Entries are rendered in advance only after the selection did not change for this time, i.e., not while scrolling
+    private static final long PREFETCH_DELAY_MILLIS = 300;
+
+    // The entry number used by the layouts is static, so only one preview is rendered at a time
+    private static final Object RENDER_LOCK = new Object();
+
+    // The derived value of an entry that is replaced whenever the entry changes
+    private static final Object ENTRY_VERSION = new Object();
+
+    // Weak, as previews are also shown for libraries that are never closed, e.g., the example entry in the preferences
+    private static final Map<BibDatabaseContext, PreviewCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final BibDatabase database;
+    private final BoundedCache<Key, String> previews = new BoundedCache<>(MAX_CACHED_PREVIEWS);
+
+    private final LongAdder renderCount = new LongAdder();
+    private final LongAdder totalRenderTime = new LongAdder();
+    private final LongAccumulator maxRenderTime = new LongAccumulator(Math::max, 0);
+
+    // The number of previews requested by viewers that are currently rendered. Prefetching waits for them.
+    private final AtomicInteger pendingRenders = new AtomicInteger();
+
+    private BackgroundTask<Void> runningPrefetch;
+
+    PreviewCache(BibDatabase database) {
+        this.database = Objects.requireNonNull(database);
+    }
+
+    /**
+     * Returns the cache for the previews of the given library
+     */
+    public static PreviewCache of(BibDatabaseContext databaseContext) {
+        return CACHES.computeIfAbsent(databaseContext, context -> new PreviewCache(context.getDatabase()));
+    }
+
+    /**
+     * Drops the cache of the given library, if there is one. This should be called when the library is closed.
+     */
+    public static void shutdown(BibDatabaseContext databaseContext) {
+        PreviewCache cache = CACHES.remove(databaseContext);
+        if (cache != null) {
+            cache.cancelPrefetch();
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns the preview of the given entry, rendering it if it is not cached. As rendering may take long, this should
+     * not be called on the JavaFX thread.
+     */
+    public String getPreview(PreviewLayout layout, BibEntry entry) {
+        pendingRenders.incrementAndGet();
+        try {
+            return getOrRender(layout, entry);
+        } finally {
+            pendingRenders.decrementAndGet();
+        }
+    }
+
+    private String getOrRender(PreviewLayout layout, BibEntry entry) {
+        if (entry.referencesOtherEntriesOrStrings()) {
+            return render(layout, entry);
+        }
+        return previews.get(new Key(layout, getVersion(entry)), key -> render(layout, entry));
+    }
+
+    /**
+     * Returns the preview of the given entry, if it was rendered since the entry changed the last time
+     */
+    public Optional<String> getCachedPreview(PreviewLayout layout, BibEntry entry) {
+        if (entry.referencesOtherEntriesOrStrings()) {
+            return Optional.empty();
+        }
+        return previews.getIfPresent(new Key(layout, getVersion(entry)));
+    }
+
+    /**
+     * Renders the previews of the entries next to the selected one in the background, starting with the closest ones.
+     * The rendering starts after a short delay and stops as soon as a viewer requests a preview that is not cached, so
+     * that the selected entry is shown first. A prefetch that is still running is canceled.
+     *
+     * @param entries       the entries in the order they are shown
+     * @param selectedIndex the index of the selected entry in the given entries
+     */
+    public synchronized void prefetch(PreviewLayout layout, List<BibEntry> entries, int selectedIndex, TaskExecutor taskExecutor) {
+        cancelPrefetch();
+
+        List<BibEntry> neighbours = new ArrayList<>(2 * PREFETCH_DISTANCE);
+        for (int distance = 1; distance <= PREFETCH_DISTANCE; distance++) {
+            if (selectedIndex + distance < entries.size()) {
+                neighbours.add(entries.get(selectedIndex + distance));
+            }
+            if (selectedIndex - distance >= 0) {
+                neighbours.add(entries.get(selectedIndex - distance));
+            }
+        }
+        if (neighbours.isEmpty()) {
+            return;
+        }
+
+        BackgroundTask<Void> prefetch = new BackgroundTask<>() {
+            @Override
+            protected Void call() {
+                for (BibEntry entry : neighbours) {
+                    if (isCanceled() || (pendingRenders.get() > 0)) {
+                        break;
+                    }
+                    if (entry.referencesOtherEntriesOrStrings()) {
+                        // The preview would not be cached
+                        continue;
+                    }
+                    try {
+                        getOrRender(layout, entry);
+                    } catch (RuntimeException e) {
+                        // The error is shown once the entry is selected
+                        LOGGER.debug("Could not render preview in advance", e);
+                    }
+                }
+                return null;
+            }
+        };
+        runningPrefetch = prefetch;
+        taskExecutor.schedule(prefetch, PREFETCH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void cancelPrefetch() {
+        if (runningPrefetch != null) {
+            runningPrefetch.cancel();
+            runningPrefetch = null;
+        }
+    }
+
+    public void invalidateAll() {
+        previews.invalidateAll();
+    }
+
+    private String render(PreviewLayout layout, BibEntry entry) {
+        long start = System.nanoTime();
+        String preview;
+        synchronized (RENDER_LOCK) {
+            ExporterFactory.entryNumber = 1; // Set entry number in case that is included in the preview layout.
+            preview = layout.generatePreview(entry, database);
+        }
+        long renderTime = System.nanoTime() - start;
+
+        renderCount.increment();
+        totalRenderTime.add(renderTime);
+        maxRenderTime.accumulate(renderTime);
+        LOGGER.debug("Rendered preview of {} with {} in {}", entry.getCitationKey().orElse(entry.getId()), layout.getName(), Duration.ofNanos(renderTime));
+        return preview;
+    }
+
+    private static Object getVersion(BibEntry entry) {
+        return entry.getDerivedValue(ENTRY_VERSION, changedEntry -> new Object());
+    }
+
+    /**
+     * Returns the number of previews rendered, i.e., not found in the cache
+     */
+    public long getRenderCount() {
+        return renderCount.sum();
+    }
+
+    public Duration getAverageRenderTime() {
+        long count = renderCount.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalRenderTime.sum() / count);
+    }
+
+    public Duration getMaxRenderTime() {
+        return Duration.ofNanos(maxRenderTime.get());
+    }
+
+    /**
+     * Returns the ratio of previews found in the cache, or 1.0 if no preview was requested yet. Prefetched previews
+     * count as requests as well.
+     */
+    public double getHitRate() {
+        return previews.getHitRate();
+    }
+
+    /**
+     * Identifies a preview by the layout and the version of the entry. Text based layouts can be edited in the
+     * preferences, so their text is part of the key as well.
+     */
+    private static class Key {
+
+        private final PreviewLayout layout;
+        private final String layoutText;
+        private final Object entryVersion;
+
+        Key(PreviewLayout layout, Object entryVersion) {
+            this.layout = Objects.requireNonNull(layout);
+            this.layoutText = layout instanceof TextBasedPreviewLayout ? ((TextBasedPreviewLayout) layout).getText() : null;
+            this.entryVersion = entryVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return (entryVersion == other.entryVersion) && layout.equals(other.layout) && Objects.equals(layoutText, other.layoutText);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(layout, layoutText, System.identityHashCode(entryVersion));
+        }
+    }
+}
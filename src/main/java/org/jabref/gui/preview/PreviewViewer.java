@@ -20,7 +20,6 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.gui.util.Theme;
-import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.logic.search.SearchQuery;
@@ -106,8 +105,15 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
     private Optional<Pattern> searchHighlightPattern = Optional.empty();
 
     private final BibDatabaseContext database;
+    private final PreviewCache previewCache;
     private boolean registered;
 
+    // Identifies the latest update, so that previews rendered for an earlier one are not shown
+    private long updateCount;
+    private PreviewLayout renderedLayout;
+    private BibEntry renderedEntry;
+    private String loadedContent;
+
     private final ChangeListener<Optional<SearchQuery>> listener = (queryObservable, queryOldValue, queryNewValue) -> {
         searchHighlightPattern = queryNewValue.flatMap(SearchQuery::getJavaScriptPatternForWords);
         highlightSearchPattern();
@@ -118,6 +124,7 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
      */
     public PreviewViewer(BibDatabaseContext database, DialogService dialogService, StateManager stateManager) {
         this.database = Objects.requireNonNull(database);
+        this.previewCache = PreviewCache.of(database);
         this.dialogService = dialogService;
         this.clipBoardManager = Globals.getClipboardManager();
 
@@ -196,21 +203,52 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
             return;
         }
 
-        ExporterFactory.entryNumber = 1; // Set entry number in case that is included in the preview layout.
+        long currentUpdate = ++updateCount;
+        PreviewLayout currentLayout = layout;
+        BibEntry currentEntry = entry.get();
+
+        Optional<String> cachedPreview = previewCache.getCachedPreview(currentLayout, currentEntry);
+        if (cachedPreview.isPresent()) {
+            setPreview(currentLayout, currentEntry, cachedPreview.get());
+            return;
+        }
 
         BackgroundTask
-                .wrap(() -> layout.generatePreview(entry.get(), database.getDatabase()))
-                .onRunning(() -> setPreviewText("<i>" + Localization.lang("Processing %0", Localization.lang("Citation Style")) + ": " + layout.getDisplayName() + " ..." + "</i>"))
-                .onSuccess(this::setPreviewText)
+                .wrap(() -> previewCache.getPreview(currentLayout, currentEntry))
+                .onRunning(() -> {
+                    // The preview of a changed entry is kept until the new one is rendered
+                    if ((currentUpdate == updateCount) && ((currentLayout != renderedLayout) || (currentEntry != renderedEntry))) {
+                        setPreviewText("<i>" + Localization.lang("Processing %0", Localization.lang("Citation Style")) + ": " + currentLayout.getDisplayName() + " ..." + "</i>");
+                    }
+                })
+                .onSuccess(preview -> {
+                    if (currentUpdate == updateCount) {
+                        setPreview(currentLayout, currentEntry, preview);
+                    }
+                })
                 .onFailure(exception -> {
                     LOGGER.error("Error while generating citation style", exception);
-                    setPreviewText(Localization.lang("Error while generating citation style"));
+                    if (currentUpdate == updateCount) {
+                        renderedEntry = null;
+                        setPreviewText(Localization.lang("Error while generating citation style"));
+                    }
                 })
                 .executeWith(taskExecutor);
     }
 
+    private void setPreview(PreviewLayout previewLayout, BibEntry previewEntry, String preview) {
+        renderedLayout = previewLayout;
+        renderedEntry = previewEntry;
+        setPreviewText(preview);
+    }
+
     private void setPreviewText(String text) {
         String myText = "<html>" + JS_HIGHLIGHT_FUNCTION + "<body id=\"previewBody\"><div id=\"content\">" + text + "</div></body></html>";
+        if (myText.equals(loadedContent)) {
+            // Reloading would only reset the scroll position and the highlighting
+            return;
+        }
+        loadedContent = myText;
         previewView.getEngine().setJavaScriptEnabled(true);
         previewView.getEngine().loadContent(myText);
 
@@ -173,11 +173,15 @@ public class GlobalSearchBar extends HBox {
                 query -> setSearchTerm(query.map(SearchQuery::getQuery).orElse(""))
         );
 
-        EasyBind.subscribe(this.stateManager.activeSearchQueryProperty(), searchQuery -> {
-            searchQuery.ifPresent(query -> {
-                updateResults(this.stateManager.getSearchResultSize().intValue(), SearchDescribers.getSearchDescriberFor(query).getDescription(),
-                        query.isGrammarBasedSearch());
-            });
+        EasyBind.subscribe(this.stateManager.activeSearchQueryProperty(), this::updateResults);
+        // The entries are searched in the background, so the number of results changes after the query
+        EasyBind.subscribe(this.stateManager.activeSearchResultSizeProperty(), resultSize -> updateResults(this.stateManager.activeSearchQueryProperty().get()));
+    }
+
+    private void updateResults(Optional<SearchQuery> searchQuery) {
+        searchQuery.ifPresent(query -> {
+            updateResults(this.stateManager.getSearchResultSize().intValue(), SearchDescribers.getSearchDescriberFor(query).getDescription(),
+                    query.isGrammarBasedSearch());
         });
     }
 
@@ -98,15 +98,15 @@ public class ExistingStudySearchAction extends SimpleCommand {
             return;
         }
         dialogService.notify(Localization.lang("Searching"));
-        BackgroundTask.wrap(() -> {
-            crawler.performCrawl();
-            return 0; // Return any value to make this a callable instead of a runnable. This allows throwing exceptions.
-        })
+        BackgroundTask.wrap(crawler::performCrawl)
                       .onFailure(e -> {
                           LOGGER.error("Error during persistence of crawling results.");
                           dialogService.showErrorDialogAndWait(Localization.lang("Error during persistence of crawling results."), e);
                       })
-                      .onSuccess(unused -> {
+                      .onSuccess(failedSearches -> {
+                          if (!failedSearches.isEmpty()) {
+                              dialogService.notify(Localization.lang("%0 searches failed. Their results are missing.", String.valueOf(failedSearches.size())));
+                          }
                           new OpenDatabaseAction(frame, preferencesService, dialogService, stateManager).openFile(Path.of(studyDirectory.toString(), "studyResult.bib"), true);
                           // If  finished reset command object for next use
                           studyDirectory = null;
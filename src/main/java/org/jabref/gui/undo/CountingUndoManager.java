@@ -12,8 +12,17 @@ import com.google.common.eventbus.EventBus;
 
 public class CountingUndoManager extends UndoManager {
 
+    /**
+     * The default maximal number of bytes the edits may use, see {@link #setMemoryLimit(long)}
+     */
+    public static final long DEFAULT_MEMORY_LIMIT = 64L * 1024 * 1024;
+
+    // The approximate number of bytes used by an edit whose size is not known
+    private static final long EDIT_SIZE = 256;
+
     private int unchangedPoint;
     private int current;
+    private long memoryLimit = DEFAULT_MEMORY_LIMIT;
 
     private final EventBus eventBus = new EventBus();
 
@@ -21,10 +30,42 @@ public class CountingUndoManager extends UndoManager {
     public synchronized boolean addEdit(UndoableEdit edit) {
         current++;
         boolean returnvalue = super.addEdit(edit);
+        trimToMemoryLimit();
         postAddUndoEvent();
         return returnvalue;
     }
 
+    /**
+     * Sets the maximal number of bytes the edits may use approximately. If they use more, the oldest edits are
+     * discarded, so that large operations like cleaning up thousands of entries cannot exhaust the memory. The most
+     * recent edit is always kept.
+     */
+    public synchronized void setMemoryLimit(long memoryLimit) {
+        this.memoryLimit = memoryLimit;
+        trimToMemoryLimit();
+    }
+
+    private void trimToMemoryLimit() {
+        long size = 0;
+        for (UndoableEdit edit : edits) {
+            size += estimateSize(edit);
+        }
+        while ((size > memoryLimit) && (edits.size() > 1)) {
+            size -= estimateSize(edits.firstElement());
+            trimEdits(0, 0);
+        }
+    }
+
+    private static long estimateSize(UndoableEdit edit) {
+        if (edit instanceof UndoableFieldChanges) {
+            return ((UndoableFieldChanges) edit).getEstimatedSize();
+        } else if (edit instanceof NamedCompound) {
+            return Math.max(1, ((NamedCompound) edit).getNumberOfEdits()) * EDIT_SIZE;
+        } else {
+            return EDIT_SIZE;
+        }
+    }
+
     @Override
     public synchronized void undo() throws CannotUndoException {
         super.undo();
@@ -25,6 +25,10 @@ public class NamedCompound extends CompoundEdit {
         return hasEdits;
     }
 
+    public int getNumberOfEdits() {
+        return edits.size();
+    }
+
     @Override
     public String getUndoPresentationName() {
         return "<html>" + Localization.lang("Undo") + ": " + name + "<ul>" + getPresentationName() + "</ul></html>";
@@ -0,0 +1,209 @@
+package org.jabref.gui.undo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.l10n.Localization;
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents the changes of field values made by one operation on many entries, e.g., a cleanup. Undoing reverts all
+ * changes, redoing applies them again.
+ * <p>
+ * In contrast to a {@link NamedCompound} of {@link UndoableFieldChange}s, the changes are not stored as one object
+ * each, but in parallel arrays of the entries, fields, old and new values. Consecutive changes of the same field of the
+ * same entry are merged into one. Changes can only be added until {@link #end()} is called.
+ * <p>
+ * Undoing and redoing set all changed fields of an entry at once, so that a single change event is posted per entry.
+ */
+public class UndoableFieldChanges extends AbstractUndoableJabRefEdit {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UndoableFieldChanges.class);
+
+    // The number of changes listed in the presentation name
+    private static final int MAX_PRESENTED_CHANGES = 10;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The approximate size of a reference in each of the arrays and of the header of a string
+    private static final int REFERENCE_SIZE = 8;
+    private static final int STRING_HEADER_SIZE = 40;
+
+    private final String name;
+
+    private BibEntry[] entries = new BibEntry[INITIAL_CAPACITY];
+    private Field[] fields = new Field[INITIAL_CAPACITY];
+    private String[] oldValues = new String[INITIAL_CAPACITY];
+    private String[] newValues = new String[INITIAL_CAPACITY];
+    private int size;
+
+    private long estimatedSize;
+    private boolean inProgress = true;
+
+    public UndoableFieldChanges(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds a change that was already applied to the entry
+     *
+     * @param oldValue the value before the change, or null if the field was not set
+     * @param newValue the value after the change, or null if the field was cleared
+     */
+    public synchronized void add(BibEntry entry, Field field, String oldValue, String newValue) {
+        if (!inProgress) {
+            throw new IllegalStateException("Changes cannot be added after end() was called");
+        }
+
+        int last = size - 1;
+        if ((last >= 0) && (entries[last] == entry) && fields[last].equals(field)) {
+            estimatedSize -= estimateSize(newValues[last]);
+            newValues[last] = newValue;
+            estimatedSize += estimateSize(newValue);
+            return;
+        }
+
+        if (size == entries.length) {
+            int capacity = size * 2;
+            entries = Arrays.copyOf(entries, capacity);
+            fields = Arrays.copyOf(fields, capacity);
+            oldValues = Arrays.copyOf(oldValues, capacity);
+            newValues = Arrays.copyOf(newValues, capacity);
+        }
+        entries[size] = entry;
+        fields[size] = field;
+        oldValues[size] = oldValue;
+        newValues[size] = newValue;
+        size++;
+        estimatedSize += (4 * REFERENCE_SIZE) + estimateSize(oldValue) + estimateSize(newValue);
+    }
+
+    public void add(FieldChange change) {
+        add(change.getEntry(), change.getField(), change.getOldValue(), change.getNewValue());
+    }
+
+    private static long estimateSize(String value) {
+        return (value == null) ? 0 : STRING_HEADER_SIZE + (2L * value.length());
+    }
+
+    /**
+     * Finishes adding changes and releases the unused capacity of the arrays
+     */
+    public synchronized void end() {
+        inProgress = false;
+        entries = Arrays.copyOf(entries, size);
+        fields = Arrays.copyOf(fields, size);
+        oldValues = Arrays.copyOf(oldValues, size);
+        newValues = Arrays.copyOf(newValues, size);
+    }
+
+    public synchronized boolean hasEdits() {
+        return size > 0;
+    }
+
+    public synchronized int getNumberOfChanges() {
+        return size;
+    }
+
+    /**
+     * Returns the approximate number of bytes used by the stored changes. Values that are still used by the entries are
+     * counted as well.
+     */
+    public synchronized long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public boolean canUndo() {
+        return !inProgress && super.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return !inProgress && super.canRedo();
+    }
+
+    @Override
+    public synchronized void undo() {
+        super.undo();
+        // The oldest value of each field is set, thus the changes are collected from the last to the first one
+        Map<BibEntry, Map<Field, String>> valuesByEntry = new IdentityHashMap<>();
+        List<BibEntry> changedEntries = new ArrayList<>();
+        for (int i = size - 1; i >= 0; i--) {
+            collectValue(valuesByEntry, changedEntries, entries[i], fields[i], oldValues[i]);
+        }
+        setValues(valuesByEntry, changedEntries);
+    }
+
+    @Override
+    public synchronized void redo() {
+        super.redo();
+        Map<BibEntry, Map<Field, String>> valuesByEntry = new IdentityHashMap<>();
+        List<BibEntry> changedEntries = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            collectValue(valuesByEntry, changedEntries, entries[i], fields[i], newValues[i]);
+        }
+        setValues(valuesByEntry, changedEntries);
+    }
+
+    private static void collectValue(Map<BibEntry, Map<Field, String>> valuesByEntry, List<BibEntry> changedEntries, BibEntry entry, Field field, String value) {
+        valuesByEntry.computeIfAbsent(entry, changedEntry -> {
+            changedEntries.add(changedEntry);
+            // allows null values for fields to be cleared
+            return new LinkedHashMap<>();
+        }).put(field, value);
+    }
+
+    /**
+     * Sets the collected values of each entry at once, so that the listeners of an entry are notified only once
+     */
+    private static void setValues(Map<BibEntry, Map<Field, String>> valuesByEntry, List<BibEntry> changedEntries) {
+        for (BibEntry entry : changedEntries) {
+            try {
+                entry.setFields(valuesByEntry.get(entry), EntriesEventSource.LOCAL);
+            } catch (IllegalArgumentException ex) {
+                LOGGER.info("Cannot perform undo or redo", ex);
+            }
+        }
+    }
+
+    @Override
+    public String getUndoPresentationName() {
+        return "<html>" + Localization.lang("Undo") + ": " + name + "<ul>" + getPresentationName() + "</ul></html>";
+    }
+
+    @Override
+    public String getRedoPresentationName() {
+        return "<html>" + Localization.lang("Redo") + ": " + name + "<ul>" + getPresentationName() + "</ul></html>";
+    }
+
+    /**
+     * Lists the first changes only, as there may be many thousands
+     */
+    @Override
+    public synchronized String getPresentationName() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(size, MAX_PRESENTED_CHANGES); i++) {
+            sb.append("<li>").append(Localization.lang("change field %0 of entry %1 from %2 to %3",
+                    StringUtil.boldHTML(fields[i].getDisplayName()),
+                    StringUtil.boldHTML(entries[i].getCitationKey().orElse(Localization.lang("undefined"))),
+                    StringUtil.boldHTML(oldValues[i], Localization.lang("undefined")),
+                    StringUtil.boldHTML(newValues[i], Localization.lang("undefined"))));
+        }
+        if (size > MAX_PRESENTED_CHANGES) {
+            sb.append("<li>...");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,191 @@
+package org.jabref.logic.auxparser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the citation keys of AUX files, including the keys of nested AUX files.
+ * <p>
+ * Every file is identified by its path, modification time and size. After LaTeX was run again, only the AUX files that
+ * changed are read again. As long as no file of a tree of AUX files changed, the same set of citation keys is
+ * returned, so that all groups referring to the same AUX file share it.
+ */
+class AuxFileCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuxFileCache.class);
+
+    private final Map<Path, AuxFile> files = new ConcurrentHashMap<>();
+    private final Map<Path, AuxTree> trees = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the citation keys of the given AUX file and all AUX files it includes.
+     *
+     * @return an unmodifiable set
+     */
+    Set<String> getCitationKeys(Path auxFile) {
+        Path rootFile = auxFile.toAbsolutePath().normalize();
+
+        // Nested files are resolved relative to the directory of the root file (see DefaultAuxParser)
+        List<AuxFile> treeFiles = new ArrayList<>();
+        Set<Path> visitedPaths = new LinkedHashSet<>();
+        visitedPaths.add(rootFile);
+        List<Path> pathsToVisit = new ArrayList<>(visitedPaths);
+        for (int i = 0; i < pathsToVisit.size(); i++) {
+            AuxFile file = getFile(pathsToVisit.get(i));
+            treeFiles.add(file);
+            for (String input : file.inputs) {
+                Path inputPath = resolveInput(rootFile, input);
+                if (visitedPaths.add(inputPath)) {
+                    pathsToVisit.add(inputPath);
+                }
+            }
+        }
+
+        AuxTree cachedTree = trees.get(rootFile);
+        if ((cachedTree != null) && cachedTree.files.equals(treeFiles)) {
+            return cachedTree.keys;
+        }
+
+        Set<String> keys = new HashSet<>();
+        for (AuxFile file : treeFiles) {
+            keys.addAll(file.keys);
+        }
+        AuxTree tree = new AuxTree(treeFiles, Collections.unmodifiableSet(keys));
+        trees.put(rootFile, tree);
+        return tree.keys;
+    }
+
+    private static Path resolveInput(Path rootFile, String input) {
+        Path rootPath = rootFile.getParent();
+        Path inputPath = rootPath != null ? rootPath.resolve(input) : Path.of(input);
+        return inputPath.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Returns the content of the given file, which is only read if it changed since it was read the last time
+     */
+    private AuxFile getFile(Path path) {
+        FileVersion version = FileVersion.of(path);
+        AuxFile cachedFile = files.get(path);
+        if ((cachedFile != null) && cachedFile.version.equals(version)) {
+            return cachedFile;
+        }
+
+        AuxFile file = readFile(path, version);
+        files.put(path, file);
+        return file;
+    }
+
+    private static AuxFile readFile(Path path, FileVersion version) {
+        Set<String> keys = new HashSet<>();
+        List<String> inputs = new ArrayList<>();
+        if (version.exists()) {
+            try (BufferedReader reader = Files.newBufferedReader(path)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    Matcher citeMatch = DefaultAuxParser.CITE_PATTERN.matcher(line);
+                    while (citeMatch.find()) {
+                        for (String key : citeMatch.group(2).split(",")) {
+                            keys.add(key.trim());
+                        }
+                    }
+                    Matcher inputMatch = DefaultAuxParser.INPUT_PATTERN.matcher(line);
+                    while (inputMatch.find()) {
+                        inputs.add(inputMatch.group(1));
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Problem opening file", e);
+            }
+        } else {
+            LOGGER.warn("Cannot locate input file {}", path);
+        }
+        return new AuxFile(version, keys, inputs);
+    }
+
+    private static class AuxFile {
+        private final FileVersion version;
+        private final Set<String> keys;
+        private final List<String> inputs;
+
+        AuxFile(FileVersion version, Set<String> keys, List<String> inputs) {
+            this.version = version;
+            this.keys = keys;
+            this.inputs = inputs;
+        }
+    }
+
+    private static class AuxTree {
+        // The files the keys were collected from, compared by identity, as they are replaced when they change
+        private final List<AuxFile> files;
+        private final Set<String> keys;
+
+        AuxTree(List<AuxFile> files, Set<String> keys) {
+            this.files = files;
+            this.keys = keys;
+        }
+    }
+
+    private static class FileVersion {
+        private static final FileVersion MISSING = new FileVersion(FileTime.fromMillis(0), -1);
+
+        private final FileTime lastModified;
+        private final long size;
+
+        private FileVersion(FileTime lastModified, long size) {
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        static FileVersion of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileVersion(attributes.lastModifiedTime(), attributes.size());
+            } catch (NoSuchFileException e) {
+                return MISSING;
+            } catch (IOException e) {
+                LOGGER.warn("Could not read attributes of {}", path, e);
+                return MISSING;
+            }
+        }
+
+        boolean exists() {
+            return this != MISSING;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            FileVersion that = (FileVersion) o;
+            return (size == that.size) && Objects.equals(lastModified, that.lastModified);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModified, size);
+        }
+    }
+}
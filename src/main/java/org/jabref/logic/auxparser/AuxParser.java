@@ -1,6 +1,8 @@
 package org.jabref.logic.auxparser;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
 
 public interface AuxParser {
     /**
@@ -10,4 +12,14 @@ public interface AuxParser {
      * @return an AuxParserResult containing the generated BibDatabase and parsing statistics
      */
     AuxParserResult parse(Path auxFile);
+
+    /**
+     * Returns the citation keys used in the given AUX file and the AUX files included by it.
+     *
+     * @param auxFile Path to the LaTeX AUX file
+     * @return an unmodifiable set of the citation keys
+     */
+    default Set<String> getCitationKeys(Path auxFile) {
+        return Collections.unmodifiableSet(parse(auxFile).getUniqueKeys());
+    }
 }
@@ -8,6 +8,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,8 +33,13 @@ import org.slf4j.LoggerFactory;
 public class DefaultAuxParser implements AuxParser {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultAuxParser.class);
 
-    private static final Pattern CITE_PATTERN = Pattern.compile("\\\\(citation|abx@aux@cite)\\{(.+)\\}");
-    private static final Pattern INPUT_PATTERN = Pattern.compile("\\\\@input\\{(.+)\\}");
+    static final Pattern CITE_PATTERN = Pattern.compile("\\\\(citation|abx@aux@cite)\\{(.+)\\}");
+    static final Pattern INPUT_PATTERN = Pattern.compile("\\\\@input\\{(.+)\\}");
+
+    /**
+     * Shared by all parsers, as several groups may refer to the same AUX file
+     */
+    private static final AuxFileCache AUX_FILE_CACHE = new AuxFileCache();
 
     private final BibDatabase masterDatabase;
 
@@ -51,6 +57,16 @@ public class DefaultAuxParser implements AuxParser {
         return parseAuxFile(auxFile);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the AUX files that changed since the last call are read again.
+     */
+    @Override
+    public Set<String> getCitationKeys(Path auxFile) {
+        return AUX_FILE_CACHE.getCitationKeys(auxFile);
+    }
+
     private AuxParserResult parseAuxFile(Path auxFile) {
         AuxParserResult result = new AuxParserResult(masterDatabase);
 
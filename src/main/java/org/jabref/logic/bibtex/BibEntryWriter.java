@@ -59,7 +59,7 @@ public class BibEntryWriter {
      */
     public void write(BibEntry entry, Writer out, BibDatabaseMode bibDatabaseMode, Boolean reformat) throws IOException {
         // if the entry has not been modified, write it as it was
-        if (!reformat && !entry.hasChanged()) {
+        if ((!reformat && !entry.hasChanged()) || entry.isUnparseable()) {
             out.write(entry.getParsedSerialization());
             return;
         }
@@ -80,7 +80,7 @@ public class BibEntryWriter {
 
     public void writeWithoutPrependedNewlines(BibEntry entry, Writer out, BibDatabaseMode bibDatabaseMode) throws IOException {
         // if the entry has not been modified, write it as it was
-        if (!entry.hasChanged()) {
+        if (!entry.hasChanged() || entry.isUnparseable()) {
             out.write(entry.getParsedSerialization().trim());
             return;
         }
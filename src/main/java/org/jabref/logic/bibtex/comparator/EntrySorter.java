@@ -0,0 +1,41 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Sorts entries using a list of comparators, see {@link FieldComparatorStack}.
+ * <p>
+ * The keys of all {@link FieldComparator}s are computed for all entries in parallel before sorting, so that the
+ * comparisons only compare cached keys. Large lists are sorted in parallel.
+ */
+public class EntrySorter {
+
+    private EntrySorter() {
+    }
+
+    /**
+     * @param comparators have to be thread-safe
+     * @return a new list containing the sorted entries. The sort is stable.
+     */
+    public static List<BibEntry> sort(Collection<BibEntry> entries, List<? extends Comparator<BibEntry>> comparators) {
+        BibEntry[] sorted = entries.toArray(BibEntry[]::new);
+
+        List<FieldComparator> fieldComparators = comparators.stream()
+                                                            .filter(FieldComparator.class::isInstance)
+                                                            .map(FieldComparator.class::cast)
+                                                            .collect(Collectors.toList());
+        if (!fieldComparators.isEmpty()) {
+            Arrays.stream(sorted).parallel().forEach(entry -> fieldComparators.forEach(comparator -> comparator.getSortKey(entry)));
+        }
+
+        Arrays.parallelSort(sorted, new FieldComparatorStack<>(comparators));
+        return new ArrayList<>(Arrays.asList(sorted));
+    }
+}
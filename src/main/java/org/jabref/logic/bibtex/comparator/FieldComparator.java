@@ -3,7 +3,9 @@ package org.jabref.logic.bibtex.comparator;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -23,7 +25,11 @@ import org.jabref.model.strings.StringUtil;
  */
 public class FieldComparator implements Comparator<BibEntry> {
 
-    private static final Collator COLLATOR = getCollator();
+    /**
+     * Collators are not thread-safe, thus each thread uses its own one. All of them have the same rules, so that their
+     * collation keys can be compared.
+     */
+    private static final ThreadLocal<Collator> COLLATOR = ThreadLocal.withInitial(FieldComparator::getCollator);
 
     enum FieldType {
         NAME, TYPE, YEAR, MONTH, OTHER
@@ -33,6 +39,7 @@ public class FieldComparator implements Comparator<BibEntry> {
     private final FieldType fieldType;
     private final boolean isNumeric;
     private final int multiplier;
+    private final List<Object> sortKeyKind;
 
     public FieldComparator(Field field) {
         this(new OrFields(field), false);
@@ -47,6 +54,8 @@ public class FieldComparator implements Comparator<BibEntry> {
         fieldType = determineFieldType();
         isNumeric = this.fields.getPrimary().isNumeric();
         multiplier = descending ? -1 : 1;
+        // the key only depends on the fields, not on the sort direction
+        sortKeyKind = List.of(FieldComparator.class, fields);
     }
 
     private static Collator getCollator() {
@@ -84,65 +93,85 @@ public class FieldComparator implements Comparator<BibEntry> {
 
     @Override
     public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
+        return getSortKey(e1).compareTo(getSortKey(e2)) * multiplier;
+    }
+
+    /**
+     * Returns the key of the entry for this comparator. The key is cached by the entry until it changes.
+     */
+    SortKey getSortKey(BibEntry entry) {
+        return entry.getSortKey(sortKeyKind, this::computeSortKey);
+    }
 
+    private SortKey computeSortKey(BibEntry entry) {
+        String value;
         if (fieldType == FieldType.TYPE) {
             // Sort by type.
-            f1 = e1.getType().getDisplayName();
-            f2 = e2.getType().getDisplayName();
+            value = entry.getType().getDisplayName();
         } else {
-            // If the field is author or editor, we rearrange names so they are
-            // sorted according to last name.
-            f1 = getFieldValue(e1);
-            f2 = getFieldValue(e2);
+            value = getFieldValue(entry);
         }
 
-        // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
-            return 0;
-        } else if (f1 == null) {
-            return multiplier;
-        } else if (f2 == null) {
-            return -multiplier;
+        if (value == null) {
+            return SortKey.MISSING;
         }
 
-        // Now we know that both f1 and f2 are != null
         if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
+            // If the field is author or editor, we rearrange names so they are
+            // sorted according to last name.
+            value = AuthorList.fixAuthorForAlphabetization(value);
         } else if (fieldType == FieldType.YEAR) {
-            Integer f1year = StringUtil.intValueOfOptional(f1).orElse(0);
-            Integer f2year = StringUtil.intValueOfOptional(f2).orElse(0);
-            int comparisonResult = Integer.compare(f1year, f2year);
-            return comparisonResult * multiplier;
+            return SortKey.ofNumber(StringUtil.intValueOfOptional(value).orElse(0));
         } else if (fieldType == FieldType.MONTH) {
-            int month1 = Month.parse(f1).map(Month::getNumber).orElse(-1);
-            int month2 = Month.parse(f2).map(Month::getNumber).orElse(-1);
-            return Integer.compare(month1, month2) * multiplier;
+            return SortKey.ofNumber(Month.parse(value).map(Month::getNumber).orElse(-1));
         }
 
         if (isNumeric) {
-            Optional<Integer> i1 = StringUtil.intValueOfOptional(f1);
-            Optional<Integer> i2 = StringUtil.intValueOfOptional(f2);
-
-            if ((i2.isPresent()) && (i1.isPresent())) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return i1.get().compareTo(i2.get()) * multiplier;
-            } else if (i1.isPresent()) {
-                // The first one was parsable, but not the second one.
-                // This means we consider one < two
-                return -1 * multiplier;
-            } else if (i2.isPresent()) {
-                // The second one was parsable, but not the first one.
-                // This means we consider one > two
-                return multiplier;
+            Optional<Integer> number = StringUtil.intValueOfOptional(value);
+            if (number.isPresent()) {
+                // Parsable values are sorted before the others
+                return SortKey.ofNumber(number.get());
             }
-            // Else none of them were parseable, and we can fall back on comparing strings.
         }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+        return SortKey.ofText(COLLATOR.get().getCollationKey(value.toLowerCase(Locale.ENGLISH)).toByteArray());
+    }
+
+    /**
+     * The value of an entry prepared for comparison: numbers come first, then texts (as collation keys), then missing
+     * values.
+     */
+    static final class SortKey implements Comparable<SortKey> {
+
+        private static final SortKey MISSING = new SortKey(2, 0, null);
+
+        private final int category;
+        private final int number;
+        private final byte[] collationKey;
+
+        private SortKey(int category, int number, byte[] collationKey) {
+            this.category = category;
+            this.number = number;
+            this.collationKey = collationKey;
+        }
+
+        static SortKey ofNumber(int number) {
+            return new SortKey(0, number, null);
+        }
+
+        static SortKey ofText(byte[] collationKey) {
+            return new SortKey(1, 0, collationKey);
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            if (category != other.category) {
+                return Integer.compare(category, other.category);
+            }
+            if (collationKey != null) {
+                return Arrays.compareUnsigned(collationKey, other.collationKey);
+            }
+            return Integer.compare(number, other.number);
+        }
     }
 }
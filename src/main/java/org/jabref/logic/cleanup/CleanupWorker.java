@@ -1,13 +1,17 @@
 package org.jabref.logic.cleanup;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.preferences.FilePreferences;
 
 public class CleanupWorker {
@@ -36,6 +40,86 @@ public class CleanupWorker {
         return changes;
     }
 
+    /**
+     * Cleans up the given entries with the jobs of the preset, which are created only once.
+     * <p>
+     * The jobs only changing field values are applied in parallel to copies of the entries. Afterwards, the resulting
+     * values are written to the entries in one go on the calling thread, so that no events are posted from other
+     * threads. Then, the jobs moving or renaming files are run one entry after the other, as they access the file
+     * system and may compete for the same file names.
+     *
+     * @return the changes of all entries, at most one per field and entry
+     */
+    public List<FieldChange> cleanupEntries(CleanupPreset preset, List<BibEntry> entries) {
+        Objects.requireNonNull(preset);
+        Objects.requireNonNull(entries);
+
+        List<CleanupJob> jobs = determineCleanupActions(preset);
+        List<CleanupJob> fieldJobs = jobs.stream().filter(job -> !isFileJob(job)).collect(Collectors.toList());
+        List<CleanupJob> fileJobs = jobs.stream().filter(CleanupWorker::isFileJob).collect(Collectors.toList());
+
+        List<FieldChange> changes = new ArrayList<>();
+        if (!fieldJobs.isEmpty()) {
+            List<List<FieldChange>> changesPerEntry = entries.parallelStream()
+                                                             .map(entry -> cleanupCopy(fieldJobs, entry))
+                                                             .collect(Collectors.toList());
+            for (List<FieldChange> entryChanges : changesPerEntry) {
+                for (FieldChange change : entryChanges) {
+                    apply(change);
+                }
+                changes.addAll(entryChanges);
+            }
+        }
+
+        for (BibEntry entry : entries) {
+            for (CleanupJob job : fileJobs) {
+                changes.addAll(job.cleanup(entry));
+            }
+        }
+
+        return changes;
+    }
+
+    private static boolean isFileJob(CleanupJob job) {
+        return (job instanceof MoveFilesCleanup) || (job instanceof RenamePdfCleanup);
+    }
+
+    /**
+     * Runs the jobs on a copy of the entry, which has no listeners
+     *
+     * @return the differences between the copy and the entry
+     */
+    private static List<FieldChange> cleanupCopy(List<CleanupJob> jobs, BibEntry entry) {
+        BibEntry copy = (BibEntry) entry.clone();
+        boolean changed = false;
+        for (CleanupJob job : jobs) {
+            changed |= !job.cleanup(copy).isEmpty();
+        }
+        if (!changed) {
+            return List.of();
+        }
+
+        Set<Field> fields = new LinkedHashSet<>(entry.getFields());
+        fields.addAll(copy.getFields());
+        List<FieldChange> changes = new ArrayList<>();
+        for (Field field : fields) {
+            String oldValue = entry.getField(field).orElse(null);
+            String newValue = copy.getField(field).orElse(null);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new FieldChange(entry, field, oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+
+    private static void apply(FieldChange change) {
+        if (change.getNewValue() == null) {
+            change.getEntry().clearField(change.getField());
+        } else {
+            change.getEntry().setField(change.getField(), change.getNewValue());
+        }
+    }
+
     private List<CleanupJob> determineCleanupActions(CleanupPreset preset) {
         List<CleanupJob> jobs = new ArrayList<>();
 
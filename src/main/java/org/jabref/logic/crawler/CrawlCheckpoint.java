@@ -0,0 +1,116 @@
+package org.jabref.logic.crawler;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.logic.bibtex.FieldWriterPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the results of the searches completed during a crawl in the study repository.
+ * <p>
+ * If a crawl is interrupted, e.g., because JabRef is closed or the E-Libraries stop responding, the next crawl takes
+ * the stored results instead of searching again. Once the results of a crawl are persisted in the repository, the
+ * checkpoint is cleared.
+ */
+class CrawlCheckpoint {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CrawlCheckpoint.class);
+
+    private final Path directory;
+    private final BibEntryWriter entryWriter;
+    private final ImportFormatPreferences importFormatPreferences;
+    private final FileUpdateMonitor fileUpdateMonitor;
+
+    CrawlCheckpoint(Path directory,
+                    ImportFormatPreferences importFormatPreferences,
+                    FieldWriterPreferences fieldWriterPreferences,
+                    BibEntryTypesManager bibEntryTypesManager,
+                    FileUpdateMonitor fileUpdateMonitor) {
+        this.directory = directory;
+        this.entryWriter = new BibEntryWriter(new FieldWriter(fieldWriterPreferences), bibEntryTypesManager);
+        this.importFormatPreferences = importFormatPreferences;
+        this.fileUpdateMonitor = fileUpdateMonitor;
+    }
+
+    /**
+     * Returns the stored result of the search of the given query in the given E-Library, if the search was already
+     * completed.
+     */
+    Optional<List<BibEntry>> getResult(String query, String fetcherName) {
+        Path file = getFile(query, fetcherName);
+        if (Files.notExists(file)) {
+            return Optional.empty();
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<BibEntry> entries = new BibtexParser(importFormatPreferences, fileUpdateMonitor).parse(reader)
+                                                                                             .getDatabase()
+                                                                                             .getEntries();
+            return Optional.of(new ArrayList<>(entries));
+        } catch (IOException e) {
+            LOGGER.warn("Could not read checkpoint of {} for query {}", fetcherName, query, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the result of a completed search. A failure to do so is logged only, as it merely prevents the search
+     * from being skipped when resuming the crawl.
+     */
+    void store(String query, String fetcherName, List<BibEntry> entries) {
+        Path file = getFile(query, fetcherName);
+        try {
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                for (BibEntry entry : entries) {
+                    // Fetched entries have no parsed serialization, thus they have to be formatted
+                    entryWriter.write(entry, writer, BibDatabaseMode.BIBLATEX, true);
+                }
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not store checkpoint of {} for query {}", fetcherName, query, e);
+        }
+    }
+
+    /**
+     * Removes all stored results.
+     */
+    void clear() throws IOException {
+        if (Files.notExists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private Path getFile(String query, String fetcherName) {
+        String key = Hashing.sha256().hashString(query + '\n' + fetcherName, StandardCharsets.UTF_8).toString();
+        return directory.resolve(key + ".bib");
+    }
+}
@@ -0,0 +1,313 @@
+package org.jabref.logic.crawler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.PagedSearchBasedFetcher;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.paging.Page;
+import org.jabref.model.study.FetchResult;
+import org.jabref.model.study.QueryResult;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules the requests of a crawl, i.e. the search of all queries of a study in all of its E-Libraries.
+ * <p>
+ * The requests are sent by a bounded number of worker threads. The requests to each E-Library are limited by a
+ * {@link TokenBucket}, so that large studies do not exceed the rate limits of the APIs. A request waiting for its
+ * token does not occupy a worker, so that requests to other E-Libraries can be sent in the meantime.
+ * <p>
+ * Paged fetchers are requested for the first page first. If it is full, the remaining pages are requested
+ * concurrently. Failed requests are retried with exponential backoff. Searches failing nevertheless are reported as
+ * {@link FailedSearch}. The result of each completed search is stored in the {@link CrawlCheckpoint}, so that an
+ * interrupted crawl can be resumed.
+ */
+class CrawlScheduler {
+
+    static final int MAX_AMOUNT_OF_RESULTS_PER_FETCHER = 100;
+    static final int DEFAULT_PARALLELISM = 8;
+    static final int DEFAULT_MAX_ATTEMPTS = 3;
+    static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(2);
+    static final double DEFAULT_REQUESTS_PER_SECOND = 2;
+
+    /**
+     * E-Libraries requesting a lower rate than the default one, by fetcher name
+     */
+    static final Map<String, Double> REQUESTS_PER_SECOND = Map.of(
+            // https://arxiv.org/help/api/tou asks for at most one request every three seconds
+            "ArXiv", 1.0 / 3);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CrawlScheduler.class);
+
+    private final CrawlCheckpoint checkpoint;
+    private final int parallelism;
+    private final Map<String, Double> requestsPerSecond;
+    private final double defaultRequestsPerSecond;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    CrawlScheduler(CrawlCheckpoint checkpoint) {
+        this(checkpoint, DEFAULT_PARALLELISM, REQUESTS_PER_SECOND, DEFAULT_REQUESTS_PER_SECOND, DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF);
+    }
+
+    /**
+     * @param parallelism              the number of requests sent at the same time
+     * @param requestsPerSecond        the rate limits of specific E-Libraries by fetcher name
+     * @param defaultRequestsPerSecond the rate limit of all other E-Libraries
+     * @param maxAttempts              the number of times a request is sent before the search is considered failed
+     * @param initialBackoff           the delay before the first retry, which is doubled for each further retry
+     */
+    CrawlScheduler(CrawlCheckpoint checkpoint,
+                   int parallelism,
+                   Map<String, Double> requestsPerSecond,
+                   double defaultRequestsPerSecond,
+                   int maxAttempts,
+                   Duration initialBackoff) {
+        if ((parallelism < 1) || (maxAttempts < 1)) {
+            throw new IllegalArgumentException("At least one request has to be sent");
+        }
+        this.checkpoint = Objects.requireNonNull(checkpoint);
+        this.parallelism = parallelism;
+        this.requestsPerSecond = Map.copyOf(requestsPerSecond);
+        this.defaultRequestsPerSecond = defaultRequestsPerSecond;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Objects.requireNonNull(initialBackoff);
+    }
+
+    /**
+     * Searches all queries in all E-Libraries. Blocks until all searches are completed or failed.
+     * <p>
+     * If the calling thread is interrupted, the pending searches are cancelled and reported as failed. Their results
+     * are not stored in the checkpoint, so that they are searched again when resuming the crawl.
+     */
+    CrawlResult crawl(List<String> searchQueries, List<SearchBasedFetcher> fetchers) {
+        Crawl crawl = new Crawl();
+        try {
+            List<List<CompletableFuture<Outcome>>> outcomesPerQuery = searchQueries.stream()
+                                                                                   .map(searchQuery -> fetchers.stream()
+                                                                                                               .map(fetcher -> crawl.search(searchQuery, fetcher))
+                                                                                                               .collect(Collectors.toList()))
+                                                                                   .collect(Collectors.toList());
+
+            CompletableFuture<?>[] allOutcomes = outcomesPerQuery.stream().flatMap(List::stream).toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.allOf(allOutcomes).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.info("Crawl was interrupted, completed searches are kept for resuming it");
+            } catch (ExecutionException e) {
+                // Cannot happen, as each outcome handles its failure
+                throw new IllegalStateException(e);
+            }
+
+            List<QueryResult> queryResults = new ArrayList<>();
+            List<FailedSearch> failedSearches = new ArrayList<>();
+            for (int queryIndex = 0; queryIndex < searchQueries.size(); queryIndex++) {
+                String searchQuery = searchQueries.get(queryIndex);
+                List<CompletableFuture<Outcome>> outcomes = outcomesPerQuery.get(queryIndex);
+                List<FetchResult> fetchResults = new ArrayList<>();
+                for (int i = 0; i < outcomes.size(); i++) {
+                    String fetcherName = fetchers.get(i).getName();
+                    Outcome outcome = outcomes.get(i).getNow(Outcome.failure(new InterruptedException("Crawl was interrupted")));
+                    outcome.entries.ifPresentOrElse(
+                            entries -> fetchResults.add(new FetchResult(fetcherName, new BibDatabase(entries))),
+                            () -> failedSearches.add(new FailedSearch(searchQuery, fetcherName, outcome.cause)));
+                }
+                queryResults.add(new QueryResult(searchQuery, fetchResults));
+            }
+            return new CrawlResult(queryResults, failedSearches);
+        } finally {
+            crawl.shutdown();
+        }
+    }
+
+    private TokenBucket createBucket(String fetcherName) {
+        double rate = requestsPerSecond.getOrDefault(fetcherName, defaultRequestsPerSecond);
+        return new TokenBucket(rate, Math.max(1, (int) rate));
+    }
+
+    private long getBackoffNanos(int failedAttempts) {
+        return initialBackoff.toNanos() << Math.min(failedAttempts - 1, 20);
+    }
+
+    private static ThreadFactory createThreadFactory(String name) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    private interface FetcherCall<T> {
+        T call() throws FetcherException;
+    }
+
+    /**
+     * The state of a single crawl: the executors and the token buckets of the E-Libraries
+     */
+    private class Crawl {
+        private final ExecutorService workers = Executors.newFixedThreadPool(parallelism, createThreadFactory("crawler"));
+        private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(createThreadFactory("crawler-timer"));
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+        CompletableFuture<Outcome> search(String searchQuery, SearchBasedFetcher fetcher) {
+            Optional<List<BibEntry>> checkpointedResult = checkpoint.getResult(searchQuery, fetcher.getName());
+            if (checkpointedResult.isPresent()) {
+                LOGGER.debug("Taking result of {} for query {} from checkpoint", fetcher.getName(), searchQuery);
+                return CompletableFuture.completedFuture(Outcome.success(checkpointedResult.get()));
+            }
+
+            CompletableFuture<List<BibEntry>> entries;
+            if (fetcher instanceof PagedSearchBasedFetcher) {
+                entries = searchPaged(searchQuery, (PagedSearchBasedFetcher) fetcher);
+            } else {
+                entries = request(fetcher.getName(), () -> fetcher.performSearch(searchQuery));
+            }
+            return entries.handle((result, error) -> {
+                if (error != null) {
+                    Throwable cause = (error instanceof CompletionException) && (error.getCause() != null) ? error.getCause() : error;
+                    LOGGER.warn("{} API request for query {} failed", fetcher.getName(), searchQuery, cause);
+                    return Outcome.failure(cause);
+                }
+                checkpoint.store(searchQuery, fetcher.getName(), result);
+                return Outcome.success(result);
+            });
+        }
+
+        private CompletableFuture<List<BibEntry>> searchPaged(String searchQuery, PagedSearchBasedFetcher fetcher) {
+            int pageSize = fetcher.getPageSize();
+            int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / pageSize);
+            return request(fetcher.getName(), () -> fetcher.performSearchPaged(searchQuery, 0)).thenCompose(firstPage -> {
+                List<BibEntry> entries = new ArrayList<>(firstPage.getContent());
+                if (firstPage.getContent().size() < pageSize) {
+                    // There are no further results
+                    return CompletableFuture.completedFuture(entries);
+                }
+                List<CompletableFuture<Page<BibEntry>>> furtherPages = IntStream.range(1, pages)
+                                                                               .mapToObj(page -> request(fetcher.getName(), () -> fetcher.performSearchPaged(searchQuery, page)))
+                                                                               .collect(Collectors.toList());
+                return CompletableFuture.allOf(furtherPages.toArray(CompletableFuture[]::new)).thenApply(unused -> {
+                    for (CompletableFuture<Page<BibEntry>> page : furtherPages) {
+                        Collection<BibEntry> content = page.join().getContent();
+                        entries.addAll(content);
+                        if (content.size() < pageSize) {
+                            break;
+                        }
+                    }
+                    return entries;
+                });
+            });
+        }
+
+        private <T> CompletableFuture<T> request(String fetcherName, FetcherCall<T> call) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            schedule(fetcherName, call, 1, 0, result);
+            return result;
+        }
+
+        /**
+         * Reserves a token of the E-Library and sends the request as soon as the token is available. Note that reserving
+         * the token of a retry delays the following requests to the same E-Library as well. This is intended, as failures
+         * are often caused by exceeding the rate limit.
+         */
+        private <T> void schedule(String fetcherName, FetcherCall<T> call, int attempt, long backoffNanos, CompletableFuture<T> result) {
+            long now = System.nanoTime();
+            long start = buckets.computeIfAbsent(fetcherName, CrawlScheduler.this::createBucket).reserve(now + backoffNanos);
+            try {
+                timer.schedule(() -> send(fetcherName, call, attempt, result), start - now, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private <T> void send(String fetcherName, FetcherCall<T> call, int attempt, CompletableFuture<T> result) {
+            try {
+                workers.execute(() -> {
+                    try {
+                        result.complete(call.call());
+                    } catch (FetcherException e) {
+                        if (attempt >= maxAttempts) {
+                            result.completeExceptionally(e);
+                            return;
+                        }
+                        LOGGER.debug("{} API request failed (attempt {} of {}), retrying", fetcherName, attempt, maxAttempts, e);
+                        schedule(fetcherName, call, attempt + 1, getBackoffNanos(attempt), result);
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void shutdown() {
+            timer.shutdownNow();
+            workers.shutdownNow();
+        }
+    }
+
+    private static class Outcome {
+        private final Optional<List<BibEntry>> entries;
+        private final Throwable cause;
+
+        private Outcome(Optional<List<BibEntry>> entries, Throwable cause) {
+            this.entries = entries;
+            this.cause = cause;
+        }
+
+        static Outcome success(List<BibEntry> entries) {
+            return new Outcome(Optional.of(entries), null);
+        }
+
+        static Outcome failure(Throwable cause) {
+            return new Outcome(Optional.empty(), cause);
+        }
+    }
+
+    static class CrawlResult {
+        private final List<QueryResult> queryResults;
+        private final List<FailedSearch> failedSearches;
+
+        CrawlResult(List<QueryResult> queryResults, List<FailedSearch> failedSearches) {
+            this.queryResults = queryResults;
+            this.failedSearches = failedSearches;
+        }
+
+        /**
+         * Returns the results of all queries. The results of failed searches are missing.
+         */
+        List<QueryResult> getQueryResults() {
+            return queryResults;
+        }
+
+        List<FailedSearch> getFailedSearches() {
+            return failedSearches;
+        }
+    }
+}
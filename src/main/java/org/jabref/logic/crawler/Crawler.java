@@ -11,7 +11,6 @@ import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.study.QueryResult;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -26,6 +25,7 @@ import org.eclipse.jgit.api.errors.GitAPIException;
 public class Crawler {
     private final StudyRepository studyRepository;
     private final StudyFetcher studyFetcher;
+    private final CrawlCheckpoint crawlCheckpoint;
 
     /**
      * Creates a crawler for retrieving studies from E-Libraries
@@ -35,7 +35,8 @@ public class Crawler {
     public Crawler(Path studyRepositoryRoot, SlrGitHandler gitHandler, ImportFormatPreferences importFormatPreferences, SavePreferences savePreferences, TimestampPreferences timestampPreferences, BibEntryTypesManager bibEntryTypesManager, FileUpdateMonitor fileUpdateMonitor) throws IllegalArgumentException, IOException, ParseException {
         studyRepository = new StudyRepository(studyRepositoryRoot, gitHandler, importFormatPreferences, fileUpdateMonitor, savePreferences, bibEntryTypesManager);
         StudyDatabaseToFetcherConverter studyDatabaseToFetcherConverter = new StudyDatabaseToFetcherConverter(studyRepository.getActiveLibraryEntries(), importFormatPreferences);
-        this.studyFetcher = new StudyFetcher(studyDatabaseToFetcherConverter.getActiveFetchers(), studyRepository.getSearchQueryStrings());
+        this.crawlCheckpoint = new CrawlCheckpoint(studyRepository.getCrawlCheckpointDirectory(), importFormatPreferences, savePreferences.getFieldWriterPreferences(), bibEntryTypesManager, fileUpdateMonitor);
+        this.studyFetcher = new StudyFetcher(studyDatabaseToFetcherConverter.getActiveFetchers(), studyRepository.getSearchQueryStrings(), new CrawlScheduler(crawlCheckpoint));
     }
 
     /**
@@ -44,16 +45,23 @@ public class Crawler {
      *
      * The whole process works as follows:
      * <ol>
-     *     <li>Then the search is executed</li>
+     *     <li>Then the search is executed. The result of each completed search is kept in a checkpoint, so that an
+     *     interrupted crawl does not have to repeat it.</li>
      *     <li>The repository changes to the search branch</li>
      *     <li>Afterwards, the results are persisted on the search branch.</li>
-     *     <li>Finally, the changes are merged into the work branch</li>
+     *     <li>Finally, the changes are merged into the work branch and the checkpoint is cleared</li>
      * </ol>
      *
+     * @return The searches that failed. Their results are missing in the repository.
      * @throws IOException Thrown if a problem occurred during the persistence of the result.
      */
-    public void performCrawl() throws IOException, GitAPIException, SaveException {
-        List<QueryResult> results = studyFetcher.crawl();
-        studyRepository.persist(results);
+    public List<FailedSearch> performCrawl() throws IOException, GitAPIException, SaveException {
+        CrawlScheduler.CrawlResult result = studyFetcher.crawl();
+        if (Thread.currentThread().isInterrupted()) {
+            throw new IOException("The search was interrupted. Searches completed so far are kept for the next search.");
+        }
+        studyRepository.persist(result.getQueryResults());
+        crawlCheckpoint.clear();
+        return result.getFailedSearches();
     }
 }
@@ -0,0 +1,39 @@
+package org.jabref.logic.crawler;
+
+import java.util.Objects;
+
+/**
+ * A search of a query in an E-Library that failed, even after retrying it.
+ */
+public class FailedSearch {
+    private final String query;
+    private final String fetcherName;
+    private final Throwable cause;
+
+    public FailedSearch(String query, String fetcherName, Throwable cause) {
+        this.query = Objects.requireNonNull(query);
+        this.fetcherName = Objects.requireNonNull(fetcherName);
+        this.cause = cause;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public String getFetcherName() {
+        return fetcherName;
+    }
+
+    public Throwable getCause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        return "FailedSearch{" +
+                "query='" + query + '\'' +
+                ", fetcherName='" + fetcherName + '\'' +
+                ", cause=" + cause +
+                '}';
+    }
+}
@@ -6,6 +6,7 @@ import java.io.Writer;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -56,6 +57,7 @@ class StudyRepository {
     private static final String REMOTE = "origin";
     private static final String WORK_BRANCH = "work";
     private static final String SEARCH_BRANCH = "search";
+    private static final String CRAWL_CHECKPOINT_DIRECTORY_NAME = ".crawl-checkpoint";
 
     private final Path repositoryPath;
     private final Path studyDefinitionFile;
@@ -196,6 +198,13 @@ class StudyRepository {
         return study;
     }
 
+    /**
+     * Returns the directory holding the results of an interrupted crawl. It is excluded from version control.
+     */
+    public Path getCrawlCheckpointDirectory() {
+        return repositoryPath.resolve(CRAWL_CHECKPOINT_DIRECTORY_NAME);
+    }
+
     /**
      * Persists the result locally and remotely by following the steps:
      * Precondition: Currently checking out work branch
@@ -277,6 +286,19 @@ class StudyRepository {
             createQueryResultFile(query);
         }
         createStudyResultFile();
+        excludeCrawlCheckpointFromVersionControl();
+    }
+
+    /**
+     * Repositories created before crawls were checkpointed do not ignore the checkpoint directory yet.
+     */
+    private void excludeCrawlCheckpointFromVersionControl() throws IOException {
+        Path gitignore = repositoryPath.resolve(".gitignore");
+        String ignoreEntry = "/" + CRAWL_CHECKPOINT_DIRECTORY_NAME + "/";
+        if (Files.exists(gitignore) && Files.readAllLines(gitignore).contains(ignoreEntry)) {
+            return;
+        }
+        Files.writeString(gitignore, System.lineSeparator() + ignoreEntry + System.lineSeparator(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
     }
 
     /**
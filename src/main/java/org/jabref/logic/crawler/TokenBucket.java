@@ -0,0 +1,49 @@
+package org.jabref.logic.crawler;
+
+/**
+ * Limits the rate of the requests sent to a single E-Library.
+ * <p>
+ * The bucket holds up to <code>burst</code> tokens and is refilled with <code>requestsPerSecond</code> tokens per
+ * second. Instead of blocking a thread until a token is available, a request reserves a token and gets to know the
+ * point in time at which it may be sent. Thus, waiting requests can be scheduled instead of occupying a thread.
+ * <p>
+ * Internally, the bucket is represented by the theoretical arrival time of the next request (generic cell rate
+ * algorithm), which behaves identical to a bucket being refilled continuously.
+ */
+class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstTolerance;
+
+    private boolean used;
+    private long theoreticalArrivalTime;
+
+    TokenBucket(double requestsPerSecond, int burst) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("The rate has to be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("The burst has to be at least one request");
+        }
+        this.nanosPerToken = Math.max(1, Math.round(1_000_000_000 / requestsPerSecond));
+        this.burstTolerance = (burst - 1) * nanosPerToken;
+    }
+
+    /**
+     * Reserves a token for a request which shall not be sent before the given point in time.
+     *
+     * @param notBefore the earliest point in time (in the scale of {@link System#nanoTime()}) the request may be sent
+     * @return the point in time at which the request may be sent
+     */
+    synchronized long reserve(long notBefore) {
+        long start = notBefore;
+        if (used) {
+            start = Math.max(notBefore, theoreticalArrivalTime - burstTolerance);
+            theoreticalArrivalTime = Math.max(theoreticalArrivalTime, start) + nanosPerToken;
+        } else {
+            used = true;
+            theoreticalArrivalTime = start + nanosPerToken;
+        }
+        return start;
+    }
+}
@@ -21,8 +21,8 @@ import java.util.stream.Stream;
 
 import org.jabref.logic.bibtex.comparator.BibtexStringComparator;
 import org.jabref.logic.bibtex.comparator.CrossRefEntryComparator;
+import org.jabref.logic.bibtex.comparator.EntrySorter;
 import org.jabref.logic.bibtex.comparator.FieldComparator;
-import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
 import org.jabref.logic.bibtex.comparator.IdComparator;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
@@ -125,11 +125,7 @@ public abstract class BibDatabaseWriter {
         }
 
         List<Comparator<BibEntry>> comparators = getSaveComparators(bibDatabaseContext.getMetaData(), preferences);
-        FieldComparatorStack<BibEntry> comparatorStack = new FieldComparatorStack<>(comparators);
-
-        List<BibEntry> sorted = new ArrayList<>(entriesToSort);
-        sorted.sort(comparatorStack);
-        return sorted;
+        return EntrySorter.sort(entriesToSort, comparators);
     }
 
     private static Optional<SaveOrderConfig> getSaveOrder(MetaData metaData, SavePreferences preferences) {
@@ -6,15 +6,22 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
@@ -34,13 +41,17 @@ import org.slf4j.LoggerFactory;
  */
 public class TemplateExporter extends Exporter {
 
-    private static final String BLANK_LINE_PATTERN = "\\r\\n|\\n";
+    private static final Pattern BLANK_LINE_PATTERN = Pattern.compile("\\r\\n|\\n");
     private static final String LAYOUT_PREFIX = "/resource/layout/";
     private static final String LAYOUT_EXTENSION = ".layout";
     private static final String FORMATTERS_EXTENSION = ".formatters";
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
 
+    // Below this number of entries, the overhead of rendering in parallel does not pay off
+    private static final int PARALLEL_RENDERING_THRESHOLD = 500;
+    private static final int RENDERING_CHUNK_SIZE = 2048;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
     private final String lfFileName;
@@ -51,6 +62,9 @@ public class TemplateExporter extends Exporter {
     private boolean customExport;
     private BlankLineBehaviour blankLineBehaviour;
 
+    private final Map<String, CachedLayout> layoutCache = new ConcurrentHashMap<>();
+    private long formattersLastModified;
+
     /**
      * Initialize another export format based on templates stored in dir with layoutFile lfFilename.
      *
@@ -151,15 +165,12 @@ public class TemplateExporter extends Exporter {
     }
 
     /**
-     * This method should return a reader from which the given layout file can be read.
-     * <p>
-     * Subclasses of TemplateExporter are free to override and provide their own implementation.
+     * Resolves the given layout file, either as a resource (from within the JAR) or as a normal file.
      *
      * @param filename the filename
-     * @return a newly created reader
-     * @throws IOException if the reader could not be created
+     * @return the location of the layout file, empty if it does not exist
      */
-    private Reader getReader(String filename) throws IOException {
+    private Optional<URL> getLayoutLocation(String filename) {
         // If this is a custom export, just use the given filename:
         String dir;
         if (customExport) {
@@ -168,27 +179,90 @@ public class TemplateExporter extends Exporter {
             dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
         }
 
-        // Attempt to get a Reader for the file path given, either by
-        // loading it as a resource (from within JAR), or as a normal file. If
-        // unsuccessful (e.g. file not found), an IOException is thrown.
         String name = dir + filename;
-        Reader reader;
         // Try loading as a resource first. This works for files inside the JAR:
         URL reso = TemplateExporter.class.getResource(name);
+        if (reso != null) {
+            return Optional.of(reso);
+        }
 
         // If that did not work, try loading as a normal file URL:
+        Path path = Path.of(name);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
         try {
-            if (reso == null) {
-                File f = new File(name);
-                reader = new FileReader(f);
-            } else {
-                reader = new InputStreamReader(reso.openStream());
-            }
+            return Optional.of(path.toUri().toURL());
+        } catch (MalformedURLException e) {
+            LOGGER.warn("Could not resolve layout file {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the modification time of the given layout file. Resources inside the JAR cannot change and thus always
+     * report the same time.
+     */
+    private static long getLastModified(URL location) {
+        if (!"file".equals(location.getProtocol())) {
+            return 0;
+        }
+        try {
+            return Files.getLastModifiedTime(Path.of(location.toURI())).toMillis();
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the parsed layout stored in the given layout file. Parsed layouts are cached by file and modification
+     * time, so that repeated exports do not read and parse the layout files again.
+     *
+     * @param filename the filename
+     * @return the parsed layout
+     * @throws IOException if the layout file does not exist or could not be read
+     */
+    private Layout getLayout(String filename) throws IOException {
+        Optional<URL> location = getLayoutLocation(filename);
+        if (location.isEmpty()) {
+            throw new IOException("Cannot find layout file: '" + filename + "'.");
+        }
+
+        long lastModified = getLastModified(location.get());
+        CachedLayout cached = layoutCache.get(filename);
+        if ((cached != null) && (cached.lastModified == lastModified) && (lastModified >= 0)) {
+            return cached.layout;
+        }
+
+        try (Reader reader = new InputStreamReader(location.get().openStream())) {
+            Layout layout = new LayoutHelper(reader, layoutPreferences).getLayoutFromText();
+            layoutCache.put(filename, new CachedLayout(layout, lastModified));
+            return layout;
         } catch (FileNotFoundException ex) {
-            throw new IOException("Cannot find layout file: '" + name + "'.");
+            throw new IOException("Cannot find layout file: '" + filename + "'.");
+        }
+    }
+
+    /**
+     * Renders a single entry. The line handling is done here as well, so that it runs on the rendering thread.
+     */
+    private String renderEntry(Layout layout, BibEntry entry, BibDatabaseContext databaseContext) {
+        if (layout == null) {
+            return "";
         }
 
-        return reader;
+        String text = layout.doLayout(entry, databaseContext.getDatabase());
+        if (blankLineBehaviour != BlankLineBehaviour.DELETE_BLANKS) {
+            return text;
+        }
+
+        StringBuilder builder = new StringBuilder(text.length());
+        for (String line : BLANK_LINE_PATTERN.split(text)) {
+            if (!line.isBlank()) {
+                builder.append(line).append(OS.NEWLINE);
+            }
+        }
+        return builder.toString();
     }
 
     @Override
@@ -218,9 +292,8 @@ public class TemplateExporter extends Exporter {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                beginLayout = layoutHelper.getLayoutFromText();
+            try {
+                beginLayout = getLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION);
             } catch (IOException ex) {
                 // If an exception was cast, export filter doesn't have a begin
                 // file.
@@ -241,67 +314,65 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePreferences);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found: {}", missingFormatters);
-                }
+            Layout defLayout = getLayout(lfFileName + LAYOUT_EXTENSION);
+            missingFormatters.addAll(defLayout.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn("Missing formatters found: {}", missingFormatters);
             }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
 
-            ExporterFactory.entryNumber = 0;
+            // Get the layout of each entry
+            Map<EntryType, Layout> layouts = new HashMap<>();
+            List<Layout> entryLayouts = new ArrayList<>(sorted.size());
             for (BibEntry entry : sorted) {
-                ExporterFactory.entryNumber++; // Increment entry counter.
-                // Get the layout
                 EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
+                Layout layout = layouts.get(type);
+                if (layout == null) {
+                    try {
                         // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
+                        layout = getLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION);
+                        missingFormatters.addAll(layout.getMissingFormatters());
                     } catch (IOException ex) {
                         // The exception indicates that no type-specific layout
                         // exists, so we
                         // go with the default one.
                         layout = defLayout;
                     }
+                    layouts.put(type, layout);
                 }
+                entryLayouts.add(layout);
+            }
 
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
+            // Write the entries
+            boolean renderInParallel = (sorted.size() >= PARALLEL_RENDERING_THRESHOLD)
+                    && layouts.values().stream().noneMatch(Layout::isOrderDependent);
+            if (renderInParallel) {
+                // Entries are rendered concurrently chunk by chunk and written in their sorted order,
+                // so that the output is streamed and only one chunk is held in memory
+                for (int chunkStart = 0; chunkStart < sorted.size(); chunkStart += RENDERING_CHUNK_SIZE) {
+                    int offset = chunkStart;
+                    String[] rendered = new String[Math.min(RENDERING_CHUNK_SIZE, sorted.size() - offset)];
+                    IntStream.range(0, rendered.length)
+                             .parallel()
+                             .forEach(i -> rendered[i] = renderEntry(entryLayouts.get(offset + i), sorted.get(offset + i), databaseContext));
+                    for (String text : rendered) {
+                        ps.write(text);
                     }
                 }
+                ExporterFactory.entryNumber = sorted.size();
+            } else {
+                ExporterFactory.entryNumber = 0;
+                for (int i = 0; i < sorted.size(); i++) {
+                    ExporterFactory.entryNumber++; // Increment entry counter.
+                    ps.write(renderEntry(entryLayouts.get(i), sorted.get(i), databaseContext));
+                }
             }
 
             // Print footer
 
             // changed section - begin (arudert)
             Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                endLayout = layoutHelper.getLayoutFromText();
+            try {
+                endLayout = getLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION);
             } catch (IOException ex) {
                 // If an exception was thrown, export filter doesn't have an end
                 // file.
@@ -330,6 +401,12 @@ public class TemplateExporter extends Exporter {
      */
     private void readFormatterFile() {
         File formatterFile = new File(lfFileName + FORMATTERS_EXTENSION);
+        // Cached layouts have the custom name formatters bound, thus they have to be parsed again if these change
+        long formatterFileLastModified = formatterFile.lastModified();
+        if (formatterFileLastModified != formattersLastModified) {
+            layoutCache.clear();
+            formattersLastModified = formatterFileLastModified;
+        }
         if (formatterFile.exists()) {
             try (Reader in = new FileReader(formatterFile)) {
                 // Ok, we found and opened the file. Read all contents:
@@ -367,4 +444,14 @@ public class TemplateExporter extends Exporter {
     public String getLayoutFileNameWithExtension() {
         return lfFileName + LAYOUT_EXTENSION;
     }
+
+    private static class CachedLayout {
+        private final Layout layout;
+        private final long lastModified;
+
+        CachedLayout(Layout layout, long lastModified) {
+            this.layout = layout;
+            this.lastModified = lastModified;
+        }
+    }
 }
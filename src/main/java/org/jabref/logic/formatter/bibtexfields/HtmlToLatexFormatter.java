@@ -1,7 +1,6 @@
 package org.jabref.logic.formatter.bibtexfields;
 
 import java.util.Objects;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -9,6 +8,7 @@ import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
 import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
+import org.jabref.logic.util.strings.ReplacementTrie;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,10 +19,13 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
 
     private static final int MAX_TAG_LENGTH = 100;
 
-    private static final Pattern ESCAPED_PATTERN = Pattern.compile("&#([x]*)([0]*)(\\p{XDigit}+);");
-    private static final Pattern ESCAPED_PATTERN2 = Pattern.compile("(.)&#([x]*)([0]*)(\\p{XDigit}+);");
-    private static final Pattern ESCAPED_PATTERN3 = Pattern.compile("&#([x]*)([0]*)(\\p{XDigit}+);");
-    private static final Pattern ESCAPED_PATTERN4 = Pattern.compile("&(\\w+);");
+    private static final Pattern ESCAPED_PATTERN = Pattern.compile("&#(x?)(\\p{XDigit}+);");
+    private static final Pattern ESCAPED_PATTERN2 = Pattern.compile("&(\\w+);");
+
+    private static final ReplacementTrie HTML_TO_LATEX = new ReplacementTrie(HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP);
+
+    // characters not matched by "." in a regular expression, which therefore cannot get a combining accent
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
 
     @Override
     public String format(String text) {
@@ -32,77 +35,84 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
             return result;
         }
 
-        StringBuilder sb = new StringBuilder();
         // Deal with the form <sup>k</sup>and <sub>k</sub>
         result = result.replaceAll("<[ ]?sup>([^<]+)</sup>", "\\\\textsuperscript\\{$1\\}");
         result = result.replaceAll("<[ ]?sub>([^<]+)</sub>", "\\\\textsubscript\\{$1\\}");
 
-        // TODO: maybe rewrite this based on regular expressions instead
+        // Remove tags and convert HTML entities in one pass
         // Note that (at least) the IEEE Xplore fetcher must be fixed as it relies on the current way to
         // remove tags for its image alt-tag to equation converter
-        for (int i = 0; i < result.length(); i++) {
-
-            int c = result.charAt(i);
-
+        StringBuilder sb = new StringBuilder(result.length() + 16);
+        int i = 0;
+        while (i < result.length()) {
+            char c = result.charAt(i);
             if (c == '<') {
-                i = readTag(result, i);
+                i = readTag(result, i) + 1;
+            } else if (c == '&') {
+                int replaced = HTML_TO_LATEX.replaceAt(result, i, sb);
+                if (replaced == 0) {
+                    replaced = convertNumericalEntity(result, i, sb);
+                }
+                if (replaced == 0) {
+                    Matcher m = ESCAPED_PATTERN2.matcher(result).region(i, result.length());
+                    if (m.lookingAt()) {
+                        // Non-covered special character with alphabetic code
+                        LOGGER.warn("HTML escaped char not converted: " + m.group(1));
+                    }
+                    sb.append(c);
+                    replaced = 1;
+                }
+                i += replaced;
             } else {
-                sb.append((char) c);
+                sb.append(c);
+                i++;
             }
         }
-        result = sb.toString();
 
-        // Handle text based HTML entities
-        Set<String> patterns = HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.keySet();
-        for (String pattern : patterns) {
-            result = result.replace(pattern, HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.get(pattern));
-        }
+        // Remove $$ in case of two adjacent conversions
+        result = sb.toString().replace("$$", "");
 
-        // Handle numerical HTML entities
-        Matcher m = ESCAPED_PATTERN.matcher(result);
-        while (m.find()) {
-            int num = Integer.decode(m.group(1).replace("x", "#") + m.group(3));
-            if (HTMLUnicodeConversionMaps.NUMERICAL_LATEX_CONVERSION_MAP.containsKey(num)) {
-                result = result.replace("&#" + m.group(1) + m.group(2) + m.group(3) + ";",
-                        HTMLUnicodeConversionMaps.NUMERICAL_LATEX_CONVERSION_MAP.get(num));
-            }
-        }
+        return result.trim();
+    }
 
-        // Combining accents
-        m = ESCAPED_PATTERN2.matcher(result);
-        while (m.find()) {
-            int num = Integer.decode(m.group(2).replace("x", "#") + m.group(4));
-            if (HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.containsKey(num)) {
-                if ("i".equals(m.group(1))) {
-                    result = result.replace(m.group(1) + "&#" + m.group(2) + m.group(3) + m.group(4) + ";",
-                            "{\\" + HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.get(num) + "{\\i}}");
-                } else if ("j".equals(m.group(1))) {
-                    result = result.replace(m.group(1) + "&#" + m.group(2) + m.group(3) + m.group(4) + ";",
-                            "{\\" + HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.get(num) + "{\\j}}");
-                } else {
-                    result = result.replace(m.group(1) + "&#" + m.group(2) + m.group(3) + m.group(4) + ";",
-                            "{\\" + HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.get(num) + "{" + m.group(1) + "}}");
-                }
-            }
+    /**
+     * Converts the numerical HTML entity starting at the given position. Combining accents are applied to the
+     * previous character.
+     *
+     * @return the length of the entity, or 0 if there is no numerical entity at the given position
+     */
+    private int convertNumericalEntity(String text, int position, StringBuilder sb) {
+        Matcher m = ESCAPED_PATTERN.matcher(text).region(position, text.length());
+        if (!m.lookingAt()) {
+            return 0;
         }
 
-        // Find non-converted numerical characters
-        m = ESCAPED_PATTERN3.matcher(result);
-        while (m.find()) {
-            int num = Integer.decode(m.group(1).replace("x", "#") + m.group(3));
-            LOGGER.warn("HTML escaped char not converted: {}{}{} = {}", m.group(1), m.group(2), m.group(3), " = ", num);
+        int num;
+        try {
+            num = Integer.parseInt(m.group(2), m.group(1).isEmpty() ? 10 : 16);
+        } catch (NumberFormatException e) {
+            return 0;
         }
 
-        // Remove $$ in case of two adjacent conversions
-        result = result.replace("$$", "");
-
-        // Find non-covered special characters with alphabetic codes
-        m = ESCAPED_PATTERN4.matcher(result);
-        while (m.find()) {
-            LOGGER.warn("HTML escaped char not converted: " + m.group(1));
+        if (HTMLUnicodeConversionMaps.NUMERICAL_LATEX_CONVERSION_MAP.containsKey(num)) {
+            sb.append(HTMLUnicodeConversionMaps.NUMERICAL_LATEX_CONVERSION_MAP.get(num));
+        } else if (HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.containsKey(num) && (sb.length() > 0)
+                && (LINE_TERMINATORS.indexOf(sb.charAt(sb.length() - 1)) < 0)) {
+            // Combining accents
+            int baseStart = sb.offsetByCodePoints(sb.length(), -1);
+            String base = sb.substring(baseStart);
+            sb.setLength(baseStart);
+            if ("i".equals(base)) {
+                base = "\\i";
+            } else if ("j".equals(base)) {
+                base = "\\j";
+            }
+            sb.append("{\\").append(HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.get(num)).append('{').append(base).append("}}");
+        } else {
+            LOGGER.warn("HTML escaped char not converted: {} = {}", m.group(), num);
+            sb.append(m.group());
         }
-
-        return result.trim();
+        return m.end() - position;
     }
 
     @Override
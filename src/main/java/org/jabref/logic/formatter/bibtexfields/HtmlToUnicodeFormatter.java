@@ -1,15 +1,21 @@
 package org.jabref.logic.formatter.bibtexfields;
 
-import org.jabref.architecture.ApacheCommonsLang3Allowed;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
+import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
+import org.jabref.logic.util.strings.ReplacementTrie;
 
-import org.apache.commons.lang3.StringEscapeUtils;
-
-@ApacheCommonsLang3Allowed("There is no equivalent in Google's Guava")
 public class HtmlToUnicodeFormatter extends Formatter implements LayoutFormatter {
 
+    private static final Pattern NUMERICAL_ENTITY = Pattern.compile("&#(?:[xX](\\p{XDigit}+)|(\\d+));");
+
+    private static final ReplacementTrie HTML_TO_UNICODE = new ReplacementTrie(HTMLUnicodeConversionMaps.HTML_UNICODE_CONVERSION_MAP);
+
     @Override
     public String getName() {
         return Localization.lang("HTML to Unicode");
@@ -32,7 +38,60 @@ public class HtmlToUnicodeFormatter extends Formatter implements LayoutFormatter
 
     @Override
     public String format(String fieldText) {
-        // StringEscapeUtils converts characters and regex kills tags
-        return StringEscapeUtils.unescapeHtml4(fieldText).replaceAll("<[^>]*>", "");
+        Objects.requireNonNull(fieldText);
+        if ((fieldText.indexOf('&') < 0) && (fieldText.indexOf('<') < 0)) {
+            return fieldText;
+        }
+
+        // Converts the entities and removes the tags in one pass. Tags are removed after converting the entities,
+        // thus "&lt;b&gt;" is removed as well.
+        StringBuilder sb = new StringBuilder(fieldText.length());
+        // position of the '<' starting the current tag in sb, -1 if outside of a tag
+        int tagStart = -1;
+        int i = 0;
+        while (i < fieldText.length()) {
+            int converted = 0;
+            if (fieldText.charAt(i) == '&') {
+                converted = HTML_TO_UNICODE.replaceAt(fieldText, i, sb);
+                if (converted == 0) {
+                    converted = convertNumericalEntity(fieldText, i, sb);
+                }
+            }
+            if (converted == 0) {
+                sb.append(fieldText.charAt(i));
+                converted = 1;
+            }
+            i += converted;
+
+            // each conversion results in a single code point
+            char last = sb.charAt(sb.length() - 1);
+            if ((last == '<') && (tagStart < 0)) {
+                tagStart = sb.length() - 1;
+            } else if ((last == '>') && (tagStart >= 0)) {
+                sb.setLength(tagStart);
+                tagStart = -1;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the length of the numerical entity at the given position, or 0 if there is none
+     */
+    private static int convertNumericalEntity(String text, int position, StringBuilder sb) {
+        Matcher m = NUMERICAL_ENTITY.matcher(text).region(position, text.length());
+        if (!m.lookingAt()) {
+            return 0;
+        }
+        try {
+            int codePoint = m.group(1) == null ? Integer.parseInt(m.group(2)) : Integer.parseInt(m.group(1), 16);
+            if (!Character.isValidCodePoint(codePoint)) {
+                return 0;
+            }
+            sb.appendCodePoint(codePoint);
+            return m.end() - position;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 }
@@ -1,12 +1,12 @@
 package org.jabref.logic.formatter.bibtexfields;
 
-import java.util.Map;
 import java.util.Objects;
 
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
 import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
+import org.jabref.logic.util.strings.ReplacementTrie;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,55 +15,51 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UnicodeToLatexFormatter.class);
 
+    private static final ReplacementTrie UNICODE_TO_LATEX = new ReplacementTrie(HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP);
+
     @Override
     public String format(String text) {
-        String result = Objects.requireNonNull(text);
+        Objects.requireNonNull(text);
 
-        if (result.isEmpty()) {
-            return result;
+        if (isAscii(text)) {
+            return text;
         }
 
-        // Standard symbols
-        for (Map.Entry<String, String> unicodeLatexPair : HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP
-                .entrySet()) {
-            result = result.replace(unicodeLatexPair.getKey(), unicodeLatexPair.getValue());
-        }
+        // Standard symbols and combining accents, in one pass
+        StringBuilder sb = new StringBuilder(text.length() + 16);
+        int i = 0;
+        while (i < text.length()) {
+            int replaced = UNICODE_TO_LATEX.replaceAt(text, i, sb);
+            if (replaced > 0) {
+                i += replaced;
+                continue;
+            }
 
-        // Combining accents
-        StringBuilder sb = new StringBuilder();
-        boolean consumed = false;
-        for (int i = 0; i <= (result.length() - 2); i++) {
-            if (!consumed && (i < (result.length() - 1))) {
-                int cpCurrent = result.codePointAt(i);
-                Integer cpNext = result.codePointAt(i + 1);
-                String code = HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.get(cpNext);
-                if (code == null) {
-                    // skip next index to avoid reading surrogate as a separate char
-                    if (!Character.isBmpCodePoint(cpCurrent)) {
-                        i++;
-                    }
-                    sb.appendCodePoint(cpCurrent);
-                } else {
-                    sb.append("{\\").append(code).append('{').append((char) cpCurrent).append("}}");
-                    consumed = true;
+            int cpCurrent = text.codePointAt(i);
+            int next = i + Character.charCount(cpCurrent);
+            int cpNext = next < text.length() ? text.codePointAt(next) : -1;
+            String code = HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.get(cpNext);
+            if (code == null) {
+                if (cpCurrent >= 129) {
+                    LOGGER.warn("Unicode character not converted: " + cpCurrent);
                 }
+                sb.appendCodePoint(cpCurrent);
+                i = next;
             } else {
-                consumed = false;
+                sb.append("{\\").append(code).append('{').appendCodePoint(cpCurrent).append("}}");
+                i = next + Character.charCount(cpNext);
             }
         }
-        if (!consumed) {
-            sb.append((char) result.codePointAt(result.length() - 1));
-        }
-        result = sb.toString();
+        return sb.toString();
+    }
 
-        // Check if any symbols is not converted
-        for (int i = 0; i <= (result.length() - 1); i++) {
-            int cp = result.codePointAt(i);
-            if (cp >= 129) {
-                LOGGER.warn("Unicode character not converted: " + cp);
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 128) {
+                return false;
             }
         }
-        return result;
+        return true;
     }
 
     @Override
@@ -1,12 +1,10 @@
 package org.jabref.logic.formatter.casechanger;
 
-import java.util.List;
 import java.util.Objects;
 
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
-import org.jabref.logic.util.strings.StringLengthComparator;
 
 /**
  * Adds {} brackets around acronyms, month names and countries to preserve their case.
@@ -21,24 +19,14 @@ public class ProtectTermsFormatter extends Formatter {
         this.protectedTermsLoader = protectedTermsLoader;
     }
 
-    private String format(String text, List<String> listOfWords) {
-        String result = text;
-        listOfWords.sort(new StringLengthComparator());
-        // For each word in the list
-        for (String listOfWord : listOfWords) {
-            // Add {} if the character before is a space, -, /, (, [, ", or } or if it is at the start of the string but not if it is followed by a }
-            result = result.replaceAll("(^|[- /\\[(}\"])" + listOfWord + "($|[^a-zA-Z}])", "$1\\{" + listOfWord + "\\}$2");
-        }
-        return result;
-    }
-
     @Override
     public String format(String text) {
         Objects.requireNonNull(text);
         if (text.isEmpty()) {
             return text;
         }
-        return this.format(text, this.protectedTermsLoader.getProtectedTerms());
+        // Adds {} if the character before is a space, -, /, (, [, ", or } or if it is at the start of the string but not if it is followed by a }
+        return protectedTermsLoader.getProtectedTermsMatcher().protect(text);
     }
 
     @Override
@@ -0,0 +1,289 @@
+package org.jabref.logic.importer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.fetcher.CrossRef;
+import org.jabref.logic.importer.fetcher.DoiFetcher;
+import org.jabref.logic.importer.fetcher.IsbnFetcher;
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.identifier.ISBN;
+
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves the identifiers (DOI, ISBN) of many entries at once.
+ * <p>
+ * Entries sharing an identifier are resolved by a single request. DOIs are first requested in batches from CrossRef,
+ * which accepts several DOIs in one filter query. DOIs unknown to CrossRef (e.g., registered at DataCite) and ISBNs
+ * are requested one by one. At most {@link #DEFAULT_MAX_CONCURRENT_REQUESTS} requests are sent at the same time and
+ * the progress is reported after each request.
+ * <p>
+ * {@link #lookUp(List, EntryLookup, ProgressListener)} offers the bounded concurrency for arbitrary per-entry lookups,
+ * e.g., for finding the identifier of an entry.
+ */
+public class BulkIdentifierResolver {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 6;
+
+    /**
+     * The number of DOIs requested from CrossRef at once. Larger batches would result in overly long URLs.
+     */
+    static final int DOI_BATCH_SIZE = 20;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkIdentifierResolver.class);
+
+    private final DoiBatchFetcher doiBatchFetcher;
+    private final IdBasedFetcher doiFetcher;
+    private final IdBasedFetcher isbnFetcher;
+    private final int maxConcurrentRequests;
+
+    public BulkIdentifierResolver(ImportFormatPreferences importFormatPreferences) {
+        this(new CrossRef()::performSearchByIds, new DoiFetcher(importFormatPreferences), new IsbnFetcher(importFormatPreferences), DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    BulkIdentifierResolver(DoiBatchFetcher doiBatchFetcher, IdBasedFetcher doiFetcher, IdBasedFetcher isbnFetcher, int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("At least one request has to be allowed");
+        }
+        this.doiBatchFetcher = doiBatchFetcher;
+        this.doiFetcher = doiFetcher;
+        this.isbnFetcher = isbnFetcher;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Fetches the metadata of all entries having a valid DOI or, otherwise, a valid ISBN. The given entries are not
+     * modified, see {@link #mergeMissingFields(Map)}.
+     *
+     * @param listener informed about the number of resolved identifiers, called from several threads
+     */
+    public Result resolveMetadata(List<BibEntry> entries, ProgressListener listener) {
+        Map<String, List<BibEntry>> entriesByDoi = new LinkedHashMap<>();
+        Map<String, List<BibEntry>> entriesByIsbn = new LinkedHashMap<>();
+        for (BibEntry entry : entries) {
+            Optional<DOI> doi = entry.getField(StandardField.DOI).flatMap(DOI::parse);
+            if (doi.isPresent()) {
+                entriesByDoi.computeIfAbsent(getKey(doi.get()), key -> new ArrayList<>()).add(entry);
+                continue;
+            }
+            entry.getField(StandardField.ISBN)
+                 .flatMap(ISBN::parse)
+                 .filter(ISBN::isValid)
+                 .ifPresent(isbn -> entriesByIsbn.computeIfAbsent(isbn.getNormalized(), key -> new ArrayList<>()).add(entry));
+        }
+
+        Progress progress = new Progress(entriesByDoi.size() + entriesByIsbn.size(), listener);
+        Map<String, BibEntry> fetchedByDoi = new ConcurrentHashMap<>();
+        Map<String, BibEntry> fetchedByIsbn = new ConcurrentHashMap<>();
+
+        // Commas separate the values of a CrossRef filter, thus DOIs containing one cannot be batched
+        List<String> batchableDois = entriesByDoi.keySet().stream().filter(doi -> doi.indexOf(',') < 0).collect(Collectors.toList());
+        runBounded(Lists.partition(batchableDois, DOI_BATCH_SIZE), batch -> {
+            for (BibEntry fetchedEntry : doiBatchFetcher.performSearchByIds(batch.stream().map(DOI::new).collect(Collectors.toList()))) {
+                fetchedEntry.getDOI().map(BulkIdentifierResolver::getKey)
+                            .filter(entriesByDoi::containsKey)
+                            .filter(doi -> fetchedByDoi.putIfAbsent(doi, fetchedEntry) == null)
+                            .ifPresent(doi -> progress.advance());
+            }
+        });
+
+        List<String> remainingDois = entriesByDoi.keySet().stream().filter(doi -> !fetchedByDoi.containsKey(doi)).collect(Collectors.toList());
+        runBounded(remainingDois, doi -> {
+            try {
+                doiFetcher.performSearchById(doi).ifPresent(fetchedEntry -> fetchedByDoi.put(doi, fetchedEntry));
+            } finally {
+                progress.advance();
+            }
+        });
+        runBounded(entriesByIsbn.keySet(), isbn -> {
+            try {
+                isbnFetcher.performSearchById(isbn).ifPresent(fetchedEntry -> fetchedByIsbn.put(isbn, fetchedEntry));
+            } finally {
+                progress.advance();
+            }
+        });
+
+        Map<BibEntry, BibEntry> fetchedEntries = new IdentityHashMap<>();
+        List<String> unresolvedIdentifiers = new ArrayList<>();
+        collect(entriesByDoi, fetchedByDoi, fetchedEntries, unresolvedIdentifiers);
+        collect(entriesByIsbn, fetchedByIsbn, fetchedEntries, unresolvedIdentifiers);
+        return new Result(fetchedEntries, unresolvedIdentifiers);
+    }
+
+    /**
+     * Performs the given lookup for all entries with bounded concurrency. Failed lookups are logged and skipped.
+     *
+     * @param listener informed about the number of entries looked up, called from several threads
+     * @return the found results by entry (compared by identity)
+     */
+    public <T> Map<BibEntry, T> lookUp(List<BibEntry> entries, EntryLookup<T> lookup, ProgressListener listener) {
+        Map<BibEntry, T> results = Collections.synchronizedMap(new IdentityHashMap<>());
+        Progress progress = new Progress(entries.size(), listener);
+        runBounded(entries, entry -> {
+            try {
+                lookup.lookUp(entry).ifPresent(result -> results.put(entry, result));
+            } finally {
+                progress.advance();
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Copies the fields of the fetched entries that are missing in the original entries. Existing fields are kept.
+     *
+     * @param fetchedEntries the fetched entry by original entry, as returned by {@link Result#getFetchedEntries()}
+     * @return the changes of all entries, e.g., to be undone together
+     */
+    public static List<FieldChange> mergeMissingFields(Map<BibEntry, BibEntry> fetchedEntries) {
+        List<FieldChange> changes = new ArrayList<>();
+        fetchedEntries.forEach((originalEntry, fetchedEntry) -> {
+            for (Map.Entry<Field, String> field : fetchedEntry.getFieldMap().entrySet()) {
+                if (!(field.getKey() instanceof InternalField) && !originalEntry.hasField(field.getKey())) {
+                    originalEntry.setField(field.getKey(), field.getValue()).ifPresent(changes::add);
+                }
+            }
+        });
+        return changes;
+    }
+
+    private static String getKey(DOI doi) {
+        // DOIs are case insensitive
+        return doi.getDOI().toLowerCase(Locale.ROOT);
+    }
+
+    private static void collect(Map<String, List<BibEntry>> entriesByIdentifier, Map<String, BibEntry> fetchedByIdentifier,
+                                Map<BibEntry, BibEntry> fetchedEntries, List<String> unresolvedIdentifiers) {
+        entriesByIdentifier.forEach((identifier, entries) -> {
+            BibEntry fetchedEntry = fetchedByIdentifier.get(identifier);
+            if (fetchedEntry == null) {
+                unresolvedIdentifiers.add(identifier);
+            } else {
+                entries.forEach(entry -> fetchedEntries.put(entry, fetchedEntry));
+            }
+        });
+    }
+
+    /**
+     * Runs the task for all items, with at most {@link #maxConcurrentRequests} at the same time, and waits for all of
+     * them. If the calling thread is interrupted, the remaining items are skipped.
+     */
+    private <S> void runBounded(Collection<S> items, ItemTask<S> task) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrentRequests, items.size()), runnable -> {
+            Thread thread = new Thread(runnable, "identifier-resolver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(items.size());
+            for (S item : items) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        task.run(item);
+                    } catch (FetcherException e) {
+                        LOGGER.warn("Could not resolve {}", item, e);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("Unexpected error while resolving identifiers", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        void progressed(int done, int total);
+    }
+
+    @FunctionalInterface
+    public interface EntryLookup<T> {
+        Optional<T> lookUp(BibEntry entry) throws FetcherException;
+    }
+
+    /**
+     * Fetches the entries of several DOIs at once. Unknown DOIs are skipped.
+     */
+    @FunctionalInterface
+    interface DoiBatchFetcher {
+        List<BibEntry> performSearchByIds(List<DOI> dois) throws FetcherException;
+    }
+
+    @FunctionalInterface
+    private interface ItemTask<S> {
+        void run(S item) throws FetcherException;
+    }
+
+    private static class Progress {
+        private final int total;
+        private final ProgressListener listener;
+        private final AtomicInteger done = new AtomicInteger();
+
+        Progress(int total, ProgressListener listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+
+        void advance() {
+            listener.progressed(done.incrementAndGet(), total);
+        }
+    }
+
+    public static class Result {
+        private final Map<BibEntry, BibEntry> fetchedEntries;
+        private final List<String> unresolvedIdentifiers;
+
+        Result(Map<BibEntry, BibEntry> fetchedEntries, List<String> unresolvedIdentifiers) {
+            this.fetchedEntries = fetchedEntries;
+            this.unresolvedIdentifiers = unresolvedIdentifiers;
+        }
+
+        /**
+         * Returns the fetched entry by original entry (compared by identity). Entries sharing an identifier share the
+         * fetched entry.
+         */
+        public Map<BibEntry, BibEntry> getFetchedEntries() {
+            return fetchedEntries;
+        }
+
+        /**
+         * Returns the identifiers that could not be resolved, either because they are unknown or the request failed
+         */
+        public List<String> getUnresolvedIdentifiers() {
+            return unresolvedIdentifiers;
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package org.jabref.logic.importer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
+import org.jabref.logic.exporter.MetaDataSerializer;
+import org.jabref.logic.importer.util.MetaDataParser;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.KeyCollisionException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryType;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.entry.types.EntryTypeFactory;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import net.harawata.appdirs.AppDirsFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of parsed libraries, so that reopening an unchanged library does not parse it again.
+ * <p>
+ * For each library, a binary snapshot of its {@link ParserResult} (entries with their serialization, strings, preamble,
+ * epilog, custom entry types and metadata) is stored in a file named by the SHA-256 hash of the normalized path of the
+ * library. A snapshot is only used if the size, the modification time and the content hash of the library as well as
+ * the preferences affecting the parser match the ones it was stored with.
+ * <p>
+ * Neither the libraries nor the snapshots are memory-mapped, as a mapped file cannot be replaced or deleted on Windows
+ * until the mapping is garbage collected. This would break saving the library, which moves a temporary file over it.
+ * <p>
+ * A snapshot that cannot be used is deleted when it is read. Snapshots of libraries that were changed or deleted since,
+ * and snapshots of older formats, are deleted by {@link #removeObsoleteSnapshots()}.
+ * <p>
+ * The metadata is stored in its serialized form and parsed again when reading a snapshot, as a saved library would
+ * be.
+ */
+public class LibrarySnapshotCache {
+
+    /**
+     * Has to be increased whenever the format of a snapshot or the result of the parser changes
+     */
+    static final int FORMAT_VERSION = 2;
+
+    /**
+     * Smaller libraries are parsed fast enough
+     */
+    static final long MIN_LIBRARY_SIZE = 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibrarySnapshotCache.class);
+
+    private static final int MAGIC = 0x4A52534E;
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    // Temporary files are left behind if JabRef stops while storing a snapshot. Younger ones may still be written.
+    private static final Duration MAX_TEMPORARY_FILE_AGE = Duration.ofDays(1);
+
+    private final Path directory;
+    private final long minLibrarySize;
+
+    public LibrarySnapshotCache(Path directory) {
+        this(directory, MIN_LIBRARY_SIZE);
+    }
+
+    LibrarySnapshotCache(Path directory, long minLibrarySize) {
+        this.directory = Objects.requireNonNull(directory);
+        this.minLibrarySize = minLibrarySize;
+    }
+
+    public static Path getDefaultDirectory() {
+        return Path.of(AppDirsFactory.getInstance().getUserDataDir("snapshots", String.valueOf(FORMAT_VERSION), "org.jabref"));
+    }
+
+    /**
+     * Returns the version of the given library, or empty if the library is too small to be cached. The content of the
+     * library is only read if it is large enough.
+     */
+    public Optional<LibraryVersion> getVersion(Path library) throws IOException {
+        if (Files.size(library) < minLibrarySize) {
+            return Optional.empty();
+        }
+        return Optional.of(LibraryVersion.of(library));
+    }
+
+    /**
+     * Returns the parser result stored for the given version of the library, if the library was read with the same
+     * preferences. The metadata of the result is parsed again.
+     */
+    public Optional<ParserResult> load(Path library, LibraryVersion version, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        if (version.size < minLibrarySize) {
+            return Optional.empty();
+        }
+        Path snapshotFile = getSnapshotFile(library);
+        if (!Files.exists(snapshotFile)) {
+            return Optional.empty();
+        }
+
+        try (SnapshotReader reader = new SnapshotReader(snapshotFile)) {
+            Optional<LibraryVersion> storedVersion = reader.readHeader();
+            if (storedVersion.isPresent() && storedVersion.get().equals(version)
+                    && getPreferencesFingerprint(importFormatPreferences).equals(reader.readString())) {
+                ParserResult result = reader.readParserResult(importFormatPreferences, fileMonitor);
+                result.setFile(library.toFile());
+                return Optional.of(result);
+            }
+            LOGGER.debug("Snapshot of {} is stale", library);
+        } catch (IOException | RuntimeException e) {
+            // EOFException and IllegalArgumentException in case of a corrupt snapshot
+            LOGGER.warn("Could not read snapshot of {}", library, e);
+        }
+        // replaced when the library is stored the next time, but the library may not be stored again
+        delete(snapshotFile);
+        return Optional.empty();
+    }
+
+    /**
+     * Stores a snapshot of the given parser result, which has to be the unmodified result of parsing the given version
+     * of the library. Results with warnings are not stored.
+     */
+    public void store(Path library, LibraryVersion version, ParserResult result, ImportFormatPreferences importFormatPreferences) {
+        if ((version.size < minLibrarySize) || result.hasWarnings() || result.isInvalid()) {
+            return;
+        }
+
+        Path snapshotFile = getSnapshotFile(library);
+        try {
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, "snapshot", TEMPORARY_EXTENSION);
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile), 1 << 16))) {
+                SnapshotWriter writer = new SnapshotWriter(output);
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                writer.writeString(normalize(library).toString());
+                output.writeLong(version.size);
+                output.writeLong(version.lastModified);
+                writer.writeBytes(version.contentHash);
+                writer.writeString(getPreferencesFingerprint(importFormatPreferences));
+                writer.writeParserResult(result);
+            } catch (IOException e) {
+                Files.deleteIfExists(temporaryFile);
+                throw e;
+            }
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not store snapshot of {}", library, e);
+        }
+    }
+
+    /**
+     * Deletes the snapshots of libraries which do not exist anymore or were changed since the snapshot was stored,
+     * snapshots which cannot be read and left over temporary files. If this cache uses the directory of the current
+     * format version, the directories of older versions are deleted as well.
+     */
+    public void removeObsoleteSnapshots() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(this::isObsolete).forEach(LibrarySnapshotCache::delete);
+        } catch (IOException e) {
+            LOGGER.warn("Could not remove obsolete snapshots in {}", directory, e);
+        }
+
+        Path parent = directory.getParent();
+        if ((parent == null) || !String.valueOf(FORMAT_VERSION).equals(directory.getFileName().toString())) {
+            return;
+        }
+        for (int olderVersion = 1; olderVersion < FORMAT_VERSION; olderVersion++) {
+            Path olderDirectory = parent.resolve(String.valueOf(olderVersion));
+            if (Files.isDirectory(olderDirectory)) {
+                try (Stream<Path> files = Files.list(olderDirectory)) {
+                    files.filter(LibrarySnapshotCache::isSnapshotOrTemporaryFile).forEach(LibrarySnapshotCache::delete);
+                } catch (IOException e) {
+                    LOGGER.warn("Could not remove snapshots in {}", olderDirectory, e);
+                }
+                delete(olderDirectory);
+            }
+        }
+    }
+
+    private boolean isObsolete(Path file) {
+        String fileName = file.getFileName().toString();
+        try {
+            if (fileName.endsWith(TEMPORARY_EXTENSION)) {
+                Instant lastModified = Files.getLastModifiedTime(file).toInstant();
+                return lastModified.isBefore(Instant.now().minus(MAX_TEMPORARY_FILE_AGE));
+            }
+            if (!fileName.endsWith(SNAPSHOT_EXTENSION)) {
+                return false;
+            }
+            try (SnapshotReader reader = new SnapshotReader(file)) {
+                Optional<LibraryVersion> storedVersion = reader.readHeader();
+                if (storedVersion.isEmpty()) {
+                    return true;
+                }
+                Path library = Path.of(reader.libraryPath);
+                // The content is not hashed again, as this would read all libraries
+                return !Files.isRegularFile(library)
+                        || (Files.size(library) != storedVersion.get().size)
+                        || (Files.getLastModifiedTime(library).toMillis() != storedVersion.get().lastModified)
+                        || !file.equals(getSnapshotFile(library));
+            }
+        } catch (IOException | RuntimeException e) {
+            // EOFException and InvalidPathException in case of a corrupt snapshot
+            LOGGER.debug("Could not read snapshot {}", file, e);
+            return true;
+        }
+    }
+
+    private static boolean isSnapshotOrTemporaryFile(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.endsWith(SNAPSHOT_EXTENSION) || fileName.endsWith(TEMPORARY_EXTENSION);
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete snapshot {}", file, e);
+        }
+    }
+
+    private Path getSnapshotFile(Path library) {
+        String pathHash = Hashing.sha256().hashString(normalize(library).toString(), StandardCharsets.UTF_8).toString();
+        return directory.resolve(pathHash + SNAPSHOT_EXTENSION);
+    }
+
+    private static Path normalize(Path library) {
+        return library.toAbsolutePath().normalize();
+    }
+
+    /**
+     * The preferences the result of the parser depends on
+     */
+    private static String getPreferencesFingerprint(ImportFormatPreferences importFormatPreferences) {
+        return importFormatPreferences.getEncoding().name()
+                + '\n' + importFormatPreferences.getKeywordSeparator()
+                + '\n' + importFormatPreferences.getFieldContentFormatterPreferences().getNonWrappableFields().stream()
+                                                .map(Field::getName)
+                                                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Identifies the content of a library file
+     */
+    public static class LibraryVersion {
+        private final long size;
+        private final long lastModified;
+        private final byte[] contentHash;
+
+        LibraryVersion(long size, long lastModified, byte[] contentHash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+        }
+
+        /**
+         * Reads the given file to compute the hash of its content
+         */
+        public static LibraryVersion of(Path library) throws IOException {
+            long lastModified = Files.getLastModifiedTime(library).toMillis();
+            Hasher hasher = Hashing.murmur3_128().newHasher();
+            long size;
+            try (InputStream input = Files.newInputStream(library)) {
+                size = ByteStreams.copy(input, Funnels.asOutputStream(hasher));
+            }
+            return new LibraryVersion(size, lastModified, hasher.hash().asBytes());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            LibraryVersion other = (LibraryVersion) o;
+            return (size == other.size) && (lastModified == other.lastModified) && Arrays.equals(contentHash, other.contentHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModified, Arrays.hashCode(contentHash));
+        }
+    }
+
+    private static class SnapshotWriter {
+        private final DataOutputStream output;
+
+        SnapshotWriter(DataOutputStream output) {
+            this.output = output;
+        }
+
+        void writeParserResult(ParserResult result) throws IOException {
+            BibDatabase database = result.getDatabase();
+            MetaData metaData = result.getMetaData();
+
+            writeString(metaData.getEncoding().map(Charset::name).orElse(""));
+            writeString(database.getSharedDatabaseID().orElse(null));
+            writeString(database.getPreamble().orElse(null));
+            writeString(database.getEpilog());
+
+            output.writeInt(result.getEntryTypes().size());
+            for (BibEntryType entryType : result.getEntryTypes()) {
+                writeString(BibEntryTypesManager.serialize(entryType));
+            }
+
+            // an empty global pattern, so that only the key patterns of the library itself are stored
+            Map<String, String> serializedMetaData = MetaDataSerializer.getSerializedStringMap(metaData, new GlobalCitationKeyPattern(Collections.emptyList()));
+            output.writeInt(serializedMetaData.size());
+            for (Map.Entry<String, String> metaItem : serializedMetaData.entrySet()) {
+                writeString(metaItem.getKey());
+                writeString(metaItem.getValue());
+            }
+
+            Collection<BibtexString> strings = database.getStringValues();
+            output.writeInt(strings.size());
+            for (BibtexString string : strings) {
+                writeString(string.getName());
+                writeString(string.getContent());
+                writeString(string.getParsedSerialization());
+            }
+
+            output.writeInt(database.getEntryCount());
+            for (BibEntry entry : database.getEntries()) {
+                writeString(entry.getType().getName());
+                writeString(entry.getUserComments());
+                writeString(entry.getParsedSerialization());
+                Map<Field, String> fields = entry.getFieldMap();
+                output.writeInt(fields.size());
+                for (Map.Entry<Field, String> field : fields.entrySet()) {
+                    writeString(field.getKey().getName());
+                    writeString(field.getValue());
+                }
+            }
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+
+        /**
+         * Writes the length (-1 for null) followed by the UTF-8 bytes, as {@link DataOutputStream#writeUTF} is limited
+         * to 64K bytes
+         */
+        void writeString(String string) throws IOException {
+            if (string == null) {
+                output.writeInt(-1);
+            } else {
+                writeBytes(string.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static class SnapshotReader implements AutoCloseable {
+        private final DataInputStream input;
+        // Lengths larger than the snapshot are corrupt and must not be allocated
+        private final long snapshotSize;
+        // Most fields and entry types occur in many entries
+        private final Map<String, Field> fields = new HashMap<>();
+        private final Map<String, EntryType> entryTypes = new HashMap<>();
+        private byte[] stringBytes = new byte[256];
+        private String libraryPath;
+
+        SnapshotReader(Path snapshotFile) throws IOException {
+            this.snapshotSize = Files.size(snapshotFile);
+            this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile), 1 << 16));
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+
+        /**
+         * Reads the format, the path and the version of the library. Returns empty if the snapshot is of another format.
+         */
+        Optional<LibraryVersion> readHeader() throws IOException {
+            if ((snapshotSize < 8) || (readInt() != MAGIC) || (readInt() != FORMAT_VERSION)) {
+                return Optional.empty();
+            }
+            libraryPath = readString();
+            return Optional.of(new LibraryVersion(readLong(), readLong(), readBytes()));
+        }
+
+        ParserResult readParserResult(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) throws IOException {
+            BibDatabase database = new BibDatabase();
+            String encoding = readString();
+            Optional.ofNullable(readString()).ifPresent(database::setSharedDatabaseID);
+            Optional.ofNullable(readString()).ifPresent(database::setPreamble);
+            database.setEpilog(readString());
+
+            int entryTypeCount = readInt();
+            Set<BibEntryType> customEntryTypes = new HashSet<>();
+            for (int i = 0; i < entryTypeCount; i++) {
+                BibEntryTypesManager.parse(readString()).ifPresent(customEntryTypes::add);
+            }
+
+            int metaDataCount = readInt();
+            Map<String, String> serializedMetaData = new HashMap<>();
+            for (int i = 0; i < metaDataCount; i++) {
+                serializedMetaData.put(readString(), readString());
+            }
+            MetaData metaData;
+            try {
+                metaData = new MetaDataParser(fileMonitor).parse(serializedMetaData, importFormatPreferences.getKeywordSeparator());
+            } catch (ParseException e) {
+                throw new IOException("Could not parse stored metadata", e);
+            }
+            if (!encoding.isEmpty()) {
+                metaData.setEncoding(Charset.forName(encoding));
+            }
+
+            int stringCount = readInt();
+            for (int i = 0; i < stringCount; i++) {
+                BibtexString string = new BibtexString(readString(), readString());
+                string.setParsedSerialization(readString());
+                try {
+                    database.addString(string);
+                } catch (KeyCollisionException e) {
+                    throw new IOException("Duplicate string in snapshot", e);
+                }
+            }
+
+            int entryCount = readInt();
+            List<BibEntry> entries = new ArrayList<>(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                BibEntry entry = new BibEntry(entryTypes.computeIfAbsent(readString(), EntryTypeFactory::parse));
+                String comments = readString();
+                String serialization = readString();
+                int fieldCount = readInt();
+                for (int j = 0; j < fieldCount; j++) {
+                    entry.setField(fields.computeIfAbsent(readString(), FieldFactory::parseField), readString());
+                }
+                entry.setCommentsBeforeEntry(comments);
+                // resets the changed flag, thus has to be set last
+                entry.setParsedSerialization(serialization);
+                entries.add(entry);
+            }
+            database.insertEntries(entries);
+
+            return new ParserResult(database, metaData, customEntryTypes);
+        }
+
+        int readInt() throws IOException {
+            return input.readInt();
+        }
+
+        long readLong() throws IOException {
+            return input.readLong();
+        }
+
+        byte[] readBytes() throws IOException {
+            byte[] bytes = new byte[readLength()];
+            input.readFully(bytes);
+            return bytes;
+        }
+
+        String readString() throws IOException {
+            int length = readInt();
+            if (length < 0) {
+                return null;
+            }
+            checkLength(length);
+            if (length > stringBytes.length) {
+                stringBytes = new byte[Math.max(length, 2 * stringBytes.length)];
+            }
+            input.readFully(stringBytes, 0, length);
+            return new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private int readLength() throws IOException {
+            int length = readInt();
+            checkLength(length);
+            return length;
+        }
+
+        private void checkLength(int length) throws IOException {
+            if ((length < 0) || (length > snapshotSize)) {
+                throw new IOException("Corrupt snapshot: invalid length " + length);
+            }
+        }
+    }
+}
@@ -4,12 +4,15 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
+import org.jabref.logic.importer.LibrarySnapshotCache.LibraryVersion;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.migrations.ConvertLegacyExplicitGroups;
 import org.jabref.migrations.ConvertMarkingToGroups;
 import org.jabref.migrations.PostOpenMigration;
 import org.jabref.migrations.SpecialFieldsToSeparateFields;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import org.slf4j.Logger;
@@ -38,6 +41,107 @@ public class OpenDatabase {
         return result;
     }
 
+    /**
+     * Loads the database like {@link #loadDatabase(Path, ImportFormatPreferences, FileUpdateMonitor)}, but takes the
+     * result from the given cache if the file did not change since it was parsed the last time. Otherwise, the file is
+     * parsed and the result is stored in the cache.
+     */
+    public static ParserResult loadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, LibrarySnapshotCache snapshotCache)
+            throws IOException {
+        Optional<LibraryVersion> cachedVersion = snapshotCache.getVersion(fileToOpen);
+        if (cachedVersion.isEmpty()) {
+            return loadDatabase(fileToOpen, importFormatPreferences, fileMonitor);
+        }
+        LibraryVersion version = cachedVersion.get();
+        Optional<ParserResult> snapshot = snapshotCache.load(fileToOpen, version, importFormatPreferences, fileMonitor);
+        ParserResult result;
+        if (snapshot.isPresent()) {
+            LOGGER.debug("Loaded {} from snapshot", fileToOpen);
+            result = snapshot.get();
+        } else {
+            result = new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(fileToOpen,
+                    importFormatPreferences.getEncoding());
+            // before the migrations, as they are performed again when loading the snapshot
+            snapshotCache.store(fileToOpen, version, result, importFormatPreferences);
+        }
+
+        performLoadDatabaseMigrations(result, importFormatPreferences.getKeywordSeparator());
+
+        return result;
+    }
+
+    /**
+     * Loads the database from the given cache like {@link #loadDatabase(Path, ImportFormatPreferences, FileUpdateMonitor, LibrarySnapshotCache)},
+     * but does not parse the file if there is no up-to-date snapshot of it
+     */
+    public static Optional<ParserResult> loadDatabaseFromSnapshot(Path fileToOpen, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, LibrarySnapshotCache snapshotCache)
+            throws IOException {
+        Optional<LibraryVersion> version = snapshotCache.getVersion(fileToOpen);
+        if (version.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<ParserResult> snapshot = snapshotCache.load(fileToOpen, version.get(), importFormatPreferences, fileMonitor);
+        snapshot.ifPresent(result -> performLoadDatabaseMigrations(result, importFormatPreferences.getKeywordSeparator()));
+        return snapshot;
+    }
+
+    /**
+     * Parses the file and stores the result in the given cache. Used to create the snapshot of a database loaded by
+     * {@link #loadDatabaseDeferringEntries}, whose result is modified while it is completed.
+     */
+    public static void storeSnapshot(Path fileToOpen, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, LibrarySnapshotCache snapshotCache)
+            throws IOException {
+        Optional<LibraryVersion> version = snapshotCache.getVersion(fileToOpen);
+        if (version.isEmpty()) {
+            return;
+        }
+        ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(fileToOpen,
+                importFormatPreferences.getEncoding());
+        if (version.equals(snapshotCache.getVersion(fileToOpen))) {
+            snapshotCache.store(fileToOpen, version.get(), result, importFormatPreferences);
+        }
+    }
+
+    /**
+     * Loads the database like {@link #loadDatabase}, but only parses the type and citation key of each entry. The other
+     * fields of an entry are parsed when they are accessed for the first time, see
+     * {@link org.jabref.model.entry.BibEntry#setDeferredContent}. Allows showing large libraries before all entries are
+     * parsed.
+     * <p>
+     * The migrations of {@link #loadDatabase} need all fields. Thus, they are not performed, and
+     * {@link #completeDeferredLoading} has to be called after the remaining fields are parsed.
+     */
+    public static ParserResult loadDatabaseDeferringEntries(Path fileToOpen, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor)
+            throws IOException {
+        ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor, true).importDatabase(fileToOpen,
+                importFormatPreferences.getEncoding());
+        result.setDeferredEntries(true);
+        return result;
+    }
+
+    /**
+     * Parses the deferred fields of all entries of a database loaded by {@link #loadDatabaseDeferringEntries} in
+     * parallel. The entries are not modified, thus this can be called in the background while the entries are shown.
+     * Entries accessed in the meantime are parsed on demand.
+     */
+    public static void parseDeferredEntries(ParserResult result) {
+        result.getDatabase().getEntries().parallelStream().forEach(BibEntry::parseDeferredContent);
+    }
+
+    /**
+     * Loads the deferred fields of all entries of a database loaded by {@link #loadDatabaseDeferringEntries} into the
+     * entries and performs the migrations of {@link #loadDatabase}. Does nothing if the result has no deferred entries,
+     * as the migrations must not be performed twice.
+     */
+    public static void completeDeferredLoading(ParserResult result, ImportFormatPreferences importFormatPreferences) {
+        if (!result.hasDeferredEntries()) {
+            return;
+        }
+        result.getDatabase().getEntries().forEach(BibEntry::loadDeferredContent);
+        performLoadDatabaseMigrations(result, importFormatPreferences.getKeywordSeparator());
+        result.setDeferredEntries(false);
+    }
+
     private static void performLoadDatabaseMigrations(ParserResult parserResult, Character keywordDelimited) {
         List<PostOpenMigration> postOpenMigrations = Arrays.asList(
                 new ConvertLegacyExplicitGroups(),
@@ -27,6 +27,7 @@ public class ParserResult {
     private boolean invalid;
     private boolean toOpenTab;
     private boolean changedOnMigration = false;
+    private boolean deferredEntries;
 
     public ParserResult() {
         this(Collections.emptyList());
@@ -170,4 +171,16 @@ public class ParserResult {
     public void setChangedOnMigration(boolean wasChangedOnMigration) {
         this.changedOnMigration = wasChangedOnMigration;
     }
+
+    /**
+     * @return true if the fields of the entries were not parsed yet and the migrations were not performed, see
+     * {@link OpenDatabase#loadDatabaseDeferringEntries}
+     */
+    public boolean hasDeferredEntries() {
+        return deferredEntries;
+    }
+
+    public void setDeferredEntries(boolean deferredEntries) {
+        this.deferredEntries = deferredEntries;
+    }
 }
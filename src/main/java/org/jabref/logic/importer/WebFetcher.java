@@ -30,8 +30,20 @@ public interface WebFetcher {
 
     /**
      * Constructs an {@link URLDownload} object for downloading content based on the given URL. Overwrite, if you need to send additional headers for the download.
+     * The responses are cached if {@link #cachesResponses()} is enabled.
      */
     default URLDownload getUrlDownload(URL url) {
-        return new URLDownload(url);
+        URLDownload download = new URLDownload(url);
+        download.setUseResponseCache(cachesResponses());
+        return download;
+    }
+
+    /**
+     * Whether the responses to the requests of this fetcher are stored on disk, so that fetching the same URL again
+     * (e.g., looking up the same DOI) does not need a round trip. Should only be enabled for fetchers of public metadata,
+     * whose responses do not depend on the user.
+     */
+    default boolean cachesResponses() {
+        return false;
     }
 }
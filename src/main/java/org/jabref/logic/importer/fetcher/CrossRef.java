@@ -1,5 +1,7 @@
 package org.jabref.logic.importer.fetcher;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -7,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.jabref.logic.cleanup.FieldFormatterCleanup;
@@ -53,6 +56,11 @@ public class CrossRef implements IdParserFetcher<DOI>, EntryBasedParserFetcher,
         return "Crossref";
     }
 
+    @Override
+    public boolean cachesResponses() {
+        return true;
+    }
+
     @Override
     public URL getURLForEntry(BibEntry entry) throws URISyntaxException, MalformedURLException, FetcherException {
         URIBuilder uriBuilder = new URIBuilder(API_URL);
@@ -79,6 +87,34 @@ public class CrossRef implements IdParserFetcher<DOI>, EntryBasedParserFetcher,
         return uriBuilder.build().toURL();
     }
 
+    /**
+     * Fetches the entries of several DOIs with a single request. DOIs unknown to CrossRef are skipped.
+     *
+     * @param dois the DOIs to fetch, at most 1000 (the maximum number of rows of a request)
+     */
+    public List<BibEntry> performSearchByIds(List<DOI> dois) throws FetcherException {
+        if (dois.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            URIBuilder uriBuilder = new URIBuilder(API_URL);
+            uriBuilder.addParameter("filter", dois.stream().map(doi -> "doi:" + doi.getDOI()).collect(Collectors.joining(",")));
+            uriBuilder.addParameter("rows", Integer.toString(dois.size()));
+            try (InputStream stream = getUrlDownload(uriBuilder.build().toURL()).asInputStream()) {
+                List<BibEntry> fetchedEntries = getParser().parseEntries(stream);
+                fetchedEntries.forEach(this::doPostCleanup);
+                return fetchedEntries;
+            }
+        } catch (URISyntaxException | MalformedURLException e) {
+            throw new FetcherException("Search URI is malformed", e);
+        } catch (IOException e) {
+            throw new FetcherException("A network error occurred", e);
+        } catch (ParseException e) {
+            throw new FetcherException("An internal parser error occurred", e);
+        }
+    }
+
     @Override
     public Parser getParser() {
         return inputStream -> {
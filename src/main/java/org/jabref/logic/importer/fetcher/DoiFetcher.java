@@ -54,6 +54,11 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
         return DoiFetcher.NAME;
     }
 
+    @Override
+    public boolean cachesResponses() {
+        return true;
+    }
+
     @Override
     public Optional<HelpFile> getHelpPage() {
         return Optional.of(HelpFile.FETCHER_DOI);
@@ -27,10 +27,19 @@ public class BibtexImporter extends Importer {
 
     private final ImportFormatPreferences importFormatPreferences;
     private final FileUpdateMonitor fileMonitor;
+    private final boolean deferEntryParsing;
 
     public BibtexImporter(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, false);
+    }
+
+    /**
+     * @param deferEntryParsing see {@link BibtexParser#BibtexParser(ImportFormatPreferences, FileUpdateMonitor, boolean)}
+     */
+    public BibtexImporter(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, boolean deferEntryParsing) {
         this.importFormatPreferences = importFormatPreferences;
         this.fileMonitor = fileMonitor;
+        this.deferEntryParsing = deferEntryParsing;
     }
 
     /**
@@ -70,7 +79,7 @@ public class BibtexImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        return new BibtexParser(importFormatPreferences, fileMonitor, deferEntryParsing).parseInParallel(reader);
     }
 
     @Override
@@ -6,7 +6,10 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PushbackReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
@@ -18,7 +21,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.FieldContentFormatter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
@@ -41,8 +46,10 @@ import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.EntryTypeFactory;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import com.google.common.io.CharStreams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,19 +72,41 @@ public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
 
     private static final Integer LOOKAHEAD = 64;
+
+    // Number of characters of a chunk parsed by parseInParallel
+    private static final int CHUNK_SIZE = 1 << 18;
+
     private final FieldContentFormatter fieldContentFormatter;
     private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
+    private final boolean deferEntryParsing;
     private PushbackReader pushbackReader;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
+    private Map<String, String> meta;
     private final MetaDataParser metaDataParser;
 
+    // Set if this parser parses a chunk of a file, see parseInParallel
+    private boolean parsingChunk;
+    private final List<BibEntry> chunkEntries = new ArrayList<>();
+    private String chunkRemainder = "";
+
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, false);
+    }
+
+    /**
+     * @param deferEntryParsing if true, only the type and the citation key of each entry are parsed. The other fields
+     *                          are parsed when they are accessed for the first time, see
+     *                          {@link BibEntry#setDeferredContent}. Strings, the preamble and the metadata are always
+     *                          parsed.
+     */
+    public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, boolean deferEntryParsing) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.deferEntryParsing = deferEntryParsing;
         fieldContentFormatter = new FieldContentFormatter(importFormatPreferences.getFieldContentFormatterPreferences());
         metaDataParser = new MetaDataParser(fileMonitor);
     }
@@ -142,8 +171,134 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
+    /**
+     * Parses the given BibTeX data like {@link #parse}, but splits it into chunks of complete entries, which are parsed
+     * in parallel. The result equals the result of {@link #parse}.
+     * <p>
+     * A chunk ends after an entry, a string or the preamble that is followed by a line starting with the next item. If a
+     * chunk cannot be parsed without warnings, or if it ends with text which would belong to the first item of the
+     * next chunk, the whole data is parsed sequentially. Thus, warnings and the serialization of entries are the same
+     * as when parsing sequentially.
+     */
+    public ParserResult parseInParallel(Reader in) throws IOException {
+        return parseInParallel(in, CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize the minimal number of characters of a chunk
+     */
+    ParserResult parseInParallel(Reader in, int chunkSize) throws IOException {
+        Objects.requireNonNull(in);
+        String content = CharStreams.toString(in);
+        List<String> chunks = splitIntoChunks(content, chunkSize);
+        if (chunks.size() == 1) {
+            return parse(new StringReader(content));
+        }
+
+        List<BibtexParser> chunkParsers = chunks.parallelStream()
+                                                .map(this::parseChunk)
+                                                .collect(Collectors.toList());
+        for (int i = 0; i < chunkParsers.size(); i++) {
+            BibtexParser chunkParser = chunkParsers.get(i);
+            boolean isLastChunk = i == (chunkParsers.size() - 1);
+            if (chunkParser.parserResult.hasWarnings() || (!isLastChunk && !chunkParser.chunkRemainder.isEmpty())) {
+                LOGGER.debug("Could not parse chunk {} on its own, parsing sequentially", i);
+                return parse(new StringReader(content));
+            }
+        }
+        return mergeChunks(chunkParsers);
+    }
+
+    private static List<String> splitIntoChunks(String content, int chunkSize) {
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        while ((content.length() - start) > (2 * chunkSize)) {
+            int end = findChunkEnd(content, start + chunkSize);
+            if (end < 0) {
+                break;
+            }
+            chunks.add(content.substring(start, end));
+            start = end;
+        }
+        chunks.add(content.substring(start));
+        return chunks;
+    }
+
+    /**
+     * Finds the end of the first item ending after the given position, which is followed by an item starting on a new
+     * line. The end includes the line break the parser consumes after an item, see {@link #skipOneNewline()}.
+     *
+     * @return the position after the end, or -1 if there is none
+     */
+    private static int findChunkEnd(String content, int from) {
+        for (int at = content.indexOf('@', from); at >= 0; at = content.indexOf('@', at + 1)) {
+            int itemEnd = at - 1;
+            boolean isOnNewLine = false;
+            while ((itemEnd >= from) && Character.isWhitespace(content.charAt(itemEnd))) {
+                isOnNewLine |= (content.charAt(itemEnd) == '\n') || (content.charAt(itemEnd) == '\r');
+                itemEnd--;
+            }
+            if (isOnNewLine && (itemEnd >= from) && ((content.charAt(itemEnd) == '}') || (content.charAt(itemEnd) == ')'))) {
+                int end = itemEnd + 1;
+                while (content.charAt(end) == ' ') {
+                    end++;
+                }
+                if (content.charAt(end) == '\r') {
+                    end++;
+                }
+                if (content.charAt(end) == '\n') {
+                    end++;
+                }
+                return end;
+            }
+        }
+        return -1;
+    }
+
+    private BibtexParser parseChunk(String chunk) {
+        BibtexParser chunkParser = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), deferEntryParsing);
+        chunkParser.parsingChunk = true;
+        try {
+            chunkParser.parse(new StringReader(chunk));
+        } catch (IOException e) {
+            // reading from a string does not fail
+            throw new UncheckedIOException(e);
+        }
+        return chunkParser;
+    }
+
+    /**
+     * Merges the results of the chunk parsers in the order of the chunks, like {@link #parseFileContent()} does for
+     * the items of a file
+     */
+    private ParserResult mergeChunks(List<BibtexParser> chunkParsers) {
+        initializeParserResult();
+        chunkParsers.get(0).database.getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+
+        List<BibEntry> entries = new ArrayList<>();
+        for (BibtexParser chunkParser : chunkParsers) {
+            entries.addAll(chunkParser.chunkEntries);
+            for (BibtexString string : chunkParser.database.getStringValues()) {
+                try {
+                    database.addString(string);
+                } catch (KeyCollisionException ex) {
+                    parserResult.addWarning(Localization.lang("Duplicate string name") + ": " + string.getName());
+                }
+            }
+            chunkParser.database.getPreamble().ifPresent(database::setPreamble);
+            entryTypes.addAll(chunkParser.entryTypes);
+            meta.putAll(chunkParser.meta);
+        }
+        database.insertEntries(entries);
+        database.setEpilog(chunkParsers.get(chunkParsers.size() - 1).database.getEpilog());
+
+        parseMetaData();
+        return parserResult;
+    }
+
     private void initializeParserResult() {
         database = new BibDatabase();
+        meta = new HashMap<>();
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
     }
@@ -170,8 +325,6 @@ public class BibtexParser implements Parser {
     }
 
     private ParserResult parseFileContent() throws IOException {
-        Map<String, String> meta = new HashMap<>();
-
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -192,7 +345,7 @@ public class BibtexParser implements Parser {
             } else if ("string".equals(entryType)) {
                 parseBibtexString();
             } else if ("comment".equals(entryType)) {
-                parseJabRefComment(meta);
+                parseJabRefComment();
             } else {
                 // Not a comment, preamble, or string. Thus, it is an entry
                 parseAndAddEntry(entryType);
@@ -201,11 +354,9 @@ public class BibtexParser implements Parser {
             skipWhitespace();
         }
 
-        // Instantiate meta data:
-        try {
-            parserResult.setMetaData(metaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
-        } catch (ParseException exception) {
-            parserResult.addException(exception);
+        // The meta data of chunks is parsed after merging them
+        if (!parsingChunk) {
+            parseMetaData();
         }
 
         parseRemainingContent();
@@ -215,6 +366,14 @@ public class BibtexParser implements Parser {
         return parserResult;
     }
 
+    private void parseMetaData() {
+        try {
+            parserResult.setMetaData(metaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
+        } catch (ParseException exception) {
+            parserResult.addException(exception);
+        }
+    }
+
     private void checkEpilog() {
         // This is an incomplete and inaccurate try to verify if something went wrong with previous parsing activity even though there were no warnings so far
         // regex looks for something like 'identifier = blabla ,'
@@ -224,7 +383,8 @@ public class BibtexParser implements Parser {
     }
 
     private void parseRemainingContent() {
-        database.setEpilog(dumpTextReadSoFarToString().trim());
+        chunkRemainder = dumpTextReadSoFarToString();
+        database.setEpilog(chunkRemainder.trim());
     }
 
     private void parseAndAddEntry(String type) {
@@ -239,8 +399,15 @@ public class BibtexParser implements Parser {
                     commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@')));
             // store complete parsed serialization (comments, type definition + type contents)
             entry.setParsedSerialization(commentsAndEntryTypeDefinition + dumpTextReadSoFarToString());
+            if (deferEntryParsing) {
+                entry.setDeferredContent(parseEntryLater(entry.getParsedSerialization(), importFormatPreferences));
+            }
 
-            database.insertEntry(entry);
+            if (parsingChunk) {
+                chunkEntries.add(entry);
+            } else {
+                database.insertEntry(entry);
+            }
         } catch (IOException ex) {
             // Trying to make the parser more robust.
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -251,7 +418,28 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private void parseJabRefComment(Map<String, String> meta) {
+    /**
+     * Returns a supplier parsing the entry with the given serialization. The supplier does not reference this parser,
+     * thus the parser can be collected while entries are not loaded. If the serialization cannot be parsed, the supplier
+     * returns null, so that the entry is kept as it was read, see {@link BibEntry#setDeferredContent}.
+     */
+    static Supplier<BibEntry> parseEntryLater(String serialization, ImportFormatPreferences importFormatPreferences) {
+        return () -> {
+            try {
+                List<BibEntry> entries = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor())
+                        .parseEntries(new StringReader(serialization));
+                if (entries.size() == 1) {
+                    return entries.get(0);
+                }
+                LOGGER.warn("Could not parse deferred entry, found {} entries in '{}'", entries.size(), serialization);
+            } catch (ParseException e) {
+                LOGGER.warn("Could not parse deferred entry '{}'", serialization, e);
+            }
+            return null;
+        };
+    }
+
+    private void parseJabRefComment() {
         StringBuilder buffer = null;
         try {
             buffer = parseBracketedTextExactly();
@@ -532,7 +720,11 @@ public class BibtexParser implements Parser {
             if ((character == '}') || (character == ')')) {
                 break;
             }
-            parseField(result);
+            if (deferEntryParsing) {
+                skipField();
+            } else {
+                parseField(result);
+            }
         }
 
         consume('}', ')');
@@ -572,6 +764,36 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Reads a field the same way as {@link #parseField}, but does neither format nor store its content
+     */
+    private void skipField() throws IOException {
+        parseTextToken();
+        skipWhitespace();
+        consume('=');
+        skipWhitespace();
+
+        int character;
+        while (((character = peek()) != ',') && (character != '}') && (character != ')')) {
+            if (eof) {
+                throw new IOException("Error in line " + line + ": EOF in mid-string");
+            }
+            if (character == '"') {
+                parseQuotedFieldExactly();
+            } else if (character == '{') {
+                parseBracketedTextExactly();
+            } else if (Character.isDigit((char) character)) {
+                parseTextToken();
+            } else if (character == '#') {
+                consume('#');
+            } else if (parseTextToken().isEmpty()) {
+                throw new IOException("Error in line " + line + " or above: "
+                        + "Empty text token.\nThis could be caused " + "by a missing comma between two fields.");
+            }
+            skipWhitespace();
+        }
+    }
+
     private String parseFieldContent(Field field) throws IOException {
         skipWhitespace();
         StringBuilder value = new StringBuilder();
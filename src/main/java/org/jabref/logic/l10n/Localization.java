@@ -38,7 +38,7 @@ public class Localization {
     private static final Logger LOGGER = LoggerFactory.getLogger(Localization.class);
 
     private static Locale locale;
-    private static LocalizationBundle localizedMessages;
+    private static volatile LocalizationBundle localizedMessages;
 
     private Localization() {
     }
@@ -67,7 +67,7 @@ public class Localization {
      *
      * @param language Language identifier like "en", "de", etc.
      */
-    public static void setLanguage(Language language) {
+    public static synchronized void setLanguage(Language language) {
         Optional<Locale> knownLanguage = Language.convertToSupportedLocale(language);
         final Locale defaultLocale = Locale.getDefault();
         if (knownLanguage.isEmpty()) {
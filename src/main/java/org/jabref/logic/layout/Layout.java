@@ -80,6 +80,14 @@ public class Layout {
         }
     }
 
+    /**
+     * Returns true if rendering an entry with this layout depends on the entries rendered before, e.g., because of group
+     * blocks or entry numbers. Entries of other layouts may be rendered in parallel and in any order.
+     */
+    public boolean isOrderDependent() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::isOrderDependent);
+    }
+
     public String getText() {
         return layoutEntries.stream().map(LayoutEntry::getText).collect(Collectors.joining("\n"));
     }
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
@@ -84,6 +85,7 @@ import org.jabref.logic.openoffice.style.OOPreFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.UnknownField;
@@ -95,8 +97,17 @@ import org.slf4j.LoggerFactory;
 class LayoutEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(LayoutEntry.class);
 
+    private static final Pattern AND_CONDITION = Pattern.compile(".*(;|(\\&+)).*");
+    private static final Pattern AND_SEPARATOR = Pattern.compile("\\s*(;|(\\&+))\\s*");
+    private static final Pattern OR_SEPARATOR = Pattern.compile("\\s*(\\|+)\\s*");
+
     private List<LayoutFormatter> option;
 
+    // The field(s) referenced by this entry are resolved once, so that doLayout does not parse field names per entry
+    private Field field;
+    private List<FieldCondition> conditions;
+    private boolean conjunction;
+
     // Formatter to be run after other formatters:
     private LayoutFormatter postFormatter;
 
@@ -119,9 +130,13 @@ class LayoutEntry {
                 break;
             case LayoutHelper.IS_SIMPLE_COMMAND:
                 text = si.s.trim();
+                field = FieldFactory.parseField(text);
                 break;
             case LayoutHelper.IS_OPTION_FIELD:
                 doOptionField(si.s);
+                if (text.startsWith("\\")) {
+                    field = FieldFactory.parseField(text.substring(1));
+                }
                 break;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_FIELD_END:
@@ -142,6 +157,7 @@ class LayoutEntry {
 
         type = layoutType;
         text = blockEnd;
+        compileFieldConditions();
         List<StringInt> blockEntries = null;
         for (StringInt parsedEntry : parsedEntries.subList(1, parsedEntries.size() - 1)) {
             switch (parsedEntry.i) {
@@ -185,16 +201,54 @@ class LayoutEntry {
         }
     }
 
+    private void compileFieldConditions() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            field = FieldFactory.parseField(text);
+            return;
+        }
+
+        String[] parts;
+        if (AND_CONDITION.matcher(text).matches()) {
+            // split the strings along &, && or ; for AND formatter
+            conjunction = true;
+            parts = AND_SEPARATOR.split(text);
+        } else {
+            // split the strings along |, ||  for OR formatter
+            conjunction = false;
+            parts = OR_SEPARATOR.split(text);
+        }
+        conditions = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            boolean negated = part.startsWith("!");
+            conditions.add(new FieldCondition(FieldFactory.parseField(negated ? part.substring(1).trim() : part), negated));
+        }
+    }
+
     public void setPostFormatter(LayoutFormatter formatter) {
         this.postFormatter = formatter;
     }
 
+    /**
+     * Checks whether the output of this entry depends on the entries rendered before it, i.e., whether it uses group
+     * blocks (which are only printed when the group changes) or the {@link Number} formatter.
+     * Layouts consisting only of order independent entries can be rendered concurrently.
+     */
+    public boolean isOrderDependent() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return true;
+        }
+        if ((option != null) && option.stream().anyMatch(Number.class::isInstance)) {
+            return true;
+        }
+        return (layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::isOrderDependent);
+    }
+
     public String doLayout(BibEntry bibtex, BibDatabase database) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
             case LayoutHelper.IS_SIMPLE_COMMAND:
-                String value = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database).orElse("");
+                String value = bibtex.getResolvedFieldOrAlias(field, database).orElse("");
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
@@ -232,8 +286,8 @@ class LayoutEntry {
         } else {
             // changed section begin - arudert
             // resolve field (recognized by leading backslash) or text
-            fieldEntry = text.startsWith("\\") ? bibtex
-                    .getResolvedFieldOrAlias(FieldFactory.parseField(text.substring(1)), database)
+            fieldEntry = field != null ? bibtex
+                    .getResolvedFieldOrAlias(field, database)
                     .orElse("") : BibDatabase.getText(text, database);
             // changed section end - arudert
         }
@@ -253,29 +307,16 @@ class LayoutEntry {
     }
 
     private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
-        Optional<String> field;
+        Optional<String> field = Optional.empty();
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
-            field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() == negated) {
-                    break;
-                }
-            }
+            field = bibtex.getResolvedFieldOrAlias(this.field, database);
         } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() ^ negated) {
+            for (FieldCondition condition : conditions) {
+                negated = condition.negated;
+                field = bibtex.getResolvedFieldOrAlias(condition.field, database);
+                // AND stops at the first failing part, OR at the first matching one
+                if (conjunction ? (field.isPresent() == negated) : (field.isPresent() ^ negated)) {
                     break;
                 }
             }
@@ -613,4 +654,14 @@ class LayoutEntry {
     public String getText() {
         return text;
     }
+
+    private static class FieldCondition {
+        private final Field field;
+        private final boolean negated;
+
+        FieldCondition(Field field, boolean negated) {
+            this.field = field;
+            this.negated = negated;
+        }
+    }
 }
@@ -0,0 +1,428 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import com.google.common.hash.Hashing;
+import net.harawata.appdirs.AppDirsFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache for the responses of GET requests.
+ * <p>
+ * A response is served from the cache as long as it is younger than the configured time to live. Afterwards, it is
+ * revalidated using the <code>ETag</code> and <code>Last-Modified</code> headers of the cached response, so that an
+ * unchanged resource does not have to be transferred again.
+ * <p>
+ * Each response is stored in two files named by the hash of the request: the body and a properties file holding the
+ * metadata. The request itself is not stored, as its URI may contain credentials, e.g., API keys.
+ * <p>
+ * The total size of the cache is limited. If it is exceeded, the least recently used responses are deleted.
+ * {@link #removeObsoleteResponses()} additionally deletes responses which are expired and cannot be revalidated, or
+ * were not used for a long time.
+ */
+public class HttpResponseCache {
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+
+    /**
+     * Bodies larger than this are not cached, as these are usually file downloads.
+     */
+    static final long MAX_CACHEABLE_SIZE = 4 * 1024 * 1024;
+
+    static final long DEFAULT_MAX_TOTAL_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Responses which were not used for this time are deleted, even if they could be revalidated
+     */
+    static final Duration MAX_UNUSED_TIME = Duration.ofDays(30);
+
+    // The cache is shrunk to this ratio of the maximal size, so that not every stored response causes an eviction
+    private static final double SIZE_RATIO_AFTER_EVICTION = 0.9;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String VERSION = "2";
+    private static final String BODY_EXTENSION = ".body";
+    private static final String METADATA_EXTENSION = ".properties";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private static final String KEY_ETAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "lastModified";
+    private static final String KEY_CONTENT_TYPE = "contentType";
+    private static final String KEY_STORED_AT = "storedAt";
+
+    private final Path directory;
+    private final Duration timeToLive;
+    private final long maxTotalSize;
+    private final Clock clock;
+
+    // The size of all files in the directory, or -1 if it was not determined yet
+    private long totalSize = -1;
+
+    public HttpResponseCache(Path directory, Duration timeToLive) {
+        this(directory, timeToLive, DEFAULT_MAX_TOTAL_SIZE, Clock.systemUTC());
+    }
+
+    HttpResponseCache(Path directory, Duration timeToLive, long maxTotalSize, Clock clock) {
+        this.directory = Objects.requireNonNull(directory);
+        this.timeToLive = Objects.requireNonNull(timeToLive);
+        this.maxTotalSize = maxTotalSize;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public static Path getDefaultDirectory() {
+        return Path.of(AppDirsFactory.getInstance().getUserCacheDir("jabref", "http-" + VERSION, "org.jabref"));
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Returns the cached response to the given request, regardless of whether it is still fresh.
+     */
+    public Optional<CachedResponse> get(URI uri, Map<String, String> headers) {
+        String key = getKey(uri, headers);
+        Path metadataFile = directory.resolve(key + METADATA_EXTENSION);
+        Path bodyFile = directory.resolve(key + BODY_EXTENSION);
+        if (!Files.exists(metadataFile) || !Files.exists(bodyFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            Properties metadata = readMetadata(metadataFile);
+            byte[] body = Files.readAllBytes(bodyFile);
+            // the modification time of the body is the time of the last use, see evictLeastRecentlyUsed
+            Files.setLastModifiedTime(bodyFile, FileTime.from(clock.instant()));
+            return Optional.of(new CachedResponse(
+                    body,
+                    Optional.ofNullable(metadata.getProperty(KEY_ETAG)),
+                    Optional.ofNullable(metadata.getProperty(KEY_LAST_MODIFIED)),
+                    Optional.ofNullable(metadata.getProperty(KEY_CONTENT_TYPE)),
+                    getStoredAt(metadata)));
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.debug("Could not read cached response for {}", uri, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the response to the given request.
+     */
+    public void put(URI uri, Map<String, String> headers, byte[] body, Optional<String> eTag, Optional<String> lastModified, Optional<String> contentType) {
+        if (body.length > MAX_CACHEABLE_SIZE) {
+            return;
+        }
+
+        String key = getKey(uri, headers);
+        try {
+            Files.createDirectories(directory);
+            Path bodyFile = directory.resolve(key + BODY_EXTENSION);
+            writeAtomically(bodyFile, body);
+            Files.setLastModifiedTime(bodyFile, FileTime.from(clock.instant()));
+            writeMetadata(key, eTag, lastModified, contentType);
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache response for {}", uri, e);
+            return;
+        }
+        addToTotalSize(body.length);
+    }
+
+    /**
+     * Marks the cached response to the given request as fresh again, e.g., after the server confirmed that it did not
+     * change.
+     */
+    public void refresh(URI uri, Map<String, String> headers, CachedResponse response) {
+        try {
+            writeMetadata(getKey(uri, headers), response.getETag(), response.getLastModified(), response.getContentType());
+        } catch (IOException e) {
+            LOGGER.warn("Could not refresh cached response for {}", uri, e);
+        }
+    }
+
+    public boolean isFresh(CachedResponse response) {
+        return isFresh(response.getStoredAt());
+    }
+
+    private boolean isFresh(Instant storedAt) {
+        return storedAt.plus(timeToLive).isAfter(clock.instant());
+    }
+
+    /**
+     * Deletes the responses which are expired and cannot be revalidated, the responses which were not used for
+     * {@link #MAX_UNUSED_TIME}, incomplete responses and left over temporary files. Afterwards, the least recently used
+     * responses are deleted if the cache is too large. If this cache uses the directory of the current version, the
+     * directory of the first version is deleted as well, as it contains the requested URIs.
+     */
+    public synchronized void removeObsoleteResponses() {
+        removeFirstVersion();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Instant unusedSince = clock.instant().minus(MAX_UNUSED_TIME);
+        for (Map.Entry<String, List<Path>> response : listFilesByKey().entrySet()) {
+            String key = response.getKey();
+            Path metadataFile = directory.resolve(key + METADATA_EXTENSION);
+            Path bodyFile = directory.resolve(key + BODY_EXTENSION);
+            boolean obsolete;
+            try {
+                Properties metadata = readMetadata(metadataFile);
+                boolean canBeRevalidated = (metadata.getProperty(KEY_ETAG) != null) || (metadata.getProperty(KEY_LAST_MODIFIED) != null);
+                obsolete = (!isFresh(getStoredAt(metadata)) && !canBeRevalidated)
+                        || Files.getLastModifiedTime(bodyFile).toInstant().isBefore(unusedSince);
+            } catch (IOException | NumberFormatException e) {
+                // incomplete or corrupt, or a temporary file which may still be written
+                obsolete = !isTemporaryFile(response.getValue()) || isOlderThanOneDay(response.getValue());
+            }
+            if (obsolete) {
+                response.getValue().forEach(HttpResponseCache::delete);
+            }
+        }
+        totalSize = -1;
+        evictLeastRecentlyUsed();
+    }
+
+    private void removeFirstVersion() {
+        Path parent = directory.getParent();
+        if ((parent == null) || !("http-" + VERSION).equals(directory.getFileName().toString())) {
+            return;
+        }
+        Path firstVersion = parent.resolve("http-1");
+        if (Files.isDirectory(firstVersion)) {
+            try (Stream<Path> files = Files.list(firstVersion)) {
+                files.forEach(HttpResponseCache::delete);
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete cached responses in {}", firstVersion, e);
+            }
+            delete(firstVersion);
+        }
+    }
+
+    private synchronized void addToTotalSize(long size) {
+        if (totalSize < 0) {
+            totalSize = computeTotalSize();
+        } else {
+            totalSize += size;
+        }
+        if (totalSize > maxTotalSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Deletes the least recently used responses until the cache is small enough
+     */
+    private void evictLeastRecentlyUsed() {
+        List<ResponseFiles> responses = new ArrayList<>();
+        long size = 0;
+        for (Map.Entry<String, List<Path>> response : listFilesByKey().entrySet()) {
+            if (isTemporaryFile(response.getValue())) {
+                continue;
+            }
+            ResponseFiles files = new ResponseFiles(response.getValue(), directory.resolve(response.getKey() + BODY_EXTENSION));
+            responses.add(files);
+            size += files.size;
+        }
+        totalSize = size;
+        if (totalSize <= maxTotalSize) {
+            return;
+        }
+
+        responses.sort(Comparator.comparing(files -> files.lastUsed));
+        long targetSize = (long) (maxTotalSize * SIZE_RATIO_AFTER_EVICTION);
+        for (ResponseFiles files : responses) {
+            if (totalSize <= targetSize) {
+                break;
+            }
+            files.paths.forEach(HttpResponseCache::delete);
+            totalSize -= files.size;
+        }
+    }
+
+    private long computeTotalSize() {
+        long size = 0;
+        for (List<Path> files : listFilesByKey().values()) {
+            for (Path file : files) {
+                size += sizeOf(file);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Groups the files in the directory by the key of the response they belong to. Temporary files have their own
+     * group each.
+     */
+    private Map<String, List<Path>> listFilesByKey() {
+        Map<String, List<Path>> filesByKey = new HashMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                String fileName = file.getFileName().toString();
+                String key = fileName;
+                if (fileName.endsWith(BODY_EXTENSION)) {
+                    key = fileName.substring(0, fileName.length() - BODY_EXTENSION.length());
+                } else if (fileName.endsWith(METADATA_EXTENSION)) {
+                    key = fileName.substring(0, fileName.length() - METADATA_EXTENSION.length());
+                }
+                filesByKey.computeIfAbsent(key, k -> new ArrayList<>(2)).add(file);
+            });
+        } catch (IOException e) {
+            LOGGER.warn("Could not list cached responses in {}", directory, e);
+        }
+        return filesByKey;
+    }
+
+    private static boolean isTemporaryFile(List<Path> files) {
+        return (files.size() == 1) && files.get(0).getFileName().toString().endsWith(TEMPORARY_EXTENSION);
+    }
+
+    private boolean isOlderThanOneDay(List<Path> files) {
+        try {
+            return Files.getLastModifiedTime(files.get(0)).toInstant().isBefore(clock.instant().minus(Duration.ofDays(1)));
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete cached response {}", file, e);
+        }
+    }
+
+    private static Properties readMetadata(Path metadataFile) throws IOException {
+        Properties metadata = new Properties();
+        try (InputStream inputStream = Files.newInputStream(metadataFile)) {
+            metadata.load(inputStream);
+        }
+        return metadata;
+    }
+
+    private static Instant getStoredAt(Properties metadata) {
+        return Instant.ofEpochMilli(Long.parseLong(metadata.getProperty(KEY_STORED_AT, "0")));
+    }
+
+    private void writeMetadata(String key, Optional<String> eTag, Optional<String> lastModified, Optional<String> contentType) throws IOException {
+        Properties metadata = new Properties();
+        eTag.ifPresent(value -> metadata.setProperty(KEY_ETAG, value));
+        lastModified.ifPresent(value -> metadata.setProperty(KEY_LAST_MODIFIED, value));
+        contentType.ifPresent(value -> metadata.setProperty(KEY_CONTENT_TYPE, value));
+        metadata.setProperty(KEY_STORED_AT, String.valueOf(clock.millis()));
+
+        Path temporaryFile = Files.createTempFile(directory, key, TEMPORARY_EXTENSION);
+        try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+            metadata.store(outputStream, null);
+        }
+        Files.move(temporaryFile, directory.resolve(key + METADATA_EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeAtomically(Path file, byte[] content) throws IOException {
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), TEMPORARY_EXTENSION);
+        Files.write(temporaryFile, content);
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * The request headers are part of the key, as the same URL may, for instance, be requested with different
+     * <code>Accept</code> headers.
+     */
+    private static String getKey(URI uri, Map<String, String> headers) {
+        StringBuilder request = new StringBuilder(uri.toString());
+        new TreeMap<>(headers).forEach((name, value) -> request.append('\n').append(name).append(": ").append(value));
+        return Hashing.sha256().hashString(request, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * The body and metadata file of a cached response
+     */
+    private static class ResponseFiles {
+        private final List<Path> paths;
+        private final long size;
+        private final Instant lastUsed;
+
+        ResponseFiles(List<Path> paths, Path bodyFile) {
+            this.paths = paths;
+            this.size = paths.stream().mapToLong(HttpResponseCache::sizeOf).sum();
+            Instant lastModified;
+            try {
+                lastModified = Files.getLastModifiedTime(bodyFile).toInstant();
+            } catch (IOException e) {
+                // incomplete, thus evicted first
+                lastModified = Instant.MIN;
+            }
+            this.lastUsed = lastModified;
+        }
+    }
+
+    public static class CachedResponse {
+        private final byte[] body;
+        private final Optional<String> eTag;
+        private final Optional<String> lastModified;
+        private final Optional<String> contentType;
+        private final Instant storedAt;
+
+        CachedResponse(byte[] body, Optional<String> eTag, Optional<String> lastModified, Optional<String> contentType, Instant storedAt) {
+            this.body = body;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.contentType = contentType;
+            this.storedAt = storedAt;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public Optional<String> getETag() {
+            return eTag;
+        }
+
+        public Optional<String> getLastModified() {
+            return lastModified;
+        }
+
+        public Optional<String> getContentType() {
+            return contentType;
+        }
+
+        public Instant getStoredAt() {
+            return storedAt;
+        }
+
+        public boolean canBeRevalidated() {
+            return eTag.isPresent() || lastModified.isPresent();
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package org.jabref.logic.net;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PushbackInputStream;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+import org.jabref.logic.net.HttpResponseCache.CachedResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The HTTP client shared by all web requests of JabRef.
+ * <p>
+ * In contrast to opening a new {@link java.net.URLConnection} per request, connections are kept alive and reused
+ * across requests, HTTP/2 is used if the server supports it and responses are requested gzip compressed. The number of
+ * concurrent requests per host is limited, so that bulk operations do not overload a single server. Responses to GET
+ * requests can additionally be served from a {@link HttpResponseCache}.
+ */
+public class SharedHttpClient {
+
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 6;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedHttpClient.class);
+
+    // These headers are set by the client itself and must not be set on a request, see jdk.internal.net.http.common.Utils
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "date", "expect", "from", "host", "upgrade", "via", "warning");
+
+    private static SharedHttpClient instance;
+
+    private final Map<Duration, HttpClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> permitsPerHost = new ConcurrentHashMap<>();
+    private final HttpResponseCache cache;
+    private final int maxRequestsPerHost;
+
+    /**
+     * @param cache              the cache for responses to GET requests, may be null
+     * @param maxRequestsPerHost the maximal number of requests to a single host being sent at the same time
+     */
+    public SharedHttpClient(HttpResponseCache cache, int maxRequestsPerHost) {
+        if (maxRequestsPerHost < 1) {
+            throw new IllegalArgumentException("At least one request per host has to be allowed");
+        }
+        this.cache = cache;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    public static synchronized SharedHttpClient getInstance() {
+        if (instance == null) {
+            instance = new SharedHttpClient(
+                    new HttpResponseCache(HttpResponseCache.getDefaultDirectory(), HttpResponseCache.DEFAULT_TIME_TO_LIVE),
+                    DEFAULT_MAX_REQUESTS_PER_HOST);
+        }
+        return instance;
+    }
+
+    /**
+     * Replaces the client used for all web requests, e.g., to change the time to live of cached responses.
+     */
+    public static synchronized void setInstance(SharedHttpClient client) {
+        instance = Objects.requireNonNull(client);
+    }
+
+    public Optional<HttpResponseCache> getCache() {
+        return Optional.ofNullable(cache);
+    }
+
+    /**
+     * Sends a GET request.
+     *
+     * @param useCache whether the response may be served from and should be stored in the cache
+     */
+    public Response get(URI uri, Map<String, String> headers, Duration connectTimeout, boolean useCache) throws IOException {
+        if (!useCache || (cache == null)) {
+            return send(newRequest(uri, headers).GET().build(), connectTimeout);
+        }
+
+        Optional<CachedResponse> cachedResponse = cache.get(uri, headers);
+        if (cachedResponse.isPresent() && cache.isFresh(cachedResponse.get())) {
+            LOGGER.debug("Serving {} from the cache", uri);
+            return Response.of(uri, cachedResponse.get());
+        }
+
+        HttpRequest.Builder request = newRequest(uri, headers).GET();
+        cachedResponse.filter(CachedResponse::canBeRevalidated).ifPresent(cached -> {
+            cached.getETag().ifPresent(eTag -> request.header("If-None-Match", eTag));
+            cached.getLastModified().ifPresent(lastModified -> request.header("If-Modified-Since", lastModified));
+        });
+
+        Response response = send(request.build(), connectTimeout);
+        if ((response.getStatusCode() == 304) && cachedResponse.isPresent()) {
+            LOGGER.debug("Cached response for {} is still valid", uri);
+            response.close();
+            cache.refresh(uri, headers, cachedResponse.get());
+            return Response.of(uri, cachedResponse.get());
+        }
+        if ((response.getStatusCode() != 200)
+                || response.getHeader("Cache-Control").map(value -> value.contains("no-store")).orElse(false)
+                || (response.getContentLength() > HttpResponseCache.MAX_CACHEABLE_SIZE)) {
+            return response;
+        }
+
+        byte[] body;
+        try (InputStream inputStream = response.getBody()) {
+            body = inputStream.readAllBytes();
+        }
+        cache.put(uri, headers, body, response.getHeader("ETag"), response.getHeader("Last-Modified"), response.getHeader("Content-Type"));
+        return new Response(response.getUri(), response.getStatusCode(), response.headers, new ByteArrayInputStream(body), body.length);
+    }
+
+    /**
+     * Sends a POST request. If no content type is given, the data is sent form encoded.
+     */
+    public Response post(URI uri, Map<String, String> headers, String data, Duration connectTimeout) throws IOException {
+        HttpRequest.Builder request = newRequest(uri, headers).POST(HttpRequest.BodyPublishers.ofString(data, StandardCharsets.UTF_8));
+        if (headers.keySet().stream().noneMatch("Content-Type"::equalsIgnoreCase)) {
+            request.header("Content-Type", "application/x-www-form-urlencoded");
+        }
+        return send(request.build(), connectTimeout);
+    }
+
+    private HttpRequest.Builder newRequest(URI uri, Map<String, String> headers) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri);
+        headers.forEach((name, value) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                request.header(name, value);
+            }
+        });
+        if (headers.keySet().stream().noneMatch("Accept-Encoding"::equalsIgnoreCase)) {
+            request.header("Accept-Encoding", "gzip");
+        }
+        return request;
+    }
+
+    private Response send(HttpRequest request, Duration connectTimeout) throws IOException {
+        String host = Optional.ofNullable(request.uri().getHost()).orElse("");
+        Semaphore permits = permitsPerHost.computeIfAbsent(host, key -> new Semaphore(maxRequestsPerHost, true));
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to " + host);
+        }
+
+        // The permit is released when the body is closed or read completely, as it is downloaded while it is read
+        Runnable releasePermit = new Runnable() {
+            private final AtomicBoolean released = new AtomicBoolean();
+
+            @Override
+            public void run() {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        };
+        try {
+            HttpResponse<InputStream> response = getClient(connectTimeout).send(request, HttpResponse.BodyHandlers.ofInputStream());
+            return Response.of(request, response, releasePermit);
+        } catch (InterruptedException e) {
+            releasePermit.run();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while requesting " + request.uri());
+        } catch (IOException | RuntimeException e) {
+            releasePermit.run();
+            throw e;
+        }
+    }
+
+    /**
+     * The connect timeout can only be configured per client. Thus, there is one client per timeout used. Usually, this
+     * is only the default one.
+     */
+    private HttpClient getClient(Duration connectTimeout) {
+        return clients.computeIfAbsent(connectTimeout, timeout -> {
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                                                   .version(HttpClient.Version.HTTP_2)
+                                                   // Redirects from https to http were followed by URLDownload before as well
+                                                   .followRedirects(HttpClient.Redirect.ALWAYS)
+                                                   .connectTimeout(timeout)
+                                                   .authenticator(new DefaultAuthenticator())
+                                                   .cookieHandler(new DefaultCookieHandler());
+            // The default selector considers the proxy settings registered by ProxyRegisterer at the time of each request
+            Optional.ofNullable(ProxySelector.getDefault()).ifPresent(builder::proxy);
+            return builder.build();
+        });
+    }
+
+    /**
+     * Delegates to the authenticator registered at the time of the request, as the proxy settings may change while
+     * JabRef is running.
+     */
+    private static class DefaultAuthenticator extends Authenticator {
+        @Override
+        protected PasswordAuthentication getPasswordAuthentication() {
+            Authenticator authenticator = Authenticator.getDefault();
+            if ((authenticator == null) || (authenticator == this)) {
+                return null;
+            }
+            return authenticator.requestPasswordAuthenticationInstance(getRequestingHost(), getRequestingSite(),
+                    getRequestingPort(), getRequestingProtocol(), getRequestingPrompt(), getRequestingScheme(),
+                    getRequestingURL(), getRequestorType());
+        }
+    }
+
+    /**
+     * Delegates to the cookie handler registered at the time of the request, as some fetchers register one to keep
+     * their session, see {@link URLDownload#getCookieFromUrl()}.
+     */
+    private static class DefaultCookieHandler extends CookieHandler {
+        @Override
+        public Map<String, List<String>> get(URI uri, Map<String, List<String>> requestHeaders) throws IOException {
+            CookieHandler cookieHandler = CookieHandler.getDefault();
+            if ((cookieHandler == null) || (cookieHandler == this)) {
+                return Collections.emptyMap();
+            }
+            return cookieHandler.get(uri, requestHeaders);
+        }
+
+        @Override
+        public void put(URI uri, Map<String, List<String>> responseHeaders) throws IOException {
+            CookieHandler cookieHandler = CookieHandler.getDefault();
+            if ((cookieHandler != null) && (cookieHandler != this)) {
+                cookieHandler.put(uri, responseHeaders);
+            }
+        }
+    }
+
+    /**
+     * A response to a request. The body has to be closed, or read completely, so that further requests to the same host
+     * can be sent.
+     */
+    public static class Response implements Closeable {
+        private final URI uri;
+        private final int statusCode;
+        private final Map<String, String> headers;
+        private final InputStream body;
+        private final long contentLength;
+
+        private Response(URI uri, int statusCode, Map<String, String> headers, InputStream body, long contentLength) {
+            this.uri = uri;
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+            this.contentLength = contentLength;
+        }
+
+        private static Response of(HttpRequest request, HttpResponse<InputStream> response, Runnable releasePermit) throws IOException {
+            Map<String, String> headers = new ConcurrentHashMap<>();
+            response.headers().map().forEach((name, values) -> {
+                if (!values.isEmpty()) {
+                    headers.put(name.toLowerCase(Locale.ROOT), values.get(0));
+                }
+            });
+
+            InputStream body = new PermitReleasingInputStream(response.body(), releasePermit);
+            long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+            if ("gzip".equalsIgnoreCase(headers.get("content-encoding")) && mayHaveBody(request, response.statusCode())) {
+                // GZIPInputStream reads the header at once, which fails for an empty body
+                PushbackInputStream probedBody = new PushbackInputStream(body, 1);
+                int firstByte = probedBody.read();
+                if (firstByte >= 0) {
+                    probedBody.unread(firstByte);
+                    body = new GZIPInputStream(probedBody);
+                    // the length of the decoded content is unknown
+                    contentLength = -1;
+                } else {
+                    body = probedBody;
+                }
+            }
+            return new Response(response.uri(), response.statusCode(), headers, body, contentLength);
+        }
+
+        private static boolean mayHaveBody(HttpRequest request, int statusCode) {
+            return !"HEAD".equals(request.method()) && (statusCode >= 200) && (statusCode != 204) && (statusCode != 304);
+        }
+
+        private static Response of(URI uri, CachedResponse cachedResponse) {
+            Map<String, String> headers = new ConcurrentHashMap<>();
+            cachedResponse.getContentType().ifPresent(contentType -> headers.put("content-type", contentType));
+            return new Response(uri, 200, headers, new ByteArrayInputStream(cachedResponse.getBody()), cachedResponse.getBody().length);
+        }
+
+        /**
+         * Returns the URI of the response, which differs from the requested one if the request was redirected.
+         */
+        public URI getUri() {
+            return uri;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public Optional<String> getHeader(String name) {
+            return Optional.ofNullable(headers.get(name.toLowerCase(Locale.ROOT)));
+        }
+
+        /**
+         * Returns the (decoded) body. The caller is responsible for closing it.
+         */
+        public InputStream getBody() {
+            return body;
+        }
+
+        /**
+         * Returns the length of the body, or -1 if it is unknown.
+         */
+        public long getContentLength() {
+            return contentLength;
+        }
+
+        /**
+         * Closes the body without reading the rest of it
+         */
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+    }
+
+    /**
+     * Releases the permit for a request to the host once the body was read completely or closed
+     */
+    private static class PermitReleasingInputStream extends FilterInputStream {
+        private final Runnable releasePermit;
+
+        PermitReleasingInputStream(InputStream body, Runnable releasePermit) {
+            super(body);
+            this.releasePermit = releasePermit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value < 0) {
+                releasePermit.run();
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count < 0) {
+                releasePermit.run();
+            }
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                releasePermit.run();
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -16,6 +17,7 @@ import java.net.CookiePolicy;
 import java.net.HttpCookie;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
@@ -32,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -59,7 +62,8 @@ import org.slf4j.LoggerFactory;
  * String contentType = dl.getMimeType();
  * </code>
  *
- * Each call to a public method creates a new HTTP connection. Nothing is cached.
+ * HTTP(S) requests are sent through the {@link SharedHttpClient}, which reuses connections across requests. Responses
+ * to GET requests are only cached if {@link #setUseResponseCache(boolean) enabled}.
  */
 public class URLDownload {
 
@@ -71,6 +75,10 @@ public class URLDownload {
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
     private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private boolean useResponseCache;
+
+    // The shared client does not use the SSL settings of HttpsURLConnection, thus we fall back to plain connections while these are changed
+    private static volatile boolean sslVerificationBypassed;
 
     /**
      * @param source the URL to download from
@@ -128,6 +136,7 @@ public class URLDownload {
             // Install all-trusting host verifier
             HostnameVerifier allHostsValid = (hostname, session) -> true;
             HttpsURLConnection.setDefaultHostnameVerifier(allHostsValid);
+            sslVerificationBypassed = true;
         } catch (Exception e) {
             LOGGER.error("A problem occurred when bypassing SSL verification", e);
         }
@@ -142,6 +151,7 @@ public class URLDownload {
         try {
             HttpsURLConnection.setDefaultSSLSocketFactory(socketFactory);
             HttpsURLConnection.setDefaultHostnameVerifier(verifier);
+            sslVerificationBypassed = false;
         } catch (Exception e) {
             LOGGER.error("A problem occurred when reset SSL verification", e);
         }
@@ -227,6 +237,14 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Sets whether the response to a GET request may be served from and stored in the {@link HttpResponseCache} of
+     * the {@link SharedHttpClient}. This should only be enabled for metadata requests and not for file downloads.
+     */
+    public void setUseResponseCache(boolean useResponseCache) {
+        this.useResponseCache = useResponseCache;
+    }
+
     /**
      * Downloads the web resource to a String.
      *
@@ -234,7 +252,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws IOException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream());
+        try (InputStream input = new BufferedInputStream(this.openInputStream());
              Writer output = new StringWriter()) {
             copy(input, output, encoding);
             return output.toString();
@@ -272,7 +290,7 @@ public class URLDownload {
      * @param destination the destination file path.
      */
     public void toFile(Path destination) throws IOException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream())) {
+        try (InputStream input = new BufferedInputStream(this.openInputStream())) {
             Files.copy(input, destination, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             LOGGER.warn("Could not copy input", e);
@@ -284,6 +302,17 @@ public class URLDownload {
      * Takes the web resource as the source for a monitored input stream.
      */
     public ProgressInputStream asInputStream() throws IOException {
+        Optional<URI> uri = getHttpUri();
+        if (uri.isPresent()) {
+            SharedHttpClient.Response response = sendHttpRequest(uri.get());
+            if ((response.getStatusCode() == HttpURLConnection.HTTP_NOT_FOUND) || (response.getStatusCode() == HttpURLConnection.HTTP_BAD_REQUEST)) {
+                LOGGER.error("Response code {} returned for url {}", response.getStatusCode(), response.getUri());
+                response.getBody().close();
+                return new ProgressInputStream(new ByteArrayInputStream(new byte[0]), 0);
+            }
+            return new ProgressInputStream(new BufferedInputStream(getBody(response)), response.getContentLength());
+        }
+
         HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
 
         if ((urlConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) || (urlConnection.getResponseCode() == HttpURLConnection.HTTP_BAD_REQUEST)) {
@@ -333,6 +362,55 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Returns the URI of the source if it is requested through the {@link SharedHttpClient}.
+     */
+    private Optional<URI> getHttpUri() {
+        String protocol = source.getProtocol();
+        if (sslVerificationBypassed || !("http".equalsIgnoreCase(protocol) || "https".equalsIgnoreCase(protocol))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(source.toURI());
+        } catch (URISyntaxException e) {
+            // URLs are less strict than URIs, e.g., regarding spaces
+            return Optional.empty();
+        }
+    }
+
+    private SharedHttpClient.Response sendHttpRequest(URI uri) throws IOException {
+        SharedHttpClient client = SharedHttpClient.getInstance();
+        if (postData.isEmpty()) {
+            return client.get(uri, parameters, connectTimeout, useResponseCache);
+        } else {
+            return client.post(uri, parameters, postData, connectTimeout);
+        }
+    }
+
+    /**
+     * Returns the body of the given response, or throws an exception for error responses the same way as {@link
+     * URLConnection#getInputStream()} does.
+     */
+    private static InputStream getBody(SharedHttpClient.Response response) throws IOException {
+        int status = response.getStatusCode();
+        if (status >= HttpURLConnection.HTTP_BAD_REQUEST) {
+            response.getBody().close();
+            if ((status == HttpURLConnection.HTTP_NOT_FOUND) || (status == HttpURLConnection.HTTP_GONE)) {
+                throw new FileNotFoundException(response.getUri().toString());
+            }
+            throw new IOException("Server returned HTTP response code: " + status + " for URL: " + response.getUri());
+        }
+        return response.getBody();
+    }
+
+    private InputStream openInputStream() throws IOException {
+        Optional<URI> uri = getHttpUri();
+        if (uri.isPresent()) {
+            return getBody(sendHttpRequest(uri.get()));
+        }
+        return this.openConnection().getInputStream();
+    }
+
     private URLConnection openConnection() throws IOException {
         URLConnection connection = this.source.openConnection();
         connection.setConnectTimeout((int) connectTimeout.toMillis());
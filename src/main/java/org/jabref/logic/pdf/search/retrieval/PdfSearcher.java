@@ -1,44 +1,97 @@
 package org.jabref.logic.pdf.search.retrieval;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.jabref.gui.LibraryTab;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.pdf.search.EnglishStemAnalyzer;
 import org.jabref.model.pdf.search.PdfSearchResults;
 import org.jabref.model.pdf.search.SearchResult;
 import org.jabref.model.strings.StringUtil;
 
 import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.NIOFSDirectory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.jabref.model.pdf.search.SearchFieldConstants.PATH;
 import static org.jabref.model.pdf.search.SearchFieldConstants.PDF_FIELDS;
 
+/**
+ * Searches the Lucene search index of a library.
+ * <p>
+ * There is one searcher per index, which is shared by all searches in the library. It keeps the index open and only
+ * reopens it if documents were added to or removed from the index since the last search.
+ */
 public final class PdfSearcher {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfSearcher.class);
+
+    private static final Map<Path, PdfSearcher> SEARCHERS = new ConcurrentHashMap<>();
 
     private final Directory indexDirectory;
 
+    // Created on the first search, as there might be no index before
+    private SearcherManager searcherManager;
+
     private PdfSearcher(Directory indexDirectory) {
         this.indexDirectory = indexDirectory;
     }
 
+    /**
+     * Returns the searcher for the search index of the given library
+     */
     public static PdfSearcher of(BibDatabaseContext databaseContext) throws IOException {
-        return new PdfSearcher(new NIOFSDirectory(databaseContext.getFulltextIndexPath()));
+        Path indexPath = databaseContext.getFulltextIndexPath();
+        PdfSearcher searcher = SEARCHERS.get(indexPath);
+        if (searcher == null) {
+            searcher = new PdfSearcher(new NIOFSDirectory(indexPath));
+            PdfSearcher existingSearcher = SEARCHERS.putIfAbsent(indexPath, searcher);
+            if (existingSearcher != null) {
+                searcher.close();
+                searcher = existingSearcher;
+            }
+        }
+        return searcher;
+    }
+
+    /**
+     * Closes the searcher of the given library, if there is one. This should be called when the library is closed.
+     */
+    public static void shutdown(BibDatabaseContext databaseContext) {
+        PdfSearcher searcher = SEARCHERS.remove(databaseContext.getFulltextIndexPath());
+        if (searcher != null) {
+            searcher.close();
+        }
     }
 
     /**
@@ -57,20 +110,166 @@ public final class PdfSearcher {
             throw new IllegalArgumentException("Must be called with at least 1 maxHits, was" + maxHits);
         }
 
+        Optional<Query> query = parseQuery(searchString);
+        if (query.isEmpty()) {
+            return new PdfSearchResults();
+        }
+        return search(query.get(), maxHits);
+    }
+
+    /**
+     * Search for results in the files linked to the given entry. In contrast to {@link #search(String, int)}, all
+     * matching pages of the files are returned.
+     *
+     * @param searchString a pattern to search for in the index, must not be null
+     * @return a result set of all documents of the linked files that have matches in any fields
+     */
+    public PdfSearchResults search(final String searchString, final BibEntry entry) throws IOException {
+        if (StringUtil.isBlank(Objects.requireNonNull(searchString, "The search string was null!"))) {
+            return new PdfSearchResults();
+        }
+
+        List<LinkedFile> linkedFiles = entry.getFiles();
+        Optional<Query> query = parseQuery(searchString);
+        if (query.isEmpty() || linkedFiles.isEmpty()) {
+            return new PdfSearchResults();
+        }
+
+        BooleanQuery.Builder filesQuery = new BooleanQuery.Builder();
+        for (LinkedFile linkedFile : linkedFiles) {
+            filesQuery.add(new TermQuery(new Term(PATH, linkedFile.getLink())), BooleanClause.Occur.SHOULD);
+        }
+        Query entryQuery = new BooleanQuery.Builder()
+                .add(query.get(), BooleanClause.Occur.MUST)
+                .add(filesQuery.build(), BooleanClause.Occur.FILTER)
+                .build();
+        return search(entryQuery, 0);
+    }
+
+    /**
+     * Search for all documents matching a query in the Lucene search index. In contrast to
+     * {@link #search(String, int)}, no highlighted text is created for the results, so that this is suitable to decide
+     * which entries match.
+     *
+     * @param searchString a pattern to search for in the index, must not be null
+     * @return the best score of all documents of a file, by the path of the file as it is linked in the entries
+     */
+    public Map<String, Float> searchScoresByPath(final String searchString) throws IOException {
+        if (StringUtil.isBlank(Objects.requireNonNull(searchString, "The search string was null!"))) {
+            return Collections.emptyMap();
+        }
+
+        Optional<Query> query = parseQuery(searchString);
+        Optional<SearcherManager> manager = getSearcherManager();
+        if (query.isEmpty() || manager.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        IndexSearcher searcher = manager.get().acquire();
         try {
-            List<SearchResult> resultDocs = new LinkedList<>();
+            ScoresByPathCollector collector = new ScoresByPathCollector();
+            searcher.search(query.get(), collector);
+            return Collections.unmodifiableMap(collector.scoresByPath);
+        } finally {
+            manager.get().release(searcher);
+        }
+    }
 
-            IndexReader reader = DirectoryReader.open(indexDirectory);
-            IndexSearcher searcher = new IndexSearcher(reader);
-            Query query = new MultiFieldQueryParser(PDF_FIELDS, new EnglishStemAnalyzer()).parse(searchString);
-            TopDocs results = searcher.search(query, maxHits);
+    /**
+     * @param maxHits the maximum number of results, or 0 to return all results
+     */
+    private PdfSearchResults search(Query query, int maxHits) throws IOException {
+        Optional<SearcherManager> manager = getSearcherManager();
+        if (manager.isEmpty()) {
+            return new PdfSearchResults();
+        }
+
+        IndexSearcher searcher = manager.get().acquire();
+        try {
+            int numHits = maxHits > 0 ? maxHits : searcher.count(query);
+            if (numHits == 0) {
+                return new PdfSearchResults();
+            }
+
+            List<SearchResult> resultDocs = new LinkedList<>();
+            TopDocs results = searcher.search(query, numHits);
             for (ScoreDoc scoreDoc : results.scoreDocs) {
                 resultDocs.add(new SearchResult(searcher, query, scoreDoc));
             }
             return new PdfSearchResults(resultDocs);
+        } finally {
+            manager.get().release(searcher);
+        }
+    }
+
+    private Optional<Query> parseQuery(String searchString) {
+        try {
+            return Optional.of(new MultiFieldQueryParser(PDF_FIELDS, new EnglishStemAnalyzer()).parse(searchString));
         } catch (ParseException e) {
             LOGGER.warn("Could not parse query: '" + searchString + "'! \n" + e.getMessage());
-            return new PdfSearchResults();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the searcher manager, refreshed to the latest state of the index, or nothing if there is no index yet
+     */
+    private synchronized Optional<SearcherManager> getSearcherManager() throws IOException {
+        if (searcherManager == null) {
+            if (!DirectoryReader.indexExists(indexDirectory)) {
+                return Optional.empty();
+            }
+            searcherManager = new SearcherManager(indexDirectory, null);
+        } else {
+            searcherManager.maybeRefresh();
+        }
+        return Optional.of(searcherManager);
+    }
+
+    private synchronized void close() {
+        try {
+            if (searcherManager != null) {
+                searcherManager.close();
+                searcherManager = null;
+            }
+            indexDirectory.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not close the search index", e);
+        }
+    }
+
+    /**
+     * Collects the best score of the documents of each file
+     */
+    private static class ScoresByPathCollector extends SimpleCollector {
+
+        private static final Set<String> FIELDS_TO_LOAD = Set.of(PATH);
+
+        private final Map<String, Float> scoresByPath = new HashMap<>();
+        private LeafReader reader;
+        private Scorable scorer;
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) {
+            reader = context.reader();
+        }
+
+        @Override
+        public void setScorer(Scorable scorer) {
+            this.scorer = scorer;
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            IndexableField path = reader.document(doc, FIELDS_TO_LOAD).getField(PATH);
+            if (path != null) {
+                scoresByPath.merge(path.stringValue(), scorer.score(), Math::max);
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE;
         }
     }
 }
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.l10n.Localization;
 
@@ -25,6 +26,10 @@ public class ProtectedTermsLoader {
 
     private final List<ProtectedTermsList> mainList = new ArrayList<>();
 
+    // the matcher of the enabled terms and the state of the lists it was built from
+    private ProtectedTermsMatcher matcher;
+    private List<ListState> matcherState = List.of();
+
     static {
         INTERNAL_LISTS.put("/protectedterms/months_weekdays.terms", () -> Localization.lang("Months and weekdays in English"));
         INTERNAL_LISTS.put("/protectedterms/countries_territories.terms", () -> Localization.lang("Countries and territories in English"));
@@ -121,6 +126,19 @@ public class ProtectedTermsLoader {
         return new ArrayList<>(result);
     }
 
+    /**
+     * Returns a matcher for the terms of all enabled lists. The matcher is only rebuilt if a list was added, removed,
+     * enabled, disabled or got new terms since the last call.
+     */
+    public synchronized ProtectedTermsMatcher getProtectedTermsMatcher() {
+        List<ListState> state = mainList.stream().map(ListState::new).collect(Collectors.toList());
+        if ((matcher == null) || !state.equals(matcherState)) {
+            matcher = new ProtectedTermsMatcher(getProtectedTerms());
+            matcherState = state;
+        }
+        return matcher;
+    }
+
     public void addProtectedTermsListFromFile(String fileName, boolean enabled) {
         try {
             mainList.add(readProtectedTermsListFromFile(new File(fileName), enabled));
@@ -161,4 +179,34 @@ public class ProtectedTermsLoader {
     public ProtectedTermsList addNewProtectedTermsList(String newDescription, String newLocation) {
         return addNewProtectedTermsList(newDescription, newLocation, true);
     }
+
+    private static class ListState {
+        private final ProtectedTermsList list;
+        private final boolean enabled;
+        private final int size;
+
+        ListState(ProtectedTermsList list) {
+            this.list = list;
+            this.enabled = list.isEnabled();
+            this.size = list.getTermList().size();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ListState)) {
+                return false;
+            }
+            ListState other = (ListState) o;
+            // identity, as a reloaded list equals the list it replaces
+            return (list == other.list) && (enabled == other.enabled) && (size == other.size);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(list), enabled, size);
+        }
+    }
 }
@@ -0,0 +1,213 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Encloses all protected terms of a text in braces in a single pass over the text.
+ * <p>
+ * The terms are compiled into an Aho–Corasick automaton, thus the time needed for finding the terms of a text does not
+ * depend on the number of terms. A term is only protected if it
+ * <ul>
+ *     <li>is at the start of the text or follows one of the characters <code>- /[(}"</code>, and</li>
+ *     <li>is at the end of the text or is followed by a character which is neither an ASCII letter nor <code>}</code>.</li>
+ * </ul>
+ * Terms are matched literally.
+ * <p>
+ * The terms are protected one after the other, longest first, as the braces of a protected term change whether the
+ * terms around it are protected. For example, with the terms "A B" and "B C D", the text "A B C D" becomes
+ * <code>A {B C D}</code>, and with the terms "A B C" and "B", the text "A B C" becomes <code>{A {B} C}</code>. As this
+ * only matters if occurrences of terms overlap or touch each other, the occurrences are protected in a single pass
+ * otherwise.
+ */
+public class ProtectedTermsMatcher {
+
+    private static final String CHARACTERS_BEFORE_TERM = "- /[(}\"";
+
+    private final Node root = new Node();
+    private final boolean empty;
+    // inserting braces may create occurrences of these terms, thus they are always protected one after the other
+    private final List<Node> termsWithBraces = new ArrayList<>();
+
+    public ProtectedTermsMatcher(Collection<String> terms) {
+        int termIndex = 0;
+        for (String term : terms) {
+            if (!term.isEmpty()) {
+                add(term, termIndex++);
+            }
+        }
+        empty = termIndex == 0;
+        computeFailureLinks();
+    }
+
+    /**
+     * Encloses the protected terms of the given text in braces
+     */
+    public String protect(String text) {
+        if (empty || text.isEmpty()) {
+            return text;
+        }
+
+        // the length of the longest term to be protected, by start position
+        int[] termLengths = null;
+        Set<Node> occurringTerms = null;
+        int lastOccurrenceEnd = -1;
+        boolean occurrencesTouch = false;
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while ((state != root) && !state.children.containsKey(c)) {
+                state = state.failure;
+            }
+            state = state.children.getOrDefault(c, root);
+
+            int end = i + 1;
+            for (Node match = state.term != null ? state : state.output; match != null; match = match.output) {
+                int start = end - match.term.length();
+                // occurrences are found ordered by their end
+                occurrencesTouch |= start <= lastOccurrenceEnd;
+                lastOccurrenceEnd = end;
+                if (occurringTerms == null) {
+                    occurringTerms = new LinkedHashSet<>();
+                }
+                occurringTerms.add(match);
+                if (isTermStart(text, start) && isTermEnd(text, end)) {
+                    if (termLengths == null) {
+                        termLengths = new int[text.length()];
+                    }
+                    termLengths[start] = match.term.length();
+                }
+            }
+        }
+
+        if (occurringTerms == null) {
+            return text;
+        }
+        if (occurrencesTouch || !termsWithBraces.isEmpty()) {
+            occurringTerms.addAll(termsWithBraces);
+            return protectOneAfterTheOther(text, occurringTerms);
+        }
+        if (termLengths == null) {
+            return text;
+        }
+
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        int i = 0;
+        while (i < text.length()) {
+            if (termLengths[i] > 0) {
+                result.append('{').append(text, i, i + termLengths[i]).append('}');
+                i += termLengths[i];
+            } else {
+                result.append(text.charAt(i));
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    private static String protectOneAfterTheOther(String text, Collection<Node> terms) {
+        List<Node> sortedTerms = new ArrayList<>(terms);
+        sortedTerms.sort(Comparator.comparingInt((Node node) -> node.term.length()).reversed()
+                                   .thenComparingInt(node -> node.termIndex));
+        String result = text;
+        for (Node term : sortedTerms) {
+            result = protect(result, term.term);
+        }
+        return result;
+    }
+
+    private static String protect(String text, String term) {
+        StringBuilder result = null;
+        int copied = 0;
+        int start = text.indexOf(term);
+        while (start >= 0) {
+            int end = start + term.length();
+            if (isTermStart(text, start) && isTermEnd(text, end)) {
+                if (result == null) {
+                    result = new StringBuilder(text.length() + 16);
+                }
+                result.append(text, copied, start).append('{').append(term).append('}');
+                copied = end;
+                start = text.indexOf(term, end);
+            } else {
+                start = text.indexOf(term, start + 1);
+            }
+        }
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copied, text.length()).toString();
+    }
+
+    private static boolean isTermStart(String text, int start) {
+        return (start == 0) || (CHARACTERS_BEFORE_TERM.indexOf(text.charAt(start - 1)) >= 0);
+    }
+
+    private static boolean isTermEnd(String text, int end) {
+        if (end == text.length()) {
+            return true;
+        }
+        char next = text.charAt(end);
+        return !(((next >= 'a') && (next <= 'z')) || ((next >= 'A') && (next <= 'Z')) || (next == '}'));
+    }
+
+    private void add(String term, int termIndex) {
+        Node node = root;
+        for (int i = 0; i < term.length(); i++) {
+            node = node.children.computeIfAbsent(term.charAt(i), c -> new Node());
+        }
+        if (node.term != null) {
+            return;
+        }
+        node.term = term;
+        node.termIndex = termIndex;
+        if ((term.indexOf('{') >= 0) || (term.indexOf('}') >= 0)) {
+            termsWithBraces.add(node);
+        }
+    }
+
+    /**
+     * Links each node to the node of its longest proper suffix (failure link) and to the node of its longest proper
+     * suffix which is a term (output link), in breadth-first order
+     */
+    private void computeFailureLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (Map.Entry<Character, Node> transition : node.children.entrySet()) {
+                char c = transition.getKey();
+                Node child = transition.getValue();
+
+                Node failure = node.failure;
+                while ((failure != root) && !failure.children.containsKey(c)) {
+                    failure = failure.failure;
+                }
+                child.failure = failure.children.getOrDefault(c, root);
+                child.output = child.failure.term != null ? child.failure : child.failure.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node failure;
+        private Node output;
+        // the term ending at this node, null if no term ends here
+        private String term;
+        // position of the term in the list of terms, which orders terms of the same length
+        private int termIndex;
+    }
+}
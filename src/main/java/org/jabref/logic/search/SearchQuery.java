@@ -3,6 +3,7 @@ package org.jabref.logic.search;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Pattern;
@@ -17,6 +18,7 @@ import org.jabref.model.search.rules.GrammarBasedSearchRule;
 import org.jabref.model.search.rules.SearchRule;
 import org.jabref.model.search.rules.SearchRules;
 import org.jabref.model.search.rules.SentenceAnalyzer;
+import org.jabref.search.SearchParser;
 
 public class SearchQuery implements SearchMatcher {
 
@@ -133,6 +135,48 @@ public class SearchQuery implements SearchMatcher {
         return rule instanceof GrammarBasedSearchRule;
     }
 
+    /**
+     * Tests whether this query matches only entries that are also matched by the given query, so that only the entries
+     * matched by that query need to be searched again. This is the case if this query extends the given query while
+     * typing, i.e., if words are extended or added, or if an "and" clause is added to an advanced search query.
+     */
+    public boolean isRefinementOf(SearchQuery previousQuery) {
+        // The full text search of the changed query may find other files
+        if (!searchFlags.equals(previousQuery.searchFlags) || searchFlags.contains(SearchRules.SearchFlags.FULLTEXT)) {
+            return false;
+        }
+
+        if (isContainsBasedSearch() && previousQuery.isContainsBasedSearch()) {
+            // An entry matches if every word is contained in one of its fields, hence all words of the previous query
+            // have to be contained in a word of this query
+            List<String> words = getContainedWords();
+            return previousQuery.getContainedWords().stream()
+                                .allMatch(previousWord -> words.stream().anyMatch(word -> word.contains(previousWord)));
+        }
+
+        if (isGrammarBasedSearch() && previousQuery.isGrammarBasedSearch() && isValid() && previousQuery.isValid()) {
+            // "and" and "or" have the same precedence and are left-associative, so an added "and" clause is the root
+            SearchParser.ExpressionContext expression = ((SearchParser.StartContext) ((GrammarBasedSearchRule) rule).getTree()).expression();
+            if (!(expression instanceof SearchParser.BinaryExpressionContext)) {
+                return false;
+            }
+            SearchParser.BinaryExpressionContext binaryExpression = (SearchParser.BinaryExpressionContext) expression;
+            String leftExpression = query.substring(binaryExpression.left.getStart().getStartIndex(), binaryExpression.left.getStop().getStopIndex() + 1);
+            return "AND".equalsIgnoreCase(binaryExpression.operator.getText())
+                    && leftExpression.trim().equals(previousQuery.getQuery().trim());
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the words of a contains based search in the form they are searched for in the fields
+     */
+    private List<String> getContainedWords() {
+        String searchString = searchFlags.contains(SearchRules.SearchFlags.CASE_SENSITIVE) ? query : query.toLowerCase(Locale.ROOT);
+        return new SentenceAnalyzer(searchString).getWords();
+    }
+
     public String getQuery() {
         return query;
     }
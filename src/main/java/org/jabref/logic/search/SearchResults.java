@@ -0,0 +1,84 @@
+package org.jabref.logic.search;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * The entries of a library matched by a search query.
+ * <p>
+ * While typing, every query usually refines the previous one. Then, only the entries matched by the previous query are
+ * searched again, see {@link SearchQuery#isRefinementOf(SearchQuery)}. Entries that changed since they were searched
+ * are always searched again.
+ */
+public class SearchResults {
+
+    // The derived value of an entry that is replaced whenever the entry changes
+    private static final Object ENTRY_VERSION = new Object();
+
+    private final SearchQuery query;
+
+    // The entries with the version they were searched in, compared by identity, as entries are compared by their content
+    private final Map<BibEntry, Object> matchedEntries = new IdentityHashMap<>();
+    private final Map<BibEntry, Object> unmatchedEntries = new IdentityHashMap<>();
+
+    private SearchResults(SearchQuery query) {
+        this.query = Objects.requireNonNull(query);
+    }
+
+    /**
+     * Searches the given entries.
+     *
+     * @param previousResults the results of the query searched before, which are reused if the query refines it
+     * @param isCanceled      checked before each entry is searched
+     * @return the results, or nothing if the search was canceled
+     */
+    public static Optional<SearchResults> search(SearchQuery query, List<BibEntry> entries, Optional<SearchResults> previousResults, BooleanSupplier isCanceled) {
+        Optional<SearchResults> refinedResults = previousResults.filter(previous -> query.isRefinementOf(previous.query));
+
+        SearchResults results = new SearchResults(query);
+        for (BibEntry entry : entries) {
+            if (isCanceled.getAsBoolean()) {
+                return Optional.empty();
+            }
+
+            // The version has to be determined before the entry is searched, so that a concurrent change is noticed
+            Object version = getVersion(entry);
+            boolean unmatchedBefore = refinedResults.isPresent() && (refinedResults.get().unmatchedEntries.get(entry) == version);
+            if (!unmatchedBefore && query.isMatch(entry)) {
+                results.matchedEntries.put(entry, version);
+            } else {
+                results.unmatchedEntries.put(entry, version);
+            }
+        }
+        return Optional.of(results);
+    }
+
+    private static Object getVersion(BibEntry entry) {
+        return entry.getDerivedValue(ENTRY_VERSION, changedEntry -> new Object());
+    }
+
+    /**
+     * Tests whether the given entry is matched by the query. Entries that were added or changed since the search are
+     * searched again.
+     */
+    public boolean isMatch(BibEntry entry) {
+        Object version = getVersion(entry);
+        if (matchedEntries.get(entry) == version) {
+            return true;
+        }
+        if (unmatchedEntries.get(entry) == version) {
+            return false;
+        }
+        return query.isMatch(entry);
+    }
+
+    public SearchQuery getQuery() {
+        return query;
+    }
+}
@@ -12,12 +12,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import org.jabref.model.texparser.Citation;
 import org.jabref.model.texparser.LatexParserResult;
 
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,7 +68,9 @@ public class DefaultLatexParser implements LatexParser {
 
     @Override
     public LatexParserResult parse(String citeString) {
-        matchCitation(Path.of(""), 1, citeString);
+        FileScan scan = new FileScan(Path.of(""));
+        scan.matchCitation(1, citeString);
+        addToResult(scan);
         return latexParserResult;
     }
 
@@ -70,100 +79,168 @@ public class DefaultLatexParser implements LatexParser {
         return parse(Collections.singletonList(latexFile));
     }
 
+    /**
+     * Parses the given files in parallel. Afterwards, the files referenced by them are parsed, recursively. Each file
+     * is parsed only once, even if it is referenced several times.
+     */
     @Override
     public LatexParserResult parse(List<Path> latexFiles) {
         latexParserResult.addFiles(latexFiles);
-        List<Path> referencedFiles = new ArrayList<>();
-
-        for (Path file : latexFiles) {
-            if (!file.toFile().exists()) {
-                LOGGER.error(String.format("File does not exist: %s", file));
-                continue;
-            }
 
-            try (
-                    InputStream inputStream = Files.newInputStream(file);
-                    Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-                    LineNumberReader lineNumberReader = new LineNumberReader(reader)) {
-                for (String line = lineNumberReader.readLine(); line != null; line = lineNumberReader.readLine()) {
-                    // Skip comments and blank lines.
-                    if (line.trim().isEmpty() || line.trim().charAt(0) == '%') {
-                        continue;
-                    }
-                    matchCitation(file, lineNumberReader.getLineNumber(), line);
-                    matchBibFile(file, line);
-                    matchNestedFile(file, latexFiles, referencedFiles, line);
-                }
-            } catch (ClosedChannelException e) {
-                // User changed the underlying LaTeX file
-                // We ignore this error and just continue with parsing
-                LOGGER.info("Parsing has been interrupted");
-            } catch (IOException | UncheckedIOException e) {
-                // Some weired error during reading
-                // We ignore this error and just continue with parsing
-                LOGGER.info("Error while parsing file {}", file, e);
-            }
+        // The results are collected in the order of the files, so that the result does not depend on the scheduling
+        List<FileScan> scans = latexFiles.parallelStream()
+                                         .map(DefaultLatexParser::scan)
+                                         .collect(Collectors.toList());
+
+        Set<Path> parsedFiles = new HashSet<>(latexParserResult.getFileList());
+        parsedFiles.addAll(latexParserResult.getNestedFiles());
+        Set<Path> referencedFiles = new LinkedHashSet<>();
+        for (FileScan scan : scans) {
+            addToResult(scan);
+            scan.getNestedFiles().stream()
+                .filter(nestedFile -> !parsedFiles.contains(nestedFile))
+                .forEach(referencedFiles::add);
         }
 
         // Parse all files referenced by TEX files, recursively.
         if (!referencedFiles.isEmpty()) {
             // modifies class variable latexParserResult
-            parse(referencedFiles);
+            parse(new ArrayList<>(referencedFiles));
         }
 
         return latexParserResult;
     }
 
+    private void addToResult(FileScan scan) {
+        scan.getCitations().forEach((key, citation) -> latexParserResult.addKey(key, citation.getPath(), citation.getLine(),
+                citation.getColStart(), citation.getColEnd(), citation.getLineText()));
+        scan.getBibFiles().forEach(bibFile -> latexParserResult.addBibFile(scan.getFile(), bibFile));
+    }
+
     /**
-     * Find cites along a specific line and store them.
+     * Finds the citations, bibliographies and nested files of a single file. Does not depend on the state of a parser,
+     * so that several files can be scanned in parallel.
      */
-    private void matchCitation(Path file, int lineNumber, String line) {
-        Matcher citeMatch = CITE_PATTERN.matcher(line);
+    static FileScan scan(Path file) {
+        FileScan scan = new FileScan(file);
+        if (!Files.isRegularFile(file)) {
+            LOGGER.error(String.format("File does not exist: %s", file));
+            return scan;
+        }
 
-        while (citeMatch.find()) {
-            for (String key : citeMatch.group(CITE_GROUP).split(",")) {
-                latexParserResult.addKey(key.trim(), file, lineNumber, citeMatch.start(), citeMatch.end(), line);
+        try (
+                InputStream inputStream = Files.newInputStream(file);
+                Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+                LineNumberReader lineNumberReader = new LineNumberReader(reader)) {
+            for (String line = lineNumberReader.readLine(); line != null; line = lineNumberReader.readLine()) {
+                // Skip comments and blank lines.
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.charAt(0) == '%') {
+                    continue;
+                }
+                // All patterns match commands only
+                if (line.indexOf('\\') < 0) {
+                    continue;
+                }
+                scan.matchCitation(lineNumberReader.getLineNumber(), line);
+                scan.matchBibFile(line);
+                scan.matchNestedFile(line);
             }
+        } catch (ClosedChannelException e) {
+            // User changed the underlying LaTeX file
+            // We ignore this error and just continue with parsing
+            LOGGER.info("Parsing has been interrupted");
+        } catch (IOException | UncheckedIOException e) {
+            // Some weired error during reading
+            // We ignore this error and just continue with parsing
+            LOGGER.info("Error while parsing file {}", file, e);
         }
+        return scan;
     }
 
     /**
-     * Find BIB files along a specific line and store them.
+     * The citations, bibliographies and nested files found in a single file
      */
-    private void matchBibFile(Path file, String line) {
-        Matcher bibliographyMatch = BIBLIOGRAPHY_PATTERN.matcher(line);
-
-        while (bibliographyMatch.find()) {
-            for (String bibString : bibliographyMatch.group(BIBLIOGRAPHY_GROUP).split(",")) {
-                bibString = bibString.trim();
-                Path bibFile = file.getParent().resolve(
-                        bibString.endsWith(BIB_EXT)
-                                ? bibString
-                                : String.format("%s%s", bibString, BIB_EXT));
-
-                if (bibFile.toFile().exists()) {
-                    latexParserResult.addBibFile(file, bibFile);
+    static class FileScan {
+        private final Path file;
+        private final Multimap<String, Citation> citations = ArrayListMultimap.create();
+        private final List<Path> bibFiles = new ArrayList<>();
+        private final List<Path> nestedFiles = new ArrayList<>();
+
+        private FileScan(Path file) {
+            this.file = file;
+        }
+
+        Path getFile() {
+            return file;
+        }
+
+        /**
+         * Returns the citations by key, in the order of their occurrence
+         */
+        Multimap<String, Citation> getCitations() {
+            return citations;
+        }
+
+        List<Path> getBibFiles() {
+            return bibFiles;
+        }
+
+        List<Path> getNestedFiles() {
+            return nestedFiles;
+        }
+
+        /**
+         * Find cites along a specific line and store them.
+         */
+        private void matchCitation(int lineNumber, String line) {
+            Matcher citeMatch = CITE_PATTERN.matcher(line);
+
+            while (citeMatch.find()) {
+                for (String key : citeMatch.group(CITE_GROUP).split(",")) {
+                    citations.put(key.trim(), new Citation(file, lineNumber, citeMatch.start(), citeMatch.end(), line));
                 }
             }
         }
-    }
 
-    /**
-     * Find inputs and includes along a specific line and store them for parsing later.
-     */
-    private void matchNestedFile(Path file, List<Path> texFiles, List<Path> referencedFiles, String line) {
-        Matcher includeMatch = INCLUDE_PATTERN.matcher(line);
+        /**
+         * Find BIB files along a specific line and store them.
+         */
+        private void matchBibFile(String line) {
+            Matcher bibliographyMatch = BIBLIOGRAPHY_PATTERN.matcher(line);
+
+            while (bibliographyMatch.find()) {
+                for (String bibString : bibliographyMatch.group(BIBLIOGRAPHY_GROUP).split(",")) {
+                    bibString = bibString.trim();
+                    Path bibFile = file.getParent().resolve(
+                            bibString.endsWith(BIB_EXT)
+                                    ? bibString
+                                    : String.format("%s%s", bibString, BIB_EXT));
+
+                    if (Files.exists(bibFile)) {
+                        bibFiles.add(bibFile);
+                    }
+                }
+            }
+        }
 
-        while (includeMatch.find()) {
-            String include = includeMatch.group(INCLUDE_GROUP);
+        /**
+         * Find inputs and includes along a specific line and store them for parsing later.
+         */
+        private void matchNestedFile(String line) {
+            Matcher includeMatch = INCLUDE_PATTERN.matcher(line);
 
-            Path nestedFile = file.getParent().resolve(
-                    include.endsWith(TEX_EXT)
-                            ? include
-                            : String.format("%s%s", include, TEX_EXT));
+            while (includeMatch.find()) {
+                String include = includeMatch.group(INCLUDE_GROUP);
 
-            if (nestedFile.toFile().exists() && !texFiles.contains(nestedFile)) {
-                referencedFiles.add(nestedFile);
+                Path nestedFile = file.getParent().resolve(
+                        include.endsWith(TEX_EXT)
+                                ? include
+                                : String.format("%s%s", include, TEX_EXT));
+
+                if (Files.exists(nestedFile)) {
+                    nestedFiles.add(nestedFile);
+                }
             }
         }
     }
@@ -0,0 +1,235 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the citations in all LaTeX files of a directory and its subdirectories.
+ * <p>
+ * The files are parsed in parallel. On an update, a file is only parsed again if its modification time or size
+ * changed, so that updating the index of an unchanged directory only requires listing the files. In addition, the
+ * files are watched by the given {@link FileUpdateMonitor}: a saved file is parsed again right away and the listeners
+ * of the index are notified.
+ * <p>
+ * Looking up the citations of a key does not access the file system.
+ */
+public class LatexCitationIndex implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatexCitationIndex.class);
+    private static final String TEX_EXT = ".tex";
+
+    private final Path directory;
+    private final FileUpdateMonitor fileUpdateMonitor;
+    private final Map<Path, IndexedFile> indexedFiles = new HashMap<>();
+    // citation key --> file --> citations of the key in that file
+    private final Map<String, Map<Path, Collection<Citation>>> citationsByKey = new HashMap<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public LatexCitationIndex(Path directory, FileUpdateMonitor fileUpdateMonitor) {
+        this.directory = Objects.requireNonNull(directory);
+        this.fileUpdateMonitor = Objects.requireNonNull(fileUpdateMonitor);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Lists the LaTeX files of the directory and parses all new and modified files in parallel. Files which no longer
+     * exist are removed from the index.
+     *
+     * @throws IOException if the directory cannot be read
+     */
+    public synchronized void update() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new IOException(String.format("Current search directory does not exist: %s", directory));
+        }
+
+        Map<Path, BasicFileAttributes> texFiles = listTexFiles();
+
+        List<Path> removedFiles = indexedFiles.keySet().stream()
+                                              .filter(file -> !texFiles.containsKey(file))
+                                              .collect(Collectors.toList());
+        removedFiles.forEach(file -> remove(file).ifPresent(removed -> fileUpdateMonitor.removeListener(removed.file, removed.listener)));
+
+        List<Path> modifiedFiles = texFiles.entrySet().stream()
+                                           .filter(file -> isModified(file.getKey(), file.getValue()))
+                                           .map(Map.Entry::getKey)
+                                           .collect(Collectors.toList());
+        List<IndexedFile> parsedFiles = modifiedFiles.parallelStream()
+                                                     .map(file -> parse(file, texFiles.get(file)))
+                                                     .collect(Collectors.toList());
+        parsedFiles.forEach(this::add);
+
+        LOGGER.debug("Updated LaTeX citation index of {}: {} files parsed, {} files removed", directory, parsedFiles.size(), removedFiles.size());
+    }
+
+    /**
+     * Returns the citations of the given key, ordered by file and position.
+     */
+    public synchronized List<Citation> getCitations(String citationKey) {
+        Map<Path, Collection<Citation>> citationsPerFile = citationsByKey.get(citationKey);
+        if (citationsPerFile == null) {
+            return List.of();
+        }
+        return citationsPerFile.values().stream()
+                               .flatMap(Collection::stream)
+                               .sorted(Comparator.comparing(Citation::getPath)
+                                                 .thenComparingInt(Citation::getLine)
+                                                 .thenComparingInt(Citation::getColStart))
+                               .collect(Collectors.toList());
+    }
+
+    public synchronized Set<String> getCitationKeys() {
+        return Set.copyOf(citationsByKey.keySet());
+    }
+
+    /**
+     * Registers a listener that is called after a watched file was parsed again. The listener is called on the thread
+     * of the file monitor.
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Stops watching the files of the directory.
+     */
+    @Override
+    public synchronized void close() {
+        indexedFiles.values().forEach(indexedFile -> fileUpdateMonitor.removeListener(indexedFile.file, indexedFile.listener));
+        indexedFiles.clear();
+        citationsByKey.clear();
+        listeners.clear();
+    }
+
+    private Map<Path, BasicFileAttributes> listTexFiles() throws IOException {
+        Map<Path, BasicFileAttributes> texFiles = new HashMap<>();
+        try (Stream<Path> files = Files.find(directory, Integer.MAX_VALUE,
+                (path, attributes) -> attributes.isRegularFile() && path.toString().endsWith(TEX_EXT))) {
+            files.forEach(file -> {
+                try {
+                    texFiles.put(file.toAbsolutePath(), Files.readAttributes(file, BasicFileAttributes.class));
+                } catch (IOException e) {
+                    LOGGER.debug("Could not read attributes of {}", file, e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // thrown if a subdirectory cannot be read
+            throw e.getCause();
+        }
+        return texFiles;
+    }
+
+    private boolean isModified(Path file, BasicFileAttributes attributes) {
+        IndexedFile indexedFile = indexedFiles.get(file);
+        return (indexedFile == null)
+                || !indexedFile.lastModified.equals(attributes.lastModifiedTime())
+                || (indexedFile.size != attributes.size());
+    }
+
+    /**
+     * Reparses a file reported as modified by the file monitor
+     */
+    private void reindex(Path file) {
+        synchronized (this) {
+            if (!indexedFiles.containsKey(file)) {
+                // The index was closed or the file was removed in the meantime
+                return;
+            }
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (!isModified(file, attributes)) {
+                    return;
+                }
+                add(parse(file, attributes));
+            } catch (IOException e) {
+                LOGGER.debug("Could not read {}", file, e);
+                return;
+            }
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    private IndexedFile parse(Path file, BasicFileAttributes attributes) {
+        DefaultLatexParser.FileScan scan = DefaultLatexParser.scan(file);
+        return new IndexedFile(file, attributes.lastModifiedTime(), attributes.size(), scan.getCitations().asMap());
+    }
+
+    private void add(IndexedFile indexedFile) {
+        IndexedFile previous = remove(indexedFile.file).orElse(null);
+        if (previous != null) {
+            indexedFile.listener = previous.listener;
+        } else {
+            indexedFile.listener = () -> reindex(indexedFile.file);
+            try {
+                fileUpdateMonitor.addListenerForFile(indexedFile.file, indexedFile.listener);
+            } catch (IOException e) {
+                LOGGER.debug("Could not watch {}", indexedFile.file, e);
+            }
+        }
+
+        indexedFiles.put(indexedFile.file, indexedFile);
+        indexedFile.citations.forEach((key, citations) ->
+                citationsByKey.computeIfAbsent(key, k -> new HashMap<>()).put(indexedFile.file, citations));
+    }
+
+    /**
+     * Removes the citations of the given file from the index. The file stays watched.
+     */
+    private Optional<IndexedFile> remove(Path file) {
+        IndexedFile indexedFile = indexedFiles.remove(file);
+        if (indexedFile == null) {
+            return Optional.empty();
+        }
+        indexedFile.citations.keySet().forEach(key -> {
+            Map<Path, Collection<Citation>> citationsPerFile = citationsByKey.get(key);
+            citationsPerFile.remove(file);
+            if (citationsPerFile.isEmpty()) {
+                citationsByKey.remove(key);
+            }
+        });
+        return Optional.of(indexedFile);
+    }
+
+    private static class IndexedFile {
+        private final Path file;
+        private final FileTime lastModified;
+        private final long size;
+        private final Map<String, Collection<Citation>> citations;
+        private FileUpdateListener listener;
+
+        IndexedFile(Path file, FileTime lastModified, long size, Map<String, Collection<Citation>> citations) {
+            this.file = file;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.citations = citations;
+        }
+    }
+}
@@ -75,7 +75,9 @@ public class TexBibEntriesResolver {
 
     private BibEntry addCrossReferencingData(BibEntry entry, Path bibFile, Map<Path, BibDatabase> bibDatabases) {
         bibDatabases.get(bibFile).getReferencedEntry(entry).ifPresent(refEntry ->
-                refEntry.getFields().forEach(field -> entry.getFieldMap().putIfAbsent(field, refEntry.getFieldOrAlias(field).orElse(""))));
+                refEntry.getFields().stream()
+                        .filter(field -> !entry.hasField(field))
+                        .forEach(field -> refEntry.getFieldOrAlias(field).ifPresent(value -> entry.setField(field, value))));
 
         return entry;
     }
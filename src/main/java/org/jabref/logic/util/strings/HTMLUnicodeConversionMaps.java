@@ -16,6 +16,7 @@ public class HTMLUnicodeConversionMaps {
     public static final Map<String, String> UNICODE_LATEX_CONVERSION_MAP = new HashMap<>();
     public static final Map<String, String> LATEX_HTML_CONVERSION_MAP = new HashMap<>();
     public static final Map<String, String> LATEX_UNICODE_CONVERSION_MAP = new HashMap<>();
+    public static final Map<String, String> HTML_UNICODE_CONVERSION_MAP = new HashMap<>();
 
     /*   Portions © International Organization for Standardization 1986:
      Permission to copy in any form is granted for use with
@@ -855,6 +856,10 @@ public class HTMLUnicodeConversionMaps {
 
     static {
         for (String[] aConversionList : CONVERSION_LIST) {
+            if (!(aConversionList[0].isEmpty()) && !(aConversionList[1].isEmpty())) {
+                HTML_UNICODE_CONVERSION_MAP.put("&" + aConversionList[1] + ";",
+                        String.valueOf(Character.toChars(Integer.decode(aConversionList[0]))));
+            }
             if (!(aConversionList[2].isEmpty())) {
                 String strippedLaTeX = cleanLaTeX(aConversionList[2]);
                 if (!(aConversionList[1].isEmpty())) {
@@ -0,0 +1,137 @@
+package org.jabref.logic.util.strings;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Replaces all occurrences of a set of strings in a single pass over a text, e.g., Unicode characters or HTML entities
+ * by their LaTeX representation.
+ * <p>
+ * The strings to be replaced are compiled into a trie. At each position of the text, the longest string starting there
+ * is replaced and the scan continues after it. Thus, the time needed does not depend on the number of replacements, and
+ * replaced text is never replaced again. This is the main difference to calling {@link String#replace} for each entry
+ * of the map, where the result depends on the iteration order of the map.
+ */
+public class ReplacementTrie {
+
+    private final Node root = new Node();
+
+    public ReplacementTrie(Map<String, String> replacements) {
+        for (Map.Entry<String, String> replacement : replacements.entrySet()) {
+            if (!replacement.getKey().isEmpty()) {
+                add(replacement.getKey(), Objects.requireNonNull(replacement.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Replaces all occurrences of the strings of this trie in the given text
+     *
+     * @return the given text itself if nothing was replaced
+     */
+    public String replaceAll(String text) {
+        StringBuilder result = null;
+        int copiedUntil = 0;
+        int position = 0;
+        while (position < text.length()) {
+            Node match = longestMatch(text, position);
+            if (match == null) {
+                position++;
+            } else {
+                if (result == null) {
+                    result = new StringBuilder(text.length() + 16);
+                }
+                result.append(text, copiedUntil, position).append(match.replacement);
+                position += match.depth;
+                copiedUntil = position;
+            }
+        }
+
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copiedUntil, text.length()).toString();
+    }
+
+    /**
+     * Appends the replacement of the longest string of this trie starting at the given position of the text
+     *
+     * @return the length of the replaced string, or 0 if no string of this trie starts at the given position (in that
+     * case, nothing is appended)
+     */
+    public int replaceAt(CharSequence text, int position, StringBuilder result) {
+        Node match = longestMatch(text, position);
+        if (match == null) {
+            return 0;
+        }
+        result.append(match.replacement);
+        return match.depth;
+    }
+
+    private Node longestMatch(CharSequence text, int position) {
+        Node longestMatch = null;
+        Node node = root;
+        for (int i = position; i < text.length(); i++) {
+            node = node.getChild(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.replacement != null) {
+                longestMatch = node;
+            }
+        }
+        return longestMatch;
+    }
+
+    private void add(String key, String replacement) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+        }
+        node.replacement = replacement;
+    }
+
+    /**
+     * A node of the trie. The children are kept in a sorted array to avoid boxing the characters of the text.
+     */
+    private static class Node {
+        private static final char[] NO_CHARACTERS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] characters = NO_CHARACTERS;
+        private Node[] children = NO_CHILDREN;
+        // the length of the string ending at this node
+        private int depth;
+        // null if no string ends at this node
+        private String replacement;
+
+        Node getChild(char c) {
+            int index = Arrays.binarySearch(characters, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int index = Arrays.binarySearch(characters, c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertionPoint = -(index + 1);
+            Node child = new Node();
+            child.depth = depth + 1;
+
+            char[] newCharacters = new char[characters.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(characters, 0, newCharacters, 0, insertionPoint);
+            System.arraycopy(children, 0, newChildren, 0, insertionPoint);
+            newCharacters[insertionPoint] = c;
+            newChildren[insertionPoint] = child;
+            System.arraycopy(characters, insertionPoint, newCharacters, insertionPoint + 1, characters.length - insertionPoint);
+            System.arraycopy(children, insertionPoint, newChildren, insertionPoint + 1, children.length - insertionPoint);
+            characters = newCharacters;
+            children = newChildren;
+            return child;
+        }
+    }
+}
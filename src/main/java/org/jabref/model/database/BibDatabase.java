@@ -15,12 +15,14 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
@@ -31,11 +33,11 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,11 +52,26 @@ public class BibDatabase {
     /**
      * State attributes
      */
-    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
+    private final EntryList entryList = new EntryList();
+    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(entryList);
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
+    /**
+     * Indices for looking up entries by citation key and by id. They are only modified while holding the
+     * {@link #indexLock}. The lists of the citation key index are replaced instead of modified, thus both indices can be
+     * read without locking.
+     */
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new ConcurrentHashMap<>();
+    private final Map<String, BibEntry> entriesById = new ConcurrentHashMap<>();
+    private final Object indexLock = new Object();
+
     private final EventBus eventBus = new EventBus();
 
+    /**
+     * Registered at the entries of this database to relay their events to the event bus of this database
+     */
+    private final Consumer<FieldChangedEvent> entryChangeRelay = this::relayEntryChangeEvent;
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -114,7 +131,7 @@ public class BibDatabase {
      * Returns whether an entry with the given ID exists (-> entry_type + hashcode).
      */
     public boolean containsEntryWithId(String id) {
-        return entries.stream().anyMatch(entry -> entry.getId().equals(id));
+        return entriesById.containsKey(id);
     }
 
     public ObservableList<BibEntry> getEntries() {
@@ -139,13 +156,12 @@ public class BibDatabase {
     /**
      * Returns the entry with the given citation key.
      */
-    public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCitationKey().orElse(null))) {
-                return Optional.of(entry);
-            }
+    public Optional<BibEntry> getEntryByCitationKey(String key) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(entriesWithKey.get(0));
     }
 
     /**
@@ -154,17 +170,8 @@ public class BibDatabase {
      *
      * @return list of entries that contains the given key
      */
-    public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
-        }
-        return result;
+    public List<BibEntry> getEntriesByCitationKey(String key) {
+        return new ArrayList<>(entriesByCitationKey.getOrDefault(key, Collections.emptyList()));
     }
 
     /**
@@ -196,8 +203,13 @@ public class BibDatabase {
 
     public synchronized void insertEntries(List<BibEntry> newEntries, EntriesEventSource eventSource) {
         Objects.requireNonNull(newEntries);
-        for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+        synchronized (indexLock) {
+            for (BibEntry entry : newEntries) {
+                entry.registerChangeListener(entryChangeRelay);
+                entriesById.put(entry.getId(), entry);
+                // New entries are appended, thus appending them to the index keeps the order of the database
+                entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry, false));
+            }
         }
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
@@ -235,11 +247,22 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
+        List<BibEntry> removedEntries = new ArrayList<>();
+        boolean anyRemoved;
+        // the synchronized list would remove the entries one by one
+        synchronized (entries) {
+            anyRemoved = entryList.removeIf(entry -> ids.contains(entry.getId()) && removedEntries.add(entry));
+        }
+        synchronized (indexLock) {
+            for (BibEntry entry : removedEntries) {
+                entriesById.remove(entry.getId(), entry);
+                entry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(key, entry));
+            }
+        }
         if (anyRemoved) {
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
@@ -571,11 +594,71 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        // The indices have to be up to date before the listeners of the database are informed
+        updateIndices(event);
+        if (!InternalField.INTERNAL_ID_FIELD.equals(event.getField())) {
+            synchronized (entries) {
+                entryList.entryChanged(event.getBibEntry());
+            }
+        }
         eventBus.post(event);
     }
 
+    private void updateIndices(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        synchronized (indexLock) {
+            for (FieldChange change : event.getFieldChanges()) {
+                if (change.getField().equals(InternalField.KEY_FIELD)) {
+                    // Removed entries are still registered, but must not be indexed again
+                    if (entriesById.get(entry.getId()) != entry) {
+                        return;
+                    }
+                    if (!StringUtil.isBlank(change.getOldValue())) {
+                        removeFromCitationKeyIndex(change.getOldValue(), entry);
+                    }
+                    entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry, true));
+                } else if (change.getField().equals(InternalField.INTERNAL_ID_FIELD)) {
+                    // This event is posted before the id changes
+                    if (entriesById.remove(change.getOldValue(), entry)) {
+                        entriesById.put(change.getNewValue(), entry);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addToCitationKeyIndex(String key, BibEntry entry, boolean keepDatabaseOrder) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            entriesByCitationKey.put(key, List.of(entry));
+            return;
+        }
+
+        List<BibEntry> newEntriesWithKey = new ArrayList<>(entriesWithKey);
+        newEntriesWithKey.add(entry);
+        if (keepDatabaseOrder) {
+            // Only happens for duplicate keys, thus determining the positions is not worth an index on its own
+            newEntriesWithKey.sort(Comparator.comparingInt(entries::indexOf));
+        }
+        entriesByCitationKey.put(key, Collections.unmodifiableList(newEntriesWithKey));
+    }
+
+    private void removeFromCitationKeyIndex(String key, BibEntry entry) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            return;
+        }
+
+        List<BibEntry> newEntriesWithKey = new ArrayList<>(entriesWithKey);
+        newEntriesWithKey.removeIf(entryWithKey -> entryWithKey == entry);
+        if (newEntriesWithKey.isEmpty()) {
+            entriesByCitationKey.remove(key);
+        } else {
+            entriesByCitationKey.put(key, Collections.unmodifiableList(newEntriesWithKey));
+        }
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
@@ -610,10 +693,7 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return entriesByCitationKey.getOrDefault(key, Collections.emptyList()).size();
     }
 
     /**
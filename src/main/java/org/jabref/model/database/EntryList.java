@@ -0,0 +1,91 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ModifiableObservableListBase;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * The observable list of the entries of a {@link BibDatabase}.
+ * <p>
+ * Like a list created with {@link javafx.collections.FXCollections#observableArrayList(javafx.util.Callback)}, it
+ * notifies its listeners about changed entries. However, it does not observe each entry, which would require observable
+ * copies of the fields of every entry. Instead, the database reports the changes of its entries by
+ * {@link #entryChanged}.
+ */
+class EntryList extends ModifiableObservableListBase<BibEntry> {
+
+    private List<BibEntry> entries = new ArrayList<>();
+
+    /**
+     * Notifies the listeners of this list that the given entry changed
+     */
+    void entryChanged(BibEntry entry) {
+        beginChange();
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                if (entries.get(i) == entry) {
+                    nextUpdate(i);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes all matching entries at once, as a single change
+     */
+    @Override
+    public boolean removeIf(Predicate<? super BibEntry> filter) {
+        List<BibEntry> remainingEntries = new ArrayList<>(entries.size());
+        boolean anyRemoved = false;
+        beginChange();
+        try {
+            for (BibEntry entry : entries) {
+                if (filter.test(entry)) {
+                    // the index in the list after all previous removals
+                    nextRemove(remainingEntries.size(), entry);
+                    anyRemoved = true;
+                } else {
+                    remainingEntries.add(entry);
+                }
+            }
+            if (anyRemoved) {
+                modCount++;
+                entries = remainingEntries;
+            }
+        } finally {
+            endChange();
+        }
+        return anyRemoved;
+    }
+
+    @Override
+    public BibEntry get(int index) {
+        return entries.get(index);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    protected void doAdd(int index, BibEntry element) {
+        entries.add(index, element);
+    }
+
+    @Override
+    protected BibEntry doSet(int index, BibEntry element) {
+        return entries.set(index, element);
+    }
+
+    @Override
+    protected BibEntry doRemove(int index) {
+        return entries.remove(index);
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
@@ -25,10 +26,12 @@ public class KeyChangeListener {
 
     @Subscribe
     public void listen(FieldChangedEvent event) {
-        if (event.getField().equals(InternalField.KEY_FIELD)) {
-            String newKey = event.getNewValue();
-            String oldKey = event.getOldValue();
-            updateEntryLinks(newKey, oldKey);
+        for (FieldChange change : event.getFieldChanges()) {
+            if (change.getField().equals(InternalField.KEY_FIELD)) {
+                String newKey = change.getNewValue();
+                String oldKey = change.getOldValue();
+                updateEntryLinks(newKey, oldKey);
+            }
         }
     }
 
@@ -1,5 +1,6 @@
 package org.jabref.model.entry;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -12,6 +13,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import javafx.beans.Observable;
@@ -28,6 +32,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.OrFields;
@@ -39,8 +44,9 @@ import org.jabref.model.entry.types.IEEETranEntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
 import org.jabref.model.strings.StringUtil;
-import org.jabref.model.util.MultiKeyMap;
+import org.jabref.model.util.BoundedCache;
 
+import com.google.common.base.Suppliers;
 import com.google.common.eventbus.EventBus;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
@@ -61,27 +67,64 @@ public class BibEntry implements Cloneable {
     private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Map to store the words in every field
+     * Map to store the words in every field. Created on first use and released when memory is low.
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private SoftReference<Map<Field, Set<String>>> fieldsAsWords;
 
     /**
-     * Cache that stores latex free versions of fields.
+     * Cache that stores latex free versions of field values. It is shared by all entries, as many entries have the same
+     * values (e.g., journal names).
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private static final BoundedCache<String, String> LATEX_FREE_VALUES = new BoundedCache<>(100_000);
 
     /**
-     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+     * Cache that stores field values parsed as keyword lists, keyed by the separator followed by the field value
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private static final BoundedCache<String, KeywordList> KEYWORD_LISTS = new BoundedCache<>(10_000);
 
-    private final EventBus eventBus = new EventBus();
+    // The kind of the derived value telling whether this entry references other entries or strings
+    private static final Object REFERENCES_OTHERS = new Object();
+
+    /**
+     * Cache of values computed from this entry, e.g., the keys used to sort it, see {@link #getDerivedValue}. Created on
+     * first use, as most entries are never sorted, replaced on every change, as a value may depend on several fields,
+     * and released when memory is low.
+     */
+    private volatile SoftReference<Map<Object, Object>> derivedValues;
+
+    /**
+     * Parses the fields of this entry if they have not been parsed while loading the library, see
+     * {@link #setDeferredContent}. Null if the fields are loaded.
+     */
+    private volatile Supplier<BibEntry> deferredContent;
+    private boolean loadingDeferredContent;
+
+    /**
+     * Listeners notified directly about changes, usually the databases containing this entry, see
+     * {@link #registerChangeListener}. Replaced on every registration.
+     */
+    private volatile List<Consumer<FieldChangedEvent>> changeListeners = Collections.emptyList();
+
+    /**
+     * Event bus for the listeners registered by {@link #registerListener}. Created on first registration, as most entries
+     * only have the database containing them as listener.
+     */
+    private volatile EventBus eventBus;
 
     private String id;
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    private volatile EntryType type = DEFAULT_TYPE;
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    /**
+     * The fields of this entry. Replaced on every change, thus it can be read without locking.
+     */
+    private volatile FieldArrayMap fields = FieldArrayMap.EMPTY;
+
+    /**
+     * The observable fields and type of this entry. Created when they are bound for the first time, e.g., when this entry
+     * is shown in the user interface.
+     */
+    private volatile ObservableState observableState;
 
     /**
      * The part before the start of the entry
@@ -100,6 +143,12 @@ public class BibEntry implements Cloneable {
      */
     private boolean changed;
 
+    /**
+     * True if the deferred fields of this entry could not be parsed, see {@link #setDeferredContent}. The entry is then
+     * always written as read from file, as its fields are unknown and would be lost otherwise.
+     */
+    private boolean unparseable;
+
     /**
      * Constructs a new BibEntry. The internal ID is set to IdGenerator.next()
      */
@@ -277,7 +326,7 @@ public class BibEntry implements Cloneable {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if (InternalField.TYPE_HEADER.equals(field) || InternalField.OBSOLETE_TYPE_HEADER.equals(field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(type.getDisplayName());
         }
 
         if (InternalField.KEY_FIELD.equals(field)) {
@@ -290,8 +339,8 @@ public class BibEntry implements Cloneable {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().type;
+                EntryType targetEntry = type;
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -324,7 +373,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -362,11 +411,15 @@ public class BibEntry implements Cloneable {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        return type;
     }
 
+    /**
+     * Returns this entry's type as property. Change the type by {@link #setType}, changes of the property are not
+     * stored.
+     */
     public ObjectProperty<EntryType> typeProperty() {
-        return type;
+        return getObservableState().type;
     }
 
     /**
@@ -383,16 +436,23 @@ public class BibEntry implements Cloneable {
     public Optional<FieldChange> setType(EntryType newType, EntriesEventSource eventSource) {
         Objects.requireNonNull(newType);
 
-        EntryType oldType = type.get();
+        EntryType oldType = type;
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
         changed = true;
-        this.type.setValue(newType);
+        this.type = newType;
+        invalidateDerivedValues();
+        ObservableState state = observableState;
+        if (state != null) {
+            synchronized (state) {
+                state.type.setValue(type);
+            }
+        }
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -402,6 +462,7 @@ public class BibEntry implements Cloneable {
      * @return a set of existing field names
      */
     public Set<Field> getFields() {
+        loadDeferredContent();
         return Collections.unmodifiableSet(fields.keySet());
     }
 
@@ -409,6 +470,9 @@ public class BibEntry implements Cloneable {
      * Returns the contents of the given field as an Optional.
      */
     public Optional<String> getField(Field field) {
+        if (!InternalField.KEY_FIELD.equals(field)) {
+            loadDeferredContent();
+        }
         return Optional.ofNullable(fields.get(field));
     }
 
@@ -416,6 +480,9 @@ public class BibEntry implements Cloneable {
      * Returns true if the entry has the given field, or false if it is not set.
      */
     public boolean hasField(Field field) {
+        if (!InternalField.KEY_FIELD.equals(field)) {
+            loadDeferredContent();
+        }
         return fields.containsKey(field);
     }
 
@@ -546,6 +613,8 @@ public class BibEntry implements Cloneable {
     public Optional<FieldChange> setField(Field field, String value, EntriesEventSource eventSource) {
         Objects.requireNonNull(field, "field name must not be null");
         Objects.requireNonNull(value, "field value must not be null");
+        // the deferred content must not overwrite the new value
+        loadDeferredContent();
 
         if (value.isEmpty()) {
             return clearField(field);
@@ -560,13 +629,15 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        storeField(field, value.intern());
+        // a key might have been computed concurrently from the old value
+        invalidateDerivedValues();
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -598,6 +669,7 @@ public class BibEntry implements Cloneable {
      * @param eventSource the source a new {@link FieldChangedEvent} should be posten from.
      */
     public Optional<FieldChange> clearField(Field field, EntriesEventSource eventSource) {
+        loadDeferredContent();
         Optional<String> oldValue = getField(field);
         if (!oldValue.isPresent()) {
             return Optional.empty();
@@ -606,13 +678,101 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.remove(field);
+        storeField(field, null);
+        invalidateDerivedValues();
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
+    /**
+     * Sets and clears several fields at once. In contrast to setting them one after the other, the listeners are
+     * notified by a single {@link FieldsChangedEvent}, or by the usual event if only one field changed.
+     *
+     * @param values      the new values by field. A field is cleared if its value is null or empty.
+     * @param eventSource the source the event should be posted from
+     * @return the changes made, which are empty if all fields already had the given values
+     */
+    public List<FieldChange> setFields(Map<Field, String> values, EntriesEventSource eventSource) {
+        Objects.requireNonNull(values, "values must not be null");
+        // the deferred content must not overwrite the new values
+        loadDeferredContent();
+
+        List<FieldChange> changes = new ArrayList<>(values.size());
+        synchronized (this) {
+            FieldArrayMap newFields = fields;
+            for (Map.Entry<Field, String> fieldValue : values.entrySet()) {
+                Field field = Objects.requireNonNull(fieldValue.getKey(), "field name must not be null");
+                String value = StringUtil.isNullOrEmpty(fieldValue.getValue()) ? null : fieldValue.getValue().intern();
+                String oldValue = newFields.get(field);
+                if (!Objects.equals(oldValue, value)) {
+                    newFields = (value == null) ? newFields.without(field) : newFields.with(field, value);
+                    changes.add(new FieldChange(this, field, oldValue, value));
+                }
+            }
+            fields = newFields;
+        }
+        if (changes.isEmpty()) {
+            return changes;
+        }
+
+        changed = true;
+        for (FieldChange change : changes) {
+            invalidateFieldCache(change.getField());
+            updateObservableField(change.getField());
+        }
+        invalidateDerivedValues();
+
+        if (changes.size() > 1) {
+            postEvent(new FieldsChangedEvent(changes, eventSource));
+        } else if ((changes.get(0).getOldValue() == null) || (changes.get(0).getNewValue() == null)) {
+            postEvent(new FieldAddedOrRemovedEvent(changes.get(0), eventSource));
+        } else {
+            postEvent(new FieldChangedEvent(changes.get(0), eventSource));
+        }
+        return changes;
+    }
+
+    /**
+     * Stores the given value of the given field, or removes the field if the value is null
+     */
+    private void storeField(Field field, String value) {
+        synchronized (this) {
+            fields = (value == null) ? fields.without(field) : fields.with(field, value);
+        }
+        updateObservableField(field);
+    }
+
+    /**
+     * Copies the current value of the given field to the observable copy of the fields, if there is one
+     */
+    private void updateObservableField(Field field) {
+        // Not under the lock of this entry, as listeners may access this entry from other threads. The current value is
+        // copied, so that concurrent writers cannot leave the observable copy at a value that was already replaced.
+        ObservableState state = observableState;
+        if (state != null) {
+            synchronized (state) {
+                String currentValue = fields.get(field);
+                if (currentValue == null) {
+                    state.fields.remove(field);
+                } else if (!currentValue.equals(state.fields.get(field))) {
+                    state.fields.put(field, currentValue);
+                }
+            }
+        }
+    }
+
+    private void postEvent(FieldChangedEvent event) {
+        for (Consumer<FieldChangedEvent> listener : changeListeners) {
+            listener.accept(event);
+        }
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
     /**
      * Determines whether this entry has all the given fields present. If a non-null
      * database argument is given, this method will try to look up missing fields in
@@ -633,11 +793,14 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public Object clone() {
-        BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        loadDeferredContent();
+        BibEntry clone = new BibEntry(type);
+        // the map is immutable, thus it can be shared
+        clone.fields = fields;
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
         clone.changed = changed;
+        clone.unparseable = unparseable;
         return clone;
     }
 
@@ -651,6 +814,7 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public String toString() {
+        loadDeferredContent();
         return CanonicalBibEntry.getCanonicalRepresentation(this);
     }
 
@@ -789,10 +953,16 @@ public class BibEntry implements Cloneable {
     }
 
     public Collection<String> getFieldValues() {
+        loadDeferredContent();
         return fields.values();
     }
 
+    /**
+     * Returns the fields of this entry with their values. The map is unmodifiable and does not reflect later changes of
+     * this entry.
+     */
     public Map<Field, String> getFieldMap() {
+        loadDeferredContent();
         return fields;
     }
 
@@ -809,29 +979,73 @@ public class BibEntry implements Cloneable {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        loadDeferredContent();
+        entry.loadDeferredContent();
+        return Objects.equals(type, entry.type)
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields);
+        loadDeferredContent();
+        return Objects.hash(type, fields);
     }
 
+    /**
+     * Registers a listener with methods annotated by {@link com.google.common.eventbus.Subscribe} for the events of this
+     * entry. Listeners receiving the events of many entries, like databases, should use
+     * {@link #registerChangeListener} to avoid an event bus per entry.
+     */
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        EventBus bus = eventBus;
+        if (bus == null) {
+            synchronized (this) {
+                bus = eventBus;
+                if (bus == null) {
+                    bus = new EventBus();
+                    eventBus = bus;
+                }
+            }
+        }
+        bus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    /**
+     * Registers a listener that is called directly with every {@link FieldChangedEvent} of this entry, including
+     * {@link FieldAddedOrRemovedEvent}s. Registering a listener twice has no effect.
+     */
+    public synchronized void registerChangeListener(Consumer<FieldChangedEvent> listener) {
+        Objects.requireNonNull(listener);
+        if (!changeListeners.contains(listener)) {
+            List<Consumer<FieldChangedEvent>> listeners = new ArrayList<>(changeListeners.size() + 1);
+            listeners.addAll(changeListeners);
+            listeners.add(listener);
+            changeListeners = List.copyOf(listeners);
+        }
+    }
+
+    public synchronized void unregisterChangeListener(Consumer<FieldChangedEvent> listener) {
+        if (changeListeners.contains(listener)) {
+            List<Consumer<FieldChangedEvent>> listeners = new ArrayList<>(changeListeners);
+            listeners.remove(listener);
+            changeListeners = List.copyOf(listeners);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -855,69 +1069,194 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
-        Set<String> storedList = fieldsAsWords.get(field);
+        Map<Field, Set<String>> wordsOfFields = (fieldsAsWords == null) ? null : fieldsAsWords.get();
+        Set<String> storedList = (wordsOfFields == null) ? null : wordsOfFields.get(field);
         if (storedList != null) {
             return storedList;
         } else {
+            loadDeferredContent();
             String fieldValue = fields.get(field);
             if (fieldValue == null) {
                 return Collections.emptySet();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(field, words);
+                if (wordsOfFields == null) {
+                    wordsOfFields = new HashMap<>();
+                    fieldsAsWords = new SoftReference<>(wordsOfFields);
+                }
+                wordsOfFields.put(field, words);
                 return words;
             }
         }
     }
 
+    /**
+     * Returns the keywords of the given field. The returned list may be modified, it does not change the entry.
+     */
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField) {
-            Optional<KeywordList> storedList = fieldsAsKeywords.get((StandardField) field, keywordSeparator);
-            if (storedList.isPresent()) {
-                return storedList.get();
+        return getField(field)
+                .map(content -> KEYWORD_LISTS.get(keywordSeparator + content, key -> KeywordList.parse(content, keywordSeparator)))
+                // The cached lists are shared, thus callers have to get a copy
+                .map(KeywordList::createClone)
+                .orElse(new KeywordList());
+    }
+
+    public Optional<FieldChange> clearCiteKey() {
+        return clearField(InternalField.KEY_FIELD);
+    }
+
+    private void invalidateFieldCache(Field field) {
+        Map<Field, Set<String>> wordsOfFields = (fieldsAsWords == null) ? null : fieldsAsWords.get();
+        if (wordsOfFields != null) {
+            wordsOfFields.remove(field);
+        }
+        invalidateDerivedValues();
+    }
+
+    /**
+     * Returns the key of the given kind used to sort this entry, computing it if it is not cached. Keys are cached until
+     * a field or the type of this entry changes.
+     *
+     * @param kind       identifies the key, e.g., the fields it is computed from. Has to implement equals and hashCode.
+     * @param computeKey computes the key from this entry, must not return null
+     */
+    public <T> T getSortKey(Object kind, Function<BibEntry, T> computeKey) {
+        return getDerivedValue(kind, computeKey);
+    }
+
+    /**
+     * Returns the value of the given kind computed from this entry, computing it if it is not cached. Values are cached
+     * until a field or the type of this entry changes.
+     *
+     * @param kind         identifies the value. Has to implement equals and hashCode.
+     * @param computeValue computes the value from this entry, must not return null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getDerivedValue(Object kind, Function<BibEntry, T> computeValue) {
+        Map<Object, Object> values = getDerivedValues();
+        if (values == null) {
+            synchronized (this) {
+                values = getDerivedValues();
+                if (values == null) {
+                    values = new ConcurrentHashMap<>(4);
+                    derivedValues = new SoftReference<>(values);
+                }
             }
         }
+        return (T) values.computeIfAbsent(kind, k -> computeValue.apply(this));
+    }
 
-        KeywordList keywords = getField(field)
-                .map(content -> KeywordList.parse(content, keywordSeparator))
-                .orElse(new KeywordList());
+    /**
+     * Tests whether resolved values of this entry may depend on other entries or on strings of the library, i.e., whether
+     * it has a crossref or a field value references a string. Values derived from the resolved values must not be
+     * cached by this entry, as changes of the other entries and strings are not noticed.
+     */
+    public boolean referencesOtherEntriesOrStrings() {
+        return getDerivedValue(REFERENCES_OTHERS, entry -> entry.hasField(StandardField.CROSSREF)
+                || entry.getFieldValues().stream().anyMatch(value -> value.indexOf('#') >= 0));
+    }
 
-        if (field instanceof StandardField) {
-            fieldsAsKeywords.put((StandardField) field, keywordSeparator, keywords);
+    /**
+     * Defers parsing the fields of this entry until they are accessed for the first time. Used to show large libraries
+     * before all entries are parsed. The type, citation key, comments and parsed serialization of this entry have to be
+     * set before.
+     * <p>
+     * The citation key is available without parsing the remaining fields. All other accessors of fields wait until the
+     * fields of this entry are loaded. Loading does not mark this entry as changed and does not post any events.
+     *
+     * @param parseContent parses this entry from its serialization. Is called at most once, from any thread. Returns
+     *                     null if the serialization cannot be parsed. This entry is then always written as it was read,
+     *                     even if it is changed afterwards.
+     */
+    public void setDeferredContent(Supplier<BibEntry> parseContent) {
+        Objects.requireNonNull(parseContent);
+        // memoized, so that the content can be parsed in the background and loaded later
+        this.deferredContent = Suppliers.memoize(parseContent::get);
+    }
+
+    /**
+     * Parses the deferred content of this entry without loading it into this entry. Allows parsing entries in the
+     * background and loading them on the JavaFX thread later.
+     */
+    public void parseDeferredContent() {
+        Supplier<BibEntry> parseContent = deferredContent;
+        if (parseContent != null) {
+            parseContent.get();
         }
-        return keywords;
     }
 
-    public Optional<FieldChange> clearCiteKey() {
-        return clearField(InternalField.KEY_FIELD);
+    /**
+     * @return true if the deferred fields of this entry could not be parsed. The entry has to be written as it was read
+     * then, see {@link #getParsedSerialization()}.
+     */
+    public boolean isUnparseable() {
+        loadDeferredContent();
+        return unparseable;
     }
 
-    private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+    /**
+     * @return true if the fields of this entry (except the citation key) have not been loaded yet
+     */
+    public boolean hasDeferredContent() {
+        return deferredContent != null;
+    }
 
-        if (field instanceof StandardField) {
-            fieldsAsKeywords.remove((StandardField) field);
+    /**
+     * Loads the fields of this entry if their parsing was deferred, see {@link #setDeferredContent}
+     */
+    public void loadDeferredContent() {
+        if (deferredContent != null) {
+            loadDeferredContentSynchronized();
+        }
+    }
+
+    private synchronized void loadDeferredContentSynchronized() {
+        Supplier<BibEntry> parseContent = deferredContent;
+        // listeners of the fields map may access this entry while it is loaded
+        if ((parseContent == null) || loadingDeferredContent) {
+            return;
+        }
+        loadingDeferredContent = true;
+        try {
+            BibEntry content = parseContent.get();
+            if (content == null) {
+                unparseable = true;
+                deferredContent = null;
+                return;
+            }
+            fields = fields.withAll(content.fields);
+            fieldsAsWords = null;
+            invalidateDerivedValues();
+            deferredContent = null;
+            ObservableState state = observableState;
+            if (state != null) {
+                synchronized (state) {
+                    state.fields.putAll(content.fields);
+                }
+            }
+        } finally {
+            loadingDeferredContent = false;
         }
     }
 
+    private Map<Object, Object> getDerivedValues() {
+        SoftReference<Map<Object, Object>> values = derivedValues;
+        return (values == null) ? null : values.get();
+    }
+
+    private void invalidateDerivedValues() {
+        // Replacing the map instead of clearing it ensures that a value computed concurrently from old values is dropped
+        derivedValues = null;
+    }
+
     public Optional<String> getLatexFreeField(Field field) {
         if (InternalField.KEY_FIELD.equals(field)) {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER.equals(field)) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+            return Optional.of(type.getDisplayName());
         } else {
-            Optional<String> fieldValue = getField(field);
-            if (fieldValue.isPresent()) {
-                String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
-                return Optional.of(latexFreeValue);
-            } else {
-                return Optional.empty();
-            }
+            return getField(field).map(value -> LATEX_FREE_VALUES.get(value, key -> LatexToUnicodeAdapter.format(key).intern()));
         }
     }
 
@@ -960,9 +1299,12 @@ public class BibEntry implements Cloneable {
 
     public OptionalBinding<String> getFieldBinding(Field field) {
         if ((field == InternalField.TYPE_HEADER) || (field == InternalField.OBSOLETE_TYPE_HEADER)) {
-            return EasyBind.wrapNullable(type).map(EntryType::getDisplayName);
+            return EasyBind.wrapNullable(typeProperty()).map(EntryType::getDisplayName);
         }
-        return EasyBind.valueAt(fields, field);
+        if (!InternalField.KEY_FIELD.equals(field)) {
+            loadDeferredContent();
+        }
+        return EasyBind.valueAt(getObservableState().fields, field);
     }
 
     public OptionalBinding<String> getCiteKeyBinding() {
@@ -981,15 +1323,35 @@ public class BibEntry implements Cloneable {
         return setFiles(linkedFiles);
     }
 
+    /**
+     * Returns the fields of this entry as unmodifiable observable map. Change the fields by {@link #setField} and
+     * {@link #clearField}.
+     */
     public ObservableMap<Field, String> getFieldsObservable() {
-        return fields;
+        loadDeferredContent();
+        return getObservableState().readOnlyFields;
     }
 
     /**
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        ObservableState state = getObservableState();
+        return new Observable[] {state.fields, state.type};
+    }
+
+    private ObservableState getObservableState() {
+        ObservableState state = observableState;
+        if (state == null) {
+            synchronized (this) {
+                state = observableState;
+                if (state == null) {
+                    state = new ObservableState(fields, type);
+                    observableState = state;
+                }
+            }
+        }
+        return state;
     }
 
     public void addLinkedFile(BibEntry entry, LinkedFile linkedFile, LinkedFile newLinkedFile, List<LinkedFile> linkedFiles) {
@@ -1011,4 +1373,18 @@ public class BibEntry implements Cloneable {
         entry.setFiles(linkedFiles);
     }
 
+    /**
+     * Observable copies of the fields and the type of an entry, which are kept up to date by the entry
+     */
+    private static class ObservableState {
+        private final ObservableMap<Field, String> fields;
+        private final ObservableMap<Field, String> readOnlyFields;
+        private final ObjectProperty<EntryType> type;
+
+        ObservableState(Map<Field, String> fields, EntryType type) {
+            this.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+            this.readOnlyFields = FXCollections.unmodifiableObservableMap(this.fields);
+            this.type = new SimpleObjectProperty<>(type);
+        }
+    }
 }
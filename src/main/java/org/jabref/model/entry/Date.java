@@ -14,10 +14,14 @@ import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.jabref.model.util.BoundedCache;
+
 public class Date {
 
     private static final DateTimeFormatter NORMALIZED_DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu[-MM][-dd]");
     private static final DateTimeFormatter SIMPLE_DATE_FORMATS;
+    // Parsing with the many optional formats is expensive, but libraries contain only few distinct dates
+    private static final BoundedCache<String, Optional<Date>> DATE_CACHE = new BoundedCache<>(5_000);
     static {
         List<String> formatStrings = Arrays.asList(
                 "uuuu-M-d",     // covers 2009-1-15
@@ -66,6 +70,10 @@ public class Date {
             return Optional.empty();
         }
 
+        return DATE_CACHE.get(dateString, Date::parseUncached);
+    }
+
+    private static Optional<Date> parseUncached(String dateString) {
         try {
             TemporalAccessor parsedDate = SIMPLE_DATE_FORMATS.parse(dateString);
             return Optional.of(new Date(parsedDate));
@@ -0,0 +1,206 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Immutable map storing the fields of an entry in two arrays, which needs a fraction of the memory of a hash map for
+ * the few fields an entry usually has. Lookups scan the fields, which is as fast as hashing for these sizes.
+ * <p>
+ * Changes create a new map, thus a map can be shared, e.g., by an entry and its clone, and can be read from any thread
+ * without locking.
+ */
+final class FieldArrayMap extends AbstractMap<Field, String> {
+
+    static final FieldArrayMap EMPTY = new FieldArrayMap(new Field[0], new String[0]);
+
+    private final Field[] fields;
+    private final String[] values;
+
+    private FieldArrayMap(Field[] fields, String[] values) {
+        this.fields = fields;
+        this.values = values;
+    }
+
+    /**
+     * Returns a map containing the fields of this map and the given field with the given value
+     */
+    FieldArrayMap with(Field field, String value) {
+        Objects.requireNonNull(value);
+        int index = indexOf(field);
+        if (index >= 0) {
+            String[] newValues = values.clone();
+            newValues[index] = value;
+            return new FieldArrayMap(fields, newValues);
+        }
+
+        Field[] newFields = new Field[fields.length + 1];
+        String[] newValues = new String[values.length + 1];
+        System.arraycopy(fields, 0, newFields, 0, fields.length);
+        System.arraycopy(values, 0, newValues, 0, values.length);
+        newFields[fields.length] = field;
+        newValues[values.length] = value;
+        return new FieldArrayMap(newFields, newValues);
+    }
+
+    /**
+     * Returns a map containing the fields of this map and the fields of the given map, whose values take precedence
+     */
+    FieldArrayMap withAll(Map<Field, String> other) {
+        FieldArrayMap result = this;
+        for (Map.Entry<Field, String> field : other.entrySet()) {
+            result = result.with(field.getKey(), field.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map containing the fields of this map except the given field
+     */
+    FieldArrayMap without(Field field) {
+        int index = indexOf(field);
+        if (index < 0) {
+            return this;
+        }
+        if (fields.length == 1) {
+            return EMPTY;
+        }
+
+        Field[] newFields = new Field[fields.length - 1];
+        String[] newValues = new String[values.length - 1];
+        System.arraycopy(fields, 0, newFields, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        System.arraycopy(fields, index + 1, newFields, index, fields.length - index - 1);
+        System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+        return new FieldArrayMap(newFields, newValues);
+    }
+
+    private int indexOf(Object field) {
+        for (int i = 0; i < fields.length; i++) {
+            // most fields are enum constants
+            if ((fields[i] == field) || fields[i].equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String get(Object field) {
+        int index = indexOf(field);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object field) {
+        return indexOf(field) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return fields.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return fields.length == 0;
+    }
+
+    @Override
+    public Set<Field> keySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Field> iterator() {
+                return new ArrayIterator<>(fields);
+            }
+
+            @Override
+            public boolean contains(Object field) {
+                return containsKey(field);
+            }
+
+            @Override
+            public int size() {
+                return fields.length;
+            }
+        };
+    }
+
+    @Override
+    public Collection<String> values() {
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return values[index];
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<Field, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Field, String>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < fields.length;
+                    }
+
+                    @Override
+                    public Map.Entry<Field, String> next() {
+                        if (index >= fields.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Map.Entry<Field, String> entry = new SimpleImmutableEntry<>(fields[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return fields.length;
+            }
+        };
+    }
+
+    private static class ArrayIterator<T> implements Iterator<T> {
+        private final T[] elements;
+        private int index;
+
+        ArrayIterator(T[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < elements.length;
+        }
+
+        @Override
+        public T next() {
+            if (index >= elements.length) {
+                throw new NoSuchElementException();
+            }
+            return elements[index++];
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.jabref.model.entry.event;
 
+import java.util.List;
+
 import org.jabref.model.FieldChange;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
@@ -87,4 +89,11 @@ public class FieldChangedEvent extends EntryChangedEvent {
     public int getMajorCharacterChange() {
         return majorCharacterChange;
     }
+
+    /**
+     * Returns the changes of the fields described by this event, see {@link FieldsChangedEvent}
+     */
+    public List<FieldChange> getFieldChanges() {
+        return List.of(new FieldChange(getBibEntry(), field, oldValue, newValue));
+    }
 }
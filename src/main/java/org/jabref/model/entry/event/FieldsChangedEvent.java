@@ -0,0 +1,36 @@
+package org.jabref.model.entry.event;
+
+import java.util.List;
+
+import org.jabref.model.FieldChange;
+
+/**
+ * <code>FieldsChangedEvent</code> is fired when several fields of a <code>BibEntry</code> have been changed at once,
+ * e.g., when undoing a cleanup. {@link #getField()}, {@link #getOldValue()} and {@link #getNewValue()} describe the
+ * first change only, use {@link #getFieldChanges()} to get all of them.
+ */
+public class FieldsChangedEvent extends FieldChangedEvent {
+
+    private final List<FieldChange> fieldChanges;
+
+    /**
+     * @param fieldChanges the changes of the fields of one entry, at least one
+     * @param location     location Location affected by this event
+     */
+    public FieldsChangedEvent(List<FieldChange> fieldChanges, EntriesEventSource location) {
+        super(fieldChanges.get(0), location);
+        this.fieldChanges = List.copyOf(fieldChanges);
+    }
+
+    @Override
+    public List<FieldChange> getFieldChanges() {
+        return fieldChanges;
+    }
+
+    @Override
+    public int getMajorCharacterChange() {
+        return fieldChanges.stream()
+                           .mapToInt(change -> new FieldChangedEvent(change).getMajorCharacterChange())
+                           .sum();
+    }
+}
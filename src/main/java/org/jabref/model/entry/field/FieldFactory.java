@@ -4,15 +4,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.model.strings.StringUtil;
-import org.jabref.model.util.OptionalUtil;
+import org.jabref.model.util.BoundedCache;
 
 public class FieldFactory {
 
@@ -23,6 +26,13 @@ public class FieldFactory {
     private static final String FIELD_OR_SEPARATOR = "/";
     private static final String DELIMITER = ";";
 
+    private static final Map<String, Field> KNOWN_FIELDS = createKnownFields();
+
+    /**
+     * Unknown fields by their name. Not keyed ignoring case, as the name of a field keeps the case it was parsed with.
+     */
+    private static final BoundedCache<String, UnknownField> UNKNOWN_FIELDS = new BoundedCache<>(10_000);
+
     public static String serializeOrFields(Field... fields) {
         return serializeOrFields(new OrFields(fields));
     }
@@ -73,13 +83,45 @@ public class FieldFactory {
                      .collect(Collectors.joining(DELIMITER));
     }
 
+    /**
+     * Returns the field with the given name, ignoring its case. Unknown fields with the same name are shared, as this is
+     * called for every field of every parsed entry.
+     */
     public static Field parseField(String fieldName) {
-        return OptionalUtil.<Field>orElse(OptionalUtil.<Field>orElse(OptionalUtil.<Field>orElse(
-                InternalField.fromName(fieldName),
-                StandardField.fromName(fieldName)),
-                SpecialField.fromName(fieldName)),
-                IEEEField.fromName(fieldName))
-                .orElse(new UnknownField(fieldName));
+        Field field = KNOWN_FIELDS.get(toLookupKey(fieldName));
+        if (field != null) {
+            return field;
+        }
+        return UNKNOWN_FIELDS.get(fieldName, UnknownField::new);
+    }
+
+    private static Map<String, Field> createKnownFields() {
+        Map<String, Field> fields = new HashMap<>();
+        // For backwards compatibility
+        fields.put(toLookupKey("bibtexkey"), InternalField.KEY_FIELD);
+        // In case of fields with the same name, the first one wins
+        Stream.of(InternalField.values(), StandardField.values(), SpecialField.values(), IEEEField.values())
+              .flatMap(Arrays::stream)
+              .forEach(field -> fields.putIfAbsent(toLookupKey(field.getName()), field));
+        return fields;
+    }
+
+    /**
+     * Maps all names that are equal ignoring case (see {@link String#equalsIgnoreCase}) to the same key
+     */
+    private static String toLookupKey(String fieldName) {
+        for (int i = 0; i < fieldName.length(); i++) {
+            char c = fieldName.charAt(i);
+            if (Character.toLowerCase(Character.toUpperCase(c)) != c) {
+                char[] key = fieldName.toCharArray();
+                for (int j = i; j < key.length; j++) {
+                    key[j] = Character.toLowerCase(Character.toUpperCase(key[j]));
+                }
+                return new String(key);
+            }
+        }
+        // most field names are lower case already
+        return fieldName;
     }
 
     public static Set<Field> getKeyFields() {
@@ -2,10 +2,10 @@ package org.jabref.model.groups;
 
 import java.util.Set;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.util.TreeCollector;
 
 public abstract class AutomaticGroup extends AbstractGroup {
     public AutomaticGroup(String name, GroupHierarchyType context) {
@@ -24,10 +24,13 @@ public abstract class AutomaticGroup extends AbstractGroup {
 
     public abstract Set<GroupTreeNode> createSubgroups(BibEntry entry);
 
+    /**
+     * Creates the subgroups of the given entries. Use an {@link AutomaticGroupIndex} to keep them up to date when the
+     * entries change.
+     */
     public ObservableList<GroupTreeNode> createSubgroups(ObservableList<BibEntry> entries) {
-        // TODO: Propagate changes to entry list (however: there is no flatMap and collect as TransformationList)
-        return entries.stream()
-                      .flatMap(entry -> createSubgroups(entry).stream())
-                      .collect(TreeCollector.mergeIntoTree(GroupTreeNode::isSameGroupAs));
+        AutomaticGroupIndex index = new AutomaticGroupIndex(this);
+        index.updateEntries(entries);
+        return FXCollections.observableArrayList(index.getSubgroups());
     }
 }
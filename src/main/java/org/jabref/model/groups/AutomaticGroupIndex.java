@@ -0,0 +1,180 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Maintains the subgroups of an {@link AutomaticGroup} together with the number of entries in each of them.
+ * <p>
+ * Instead of collecting the subgroups of all entries again after every change, the index is updated with the changed
+ * entries only. The subgroup trees are only created when they are requested, e.g., when the automatic group is
+ * expanded in the user interface.
+ * <p>
+ * A subgroup is identified by its path, i.e., the groups from the top-level subgroup down to it.
+ */
+public class AutomaticGroupIndex {
+
+    private final AutomaticGroup group;
+    private final Subgroup root = new Subgroup(null);
+    private final Map<BibEntry, Set<List<AbstractGroup>>> pathsOfEntries = new IdentityHashMap<>();
+
+    public AutomaticGroupIndex(AutomaticGroup group) {
+        this.group = Objects.requireNonNull(group);
+    }
+
+    /**
+     * Adds the given entries to the index or updates them if they are already indexed.
+     *
+     * @return the top-level subgroups whose subtree or entry counts changed
+     */
+    public synchronized Set<AbstractGroup> updateEntries(Collection<? extends BibEntry> entries) {
+        Set<AbstractGroup> changedSubgroups = new HashSet<>();
+        for (BibEntry entry : entries) {
+            Set<List<AbstractGroup>> paths = getPaths(entry);
+            Set<List<AbstractGroup>> previousPaths = pathsOfEntries.getOrDefault(entry, Set.of());
+            if (paths.equals(previousPaths)) {
+                continue;
+            }
+
+            removePaths(previousPaths, changedSubgroups);
+            addPaths(paths, changedSubgroups);
+            if (paths.isEmpty()) {
+                pathsOfEntries.remove(entry);
+            } else {
+                pathsOfEntries.put(entry, paths);
+            }
+        }
+        return changedSubgroups;
+    }
+
+    /**
+     * Removes the given entries from the index.
+     *
+     * @return the top-level subgroups whose subtree or entry counts changed
+     */
+    public synchronized Set<AbstractGroup> removeEntries(Collection<? extends BibEntry> entries) {
+        Set<AbstractGroup> changedSubgroups = new HashSet<>();
+        for (BibEntry entry : entries) {
+            Set<List<AbstractGroup>> previousPaths = pathsOfEntries.remove(entry);
+            if (previousPaths != null) {
+                removePaths(previousPaths, changedSubgroups);
+            }
+        }
+        return changedSubgroups;
+    }
+
+    public synchronized boolean hasSubgroups() {
+        return !root.children.isEmpty();
+    }
+
+    /**
+     * Creates the trees of all subgroups. The returned nodes are not connected to the index, so they can be modified.
+     */
+    public synchronized List<GroupTreeNode> getSubgroups() {
+        return root.children.values().stream()
+                            .map(Subgroup::createTree)
+                            .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates the tree of the given top-level subgroup, if any entry belongs to it
+     */
+    public synchronized Optional<GroupTreeNode> getSubgroup(AbstractGroup topLevelGroup) {
+        return Optional.ofNullable(root.children.get(topLevelGroup))
+                       .map(Subgroup::createTree);
+    }
+
+    /**
+     * Returns the number of entries belonging to the subgroup with the given path
+     */
+    public synchronized int getEntryCount(List<AbstractGroup> path) {
+        Subgroup subgroup = root;
+        for (AbstractGroup group : path) {
+            subgroup = subgroup.children.get(group);
+            if (subgroup == null) {
+                return 0;
+            }
+        }
+        return subgroup.entryCount;
+    }
+
+    /**
+     * Returns the paths of all subgroups the entry belongs to. As every keyword chain creates a chain of subgroups, the
+     * entry also belongs to all the subgroups above.
+     */
+    private Set<List<AbstractGroup>> getPaths(BibEntry entry) {
+        Set<List<AbstractGroup>> paths = new LinkedHashSet<>();
+        for (GroupTreeNode subgroup : group.createSubgroups(entry)) {
+            List<AbstractGroup> path = new ArrayList<>();
+            Optional<GroupTreeNode> node = Optional.of(subgroup);
+            while (node.isPresent()) {
+                path.add(node.get().getGroup());
+                paths.add(List.copyOf(path));
+                node = node.get().getFirstChild();
+            }
+        }
+        return paths;
+    }
+
+    private void addPaths(Set<List<AbstractGroup>> paths, Set<AbstractGroup> changedSubgroups) {
+        for (List<AbstractGroup> path : paths) {
+            Subgroup subgroup = root;
+            for (AbstractGroup group : path) {
+                subgroup = subgroup.children.computeIfAbsent(group, Subgroup::new);
+            }
+            subgroup.entryCount++;
+            changedSubgroups.add(path.get(0));
+        }
+    }
+
+    private void removePaths(Set<List<AbstractGroup>> paths, Set<AbstractGroup> changedSubgroups) {
+        // Remove the deepest subgroups first, so that emptied subgroups can be removed together with their parents
+        List<List<AbstractGroup>> sortedPaths = new ArrayList<>(paths);
+        sortedPaths.sort(Comparator.comparingInt(List<AbstractGroup>::size).reversed());
+        for (List<AbstractGroup> path : sortedPaths) {
+            Subgroup parent = root;
+            for (AbstractGroup group : path.subList(0, path.size() - 1)) {
+                parent = parent.children.get(group);
+            }
+            AbstractGroup group = path.get(path.size() - 1);
+            Subgroup subgroup = parent.children.get(group);
+            subgroup.entryCount--;
+            if (subgroup.entryCount == 0) {
+                parent.children.remove(group);
+            }
+            changedSubgroups.add(path.get(0));
+        }
+    }
+
+    private static class Subgroup {
+        private final AbstractGroup group;
+        // Keeps the order in which the subgroups were found
+        private final Map<AbstractGroup, Subgroup> children = new LinkedHashMap<>();
+        private int entryCount;
+
+        Subgroup(AbstractGroup group) {
+            this.group = group;
+        }
+
+        GroupTreeNode createTree() {
+            GroupTreeNode node = new GroupTreeNode(group.deepCopy());
+            for (Subgroup child : children.values()) {
+                node.addChild(child.createTree());
+            }
+            return node;
+        }
+    }
+}
@@ -10,7 +10,6 @@ import java.util.Set;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.auxparser.AuxParser;
-import org.jabref.logic.auxparser.AuxParserResult;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.util.FileHelper;
@@ -26,7 +25,7 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(TexGroup.class);
 
     private final Path filePath;
-    private Set<String> keysUsedInAux;
+    private volatile Set<String> keysUsedInAux;
     private final FileUpdateMonitor fileMonitor;
     private final AuxParser auxParser;
     private final MetaData metaData;
@@ -61,12 +60,23 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
 
     @Override
     public boolean contains(BibEntry entry) {
-        if (keysUsedInAux == null) {
-            AuxParserResult auxResult = auxParser.parse(filePath);
-            keysUsedInAux = auxResult.getUniqueKeys();
+        Set<String> keys = getKeysUsedInAux();
+        return entry.getCitationKey().map(keys::contains).orElse(false);
+    }
+
+    /**
+     * Returns the citation keys used in the AUX file. After the file changed, only the changed AUX files are parsed
+     * again.
+     *
+     * @return an unmodifiable set, which may be shared with other groups referring to the same AUX file
+     */
+    public Set<String> getKeysUsedInAux() {
+        Set<String> keys = keysUsedInAux;
+        if (keys == null) {
+            keys = auxParser.getCitationKeys(filePath);
+            keysUsedInAux = keys;
         }
-
-        return entry.getCitationKey().map(keysUsedInAux::contains).orElse(false);
+        return keys;
     }
 
     @Override
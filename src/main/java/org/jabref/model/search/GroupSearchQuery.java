@@ -1,23 +1,50 @@
 package org.jabref.model.search;
 
+import java.lang.ref.Cleaner;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.rules.SearchRule;
 import org.jabref.model.search.rules.SearchRules;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.model.util.BoundedCache;
 
+/**
+ * The query of a search group.
+ * <p>
+ * All queries with the same expression and flags share their compiled rule and their results. The results are cached
+ * for each entry until the entry changes, so that only changed entries are matched again, no matter how often the
+ * groups of an entry are determined.
+ */
 public class GroupSearchQuery implements SearchMatcher {
 
+    private static final BoundedCache<List<Object>, PreparedQuery> PREPARED_QUERIES = new BoundedCache<>(1_000);
+    // Releases the result index of a prepared query once it is neither cached nor used by a query anymore
+    private static final Cleaner RESULT_INDEX_CLEANER = Cleaner.create();
+
     private final String query;
     private final EnumSet<SearchFlags> searchFlags;
     private final SearchRule rule;
+    /**
+     * The rule and the index of the result of this query in the {@link GroupSearchResults} of an entry, or null if the
+     * results are not cached. Referenced, so that the index is not handed out again while this query is used.
+     */
+    private final PreparedQuery preparedQuery;
 
     public GroupSearchQuery(String query, EnumSet<SearchFlags> searchFlags) {
         this.query = Objects.requireNonNull(query);
         this.searchFlags = searchFlags;
-        this.rule = Objects.requireNonNull(getSearchRule());
+        if (searchFlags.contains(SearchFlags.FULLTEXT)) {
+            // The results depend on the indexed files of the active library
+            this.rule = Objects.requireNonNull(getSearchRule());
+            this.preparedQuery = null;
+        } else {
+            this.preparedQuery = PREPARED_QUERIES.get(List.of(query, EnumSet.copyOf(searchFlags)),
+                    key -> PreparedQuery.of(Objects.requireNonNull(getSearchRule())));
+            this.rule = preparedQuery.rule;
+        }
     }
 
     @Override
@@ -28,7 +55,11 @@ public class GroupSearchQuery implements SearchMatcher {
 
     @Override
     public boolean isMatch(BibEntry entry) {
-        return this.getRule().applyRule(query, entry);
+        if (preparedQuery == null) {
+            return rule.applyRule(query, entry);
+        }
+        return entry.getDerivedValue(GroupSearchResults.class, e -> new GroupSearchResults())
+                    .isMatch(preparedQuery.resultIndex, () -> rule.applyRule(query, entry));
     }
 
     private SearchRule getSearchRule() {
@@ -62,4 +93,21 @@ public class GroupSearchQuery implements SearchMatcher {
     public EnumSet<SearchFlags> getSearchFlags() {
         return searchFlags;
     }
+
+    private static class PreparedQuery {
+        private final SearchRule rule;
+        private final int resultIndex;
+
+        private PreparedQuery(SearchRule rule, int resultIndex) {
+            this.rule = rule;
+            this.resultIndex = resultIndex;
+        }
+
+        static PreparedQuery of(SearchRule rule) {
+            int resultIndex = GroupSearchResults.acquireIndex();
+            PreparedQuery preparedQuery = new PreparedQuery(rule, resultIndex);
+            RESULT_INDEX_CLEANER.register(preparedQuery, () -> GroupSearchResults.releaseIndex(resultIndex));
+            return preparedQuery;
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package org.jabref.model.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The results of all {@link GroupSearchQuery group queries} for one entry. Stored as a derived value of the entry, so
+ * that it is dropped when the entry changes.
+ * <p>
+ * Each query has an index into the results, see {@link #acquireIndex()}. The index of a query that is not used anymore
+ * is handed out again. As the results of the former query may still be stored for some entries, the epoch in which an
+ * index was handed out the last time is recorded. Results stored before are ignored.
+ */
+class GroupSearchResults {
+
+    private static final Object INDEX_LOCK = new Object();
+    private static final BitSet USED_INDICES = new BitSet();
+    // by index, the epoch in which the index was handed out again
+    private static int[] reuseEpochs = new int[16];
+    private static int highestIndex = -1;
+    private static volatile int currentEpoch;
+
+    private final BitSet evaluated = new BitSet();
+    private final BitSet matched = new BitSet();
+    // the results of the indices handed out again after this epoch are not valid
+    private int epoch = currentEpoch;
+
+    /**
+     * Returns the lowest index which is not used by another query
+     */
+    static int acquireIndex() {
+        synchronized (INDEX_LOCK) {
+            int index = USED_INDICES.nextClearBit(0);
+            USED_INDICES.set(index);
+            if (index <= highestIndex) {
+                if (index >= reuseEpochs.length) {
+                    reuseEpochs = Arrays.copyOf(reuseEpochs, Math.max(index + 1, 2 * reuseEpochs.length));
+                }
+                currentEpoch++;
+                reuseEpochs[index] = currentEpoch;
+            } else {
+                highestIndex = index;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Allows handing out the given index again. Must only be called when no query uses the index anymore.
+     */
+    static void releaseIndex(int index) {
+        synchronized (INDEX_LOCK) {
+            USED_INDICES.clear(index);
+        }
+    }
+
+    /**
+     * Returns the cached result of the query with the given index, or evaluates the query if there is none
+     */
+    boolean isMatch(int resultIndex, BooleanSupplier evaluate) {
+        synchronized (this) {
+            if (epoch != currentEpoch) {
+                dropResultsOfReusedIndices();
+            }
+            if (evaluated.get(resultIndex)) {
+                return matched.get(resultIndex);
+            }
+        }
+
+        // evaluated without holding the lock, as it may take a while
+        boolean isMatch = evaluate.getAsBoolean();
+        synchronized (this) {
+            evaluated.set(resultIndex);
+            matched.set(resultIndex, isMatch);
+        }
+        return isMatch;
+    }
+
+    private void dropResultsOfReusedIndices() {
+        synchronized (INDEX_LOCK) {
+            for (int index = evaluated.nextSetBit(0); (index >= 0) && (index < reuseEpochs.length); index = evaluated.nextSetBit(index + 1)) {
+                if (reuseEpochs[index] > epoch) {
+                    evaluated.clear(index);
+                }
+            }
+            epoch = currentEpoch;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.jabref.model.search.rules;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import org.jabref.architecture.AllowedToUseLogic;
+import org.jabref.logic.pdf.search.retrieval.PdfSearcher;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.pdf.search.PdfSearchResults;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The files of a library whose text matches a query.
+ * <p>
+ * The index is searched once per query. Afterwards, whether an entry matches is decided by looking up its linked files.
+ */
+@AllowedToUseLogic("Because access to the lucene index is needed")
+class FulltextSearchResults {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FulltextSearchResults.class);
+
+    private final BibDatabaseContext databaseContext;
+    private final String query;
+    private final Map<String, Float> scoresByPath;
+
+    private FulltextSearchResults(BibDatabaseContext databaseContext, String query, Map<String, Float> scoresByPath) {
+        this.databaseContext = databaseContext;
+        this.query = query;
+        this.scoresByPath = scoresByPath;
+    }
+
+    static FulltextSearchResults search(BibDatabaseContext databaseContext, String query) {
+        Map<String, Float> scoresByPath = Collections.emptyMap();
+        try {
+            scoresByPath = PdfSearcher.of(databaseContext).searchScoresByPath(query);
+        } catch (IOException e) {
+            LOGGER.error("Could not retrieve search results!", e);
+        }
+        return new FulltextSearchResults(databaseContext, query, scoresByPath);
+    }
+
+    String getQuery() {
+        return query;
+    }
+
+    boolean hasResultsFor(BibEntry entry) {
+        return !scoresByPath.isEmpty() && entry.getFiles().stream().anyMatch(linkedFile -> scoresByPath.containsKey(linkedFile.getLink()));
+    }
+
+    /**
+     * Returns all matching pages of the files linked to the given entry, including the highlighted text
+     */
+    PdfSearchResults getResultsFor(BibEntry entry) {
+        if (!hasResultsFor(entry)) {
+            return new PdfSearchResults();
+        }
+        try {
+            return PdfSearcher.of(databaseContext).search(query, entry);
+        } catch (IOException e) {
+            LOGGER.error("Could not retrieve search results!", e);
+            return new PdfSearchResults();
+        }
+    }
+}
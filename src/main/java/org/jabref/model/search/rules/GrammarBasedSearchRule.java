@@ -1,26 +1,24 @@
 package org.jabref.model.search.rules;
 
-import java.io.IOException;
 import java.util.EnumSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.gui.Globals;
-import org.jabref.logic.pdf.search.retrieval.PdfSearcher;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.pdf.search.PdfSearchResults;
-import org.jabref.model.pdf.search.SearchResult;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
 import org.jabref.search.SearchBaseVisitor;
 import org.jabref.search.SearchLexer;
@@ -50,8 +48,9 @@ public class GrammarBasedSearchRule implements SearchRule {
     private final EnumSet<SearchFlags> searchFlags;
 
     private ParseTree tree;
+    private Predicate<BibEntry> matcher;
     private String query;
-    private List<SearchResult> searchResults;
+    private FulltextSearchResults fulltextResults;
 
     private final BibDatabaseContext databaseContext;
 
@@ -97,33 +96,32 @@ public class GrammarBasedSearchRule implements SearchRule {
         parser.addErrorListener(ThrowingErrorListener.INSTANCE);
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancelationException on parse errors
         tree = parser.start();
+        matcher = new SearchPredicateCompiler(searchFlags).visit(tree);
         this.query = query;
+        fulltextResults = null;
 
         if (!searchFlags.contains(SearchRules.SearchFlags.FULLTEXT) || databaseContext == null) {
             return;
         }
-        try {
-            PdfSearcher searcher = PdfSearcher.of(databaseContext);
-            PdfSearchResults results = searcher.search(query, 5);
-            searchResults = results.getSortedByScore();
-        } catch (IOException e) {
-            LOGGER.error("Could not retrieve search results!", e);
-        }
+        fulltextResults = FulltextSearchResults.search(databaseContext, query);
     }
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(searchFlags, bibEntry).visit(tree);
+            return matcher.test(bibEntry);
         } catch (Exception e) {
             LOGGER.debug("Search failed", e);
-            return getFulltextResults(query, bibEntry).numSearchResults() > 0;
+            return (fulltextResults != null) && fulltextResults.hasResultsFor(bibEntry);
         }
     }
 
     @Override
     public PdfSearchResults getFulltextResults(String query, BibEntry bibEntry) {
-        return new PdfSearchResults(searchResults.stream().filter(searchResult -> searchResult.isResultFor(bibEntry)).collect(Collectors.toList()));
+        if (fulltextResults == null) {
+            return new PdfSearchResults();
+        }
+        return fulltextResults.getResultsFor(bibEntry);
     }
 
     @Override
@@ -155,58 +153,114 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
+    /**
+     * Compares the values of the fields selected by a field expression with a value expression. Both expressions are
+     * compiled on creation, so that comparing an entry does not need to allocate memory, except for matching regular
+     * expressions.
+     */
     public static class Comparator {
 
         private final ComparisonOperator operator;
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
+        private final FieldSelection fieldSelection;
+        /**
+         * The only field to compare, if the field expression is the name of a field
+         */
+        private final Field field;
+        /**
+         * The value to search for, if it is no regular expression
+         */
+        private final String literalValue;
+        private final boolean caseSensitive;
+        /**
+         * Whether the field pattern matches a field, cached as an entry has only a few fields
+         */
+        private final Map<Field, Boolean> matchedFields = new ConcurrentHashMap<>();
 
         public Comparator(String field, String value, ComparisonOperator operator, EnumSet<SearchFlags> searchFlags) {
             this.operator = operator;
 
-            int option = searchFlags.contains(SearchRules.SearchFlags.CASE_SENSITIVE) ? 0 : Pattern.CASE_INSENSITIVE;
-            this.fieldPattern = Pattern.compile(searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION) ? field : "\\Q" + field + "\\E", option);
-            this.valuePattern = Pattern.compile(searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION) ? value : "\\Q" + value + "\\E", option);
-        }
+            this.caseSensitive = searchFlags.contains(SearchRules.SearchFlags.CASE_SENSITIVE);
+            boolean regularExpression = searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION);
+            int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
+            this.fieldPattern = Pattern.compile(regularExpression ? field : "\\Q" + field + "\\E", option);
+            this.valuePattern = Pattern.compile(regularExpression ? value : "\\Q" + value + "\\E", option);
+            this.literalValue = regularExpression ? null : value;
 
-        public boolean compare(BibEntry entry) {
             // special case for searching for entrytype=phdthesis
             if (fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches()) {
-                return matchFieldValue(entry.getType().getName());
-            }
-
-            // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
-                return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
+                fieldSelection = FieldSelection.ENTRY_TYPE;
+            } else if (fieldPattern.matcher("anykeyword").matches()) {
+                // special case for searching a single keyword
+                fieldSelection = FieldSelection.ANY_KEYWORD;
+            } else if (fieldPattern.matcher("anyfield").matches()) {
+                // special case for searching allfields=cat and title=dog
+                fieldSelection = FieldSelection.ANY_FIELD;
+            } else if (!regularExpression && !caseSensitive) {
+                // field names are compared ignoring case, as the field pattern does
+                fieldSelection = FieldSelection.SINGLE_FIELD;
+            } else {
+                fieldSelection = FieldSelection.MATCHING_FIELDS;
             }
+            this.field = (fieldSelection == FieldSelection.SINGLE_FIELD) ? toField(field) : null;
+        }
 
-            // specification of fieldsKeys to search is done in the search expression itself
-            Set<Field> fieldsKeys = entry.getFields();
+        private static Field toField(String fieldName) {
+            Field field = FieldFactory.parseField(fieldName);
+            // aliases, e.g., bibtexkey for the citation key, do not match the field pattern
+            return field.getName().equalsIgnoreCase(fieldName) ? field : new UnknownField(fieldName);
+        }
 
-            // special case for searching allfields=cat and title=dog
-            if (!fieldPattern.matcher("anyfield").matches()) {
-                // Filter out the requested fields
-                fieldsKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toSet());
+        public boolean compare(BibEntry entry) {
+            switch (fieldSelection) {
+                case ENTRY_TYPE:
+                    return matchFieldValue(entry.getType().getName());
+                case ANY_KEYWORD:
+                    for (Keyword keyword : entry.getKeywords(',')) {
+                        if (matchFieldValue(keyword.toString())) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case SINGLE_FIELD:
+                    Optional<String> fieldValue = entry.getLatexFreeField(field);
+                    if (fieldValue.isPresent()) {
+                        return matchFieldValue(fieldValue.get());
+                    }
+                    // special case of asdf!=whatever and entry does not contain asdf
+                    return operator == ComparisonOperator.DOES_NOT_CONTAIN;
+                default:
+                    return compareFields(entry);
             }
+        }
 
-            for (Field field : fieldsKeys) {
-                Optional<String> fieldValue = entry.getLatexFreeField(field);
-                if (fieldValue.isPresent()) {
-                    if (matchFieldValue(fieldValue.get())) {
-                        return true;
-                    }
+        private boolean compareFields(BibEntry entry) {
+            boolean anyFieldSelected = false;
+            for (Field entryField : entry.getFields()) {
+                if ((fieldSelection == FieldSelection.MATCHING_FIELDS) && !matchFieldKey(entryField)) {
+                    continue;
+                }
+                anyFieldSelected = true;
+                Optional<String> fieldValue = entry.getLatexFreeField(entryField);
+                if (fieldValue.isPresent() && matchFieldValue(fieldValue.get())) {
+                    return true;
                 }
             }
 
             // special case of asdf!=whatever and entry does not contain asdf
-            return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
+            return !anyFieldSelected && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
-        private Predicate<Field> matchFieldKey() {
-            return field -> fieldPattern.matcher(field.getName()).matches();
+        private boolean matchFieldKey(Field entryField) {
+            return matchedFields.computeIfAbsent(entryField, key -> fieldPattern.matcher(key.getName()).matches());
         }
 
         public boolean matchFieldValue(String content) {
+            if (literalValue != null) {
+                return matchLiteralValue(content);
+            }
+
             Matcher matcher = valuePattern.matcher(content);
             if (operator == ComparisonOperator.CONTAINS) {
                 return matcher.find();
@@ -218,33 +272,70 @@ public class GrammarBasedSearchRule implements SearchRule {
                 throw new IllegalStateException("MUST NOT HAPPEN");
             }
         }
+
+        private boolean matchLiteralValue(String content) {
+            if (operator == ComparisonOperator.CONTAINS) {
+                return indexOf(content) >= 0;
+            } else if (operator == ComparisonOperator.EXACT) {
+                return (content.length() == literalValue.length()) && regionMatches(content, 0);
+            } else if (operator == ComparisonOperator.DOES_NOT_CONTAIN) {
+                return indexOf(content) < 0;
+            } else {
+                throw new IllegalStateException("MUST NOT HAPPEN");
+            }
+        }
+
+        private int indexOf(String content) {
+            for (int start = 0; start <= (content.length() - literalValue.length()); start++) {
+                if (regionMatches(content, start)) {
+                    return start;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Compares the literal value with the content at the given offset. Like {@link Pattern#CASE_INSENSITIVE}, only
+         * US-ASCII characters are compared ignoring their case.
+         */
+        private boolean regionMatches(String content, int offset) {
+            for (int i = 0; i < literalValue.length(); i++) {
+                char expected = literalValue.charAt(i);
+                char actual = content.charAt(offset + i);
+                if ((expected != actual) && (caseSensitive || (toLowerCaseAscii(expected) != toLowerCaseAscii(actual)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static char toLowerCaseAscii(char c) {
+            return ((c >= 'A') && (c <= 'Z')) ? (char) (c + ('a' - 'A')) : c;
+        }
+    }
+
+    private enum FieldSelection {
+        ENTRY_TYPE, ANY_KEYWORD, ANY_FIELD, SINGLE_FIELD, MATCHING_FIELDS
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * Compiles the parse tree of a query into a predicate, so that the tree does not have to be visited for every entry
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    private static class SearchPredicateCompiler extends SearchBaseVisitor<Predicate<BibEntry>> {
 
         private final EnumSet<SearchFlags> searchFlags;
 
-        private final BibEntry entry;
-
-        public BibtexSearchVisitor(EnumSet<SearchFlags> searchFlags, BibEntry bibEntry) {
+        SearchPredicateCompiler(EnumSet<SearchFlags> searchFlags) {
             this.searchFlags = searchFlags;
-            this.entry = bibEntry;
-        }
-
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, searchFlags).compare(entry);
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
+        public Predicate<BibEntry> visitStart(SearchParser.StartContext ctx) {
             return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext context) {
+        public Predicate<BibEntry> visitComparison(SearchParser.ComparisonContext context) {
             // remove possible enclosing " symbols
             String right = context.right.getText();
             if (right.startsWith("\"") && right.endsWith("\"")) {
@@ -253,28 +344,33 @@ public class GrammarBasedSearchRule implements SearchRule {
 
             Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
             if (fieldDescriptor.isPresent()) {
-                return comparison(fieldDescriptor.get().getText(), ComparisonOperator.build(context.operator.getText()), right);
+                Comparator comparator = new Comparator(fieldDescriptor.get().getText(), right, ComparisonOperator.build(context.operator.getText()), searchFlags);
+                return comparator::compare;
             } else {
-                return SearchRules.getSearchRule(searchFlags).applyRule(right, entry);
+                SearchRule rule = SearchRules.getSearchRule(searchFlags);
+                String value = right;
+                return entry -> rule.applyRule(value, entry);
             }
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public Predicate<BibEntry> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return visit(ctx.expression()).negate();
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        public Predicate<BibEntry> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
             return visit(ctx.expression()); // ignore parenthesis
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        public Predicate<BibEntry> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Predicate<BibEntry> left = visit(ctx.left);
+            Predicate<BibEntry> right = visit(ctx.right);
             if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+                return left.and(right);
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                return left.or(right);
             }
         }
     }
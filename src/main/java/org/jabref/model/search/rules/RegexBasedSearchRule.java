@@ -1,6 +1,5 @@
 package org.jabref.model.search.rules;
 
-import java.io.IOException;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
@@ -8,33 +7,25 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
-import java.util.stream.Collectors;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.gui.Globals;
-import org.jabref.logic.pdf.search.retrieval.PdfSearcher;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.pdf.search.PdfSearchResults;
-import org.jabref.model.pdf.search.SearchResult;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * Search rule for regex-based search.
  */
 @AllowedToUseLogic("Because access to the lucene index is needed")
 public class RegexBasedSearchRule implements SearchRule {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(GrammarBasedSearchRule.class);
-
     private final EnumSet<SearchFlags> searchFlags;
 
-    private String lastQuery;
-    private List<SearchResult> lastSearchResults;
+    // Searched again when the query changes
+    private volatile FulltextSearchResults lastFulltextResults;
 
     private final BibDatabaseContext databaseContext;
 
@@ -83,27 +74,30 @@ public class RegexBasedSearchRule implements SearchRule {
                 }
             }
         }
-        return getFulltextResults(query, bibEntry).numSearchResults() > 0;
+        return hasFulltextResults(query, bibEntry);
     }
 
     @Override
     public PdfSearchResults getFulltextResults(String query, BibEntry bibEntry) {
-
         if (!searchFlags.contains(SearchRules.SearchFlags.FULLTEXT) || databaseContext == null) {
             return new PdfSearchResults(List.of());
         }
+        return getFulltextSearchResults(query).getResultsFor(bibEntry);
+    }
 
-        if (!query.equals(this.lastQuery)) {
-            this.lastQuery = query;
-            lastSearchResults = List.of();
-            try {
-                PdfSearcher searcher = PdfSearcher.of(databaseContext);
-                PdfSearchResults results = searcher.search(query, 5);
-                lastSearchResults = results.getSortedByScore();
-            } catch (IOException e) {
-                LOGGER.error("Could not retrieve search results!", e);
-            }
+    private boolean hasFulltextResults(String query, BibEntry bibEntry) {
+        if (!searchFlags.contains(SearchRules.SearchFlags.FULLTEXT) || databaseContext == null) {
+            return false;
+        }
+        return getFulltextSearchResults(query).hasResultsFor(bibEntry);
+    }
+
+    private FulltextSearchResults getFulltextSearchResults(String query) {
+        FulltextSearchResults results = lastFulltextResults;
+        if (results == null || !results.getQuery().equals(query)) {
+            results = FulltextSearchResults.search(databaseContext, query);
+            lastFulltextResults = results;
         }
-        return new PdfSearchResults(lastSearchResults.stream().filter(searchResult -> searchResult.isResultFor(bibEntry)).collect(Collectors.toList()));
+        return results;
     }
 }
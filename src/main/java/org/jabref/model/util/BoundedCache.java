@@ -0,0 +1,91 @@
+package org.jabref.model.util;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * A thread-safe cache for the results of parsing strings, e.g., author lists or dates.
+ * <p>
+ * The cache holds at most the given number of values and evicts the least recently used ones first. In contrast to a
+ * {@link java.util.WeakHashMap}, the values are not lost on every garbage collection. The values have to be immutable
+ * (or be copied by the caller before modifying them), as they are shared between all callers.
+ * <p>
+ * The number of hits and misses is recorded, so that the size of a cache can be tuned.
+ */
+public class BoundedCache<K, V> {
+
+    private final Cache<K, V> cache;
+
+    public BoundedCache(long maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumSize(maximumSize)
+                                 .recordStats()
+                                 .build();
+    }
+
+    /**
+     * Returns the value of the given key, computing it with the given loader if it is not cached. Concurrent calls for
+     * the same key wait for the value computed by the first one.
+     *
+     * @param loader computes the value of a key, must not return null
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key);
+        try {
+            return cache.get(key, () -> loader.apply(key));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public Optional<V> getIfPresent(K key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Returns the ratio of requests answered by the cache, or 1.0 if there were no requests yet.
+     */
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+
+    @Override
+    public String toString() {
+        CacheStats stats = cache.stats();
+        return "BoundedCache{" +
+                "size=" + cache.size() +
+                ", hits=" + stats.hitCount() +
+                ", misses=" + stats.missCount() +
+                ", evictions=" + stats.evictionCount() +
+                '}';
+    }
+}
@@ -1,6 +1,8 @@
 package org.jabref.gui.groups;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -93,6 +95,56 @@ class GroupNodeViewModelTest {
         assertEquals(expected, groupViewModel.getChildren());
     }
 
+    @Test
+    void subgroupsOfAutomaticGroupAreCreatedWhenExpanded() throws Exception {
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "A"));
+        AutomaticKeywordGroup group = new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>');
+        group.setExpanded(false);
+        GroupNodeViewModel groupViewModel = getViewModelForGroup(group);
+
+        assertTrue(groupViewModel.hasChildrenProperty().get());
+        assertEquals(List.of(), groupViewModel.getChildren());
+
+        groupViewModel.toggleExpansion();
+
+        WordKeywordGroup expectedGroupA = new WordKeywordGroup("A", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, "A", true, ',', true);
+        assertEquals(List.of(getViewModelForGroup(expectedGroupA)), groupViewModel.getChildren());
+    }
+
+    @Test
+    void subgroupsOfCollapsedAutomaticGroupAreCreatedWhenMatchedByFilter() throws Exception {
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "Physics, Biology"));
+        AutomaticKeywordGroup group = new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>');
+        group.setExpanded(false);
+        GroupNodeViewModel groupViewModel = getViewModelForGroup(group);
+
+        groupViewModel.createSubgroupsMatchedBy("Chemistry");
+        assertEquals(List.of(), groupViewModel.getChildren());
+
+        groupViewModel.createSubgroupsMatchedBy("phys");
+        assertEquals(List.of("Biology", "Physics"), groupViewModel.getChildren().stream().map(GroupNodeViewModel::getDisplayName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void subgroupsOfAutomaticGroupFollowChangedEntries() throws Exception {
+        BibEntry entryOne = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        BibEntry entryTwo = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        databaseContext.getDatabase().insertEntries(entryOne, entryTwo);
+        AutomaticKeywordGroup group = new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>');
+        GroupNodeViewModel groupViewModel = getViewModelForGroup(group);
+        assertEquals(2, groupViewModel.getChildren().get(0).getHits().get());
+
+        entryTwo.setField(StandardField.KEYWORDS, "C");
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "B"));
+
+        assertEquals(List.of("A", "B", "C"), groupViewModel.getChildren().stream().map(GroupNodeViewModel::getDisplayName).collect(Collectors.toList()));
+        assertEquals(1, groupViewModel.getChildren().get(0).getHits().get());
+
+        databaseContext.getDatabase().removeEntry(entryOne);
+
+        assertEquals(List.of("B", "C"), groupViewModel.getChildren().stream().map(GroupNodeViewModel::getDisplayName).collect(Collectors.toList()));
+    }
+
     @Test
     void draggedOnTopOfGroupAddsBeforeIt() throws Exception {
         GroupNodeViewModel rootViewModel = getViewModelForGroup(new WordKeywordGroup("root", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, "A", true, ',', true));
@@ -0,0 +1,107 @@
+package org.jabref.gui.maintable;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+
+import org.jabref.gui.maintable.MainTableNameFormatPreferences.AbbreviationStyle;
+import org.jabref.gui.maintable.MainTableNameFormatPreferences.DisplayStyle;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.OrFields;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.preferences.PreferencesService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BibEntryTableViewModelTest {
+
+    private final BibEntry entry = new BibEntry().withField(StandardField.TITLE, "{A} title");
+    private BibEntryTableViewModel viewModel;
+    private BibDatabaseContext context;
+    private MainTableFieldValueFormatter formatter;
+
+    @BeforeEach
+    void setUp() {
+        PreferencesService preferences = mock(PreferencesService.class);
+        when(preferences.getMainTableNameFormatPreferences())
+                .thenReturn(new MainTableNameFormatPreferences(DisplayStyle.AS_IS, AbbreviationStyle.FULL));
+        context = new BibDatabaseContext(new BibDatabase());
+        formatter = new MainTableFieldValueFormatter(preferences, context);
+        viewModel = new BibEntryTableViewModel(entry, context, new SimpleObjectProperty<>(formatter));
+    }
+
+    @Test
+    void fieldValueIsLatexFree() {
+        assertEquals("A title", viewModel.getFields(new OrFields(StandardField.TITLE)).getValue());
+    }
+
+    @Test
+    void fieldValueIsReusedWhileReferenced() {
+        ObservableValue<String> title = viewModel.getFields(new OrFields(StandardField.TITLE));
+
+        assertSame(title, viewModel.getFields(new OrFields(StandardField.TITLE)));
+    }
+
+    @Test
+    void fieldValueIsUpdatedOnFieldChange() {
+        ObservableValue<String> title = viewModel.getFields(new OrFields(StandardField.TITLE));
+
+        entry.setField(StandardField.TITLE, "Another title");
+
+        assertEquals("Another title", title.getValue());
+    }
+
+    @Test
+    void linkedFilesAreUpdatedOnFieldChange() {
+        assertEquals(0, viewModel.getLinkedFiles().getValue().size());
+
+        entry.setField(StandardField.FILE, ":paper.pdf:PDF");
+
+        assertEquals(1, viewModel.getLinkedFiles().getValue().size());
+    }
+
+    @Test
+    void fieldValueOfCrossrefParentIsNotCached() {
+        BibEntry parent = new BibEntry().withCitationKey("parent").withField(StandardField.BOOKTITLE, "Proceedings");
+        BibEntry child = new BibEntry().withField(StandardField.CROSSREF, "parent");
+        context.getDatabase().insertEntries(parent, child);
+        OrFields booktitle = new OrFields(StandardField.BOOKTITLE);
+        viewModel = new BibEntryTableViewModel(child, context, new SimpleObjectProperty<>(formatter));
+        viewModel.getFields(booktitle).getValue();
+
+        parent.setField(StandardField.BOOKTITLE, "Changed proceedings");
+
+        BibEntryTableViewModel newViewModel = new BibEntryTableViewModel(child, context, new SimpleObjectProperty<>(formatter));
+        assertEquals("Changed proceedings", newViewModel.getFields(booktitle).getValue());
+    }
+
+    @Test
+    void fieldValueWithStringIsNotCached() {
+        context.getDatabase().addString(new BibtexString("conf", "Conference"));
+        entry.setField(StandardField.BOOKTITLE, "#conf#");
+        OrFields booktitle = new OrFields(StandardField.BOOKTITLE);
+        viewModel.getFields(booktitle).getValue();
+
+        context.getDatabase().getStringValues().iterator().next().setContent("Changed conference");
+
+        BibEntryTableViewModel newViewModel = new BibEntryTableViewModel(entry, context, new SimpleObjectProperty<>(formatter));
+        assertEquals("Changed conference", newViewModel.getFields(booktitle).getValue());
+    }
+
+    @Test
+    void formattersWithSameSettingsAreEqual() {
+        PreferencesService preferences = mock(PreferencesService.class);
+        when(preferences.getMainTableNameFormatPreferences())
+                .thenReturn(new MainTableNameFormatPreferences(DisplayStyle.AS_IS, AbbreviationStyle.FULL));
+
+        assertEquals(formatter, new MainTableFieldValueFormatter(preferences, context));
+    }
+}
@@ -0,0 +1,107 @@
+package org.jabref.gui.preview;
+
+import java.util.List;
+
+import org.jabref.gui.util.CurrentThreadTaskExecutor;
+import org.jabref.logic.preview.PreviewLayout;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PreviewCacheTest {
+
+    private PreviewLayout layout;
+    private PreviewCache previewCache;
+    private BibEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        layout = mock(PreviewLayout.class);
+        when(layout.generatePreview(any(), any())).thenAnswer(invocation -> ((BibEntry) invocation.getArgument(0)).getTitle().orElse(""));
+        previewCache = new PreviewCache(new BibDatabase());
+        entry = new BibEntry().withField(StandardField.TITLE, "First");
+    }
+
+    @Test
+    void previewIsRenderedOnlyOnce() {
+        assertEquals("First", previewCache.getPreview(layout, entry));
+        assertEquals("First", previewCache.getPreview(layout, entry));
+
+        verify(layout, times(1)).generatePreview(any(), any());
+        assertEquals(1, previewCache.getRenderCount());
+    }
+
+    @Test
+    void previewIsRenderedAgainAfterEntryChanged() {
+        previewCache.getPreview(layout, entry);
+        entry.setField(StandardField.TITLE, "Changed");
+
+        assertEquals("Changed", previewCache.getPreview(layout, entry));
+        assertEquals(2, previewCache.getRenderCount());
+    }
+
+    @Test
+    void previewsOfDifferentLayoutsAreCachedSeparately() {
+        PreviewLayout otherLayout = mock(PreviewLayout.class);
+        when(otherLayout.generatePreview(any(), any())).thenReturn("Other");
+        previewCache.getPreview(layout, entry);
+
+        assertEquals("Other", previewCache.getPreview(otherLayout, entry));
+        assertEquals("First", previewCache.getCachedPreview(layout, entry).orElseThrow());
+    }
+
+    @Test
+    void prefetchRendersNeighboursOfSelectedEntry() {
+        List<BibEntry> entries = List.of(
+                new BibEntry().withField(StandardField.TITLE, "0"),
+                new BibEntry().withField(StandardField.TITLE, "1"),
+                entry,
+                new BibEntry().withField(StandardField.TITLE, "3"));
+
+        previewCache.prefetch(layout, entries, 2, new CurrentThreadTaskExecutor());
+
+        assertEquals("0", previewCache.getCachedPreview(layout, entries.get(0)).orElseThrow());
+        assertEquals("1", previewCache.getCachedPreview(layout, entries.get(1)).orElseThrow());
+        assertEquals("3", previewCache.getCachedPreview(layout, entries.get(3)).orElseThrow());
+        assertTrue(previewCache.getCachedPreview(layout, entry).isEmpty());
+    }
+
+    @Test
+    void invalidateAllRemovesCachedPreviews() {
+        previewCache.getPreview(layout, entry);
+        previewCache.invalidateAll();
+
+        assertTrue(previewCache.getCachedPreview(layout, entry).isEmpty());
+    }
+
+    @Test
+    void previewOfEntryWithCrossrefIsNotCached() {
+        entry.setField(StandardField.CROSSREF, "parent");
+
+        previewCache.getPreview(layout, entry);
+
+        assertTrue(previewCache.getCachedPreview(layout, entry).isEmpty());
+        previewCache.getPreview(layout, entry);
+        assertEquals(2, previewCache.getRenderCount());
+    }
+
+    @Test
+    void previewOfEntryWithStringIsNotCached() {
+        entry.setField(StandardField.JOURNAL, "#jcss#");
+
+        previewCache.getPreview(layout, entry);
+
+        assertTrue(previewCache.getCachedPreview(layout, entry).isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+package org.jabref.gui.undo;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountingUndoManagerTest {
+
+    private CountingUndoManager undoManager;
+
+    @BeforeEach
+    void setUp() {
+        undoManager = new CountingUndoManager();
+    }
+
+    @Test
+    void oldestEditsAreDiscardedIfMemoryLimitIsExceeded() {
+        UndoableFieldChanges firstChanges = createChanges(1000);
+        UndoableFieldChanges secondChanges = createChanges(1000);
+        undoManager.setMemoryLimit(firstChanges.getEstimatedSize() + secondChanges.getEstimatedSize() - 1);
+
+        undoManager.addEdit(firstChanges);
+        undoManager.addEdit(secondChanges);
+
+        undoManager.undo();
+        assertFalse(undoManager.canUndo());
+        assertFalse(firstChanges.canUndo());
+    }
+
+    @Test
+    void editsWithinMemoryLimitAreKept() {
+        undoManager.addEdit(createChanges(1000));
+        undoManager.addEdit(createChanges(1000));
+
+        undoManager.undo();
+        assertTrue(undoManager.canUndo());
+    }
+
+    @Test
+    void mostRecentEditIsKeptEvenIfItExceedsMemoryLimit() {
+        undoManager.setMemoryLimit(0);
+
+        undoManager.addEdit(createChanges(1000));
+
+        assertTrue(undoManager.canUndo());
+    }
+
+    private static UndoableFieldChanges createChanges(int numberOfChanges) {
+        UndoableFieldChanges changes = new UndoableFieldChanges("Cleanup entries");
+        for (int i = 0; i < numberOfChanges; i++) {
+            changes.add(new BibEntry(), StandardField.YEAR, null, String.valueOf(i));
+        }
+        changes.end();
+        return changes;
+    }
+}
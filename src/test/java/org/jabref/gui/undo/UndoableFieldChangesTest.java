@@ -0,0 +1,114 @@
+package org.jabref.gui.undo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.swing.undo.CannotUndoException;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UndoableFieldChangesTest {
+
+    private BibEntry entry;
+    private BibEntry otherEntry;
+    private UndoableFieldChanges changes;
+
+    @BeforeEach
+    void setUp() {
+        entry = new BibEntry().withField(StandardField.TITLE, "Title");
+        otherEntry = new BibEntry();
+        changes = new UndoableFieldChanges("Cleanup entries");
+    }
+
+    @Test
+    void undoRevertsAllChanges() {
+        change(entry, StandardField.TITLE, "New title");
+        change(otherEntry, StandardField.YEAR, "2021");
+        changes.end();
+
+        changes.undo();
+
+        assertEquals(Optional.of("Title"), entry.getField(StandardField.TITLE));
+        assertEquals(Optional.empty(), otherEntry.getField(StandardField.YEAR));
+    }
+
+    @Test
+    void redoAppliesAllChangesAgain() {
+        change(entry, StandardField.TITLE, null);
+        change(otherEntry, StandardField.YEAR, "2021");
+        changes.end();
+        changes.undo();
+
+        changes.redo();
+
+        assertEquals(Optional.empty(), entry.getField(StandardField.TITLE));
+        assertEquals(Optional.of("2021"), otherEntry.getField(StandardField.YEAR));
+    }
+
+    @Test
+    void undoAndRedoNotifyOncePerEntry() {
+        change(entry, StandardField.TITLE, "New title");
+        change(entry, StandardField.YEAR, "2021");
+        change(otherEntry, StandardField.YEAR, "2021");
+        change(entry, StandardField.TITLE, "Newer title");
+        changes.end();
+        List<FieldChangedEvent> events = new ArrayList<>();
+        entry.registerChangeListener(events::add);
+
+        changes.undo();
+        assertEquals(1, events.size());
+        assertEquals(Map.of(StandardField.TITLE, "Title"), entry.getFieldMap());
+
+        changes.redo();
+        assertEquals(2, events.size());
+        assertEquals(Map.of(StandardField.TITLE, "Newer title", StandardField.YEAR, "2021"), entry.getFieldMap());
+    }
+
+    @Test
+    void consecutiveChangesOfSameFieldAreMerged() {
+        change(entry, StandardField.TITLE, "{Title}");
+        change(entry, StandardField.TITLE, "{New} title");
+        changes.end();
+
+        assertEquals(1, changes.getNumberOfChanges());
+        changes.undo();
+        assertEquals(Optional.of("Title"), entry.getField(StandardField.TITLE));
+    }
+
+    @Test
+    void storesMoreChangesThanInitialCapacity() {
+        for (int i = 0; i < 100; i++) {
+            change(new BibEntry(), StandardField.YEAR, String.valueOf(i));
+        }
+        changes.end();
+
+        assertEquals(100, changes.getNumberOfChanges());
+    }
+
+    @Test
+    void cannotUndoBeforeEnd() {
+        change(entry, StandardField.TITLE, "New title");
+
+        assertThrows(CannotUndoException.class, () -> changes.undo());
+    }
+
+    private void change(BibEntry entry, StandardField field, String newValue) {
+        String oldValue = entry.getField(field).orElse(null);
+        if (newValue == null) {
+            entry.clearField(field);
+        } else {
+            entry.setField(field, newValue);
+        }
+        changes.add(entry, field, oldValue, newValue);
+    }
+}
@@ -0,0 +1,70 @@
+package org.jabref.logic.auxparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AuxFileCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path thesis;
+    private Path chapter;
+    private AuxFileCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        thesis = tempDir.resolve("thesis.aux");
+        chapter = tempDir.resolve("chapter.aux");
+        Files.writeString(thesis, "\\relax\n\\citation{Darwin1888}\n\\@input{chapter.aux}\n");
+        Files.writeString(chapter, "\\citation{Einstein1920,Newton1687}\n");
+        cache = new AuxFileCache();
+    }
+
+    @Test
+    void getCitationKeysIncludesNestedFiles() {
+        assertEquals(Set.of("Darwin1888", "Einstein1920", "Newton1687"), cache.getCitationKeys(thesis));
+    }
+
+    @Test
+    void getCitationKeysReturnsSameSetForUnchangedFiles() {
+        assertSame(cache.getCitationKeys(thesis), cache.getCitationKeys(thesis));
+    }
+
+    @Test
+    void getCitationKeysReadsChangedNestedFile() throws IOException {
+        cache.getCitationKeys(thesis);
+
+        Files.writeString(chapter, "\\citation{Einstein1920}\n\\abx@aux@cite{Curie1898}\n");
+        Files.setLastModifiedTime(chapter, FileTime.fromMillis(Files.getLastModifiedTime(chapter).toMillis() + 1000));
+
+        assertEquals(Set.of("Darwin1888", "Einstein1920", "Curie1898"), cache.getCitationKeys(thesis));
+    }
+
+    @Test
+    void getCitationKeysFollowsChangedInputs() throws IOException {
+        Path appendix = tempDir.resolve("appendix.aux");
+        Files.writeString(appendix, "\\citation{Turing1936}\n");
+        cache.getCitationKeys(thesis);
+
+        Files.writeString(thesis, "\\relax\n\\citation{Darwin1888}\n\\@input{appendix.aux}\n");
+        Files.setLastModifiedTime(thesis, FileTime.fromMillis(Files.getLastModifiedTime(thesis).toMillis() + 1000));
+
+        assertEquals(Set.of("Darwin1888", "Turing1936"), cache.getCitationKeys(thesis));
+    }
+
+    @Test
+    void getCitationKeysOfMissingFileIsEmpty() {
+        assertEquals(Set.of(), cache.getCitationKeys(tempDir.resolve("missing.aux")));
+    }
+}
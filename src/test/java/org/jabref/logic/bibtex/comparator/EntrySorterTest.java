@@ -0,0 +1,48 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EntrySorterTest {
+
+    @Test
+    void sortsByAllComparators() {
+        BibEntry first = new BibEntry().withField(StandardField.AUTHOR, "Doe").withField(StandardField.YEAR, "2000");
+        BibEntry second = new BibEntry().withField(StandardField.AUTHOR, "Doe").withField(StandardField.YEAR, "2010");
+        BibEntry third = new BibEntry().withField(StandardField.AUTHOR, "Smith").withField(StandardField.YEAR, "1990");
+
+        List<BibEntry> sorted = EntrySorter.sort(List.of(third, second, first),
+                List.of(new FieldComparator(StandardField.AUTHOR), new FieldComparator(StandardField.YEAR)));
+
+        assertEquals(List.of(first, second, third), sorted);
+    }
+
+    @Test
+    void keepsOrderOfEqualEntries() {
+        BibEntry first = new BibEntry().withField(StandardField.TITLE, "Title");
+        BibEntry second = new BibEntry().withField(StandardField.TITLE, "title");
+        BibEntry third = new BibEntry();
+
+        List<BibEntry> sorted = EntrySorter.sort(List.of(third, first, second), List.of(new FieldComparator(StandardField.TITLE)));
+
+        assertEquals(List.of(first, second, third), sorted);
+    }
+
+    @Test
+    void sortsAgainAfterFieldChange() {
+        BibEntry first = new BibEntry().withField(StandardField.TITLE, "A");
+        BibEntry second = new BibEntry().withField(StandardField.TITLE, "B");
+        List<FieldComparator> comparators = List.of(new FieldComparator(StandardField.TITLE));
+        assertEquals(List.of(first, second), EntrySorter.sort(List.of(second, first), comparators));
+
+        first.setField(StandardField.TITLE, "C");
+
+        assertEquals(List.of(second, first), EntrySorter.sort(List.of(second, first), comparators));
+    }
+}
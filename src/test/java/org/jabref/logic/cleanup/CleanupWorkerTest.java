@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.bibtex.FileFieldWriter;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
@@ -342,4 +343,56 @@ class CleanupWorkerTest {
         worker.cleanup(preset, entry);
         assertEquals(Optional.of("01"), entry.getField(StandardField.MONTH));
     }
+
+    @Test
+    void cleanupEntriesReturnsOneChangePerChangedField() {
+        CleanupPreset preset = new CleanupPreset(EnumSet.of(CleanupPreset.CleanupStep.CLEAN_UP_DOI),
+                new FieldFormatterCleanups(true, List.of(
+                        new FieldFormatterCleanup(StandardField.PAGES, new NormalizePagesFormatter()),
+                        new FieldFormatterCleanup(StandardField.TITLE, new HtmlToLatexFormatter()),
+                        new FieldFormatterCleanup(StandardField.TITLE, new UnitsToLatexFormatter()))));
+        BibEntry first = new BibEntry().withField(StandardField.PAGES, "1-2")
+                                       .withField(StandardField.DOI, "https://doi.org/10.1016/0001-8708(80)90035-3");
+        BibEntry second = new BibEntry().withField(StandardField.TITLE, "<b>1 A</b>");
+        BibEntry unchanged = new BibEntry().withField(StandardField.TITLE, "Title");
+
+        List<FieldChange> changes = worker.cleanupEntries(preset, List.of(first, second, unchanged));
+
+        assertEquals(Set.of(
+                new FieldChange(first, StandardField.PAGES, "1-2", "1--2"),
+                new FieldChange(first, StandardField.DOI, "https://doi.org/10.1016/0001-8708(80)90035-3", "10.1016/0001-8708(80)90035-3"),
+                new FieldChange(second, StandardField.TITLE, "<b>1 A</b>", "1~{A}")), Set.copyOf(changes));
+        assertEquals(3, changes.size());
+        assertEquals(Optional.of("1--2"), first.getField(StandardField.PAGES));
+        assertEquals(Optional.of("1~{A}"), second.getField(StandardField.TITLE));
+    }
+
+    @Test
+    void cleanupEntriesMovesPdfToFileField() {
+        CleanupPreset preset = new CleanupPreset(CleanupPreset.CleanupStep.CLEAN_UP_UPGRADE_EXTERNAL_LINKS);
+        BibEntry entry = new BibEntry().withField(StandardField.PDF, "aPdfFile");
+
+        List<FieldChange> changes = worker.cleanupEntries(preset, List.of(entry));
+
+        assertEquals(Optional.empty(), entry.getField(StandardField.PDF));
+        assertEquals(Optional.of("aPdfFile:aPdfFile:PDF"), entry.getField(StandardField.FILE));
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    void cleanupEntriesRenamesPdfAfterChangingFields(@TempDir Path bibFolder) throws IOException {
+        CleanupPreset preset = new CleanupPreset(EnumSet.of(CleanupPreset.CleanupStep.RENAME_PDF),
+                new FieldFormatterCleanups(true, List.of(new FieldFormatterCleanup(StandardField.PAGES, new NormalizePagesFormatter()))));
+        Path path = bibFolder.resolve("AnotherRandomlyNamedFile.tmp");
+        Files.createFile(path);
+        BibEntry entry = new BibEntry().withCitationKey("Toot")
+                                       .withField(StandardField.PAGES, "1-2")
+                                       .withField(StandardField.FILE, FileFieldWriter.getStringRepresentation(new LinkedFile("", path.toAbsolutePath(), "")));
+
+        worker.cleanupEntries(preset, List.of(entry));
+
+        assertEquals(Optional.of("1--2"), entry.getField(StandardField.PAGES));
+        assertEquals(Optional.of(FileFieldWriter.getStringRepresentation(new LinkedFile("", Path.of("Toot.tmp"), ""))),
+                entry.getField(StandardField.FILE));
+    }
 }
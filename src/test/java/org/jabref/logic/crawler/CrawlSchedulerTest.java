@@ -0,0 +1,189 @@
+package org.jabref.logic.crawler;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.bibtex.FieldContentFormatterPreferences;
+import org.jabref.logic.bibtex.FieldWriterPreferences;
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.PagedSearchBasedFetcher;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.paging.Page;
+import org.jabref.model.study.QueryResult;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CrawlSchedulerTest {
+
+    @TempDir
+    Path checkpointDirectory;
+    CrawlCheckpoint checkpoint;
+
+    @BeforeEach
+    void setUp() {
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.getFieldContentFormatterPreferences()).thenReturn(new FieldContentFormatterPreferences());
+        checkpoint = new CrawlCheckpoint(checkpointDirectory, importFormatPreferences, new FieldWriterPreferences(), new BibEntryTypesManager(), new DummyFileUpdateMonitor());
+    }
+
+    private CrawlScheduler createScheduler(int maxAttempts) {
+        return new CrawlScheduler(checkpoint, 4, Map.of(), 1000, maxAttempts, Duration.ofMillis(1));
+    }
+
+    private static BibEntry createEntry(String title) {
+        return new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, title);
+    }
+
+    private static List<String> getTitles(QueryResult queryResult, int fetcherIndex) {
+        return queryResult.getResultsPerFetcher().get(fetcherIndex).getFetchResult().getEntries().stream()
+                          .map(entry -> entry.getField(StandardField.TITLE).orElse(""))
+                          .collect(Collectors.toList());
+    }
+
+    @Test
+    void crawlSearchesAllQueriesInAllFetchers() throws Exception {
+        CountingFetcher first = new CountingFetcher("First", 0);
+        CountingFetcher second = new CountingFetcher("Second", 0);
+
+        CrawlScheduler.CrawlResult result = createScheduler(1).crawl(List.of("a", "b"), List.of(first.fetcher, second.fetcher));
+
+        assertEquals(List.of("a", "b"), result.getQueryResults().stream().map(QueryResult::getQuery).collect(Collectors.toList()));
+        assertEquals(List.of("First: b"), getTitles(result.getQueryResults().get(1), 0));
+        assertEquals(List.of("Second: b"), getTitles(result.getQueryResults().get(1), 1));
+        assertTrue(result.getFailedSearches().isEmpty());
+    }
+
+    @Test
+    void failedRequestIsRetried() throws Exception {
+        CountingFetcher fetcher = new CountingFetcher("Flaky", 2);
+
+        CrawlScheduler.CrawlResult result = createScheduler(3).crawl(List.of("a"), List.of(fetcher.fetcher));
+
+        assertEquals(List.of("Flaky: a"), getTitles(result.getQueryResults().get(0), 0));
+        assertEquals(3, fetcher.requests.get());
+    }
+
+    @Test
+    void searchFailingAfterAllAttemptsIsReported() throws Exception {
+        CountingFetcher working = new CountingFetcher("Working", 0);
+        CountingFetcher failing = new CountingFetcher("Failing", Integer.MAX_VALUE);
+
+        CrawlScheduler.CrawlResult result = createScheduler(2).crawl(List.of("a"), List.of(working.fetcher, failing.fetcher));
+
+        assertEquals(1, result.getQueryResults().get(0).getResultsPerFetcher().size());
+        assertEquals(1, result.getFailedSearches().size());
+        assertEquals("Failing", result.getFailedSearches().get(0).getFetcherName());
+        assertEquals(2, failing.requests.get());
+    }
+
+    @Test
+    void allPagesAreFetchedInOrder() throws Exception {
+        PagedFetcher fetcher = new PagedFetcher(45);
+
+        CrawlScheduler.CrawlResult result = createScheduler(1).crawl(List.of("a"), List.of(fetcher.fetcher));
+
+        List<String> expected = IntStream.range(0, 45).mapToObj(String::valueOf).collect(Collectors.toList());
+        assertEquals(expected, getTitles(result.getQueryResults().get(0), 0));
+        // the third page is not full, so the remaining pages are empty
+        assertEquals(5, fetcher.requests.get());
+    }
+
+    @Test
+    void furtherPagesAreNotRequestedIfFirstPageIsNotFull() throws Exception {
+        PagedFetcher fetcher = new PagedFetcher(5);
+
+        createScheduler(1).crawl(List.of("a"), List.of(fetcher.fetcher));
+
+        assertEquals(1, fetcher.requests.get());
+    }
+
+    @Test
+    void completedSearchesAreResumedFromCheckpoint() throws Exception {
+        CountingFetcher working = new CountingFetcher("Working", 0);
+        CountingFetcher failing = new CountingFetcher("Failing", 1);
+        createScheduler(1).crawl(List.of("a"), List.of(working.fetcher, failing.fetcher));
+
+        CrawlScheduler.CrawlResult result = createScheduler(1).crawl(List.of("a"), List.of(working.fetcher, failing.fetcher));
+
+        assertEquals(1, working.requests.get());
+        assertEquals(2, failing.requests.get());
+        assertEquals(List.of("Working: a"), getTitles(result.getQueryResults().get(0), 0));
+        assertEquals(List.of("Failing: a"), getTitles(result.getQueryResults().get(0), 1));
+    }
+
+    @Test
+    void clearedCheckpointIsNotResumed() throws Exception {
+        CountingFetcher fetcher = new CountingFetcher("Fetcher", 0);
+        createScheduler(1).crawl(List.of("a"), List.of(fetcher.fetcher));
+        checkpoint.clear();
+
+        createScheduler(1).crawl(List.of("a"), List.of(fetcher.fetcher));
+
+        assertEquals(2, fetcher.requests.get());
+    }
+
+    /**
+     * Returns a single entry per query after failing the given number of times. The fetcher is a mock, because classes
+     * implementing a fetcher interface are expected to be offered to the user (see WebFetchersTest).
+     */
+    private static class CountingFetcher {
+        private final SearchBasedFetcher fetcher = mock(SearchBasedFetcher.class);
+        private final AtomicInteger requests = new AtomicInteger();
+
+        CountingFetcher(String name, int failures) throws FetcherException {
+            when(fetcher.getName()).thenReturn(name);
+            when(fetcher.performSearch(anyString())).thenAnswer(invocation -> {
+                if (requests.incrementAndGet() <= failures) {
+                    throw new FetcherException("Service unavailable");
+                }
+                return List.of(createEntry(name + ": " + invocation.getArgument(0)));
+            });
+        }
+    }
+
+    /**
+     * Returns the given number of entries, numbered by their position, in pages of 20 entries
+     */
+    private static class PagedFetcher {
+        private static final int PAGE_SIZE = 20;
+        private final PagedSearchBasedFetcher fetcher = mock(PagedSearchBasedFetcher.class);
+        private final AtomicInteger requests = new AtomicInteger();
+
+        PagedFetcher(int numberOfResults) throws FetcherException {
+            when(fetcher.getName()).thenReturn("Paged");
+            when(fetcher.getPageSize()).thenReturn(PAGE_SIZE);
+            when(fetcher.performSearchPaged(anyString(), anyInt())).thenAnswer(invocation -> {
+                requests.incrementAndGet();
+                int pageNumber = invocation.getArgument(1);
+                List<BibEntry> entries = new ArrayList<>();
+                for (int i = pageNumber * PAGE_SIZE; i < Math.min(numberOfResults, (pageNumber + 1) * PAGE_SIZE); i++) {
+                    entries.add(createEntry(String.valueOf(i)));
+                }
+                return new Page<>(invocation.getArgument(0), pageNumber, entries);
+            });
+        }
+    }
+}
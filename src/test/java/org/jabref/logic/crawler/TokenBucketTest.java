@@ -0,0 +1,48 @@
+package org.jabref.logic.crawler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000;
+
+    @Test
+    void requestsAreSpacedByRate() {
+        TokenBucket bucket = new TokenBucket(2, 1);
+
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(SECOND / 2, bucket.reserve(0));
+        assertEquals(SECOND, bucket.reserve(0));
+    }
+
+    @Test
+    void burstIsSentImmediately() {
+        TokenBucket bucket = new TokenBucket(1, 3);
+
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(SECOND, bucket.reserve(0));
+    }
+
+    @Test
+    void bucketIsRefilledWhileIdle() {
+        TokenBucket bucket = new TokenBucket(1, 2);
+        bucket.reserve(0);
+        bucket.reserve(0);
+
+        assertEquals(5 * SECOND, bucket.reserve(5 * SECOND));
+        assertEquals(5 * SECOND, bucket.reserve(5 * SECOND));
+        assertEquals(6 * SECOND, bucket.reserve(5 * SECOND));
+    }
+
+    @Test
+    void requestIsNotSentBeforeRequestedTime() {
+        TokenBucket bucket = new TokenBucket(1, 1);
+
+        assertEquals(3 * SECOND, bucket.reserve(3 * SECOND));
+        assertEquals(4 * SECOND, bucket.reserve(0));
+    }
+}
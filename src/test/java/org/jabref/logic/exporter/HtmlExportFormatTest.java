@@ -7,6 +7,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.xmp.XmpPreferences;
@@ -24,6 +25,7 @@ import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class HtmlExportFormatTest {
     public BibDatabaseContext databaseContext;
@@ -36,6 +38,7 @@ public class HtmlExportFormatTest {
         List<TemplateExporter> customFormats = new ArrayList<>();
         LayoutFormatterPreferences layoutPreferences = mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS);
         SavePreferences savePreferences = mock(SavePreferences.class);
+        when(savePreferences.shouldSaveInOriginalOrder()).thenReturn(true);
         XmpPreferences xmpPreferences = mock(XmpPreferences.class);
         BibEntryTypesManager entryTypesManager = mock(BibEntryTypesManager.class);
         ExporterFactory exporterFactory = ExporterFactory.create(customFormats, layoutPreferences, savePreferences, xmpPreferences, BibDatabaseMode.BIBTEX, entryTypesManager);
@@ -63,4 +66,25 @@ public class HtmlExportFormatTest {
         List<String> lines = Files.readAllLines(path);
         assertEquals("</html>", lines.get(lines.size() - 1));
     }
+
+    @Test
+    public void exportOfManyEntriesKeepsEntryOrder(@TempDir Path testFolder) throws Exception {
+        List<BibEntry> manyEntries = new ArrayList<>();
+        List<String> expectedKeys = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            String key = "key" + (3000 - i);
+            manyEntries.add(new BibEntry().withCitationKey(key).withField(StandardField.TITLE, "title " + i));
+            expectedKeys.add(key);
+        }
+
+        Path path = testFolder.resolve("ThisIsARandomlyNamedFile");
+        exportFormat.export(databaseContext, path, charset, manyEntries);
+
+        List<String> exportedKeys = Files.readAllLines(path).stream()
+                                         .map(String::trim)
+                                         .filter(line -> line.startsWith("<a name=\""))
+                                         .map(line -> line.substring("<a name=\"".length(), line.indexOf('"', "<a name=\"".length())))
+                                         .collect(Collectors.toList());
+        assertEquals(expectedKeys, exportedKeys);
+    }
 }
@@ -62,4 +62,14 @@ public class HtmlToLatexFormatterTest {
     public void formatExample() {
         assertEquals("JabRef", formatter.format(formatter.getExampleInput()));
     }
+
+    @Test
+    public void testConvertedEntityIsNotConvertedAgain() {
+        assertEquals("\\&lt;", formatter.format("&amp;lt;"));
+    }
+
+    @Test
+    public void testUnknownEntitiesAreKept() {
+        assertEquals("&unknown; &#99999999;", formatter.format("&unknown; &#99999999;"));
+    }
 }
@@ -55,6 +55,19 @@ public class HtmlToUnicodeFormatterTest {
     public void formatExample() {
         assertEquals("bread & butter", formatter.format(formatter.getExampleInput()));
     }
-}
 
+    @Test
+    public void testEscapedTagIsRemoved() {
+        assertEquals("a  b", formatter.format("a &lt;i&gt; b"));
+    }
 
+    @Test
+    public void testUnclosedTagIsKept() {
+        assertEquals("a < b", formatter.format("a &lt; b"));
+    }
+
+    @Test
+    public void testSupplementaryCharacter() {
+        assertEquals("\uD835\uDC9C", formatter.format("&#x1D49C;"));
+    }
+}
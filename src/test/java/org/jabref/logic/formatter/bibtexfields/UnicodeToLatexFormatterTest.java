@@ -25,6 +25,8 @@ class UnicodeToLatexFormatterTest {
                          Arguments.of("{{\\aa}}{\\\"{a}}{\\\"{o}}", "\u00E5\u00E4\u00F6"), // multiple unicodes input
                          Arguments.of("", "\u0081"), // high code point unicode, boundary case: cp = 129
                          Arguments.of("", "\u0080"), // high code point unicode, boundary case: cp = 128 < 129
+                         Arguments.of("{\\'{e}}t{\\'{e}}", "e\u0301te\u0301"), // combining accents
+                         Arguments.of("{\\\"{a}}{\\'{e}}", "\u00E4e\u0301"), // precomposed character and combining accent
                          Arguments.of("M{\\\"{o}}nch", new UnicodeToLatexFormatter().getExampleInput()));
     }
 
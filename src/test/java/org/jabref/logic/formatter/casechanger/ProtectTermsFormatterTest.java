@@ -56,4 +56,9 @@ public class ProtectTermsFormatterTest {
         assertEquals("{Testing BPEL Engine Performance: A Survey}",
                 formatter.format("{Testing BPEL Engine Performance: A Survey}"));
     }
+
+    @Test
+    public void testProtectAdjacentTerms() {
+        assertEquals("{VLSI} {VLSI} {CDMA}", formatter.format("VLSI VLSI CDMA"));
+    }
 }
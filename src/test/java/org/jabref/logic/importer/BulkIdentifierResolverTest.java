@@ -0,0 +1,197 @@
+package org.jabref.logic.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.DOI;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkIdentifierResolverTest {
+
+    private static final String ISBN = "9780134685991";
+
+    private final List<List<String>> requestedBatches = new CopyOnWriteArrayList<>();
+    private final RecordingFetcher doiFetcher = new RecordingFetcher();
+    private final RecordingFetcher isbnFetcher = new RecordingFetcher();
+
+    private static BibEntry entryWithDoi(String doi) {
+        return new BibEntry().withField(StandardField.DOI, doi);
+    }
+
+    private static BibEntry fetchedEntry(String doi) {
+        return new BibEntry().withField(StandardField.DOI, doi)
+                             .withField(StandardField.TITLE, "Title of " + doi);
+    }
+
+    /**
+     * Creates a resolver whose CrossRef batches know all DOIs except the given ones
+     */
+    private BulkIdentifierResolver createResolver(String... unknownDois) {
+        List<String> unknown = List.of(unknownDois);
+        return new BulkIdentifierResolver(dois -> {
+            requestedBatches.add(dois.stream().map(DOI::getDOI).collect(Collectors.toList()));
+            return dois.stream()
+                       .map(DOI::getDOI)
+                       .filter(doi -> !unknown.contains(doi))
+                       .map(BulkIdentifierResolverTest::fetchedEntry)
+                       .collect(Collectors.toList());
+        }, doiFetcher.fetcher, isbnFetcher.fetcher, 4);
+    }
+
+    @Test
+    void entriesSharingDoiAreResolvedOnce() {
+        BibEntry first = entryWithDoi("10.1000/a");
+        BibEntry second = entryWithDoi("https://doi.org/10.1000/A");
+
+        BulkIdentifierResolver.Result result = createResolver().resolveMetadata(List.of(first, second), (done, total) -> { });
+
+        assertEquals(List.of(List.of("10.1000/a")), requestedBatches);
+        assertSame(result.getFetchedEntries().get(first), result.getFetchedEntries().get(second));
+        assertEquals(List.of(), result.getUnresolvedIdentifiers());
+    }
+
+    @Test
+    void doisAreRequestedInBatches() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < BulkIdentifierResolver.DOI_BATCH_SIZE + 1; i++) {
+            entries.add(entryWithDoi("10.1000/" + i));
+        }
+
+        BulkIdentifierResolver.Result result = createResolver().resolveMetadata(entries, (done, total) -> { });
+
+        assertEquals(2, requestedBatches.size());
+        assertEquals(entries.size(), result.getFetchedEntries().size());
+        assertEquals(0, doiFetcher.requests.size());
+    }
+
+    @Test
+    void doiUnknownToCrossRefIsRequestedSingly() {
+        BibEntry known = entryWithDoi("10.1000/known");
+        BibEntry unknown = entryWithDoi("10.5281/zenodo.1");
+        doiFetcher.results.put("10.5281/zenodo.1", fetchedEntry("10.5281/zenodo.1"));
+
+        BulkIdentifierResolver.Result result = createResolver("10.5281/zenodo.1").resolveMetadata(List.of(known, unknown), (done, total) -> { });
+
+        assertEquals(List.of("10.5281/zenodo.1"), doiFetcher.requests);
+        assertEquals(Optional.of("Title of 10.5281/zenodo.1"), result.getFetchedEntries().get(unknown).getField(StandardField.TITLE));
+    }
+
+    @Test
+    void unresolvableIdentifiersAreReported() {
+        BibEntry entry = entryWithDoi("10.1000/missing");
+
+        BulkIdentifierResolver.Result result = createResolver("10.1000/missing").resolveMetadata(List.of(entry), (done, total) -> { });
+
+        assertTrue(result.getFetchedEntries().isEmpty());
+        assertEquals(List.of("10.1000/missing"), result.getUnresolvedIdentifiers());
+    }
+
+    @Test
+    void isbnIsResolvedIfDoiIsMissing() {
+        BibEntry entry = new BibEntry().withField(StandardField.ISBN, "978-0-13-468599-1");
+        BibEntry invalidIsbn = new BibEntry().withField(StandardField.ISBN, "123");
+        isbnFetcher.results.put(ISBN, new BibEntry().withField(StandardField.TITLE, "Effective Java"));
+
+        BulkIdentifierResolver.Result result = createResolver().resolveMetadata(List.of(entry, invalidIsbn), (done, total) -> { });
+
+        assertEquals(List.of(ISBN), isbnFetcher.requests);
+        assertEquals(1, result.getFetchedEntries().size());
+        assertTrue(requestedBatches.isEmpty());
+    }
+
+    @Test
+    void progressReachesNumberOfIdentifiers() {
+        List<BibEntry> entries = List.of(entryWithDoi("10.1000/a"), entryWithDoi("10.1000/a"), entryWithDoi("10.1000/unknown"),
+                new BibEntry().withField(StandardField.ISBN, ISBN));
+        AtomicInteger maxDone = new AtomicInteger();
+        List<Integer> totals = new CopyOnWriteArrayList<>();
+
+        createResolver("10.1000/unknown").resolveMetadata(entries, (done, total) -> {
+            maxDone.accumulateAndGet(done, Math::max);
+            totals.add(total);
+        });
+
+        assertEquals(3, maxDone.get());
+        assertTrue(totals.stream().allMatch(total -> total == 3));
+    }
+
+    @Test
+    void lookUpReturnsResultsPerEntry() {
+        BibEntry first = new BibEntry().withField(StandardField.TITLE, "Same");
+        BibEntry second = new BibEntry().withField(StandardField.TITLE, "Same");
+        AtomicInteger calls = new AtomicInteger();
+
+        Map<BibEntry, Integer> results = createResolver().lookUp(List.of(first, second),
+                entry -> Optional.of(calls.incrementAndGet()), (done, total) -> { });
+
+        assertEquals(2, results.size());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void failedLookupIsSkipped() {
+        BibEntry entry = new BibEntry();
+
+        Map<BibEntry, String> results = createResolver().lookUp(List.of(entry), e -> {
+            throw new FetcherException("Service unavailable");
+        }, (done, total) -> { });
+
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    void mergeKeepsExistingFields() {
+        BibEntry original = new BibEntry().withField(StandardField.DOI, "10.1000/a")
+                                          .withField(StandardField.TITLE, "My title")
+                                          .withCitationKey("key");
+        BibEntry fetched = fetchedEntry("10.1000/a").withField(StandardField.YEAR, "2021")
+                                                    .withCitationKey("other");
+
+        List<FieldChange> changes = BulkIdentifierResolver.mergeMissingFields(Map.of(original, fetched));
+
+        assertEquals(1, changes.size());
+        assertEquals(new BibEntry().withField(StandardField.DOI, "10.1000/a")
+                                   .withField(StandardField.TITLE, "My title")
+                                   .withField(StandardField.YEAR, "2021")
+                                   .withCitationKey("key"), original);
+    }
+
+    /**
+     * Records the requested identifiers. The fetcher is a mock, because classes implementing a fetcher interface are
+     * expected to be offered to the user (see WebFetchersTest).
+     */
+    private static class RecordingFetcher {
+        private final IdBasedFetcher fetcher = mock(IdBasedFetcher.class);
+        private final List<String> requests = new CopyOnWriteArrayList<>();
+        private final Map<String, BibEntry> results = new ConcurrentHashMap<>();
+
+        RecordingFetcher() {
+            try {
+                when(fetcher.performSearchById(anyString())).thenAnswer(invocation -> {
+                    String identifier = invocation.getArgument(0);
+                    requests.add(identifier);
+                    return Optional.ofNullable(results.get(identifier));
+                });
+            } catch (FetcherException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package org.jabref.logic.importer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.logic.importer.LibrarySnapshotCache.LibraryVersion;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LibrarySnapshotCacheTest {
+
+    private static final String LIBRARY = "% Encoding: UTF-8\n"
+            + "\n"
+            + "@Preamble{\"\\newcommand{\\noopsort}[1]{}\"}\n"
+            + "\n"
+            + "@String{ieee = {IEEE}}\n"
+            + "\n"
+            + "This is a comment\n"
+            + "@Article{Smith2020,\n"
+            + "  author    = {Smith, John and Doe, Jane},\n"
+            + "  title     = {A {Title} with $\\alpha$ and ümlauts},\n"
+            + "  journal   = ieee # { Transactions},\n"
+            + "  keywords  = {a, b},\n"
+            + "  groups    = {Group A},\n"
+            + "}\n"
+            + "\n"
+            + "@Misc{Doe2021,\n"
+            + "  note      = {Custom field follows},\n"
+            + "  customfield = {Value},\n"
+            + "}\n"
+            + "\n"
+            + "@Comment{jabref-meta: databaseType:bibtex;}\n"
+            + "\n"
+            + "@Comment{jabref-meta: grouping:\n"
+            + "0 AllEntriesGroup:;\n"
+            + "1 StaticGroup:Group A\\;0\\;1\\;\\;\\;\\;;\n"
+            + "}\n"
+            + "\n"
+            + "@Comment{jabref-entrytype: Thesis: req[author;title] opt[year]}\n"
+            + "\n"
+            + "The epilog\n";
+
+    @TempDir
+    Path tempDir;
+
+    private Path library;
+    private LibrarySnapshotCache cache;
+    private ImportFormatPreferences importFormatPreferences;
+    private final FileUpdateMonitor fileMonitor = new DummyFileUpdateMonitor();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, LIBRARY, StandardCharsets.UTF_8);
+        cache = new LibrarySnapshotCache(tempDir.resolve("snapshots"), 0);
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+    }
+
+    @Test
+    void loadReturnsStoredResult() throws IOException {
+        LibraryVersion version = LibraryVersion.of(library);
+        ParserResult parsed = parse();
+        cache.store(library, version, parsed, importFormatPreferences);
+
+        ParserResult loaded = cache.load(library, version, importFormatPreferences, fileMonitor).get();
+
+        assertEquals(parsed.getDatabase().getEntries(), loaded.getDatabase().getEntries());
+        assertEquals(parsed.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).collect(Collectors.toList()),
+                loaded.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).collect(Collectors.toList()));
+        assertFalse(loaded.getDatabase().getEntries().stream().anyMatch(BibEntry::hasChanged));
+        assertEquals(parsed.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).collect(Collectors.toList()),
+                loaded.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).collect(Collectors.toList()));
+        assertEquals(parsed.getDatabase().getPreamble(), loaded.getDatabase().getPreamble());
+        assertEquals(parsed.getDatabase().getEpilog(), loaded.getDatabase().getEpilog());
+        assertEquals(parsed.getEntryTypes(), loaded.getEntryTypes());
+        assertEquals(parsed.getMetaData(), loaded.getMetaData());
+        assertEquals(Optional.of(library), loaded.getPath());
+    }
+
+    @Test
+    void loadIgnoresSnapshotOfChangedFile() throws IOException {
+        cache.store(library, LibraryVersion.of(library), parse(), importFormatPreferences);
+        Files.writeString(library, LIBRARY.replace("Smith2020", "Smith2021"), StandardCharsets.UTF_8);
+
+        assertEquals(Optional.empty(), cache.load(library, LibraryVersion.of(library), importFormatPreferences, fileMonitor));
+    }
+
+    @Test
+    void loadIgnoresSnapshotStoredWithOtherPreferences() throws IOException {
+        LibraryVersion version = LibraryVersion.of(library);
+        cache.store(library, version, parse(), importFormatPreferences);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(';');
+
+        assertEquals(Optional.empty(), cache.load(library, version, importFormatPreferences, fileMonitor));
+    }
+
+    @Test
+    void loadIgnoresCorruptSnapshot() throws IOException {
+        LibraryVersion version = LibraryVersion.of(library);
+        cache.store(library, version, parse(), importFormatPreferences);
+        try (var snapshots = Files.list(tempDir.resolve("snapshots"))) {
+            Path snapshot = snapshots.findFirst().get();
+            byte[] content = Files.readAllBytes(snapshot);
+            Files.write(snapshot, Arrays.copyOf(content, content.length / 2));
+        }
+
+        assertEquals(Optional.empty(), cache.load(library, version, importFormatPreferences, fileMonitor));
+    }
+
+    @Test
+    void snapshotIsNamedBySha256OfNormalizedPath() throws IOException {
+        cache.store(tempDir.resolve("sub").resolve("..").resolve("library.bib"), LibraryVersion.of(library), parse(), importFormatPreferences);
+
+        String pathHash = Hashing.sha256().hashString(library.toAbsolutePath().toString(), StandardCharsets.UTF_8).toString();
+        assertEquals(List.of(pathHash + ".snapshot"), listSnapshots());
+    }
+
+    @Test
+    void loadDeletesStaleSnapshot() throws IOException {
+        cache.store(library, LibraryVersion.of(library), parse(), importFormatPreferences);
+        Files.writeString(library, LIBRARY.replace("Smith2020", "Smith2021"), StandardCharsets.UTF_8);
+
+        cache.load(library, LibraryVersion.of(library), importFormatPreferences, fileMonitor);
+
+        assertEquals(List.of(), listSnapshots());
+    }
+
+    @Test
+    void removeObsoleteSnapshotsKeepsSnapshotOfUnchangedLibrary() throws IOException {
+        cache.store(library, LibraryVersion.of(library), parse(), importFormatPreferences);
+
+        cache.removeObsoleteSnapshots();
+
+        assertTrue(cache.load(library, LibraryVersion.of(library), importFormatPreferences, fileMonitor).isPresent());
+    }
+
+    @Test
+    void removeObsoleteSnapshotsDeletesSnapshotsOfDeletedAndChangedLibraries() throws IOException {
+        Path otherLibrary = tempDir.resolve("other.bib");
+        Files.writeString(otherLibrary, LIBRARY, StandardCharsets.UTF_8);
+        cache.store(library, LibraryVersion.of(library), parse(), importFormatPreferences);
+        cache.store(otherLibrary, LibraryVersion.of(otherLibrary), parse(), importFormatPreferences);
+        Files.delete(otherLibrary);
+        Files.writeString(library, LIBRARY + "\n", StandardCharsets.UTF_8);
+
+        cache.removeObsoleteSnapshots();
+
+        assertEquals(List.of(), listSnapshots());
+    }
+
+    @Test
+    void removeObsoleteSnapshotsDeletesCorruptSnapshotsAndOlderFormats() throws IOException {
+        Path snapshots = tempDir.resolve("snapshots");
+        Path currentDirectory = snapshots.resolve(String.valueOf(LibrarySnapshotCache.FORMAT_VERSION));
+        Path olderDirectory = snapshots.resolve(String.valueOf(LibrarySnapshotCache.FORMAT_VERSION - 1));
+        Files.createDirectories(currentDirectory);
+        Files.createDirectories(olderDirectory);
+        Files.writeString(currentDirectory.resolve("corrupt.snapshot"), "corrupt");
+        Files.writeString(olderDirectory.resolve("12345.snapshot"), "old");
+
+        new LibrarySnapshotCache(currentDirectory, 0).removeObsoleteSnapshots();
+
+        assertFalse(Files.exists(currentDirectory.resolve("corrupt.snapshot")));
+        assertFalse(Files.exists(olderDirectory));
+    }
+
+    @Test
+    void loadDatabaseStoresSnapshotForNextLoad() throws IOException {
+        ParserResult parsed = OpenDatabase.loadDatabase(library, importFormatPreferences, fileMonitor, cache);
+
+        assertTrue(cache.load(library, LibraryVersion.of(library), importFormatPreferences, fileMonitor).isPresent());
+        ParserResult loaded = OpenDatabase.loadDatabase(library, importFormatPreferences, fileMonitor, cache);
+        assertEquals(parsed.getDatabase().getEntries(), loaded.getDatabase().getEntries());
+        assertEquals(parsed.getMetaData(), loaded.getMetaData());
+    }
+
+    @Test
+    void getVersionSkipsLibrariesSmallerThanMinimumSize() throws IOException {
+        LibrarySnapshotCache largeLibrariesOnly = new LibrarySnapshotCache(tempDir.resolve("snapshots"), Files.size(library) + 1);
+
+        assertEquals(Optional.empty(), largeLibrariesOnly.getVersion(library));
+        assertEquals(Optional.of(LibraryVersion.of(library)), cache.getVersion(library));
+    }
+
+    @Test
+    void loadDatabaseDoesNotStoreSnapshotOfSmallLibrary() throws IOException {
+        LibrarySnapshotCache largeLibrariesOnly = new LibrarySnapshotCache(tempDir.resolve("snapshots"), Files.size(library) + 1);
+
+        OpenDatabase.loadDatabase(library, importFormatPreferences, fileMonitor, largeLibrariesOnly);
+
+        assertEquals(Optional.empty(), cache.load(library, LibraryVersion.of(library), importFormatPreferences, fileMonitor));
+    }
+
+    private List<String> listSnapshots() throws IOException {
+        try (Stream<Path> snapshots = Files.list(tempDir.resolve("snapshots"))) {
+            return snapshots.map(snapshot -> snapshot.getFileName().toString()).collect(Collectors.toList());
+        }
+    }
+
+    private ParserResult parse() throws IOException {
+        return new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(library, StandardCharsets.UTF_8);
+    }
+}
@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -103,6 +105,25 @@ class OpenDatabaseTest {
         assertEquals(Optional.of("2014"), db.getEntryByCitationKey("1").get().getField(StandardField.YEAR));
     }
 
+    @Test
+    void loadedDatabaseHasNoDeferredEntries() throws IOException {
+        ParserResult result = OpenDatabase.loadDatabase(bibHeader, importFormatPreferences, fileMonitor);
+
+        assertFalse(result.hasDeferredEntries());
+    }
+
+    @Test
+    void completeDeferredLoadingLoadsEntriesOnce() throws IOException {
+        ParserResult result = OpenDatabase.loadDatabaseDeferringEntries(bibHeader, importFormatPreferences, fileMonitor);
+        assertTrue(result.hasDeferredEntries());
+
+        OpenDatabase.completeDeferredLoading(result, importFormatPreferences);
+
+        assertFalse(result.hasDeferredEntries());
+        assertFalse(result.getDatabase().getEntries().get(0).hasDeferredContent());
+        assertEquals(Optional.of("2014"), result.getDatabase().getEntryByCitationKey("1").get().getField(StandardField.YEAR));
+    }
+
     /**
      * Test for #669
      */
@@ -2,6 +2,7 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.InetAddress;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -11,7 +12,11 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.logic.bibtex.FieldWriterPreferences;
 import org.jabref.logic.citationkeypattern.AbstractCitationKeyPattern;
 import org.jabref.logic.citationkeypattern.DatabaseCitationKeyPattern;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
@@ -26,6 +31,7 @@ import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
+import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.Date;
 import org.jabref.model.entry.Month;
@@ -1812,4 +1818,139 @@ class BibtexParserTest {
 
         assertEquals(Optional.of("#apr#"), result.get().getField(StandardField.MONTH));
     }
+
+    @Test
+    void deferredParsingLoadsFieldsOnFirstAccess() throws IOException {
+        ParserResult result = new BibtexParser(importFormatPreferences, fileMonitor, true)
+                .parse(new StringReader("@article{test,author={Ed von Test}}"));
+        BibEntry entry = result.getDatabase().getEntries().get(0);
+
+        assertTrue(entry.hasDeferredContent());
+        assertEquals(Optional.of("test"), entry.getCitationKey());
+        assertTrue(entry.hasDeferredContent());
+
+        assertEquals(Optional.of("Ed von Test"), entry.getField(StandardField.AUTHOR));
+        assertFalse(entry.hasDeferredContent());
+        assertFalse(entry.hasChanged());
+    }
+
+    @Test
+    void unparseableDeferredEntryIsWrittenAsReadAfterEdit() throws IOException {
+        String serialization = "@Article{test, author = {Ed von Test} title = {Missing comma}}";
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withCitationKey("test");
+        entry.setParsedSerialization(serialization);
+        entry.setDeferredContent(BibtexParser.parseEntryLater(serialization, importFormatPreferences));
+
+        entry.setField(StandardField.YEAR, "2021");
+        StringWriter stringWriter = new StringWriter();
+        new BibEntryWriter(new FieldWriter(mock(FieldWriterPreferences.class, Answers.RETURNS_DEEP_STUBS)), new BibEntryTypesManager())
+                .write(entry, stringWriter, BibDatabaseMode.BIBTEX);
+
+        assertTrue(entry.isUnparseable());
+        assertEquals(serialization, stringWriter.toString());
+    }
+
+    @Test
+    void deferredParsingYieldsSameResultAsParsing() throws IOException {
+        String bibtex = "% Encoding: UTF-8" + OS.NEWLINE + OS.NEWLINE
+                + "@String{aaai = {AAAI Press}}" + OS.NEWLINE + OS.NEWLINE
+                + "@Comment{some comment}" + OS.NEWLINE
+                + "@Article{first," + OS.NEWLINE
+                + "  author    = {Ed von Test and Other, Anne}," + OS.NEWLINE
+                + "  publisher = aaai # {, Palo Alto}," + OS.NEWLINE
+                + "  year      = 2020," + OS.NEWLINE
+                + "}" + OS.NEWLINE + OS.NEWLINE
+                + "@Book(second, title = \"A {\\\"u}mlaut\")" + OS.NEWLINE;
+
+        ParserResult expected = parser.parse(new StringReader(bibtex));
+        ParserResult deferred = new BibtexParser(importFormatPreferences, fileMonitor, true).parse(new StringReader(bibtex));
+        List<BibEntry> entries = deferred.getDatabase().getEntries();
+
+        assertEquals(expected.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).collect(Collectors.toList()),
+                deferred.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).collect(Collectors.toList()));
+        assertEquals(List.of("first", "second"), entries.stream().map(entry -> entry.getCitationKey().get()).collect(Collectors.toList()));
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry expectedEntry = expected.getDatabase().getEntries().get(i);
+            assertEquals(expectedEntry.getParsedSerialization(), entries.get(i).getParsedSerialization());
+            assertEquals(expectedEntry.getUserComments(), entries.get(i).getUserComments());
+        }
+        assertEquals(expected.getDatabase().getEntries(), entries);
+    }
+
+    @Test
+    void parseInParallelYieldsSameResultAsParsing() throws IOException {
+        String bibtex = "% Encoding: UTF-8" + OS.NEWLINE + OS.NEWLINE
+                + "@Preamble{\\newcommand{\\noopsort}[1]{}}" + OS.NEWLINE + OS.NEWLINE
+                + "@String{aaai = {AAAI Press}}" + OS.NEWLINE + OS.NEWLINE
+                + "@Article{first," + OS.NEWLINE
+                + "  author    = {Ed von Test}," + OS.NEWLINE
+                + "  publisher = aaai," + OS.NEWLINE
+                + "}" + OS.NEWLINE + OS.NEWLINE
+                + "% a comment belonging to the second entry" + OS.NEWLINE
+                + "@Book(second, title = {Title})" + OS.NEWLINE
+                + "@String{ieee = {IEEE}}" + OS.NEWLINE
+                + "@Misc{third, note = {Note}}" + OS.NEWLINE + OS.NEWLINE
+                + "@Comment{jabref-meta: grouping:" + OS.NEWLINE
+                + "0 AllEntriesGroup:;" + OS.NEWLINE
+                + "1 StaticGroup:Static\\;0\\;1\\;\\;\\;\\;;" + OS.NEWLINE
+                + "}" + OS.NEWLINE + OS.NEWLINE
+                + "some epilog" + OS.NEWLINE;
+
+        assertParsedInParallelLikeSequentially(bibtex);
+    }
+
+    @Test
+    void parseInParallelFallsBackToSequentialParsingForCommentsBetweenEntries() throws IOException {
+        String bibtex = "@Article{first, title = {First}}" + OS.NEWLINE
+                + "@Comment{not a meta comment}" + OS.NEWLINE
+                + "@Article{second, title = {Second}}" + OS.NEWLINE
+                + "@Article{third, title = {Third}}" + OS.NEWLINE;
+
+        assertParsedInParallelLikeSequentially(bibtex);
+    }
+
+    @Test
+    void parseInParallelFallsBackToSequentialParsingForItemLikeTextInField() throws IOException {
+        String bibtex = "@Article{first, title = {First}}" + OS.NEWLINE
+                + "@Misc{second, abstract = {{Text}" + OS.NEWLINE
+                + "@not an entry}}" + OS.NEWLINE
+                + "@Article{third, title = {Third}}" + OS.NEWLINE;
+
+        assertParsedInParallelLikeSequentially(bibtex);
+    }
+
+    @Test
+    void parseInParallelReportsSameWarningsAsParsing() throws IOException {
+        String bibtex = "@String{name = {First}}" + OS.NEWLINE
+                + "@Article{first, title = {First}}" + OS.NEWLINE
+                + "@String{name = {Second}}" + OS.NEWLINE
+                + "@Article{second title = {Second}}" + OS.NEWLINE
+                + "@Article{third, title = {Third}}" + OS.NEWLINE;
+
+        assertParsedInParallelLikeSequentially(bibtex);
+    }
+
+    private void assertParsedInParallelLikeSequentially(String bibtex) throws IOException {
+        ParserResult expected = new BibtexParser(importFormatPreferences, fileMonitor).parse(new StringReader(bibtex));
+        // the smallest chunk size splits the content after each item
+        ParserResult result = parser.parseInParallel(new StringReader(bibtex), 1);
+
+        assertEquals(expected.getDatabase().getEntries(), result.getDatabase().getEntries());
+        for (int i = 0; i < expected.getDatabase().getEntries().size(); i++) {
+            BibEntry expectedEntry = expected.getDatabase().getEntries().get(i);
+            BibEntry entry = result.getDatabase().getEntries().get(i);
+            assertEquals(expectedEntry.getParsedSerialization(), entry.getParsedSerialization());
+            assertEquals(expectedEntry.getUserComments(), entry.getUserComments());
+        }
+        for (BibtexString expectedString : expected.getDatabase().getStringValues()) {
+            BibtexString string = result.getDatabase().getStringByName(expectedString.getName()).get();
+            assertEquals(expectedString.getContent(), string.getContent());
+            assertEquals(expectedString.getParsedSerialization(), string.getParsedSerialization());
+        }
+        assertEquals(expected.getDatabase().getStringCount(), result.getDatabase().getStringCount());
+        assertEquals(expected.getDatabase().getPreamble(), result.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+        assertEquals(expected.getMetaData(), result.getMetaData());
+        assertEquals(expected.warnings(), result.warnings());
+    }
 }
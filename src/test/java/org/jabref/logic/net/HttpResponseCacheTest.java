@@ -0,0 +1,136 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpResponseCacheTest {
+
+    private static final byte[] BODY = new byte[1000];
+
+    @TempDir
+    Path directory;
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void requestedUriIsNotStored() throws IOException {
+        HttpResponseCache cache = new HttpResponseCache(directory, Duration.ofHours(1), HttpResponseCache.DEFAULT_MAX_TOTAL_SIZE, clock);
+
+        cache.put(URI.create("https://example.org/search?apikey=secret"), Map.of(), BODY, Optional.empty(), Optional.empty(), Optional.empty());
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertFalse(files.anyMatch(file -> readString(file).contains("secret") || file.toString().contains("secret")));
+        }
+        assertTrue(cache.get(URI.create("https://example.org/search?apikey=secret"), Map.of()).isPresent());
+    }
+
+    @Test
+    void leastRecentlyUsedResponseIsEvictedIfCacheIsTooLarge() {
+        HttpResponseCache cache = new HttpResponseCache(directory, Duration.ofHours(1), 3000, clock);
+        put(cache, "first");
+        put(cache, "second");
+        // used after the second one was stored
+        assertTrue(cache.get(uri("first"), Map.of()).isPresent());
+
+        put(cache, "third");
+
+        assertTrue(cache.get(uri("first"), Map.of()).isPresent());
+        assertFalse(cache.get(uri("second"), Map.of()).isPresent());
+        assertTrue(cache.get(uri("third"), Map.of()).isPresent());
+    }
+
+    @Test
+    void removeObsoleteResponsesDeletesExpiredResponsesWhichCannotBeRevalidated() {
+        HttpResponseCache cache = new HttpResponseCache(directory, Duration.ofHours(1), HttpResponseCache.DEFAULT_MAX_TOTAL_SIZE, clock);
+        put(cache, "expired");
+        cache.put(uri("tagged"), Map.of(), BODY, Optional.of("\"v1\""), Optional.empty(), Optional.empty());
+        clock.advance(Duration.ofHours(2));
+        put(cache, "fresh");
+
+        cache.removeObsoleteResponses();
+
+        assertFalse(cache.get(uri("expired"), Map.of()).isPresent());
+        assertTrue(cache.get(uri("tagged"), Map.of()).isPresent());
+        assertTrue(cache.get(uri("fresh"), Map.of()).isPresent());
+    }
+
+    @Test
+    void removeObsoleteResponsesDeletesResponsesUnusedForLongTime() {
+        HttpResponseCache cache = new HttpResponseCache(directory, Duration.ofHours(1), HttpResponseCache.DEFAULT_MAX_TOTAL_SIZE, clock);
+        cache.put(uri("tagged"), Map.of(), BODY, Optional.of("\"v1\""), Optional.empty(), Optional.empty());
+        clock.advance(HttpResponseCache.MAX_UNUSED_TIME.plusDays(1));
+
+        cache.removeObsoleteResponses();
+
+        assertFalse(cache.get(uri("tagged"), Map.of()).isPresent());
+    }
+
+    @Test
+    void removeObsoleteResponsesDeletesIncompleteResponses() throws IOException {
+        HttpResponseCache cache = new HttpResponseCache(directory, Duration.ofHours(1), HttpResponseCache.DEFAULT_MAX_TOTAL_SIZE, clock);
+        Path bodyWithoutMetadata = directory.resolve("0123.body");
+        Files.write(bodyWithoutMetadata, BODY);
+
+        cache.removeObsoleteResponses();
+
+        assertFalse(Files.exists(bodyWithoutMetadata));
+    }
+
+    private void put(HttpResponseCache cache, String path) {
+        cache.put(uri(path), Map.of(), BODY, Optional.empty(), Optional.empty(), Optional.empty());
+        clock.advance(Duration.ofMinutes(1));
+    }
+
+    private static URI uri(String path) {
+        return URI.create("https://example.org/" + path);
+    }
+
+    private static String readString(Path file) {
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        // file times are stored in seconds on some file systems
+        private Instant now = Instant.parse("2021-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
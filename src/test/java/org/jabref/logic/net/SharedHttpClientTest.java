@@ -0,0 +1,247 @@
+package org.jabref.logic.net;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.CookieHandler;
+import java.net.HttpCookie;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SharedHttpClientTest {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/plain", exchange -> respond(exchange, "plain content".getBytes(StandardCharsets.UTF_8)));
+        server.createContext("/gzip", exchange -> {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write("compressed content".getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            respond(exchange, compressed.toByteArray());
+        });
+        server.createContext("/etag", exchange -> {
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                requests.incrementAndGet();
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+            } else {
+                respond(exchange, "tagged content".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.createContext("/login", exchange -> {
+            exchange.getResponseHeaders().add("Set-Cookie", "session=42; Path=/");
+            respond(exchange, "logged in".getBytes(StandardCharsets.UTF_8));
+        });
+        server.createContext("/cookie", exchange -> respond(exchange, String.valueOf(exchange.getRequestHeaders().getFirst("Cookie")).getBytes(StandardCharsets.UTF_8)));
+        server.createContext("/redirect", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("Location", uri("/plain").toString());
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/empty-gzip", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, byte[] body) throws IOException {
+        requests.incrementAndGet();
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private static String read(SharedHttpClient.Response response) throws IOException {
+        try (InputStream body = response.getBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void getReturnsBody() throws IOException {
+        SharedHttpClient client = new SharedHttpClient(null, 1);
+
+        SharedHttpClient.Response response = client.get(uri("/plain"), Map.of(), CONNECT_TIMEOUT, false);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("plain content", read(response));
+    }
+
+    @Test
+    void getDecodesGzipResponse() throws IOException {
+        SharedHttpClient client = new SharedHttpClient(null, 1);
+
+        assertEquals("compressed content", read(client.get(uri("/gzip"), Map.of(), CONNECT_TIMEOUT, false)));
+    }
+
+    @Test
+    void freshResponseIsServedFromCache(@TempDir Path cacheDirectory) throws IOException {
+        SharedHttpClient client = new SharedHttpClient(new HttpResponseCache(cacheDirectory, Duration.ofHours(1)), 1);
+
+        read(client.get(uri("/plain"), Map.of(), CONNECT_TIMEOUT, true));
+        String cachedContent = read(client.get(uri("/plain"), Map.of(), CONNECT_TIMEOUT, true));
+
+        assertEquals("plain content", cachedContent);
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void cacheDistinguishesRequestHeaders(@TempDir Path cacheDirectory) throws IOException {
+        SharedHttpClient client = new SharedHttpClient(new HttpResponseCache(cacheDirectory, Duration.ofHours(1)), 1);
+
+        read(client.get(uri("/plain"), Map.of("Accept", "text/plain"), CONNECT_TIMEOUT, true));
+        read(client.get(uri("/plain"), Map.of("Accept", "application/json"), CONNECT_TIMEOUT, true));
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void staleResponseIsRevalidated(@TempDir Path cacheDirectory) throws IOException {
+        SharedHttpClient client = new SharedHttpClient(new HttpResponseCache(cacheDirectory, Duration.ZERO), 1);
+
+        read(client.get(uri("/etag"), Map.of(), CONNECT_TIMEOUT, true));
+        SharedHttpClient.Response response = client.get(uri("/etag"), Map.of(), CONNECT_TIMEOUT, true);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("tagged content", read(response));
+        assertEquals(2, requests.get());
+        assertEquals(1, notModifiedResponses.get());
+    }
+
+    @Test
+    void responseIsNotCachedIfDisabled(@TempDir Path cacheDirectory) throws IOException {
+        SharedHttpClient client = new SharedHttpClient(new HttpResponseCache(cacheDirectory, Duration.ofHours(1)), 1);
+
+        read(client.get(uri("/plain"), Map.of(), CONNECT_TIMEOUT, false));
+        read(client.get(uri("/plain"), Map.of(), CONNECT_TIMEOUT, false));
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void urlDownloadUsesSharedClient(@TempDir Path cacheDirectory) throws IOException {
+        SharedHttpClient defaultClient = SharedHttpClient.getInstance();
+        SharedHttpClient.setInstance(new SharedHttpClient(new HttpResponseCache(cacheDirectory, Duration.ofHours(1)), 1));
+        try {
+            URLDownload download = new URLDownload(uri("/gzip").toURL());
+            download.setUseResponseCache(true);
+
+            assertEquals("compressed content\n", download.asString());
+            assertEquals("compressed content\n", download.asString());
+            assertEquals(1, requests.get());
+        } finally {
+            SharedHttpClient.setInstance(defaultClient);
+        }
+    }
+
+    @Test
+    void restrictedHeadersAreIgnored() throws IOException {
+        SharedHttpClient client = new SharedHttpClient(null, 1);
+
+        SharedHttpClient.Response response = client.get(uri("/plain"), Map.of("Date", "today", "From", "jabref@example.org", "Via", "proxy", "Warning", "none"), CONNECT_TIMEOUT, false);
+
+        assertEquals("plain content", read(response));
+    }
+
+    @Test
+    void redirectIsFollowed() throws IOException {
+        SharedHttpClient client = new SharedHttpClient(null, 1);
+
+        SharedHttpClient.Response response = client.get(uri("/redirect"), Map.of(), CONNECT_TIMEOUT, false);
+
+        assertEquals(uri("/plain"), response.getUri());
+        assertEquals("plain content", read(response));
+    }
+
+    @Test
+    void cookiesOfDefaultHandlerAreSent() throws IOException {
+        CookieHandler defaultCookieHandler = CookieHandler.getDefault();
+        SharedHttpClient defaultClient = SharedHttpClient.getInstance();
+        SharedHttpClient.setInstance(new SharedHttpClient(null, 1));
+        try {
+            List<HttpCookie> cookies = new URLDownload(uri("/login").toURL()).getCookieFromUrl();
+
+            assertEquals(List.of("session=42"), cookies.stream().map(cookie -> cookie.getName() + "=" + cookie.getValue()).collect(Collectors.toList()));
+            assertEquals("session=42\n", new URLDownload(uri("/cookie").toURL()).asString());
+        } finally {
+            SharedHttpClient.setInstance(defaultClient);
+            CookieHandler.setDefault(defaultCookieHandler);
+        }
+    }
+
+    @Test
+    void emptyGzipResponseIsNotDecoded() throws IOException {
+        SharedHttpClient client = new SharedHttpClient(null, 1);
+
+        SharedHttpClient.Response response = client.get(uri("/empty-gzip"), Map.of(), CONNECT_TIMEOUT, false);
+
+        assertEquals(204, response.getStatusCode());
+        assertEquals("", read(response));
+    }
+
+    @Test
+    void requestWaitsUntilBodyOfPreviousRequestToSameHostIsClosed() throws Exception {
+        SharedHttpClient client = new SharedHttpClient(null, 1);
+        SharedHttpClient.Response firstResponse = client.get(uri("/plain"), Map.of(), CONNECT_TIMEOUT, false);
+
+        CompletableFuture<String> secondContent = CompletableFuture.supplyAsync(() -> {
+            try {
+                return read(client.get(uri("/plain"), Map.of(), CONNECT_TIMEOUT, false));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> secondContent.get(500, TimeUnit.MILLISECONDS));
+
+        firstResponse.close();
+        assertEquals("plain content", secondContent.get(5, TimeUnit.SECONDS));
+    }
+}
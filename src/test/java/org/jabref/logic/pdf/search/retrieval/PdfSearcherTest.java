@@ -3,6 +3,8 @@ package org.jabref.logic.pdf.search.retrieval;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 
 import org.jabref.logic.pdf.search.indexing.PdfIndexer;
 import org.jabref.logic.util.StandardFileType;
@@ -15,12 +17,14 @@ import org.jabref.model.pdf.search.PdfSearchResults;
 import org.jabref.preferences.FilePreferences;
 
 import org.apache.lucene.queryparser.classic.ParseException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -28,13 +32,16 @@ import static org.mockito.Mockito.when;
 public class PdfSearcherTest {
 
     private PdfSearcher search;
+    private BibDatabaseContext context;
+    private PdfIndexer indexer;
+    private BibEntry metaDataEntry;
 
     @BeforeEach
     public void setUp(@TempDir Path indexDir) throws IOException {
         FilePreferences filePreferences = mock(FilePreferences.class);
         // given
         BibDatabase database = new BibDatabase();
-        BibDatabaseContext context = mock(BibDatabaseContext.class);
+        context = mock(BibDatabaseContext.class);
         when(context.getFileDirectories(Mockito.any())).thenReturn(Collections.singletonList(Path.of("src/test/resources/pdfs")));
         when(context.getFulltextIndexPath()).thenReturn(indexDir);
         when(context.getDatabase()).thenReturn(database);
@@ -43,7 +50,7 @@ public class PdfSearcherTest {
         examplePdf.setFiles(Collections.singletonList(new LinkedFile("Example Entry", "example.pdf", StandardFileType.PDF.getName())));
         database.insertEntry(examplePdf);
 
-        BibEntry metaDataEntry = new BibEntry(StandardEntryType.Article);
+        metaDataEntry = new BibEntry(StandardEntryType.Article);
         metaDataEntry.setFiles(Collections.singletonList(new LinkedFile("Metadata Entry", "metaData.pdf", StandardFileType.PDF.getName())));
         metaDataEntry.setCitationKey("MetaData2017");
         database.insertEntry(metaDataEntry);
@@ -53,13 +60,18 @@ public class PdfSearcherTest {
         exampleThesis.setCitationKey("ExampleThesis");
         database.insertEntry(exampleThesis);
 
-        PdfIndexer indexer = PdfIndexer.of(context, filePreferences);
+        indexer = PdfIndexer.of(context, filePreferences);
         search = PdfSearcher.of(context);
 
         indexer.createIndex();
         indexer.addToIndex(context);
     }
 
+    @AfterEach
+    public void tearDown() {
+        PdfSearcher.shutdown(context);
+    }
+
     @Test
     public void searchForTest() throws IOException, ParseException {
         PdfSearchResults result = search.search("test", 10);
@@ -105,4 +117,36 @@ public class PdfSearcherTest {
     public void searchForZeroResults() throws IOException {
         assertThrows(IllegalArgumentException.class, () -> search.search("test", 0));
     }
+
+    @Test
+    public void ofReturnsSameSearcherForLibrary() throws IOException {
+        assertSame(search, PdfSearcher.of(context));
+    }
+
+    @Test
+    public void searchScoresByPathReturnsAllMatchingFiles() throws IOException {
+        Map<String, Float> scoresByPath = search.searchScoresByPath("second");
+        assertEquals(Set.of("example.pdf", "thesis-example.pdf"), scoresByPath.keySet());
+    }
+
+    @Test
+    public void searchScoresByPathForEmptyString() throws IOException {
+        assertEquals(Map.of(), search.searchScoresByPath(""));
+    }
+
+    @Test
+    public void searchScoresByPathSeesRemovedFiles() throws IOException {
+        assertEquals(Set.of("example.pdf", "metaData.pdf"), search.searchScoresByPath("annotation").keySet());
+
+        indexer.removeFromIndex(metaDataEntry);
+
+        assertEquals(Set.of("example.pdf"), search.searchScoresByPath("annotation").keySet());
+    }
+
+    @Test
+    public void searchForEntryReturnsAllPagesOfLinkedFiles() throws IOException {
+        PdfSearchResults result = search.search("annotation", metaDataEntry);
+        assertEquals(Set.of("metaData.pdf"), result.getSearchResultsByPath().keySet());
+        assertEquals(search.search("annotation", 10).getSearchResultsByPath().get("metaData.pdf").size(), result.numSearchResults());
+    }
 }
@@ -17,6 +17,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ProtectedTermsLoaderTest {
@@ -215,4 +217,31 @@ class ProtectedTermsLoaderTest {
                 tempDir.toFile().getAbsolutePath());
         assertEquals("My new list", newList.getDescription());
     }
+
+    @Test
+    void testMatcherIsReusedIfListsDoNotChange() {
+        assertSame(loader.getProtectedTermsMatcher(), loader.getProtectedTermsMatcher());
+    }
+
+    @Test
+    void testMatcherIsRebuiltIfListIsDisabled() {
+        ProtectedTermsMatcher matcher = loader.getProtectedTermsMatcher();
+        assertEquals("{VLSI}", matcher.protect("VLSI"));
+
+        loader.getProtectedTermsLists().forEach(list -> list.setEnabled(false));
+
+        assertNotSame(matcher, loader.getProtectedTermsMatcher());
+        assertEquals("VLSI", loader.getProtectedTermsMatcher().protect("VLSI"));
+    }
+
+    @Test
+    void testMatcherIsRebuiltIfTermIsAdded(@TempDir Path tempDir) {
+        ProtectedTermsList newList = loader.addNewProtectedTermsList("My new list",
+                tempDir.resolve("new.terms").toString());
+        assertEquals("JabRef", loader.getProtectedTermsMatcher().protect("JabRef"));
+
+        newList.addProtectedTerm("JabRef");
+
+        assertEquals("{JabRef}", loader.getProtectedTermsMatcher().protect("JabRef"));
+    }
 }
@@ -0,0 +1,71 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProtectedTermsMatcherTest {
+
+    private final ProtectedTermsMatcher matcher = new ProtectedTermsMatcher(
+            List.of("VLSI", "3G", "3GPP", "IEEE 802.11", "C++", "Model", "Model View"));
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "'' | ''",
+            "no terms here | no terms here",
+            "VLSI | {VLSI}",
+            "In VLSI design | In {VLSI} design",
+            "VLSI VLSI | {VLSI} {VLSI}",
+            "VLSI-VLSI/VLSI | {VLSI}-{VLSI}/{VLSI}",
+            "(VLSI) [VLSI] \"VLSI\" | ({VLSI}) [{VLSI}] \"{VLSI}\"",
+            "{VLSI} | {VLSI}",
+            "xVLSI | xVLSI",
+            "VLSIs | VLSIs",
+            "VLSI2 | {VLSI}2",
+            "3GPP 3G | {3GPP} {3G}",
+            "Model View Controller | {Model View} Controller",
+            "Model Viewer | {Model} Viewer",
+            "IEEE 802.11 | {IEEE 802.11}",
+            "IEEE 802x11 | IEEE 802x11",
+            "C++ and C | {C++} and C"
+    })
+    void protect(String text, String expected) {
+        assertEquals(expected, matcher.protect(text));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "A B C | {A {B} C}",
+            "A B C D | {A {B} C} D",
+            "X B Y | X {B} Y",
+            "B A B C | {B} {A {B} C}"
+    })
+    void nestedTermIsProtectedLikeReplacingLongestTermFirst(String text, String expected) {
+        ProtectedTermsMatcher nestedMatcher = new ProtectedTermsMatcher(List.of("A B C", "B"));
+
+        assertEquals(expected, nestedMatcher.protect(text));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "A B C D | A {B C D}",
+            "B C D | {B C D}",
+            "A B B C D | {A B} {B C D}"
+    })
+    void longestOfOverlappingTermsIsProtected(String text, String expected) {
+        ProtectedTermsMatcher overlappingMatcher = new ProtectedTermsMatcher(List.of("A B", "B C D"));
+
+        assertEquals(expected, overlappingMatcher.protect(text));
+    }
+
+    @Test
+    void bracesOfProtectedTermAllowProtectingFollowingTerm() {
+        ProtectedTermsMatcher touchingMatcher = new ProtectedTermsMatcher(List.of("AB", "-C"));
+
+        assertEquals("{AB}{-C}", touchingMatcher.protect("AB-C"));
+    }
+}
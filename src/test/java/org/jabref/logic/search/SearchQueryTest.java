@@ -240,4 +240,38 @@ public class SearchQueryTest {
         String pattern = "(\\(\\[\\{\\\\\\^\\$\\|\\]\\}\\)\\?\\*\\+\\.\\/)|(word1)|(word2\\.)";
         assertEquals(Optional.of(pattern), textQueryWithSpecialChars.getJavaScriptPatternForWords().map(Pattern::toString));
     }
+
+    @Test
+    public void extendedWordIsRefinement() {
+        SearchQuery previousQuery = new SearchQuery("Einst", EnumSet.noneOf(SearchFlags.class));
+        assertTrue(new SearchQuery("einstein", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(previousQuery));
+        assertTrue(new SearchQuery("Einst relativity", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(previousQuery));
+    }
+
+    @Test
+    public void removedWordIsNoRefinement() {
+        SearchQuery previousQuery = new SearchQuery("einstein relativity", EnumSet.noneOf(SearchFlags.class));
+        assertFalse(new SearchQuery("einstein", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(previousQuery));
+    }
+
+    @Test
+    public void queryWithOtherFlagsIsNoRefinement() {
+        SearchQuery previousQuery = new SearchQuery("einst", EnumSet.noneOf(SearchFlags.class));
+        assertFalse(new SearchQuery("einstein", EnumSet.of(SearchFlags.CASE_SENSITIVE)).isRefinementOf(previousQuery));
+        assertFalse(new SearchQuery("einstein", EnumSet.of(SearchFlags.FULLTEXT))
+                .isRefinementOf(new SearchQuery("einst", EnumSet.of(SearchFlags.FULLTEXT))));
+    }
+
+    @Test
+    public void addedAndClauseIsRefinement() {
+        SearchQuery previousQuery = new SearchQuery("author=einstein or title=relativity", EnumSet.noneOf(SearchFlags.class));
+        assertTrue(new SearchQuery("author=einstein or title=relativity and year=1905", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(previousQuery));
+    }
+
+    @Test
+    public void addedOrClauseIsNoRefinement() {
+        SearchQuery previousQuery = new SearchQuery("author=einstein", EnumSet.noneOf(SearchFlags.class));
+        assertFalse(new SearchQuery("author=einstein or year=1905", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(previousQuery));
+        assertFalse(new SearchQuery("year=1905 and author=einstein", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(previousQuery));
+    }
 }
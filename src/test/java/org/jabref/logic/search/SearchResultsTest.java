@@ -0,0 +1,74 @@
+package org.jabref.logic.search;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class SearchResultsTest {
+
+    private final BibEntry einstein = new BibEntry().withField(StandardField.AUTHOR, "Albert Einstein");
+    private final BibEntry eisenhower = new BibEntry().withField(StandardField.AUTHOR, "Dwight Eisenhower");
+    private final List<BibEntry> entries = List.of(einstein, eisenhower);
+
+    @Test
+    void searchFindsMatchingEntries() {
+        SearchResults results = search("einstein", Optional.empty());
+
+        assertTrue(results.isMatch(einstein));
+        assertFalse(results.isMatch(eisenhower));
+    }
+
+    @Test
+    void searchOfRefinedQuerySkipsEntriesNotMatchedBefore() {
+        SearchResults previousResults = search("ein", Optional.empty());
+        SearchQuery query = spy(new SearchQuery("einstein", EnumSet.noneOf(SearchFlags.class)));
+
+        SearchResults results = SearchResults.search(query, entries, Optional.of(previousResults), () -> false).get();
+
+        assertTrue(results.isMatch(einstein));
+        assertFalse(results.isMatch(eisenhower));
+        verify(query, never()).isMatch(eisenhower);
+    }
+
+    @Test
+    void searchOfRefinedQuerySearchesChangedEntries() {
+        SearchResults previousResults = search("eins", Optional.empty());
+        eisenhower.setField(StandardField.AUTHOR, "Hans Albert Einstein");
+
+        SearchResults results = search("einstein", Optional.of(previousResults));
+
+        assertTrue(results.isMatch(eisenhower));
+    }
+
+    @Test
+    void isMatchSearchesEntryChangedAfterSearch() {
+        SearchResults results = search("einstein", Optional.empty());
+
+        eisenhower.setField(StandardField.AUTHOR, "Hans Albert Einstein");
+
+        assertTrue(results.isMatch(eisenhower));
+    }
+
+    @Test
+    void canceledSearchHasNoResults() {
+        SearchQuery query = new SearchQuery("einstein", EnumSet.noneOf(SearchFlags.class));
+        assertEquals(Optional.empty(), SearchResults.search(query, entries, Optional.empty(), () -> true));
+    }
+
+    private SearchResults search(String query, Optional<SearchResults> previousResults) {
+        return SearchResults.search(new SearchQuery(query, EnumSet.noneOf(SearchFlags.class)), entries, previousResults, () -> false).get();
+    }
+}
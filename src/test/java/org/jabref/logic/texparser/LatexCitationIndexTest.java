@@ -0,0 +1,166 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatexCitationIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private static List<Integer> getLines(List<Citation> citations) {
+        return citations.stream().map(Citation::getLine).collect(Collectors.toList());
+    }
+
+    /**
+     * Writes the file with an explicit modification time, as the resolution of the file system may be too coarse to
+     * notice two writes in a row
+     */
+    private static void write(Path file, String content, long modificationSecond) throws IOException {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.ofEpochSecond(modificationSecond)));
+    }
+
+    @Test
+    void findsCitationsInAllFilesOfDirectoryTree() throws IOException {
+        Files.createDirectory(directory.resolve("chapters"));
+        write(directory.resolve("main.tex"), "\\cite{Darwin1888}\n\\cite{Einstein1920}\n", 1);
+        write(directory.resolve("chapters").resolve("intro.tex"), "Text\n\\cite{Einstein1920, Newton1999}\n", 1);
+        write(directory.resolve("notes.txt"), "\\cite{Einstein1920}\n", 1);
+
+        LatexCitationIndex index = new LatexCitationIndex(directory, new DummyFileUpdateMonitor());
+        index.update();
+
+        List<Citation> citations = index.getCitations("Einstein1920");
+        assertEquals(2, citations.size());
+        assertTrue(citations.stream().allMatch(citation -> citation.getPath().toString().endsWith(".tex")));
+        assertEquals(List.of(2), getLines(index.getCitations("Newton1999")));
+        assertEquals(List.of(), index.getCitations("UnknownKey"));
+    }
+
+    @Test
+    void citationsAreOrderedByPosition() throws IOException {
+        write(directory.resolve("main.tex"), "\\cite{Darwin1888} and \\cite{Darwin1888}\n\\cite{Darwin1888}\n", 1);
+
+        LatexCitationIndex index = new LatexCitationIndex(directory, new DummyFileUpdateMonitor());
+        index.update();
+
+        List<Citation> citations = index.getCitations("Darwin1888");
+        assertEquals(List.of(1, 1, 2), getLines(citations));
+        assertTrue(citations.get(0).getColStart() < citations.get(1).getColStart());
+    }
+
+    @Test
+    void updateReflectsModifiedAndRemovedFiles() throws IOException {
+        Path main = directory.resolve("main.tex");
+        Path appendix = directory.resolve("appendix.tex");
+        write(main, "\\cite{Darwin1888}\n", 1);
+        write(appendix, "\\cite{Newton1999}\n", 1);
+        LatexCitationIndex index = new LatexCitationIndex(directory, new DummyFileUpdateMonitor());
+        index.update();
+
+        write(main, "\n\\cite{Einstein1920}\n", 2);
+        Files.delete(appendix);
+        index.update();
+
+        assertEquals(List.of(), index.getCitations("Darwin1888"));
+        assertEquals(List.of(), index.getCitations("Newton1999"));
+        assertEquals(List.of(2), getLines(index.getCitations("Einstein1920")));
+    }
+
+    @Test
+    void modifiedFileIsReindexedWhenMonitorReportsIt() throws IOException {
+        RecordingFileUpdateMonitor monitor = new RecordingFileUpdateMonitor();
+        Path main = directory.resolve("main.tex");
+        write(main, "\\cite{Darwin1888}\n", 1);
+        LatexCitationIndex index = new LatexCitationIndex(directory, monitor);
+        index.update();
+        AtomicInteger notifications = new AtomicInteger();
+        index.addListener(notifications::incrementAndGet);
+
+        write(main, "\\cite{Einstein1920}\n", 2);
+        monitor.listeners.get(main.toAbsolutePath()).fileUpdated();
+
+        assertEquals(List.of(), index.getCitations("Darwin1888"));
+        assertEquals(List.of(1), getLines(index.getCitations("Einstein1920")));
+        assertEquals(1, notifications.get());
+    }
+
+    @Test
+    void updateFindsAndWatchesNewFiles() throws IOException {
+        RecordingFileUpdateMonitor monitor = new RecordingFileUpdateMonitor();
+        write(directory.resolve("main.tex"), "\\cite{Darwin1888}\n", 1);
+        LatexCitationIndex index = new LatexCitationIndex(directory, monitor);
+        index.update();
+
+        Path chapter = directory.resolve("chapter.tex");
+        write(chapter, "\\cite{Newton1999}\n", 2);
+        index.update();
+
+        assertEquals(List.of(1), getLines(index.getCitations("Newton1999")));
+        assertTrue(monitor.listeners.containsKey(chapter.toAbsolutePath()));
+    }
+
+    @Test
+    void closeStopsWatchingFiles() throws IOException {
+        RecordingFileUpdateMonitor monitor = new RecordingFileUpdateMonitor();
+        write(directory.resolve("main.tex"), "\\cite{Darwin1888}\n", 1);
+        LatexCitationIndex index = new LatexCitationIndex(directory, monitor);
+        index.update();
+
+        index.close();
+
+        assertTrue(monitor.listeners.isEmpty());
+    }
+
+    @Test
+    void updateOfMissingDirectoryFails() {
+        LatexCitationIndex index = new LatexCitationIndex(directory.resolve("missing"), new DummyFileUpdateMonitor());
+
+        assertThrows(IOException.class, index::update);
+    }
+
+    private static class RecordingFileUpdateMonitor implements FileUpdateMonitor {
+        private final Map<Path, FileUpdateListener> listeners = new ConcurrentHashMap<>();
+
+        @Override
+        public void addListenerForFile(Path file, FileUpdateListener listener) {
+            listeners.put(file, listener);
+        }
+
+        @Override
+        public void removeListener(Path path, FileUpdateListener listener) {
+            listeners.remove(path, listener);
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+            // nothing to do
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.jabref.logic.util.strings;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ReplacementTrieTest {
+
+    private final ReplacementTrie trie = new ReplacementTrie(Map.of(
+            "&amp;", "\\&",
+            "&lt;", "<",
+            "&l", "L",
+            "ä", "{\\\"{a}}",
+            "𝒜", "{$\\mathcal{A}$}"));
+
+    @Test
+    void textWithoutMatchIsReturnedItself() {
+        String text = "no replacement";
+        assertSame(text, trie.replaceAll(text));
+    }
+
+    @Test
+    void allOccurrencesAreReplaced() {
+        assertEquals("M{\\\"{a}}rz \\& M{\\\"{a}}rchen", trie.replaceAll("März &amp; Märchen"));
+    }
+
+    @Test
+    void longestMatchIsReplaced() {
+        assertEquals("< L", trie.replaceAll("&lt; &l"));
+    }
+
+    @Test
+    void replacementIsNotReplacedAgain() {
+        assertEquals("\\&lt;", trie.replaceAll("&amp;lt;"));
+    }
+
+    @Test
+    void supplementaryCharacterIsReplaced() {
+        assertEquals("{$\\mathcal{A}$}x", trie.replaceAll("𝒜x"));
+    }
+
+    @Test
+    void replaceAtAppendsReplacement() {
+        StringBuilder result = new StringBuilder("x");
+
+        assertEquals(4, trie.replaceAt("a&lt;", 1, result));
+        assertEquals(0, trie.replaceAt("a&lt;", 0, result));
+        assertEquals("x<", result.toString());
+    }
+}
@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import javafx.collections.ListChangeListener;
+
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.field.StandardField;
@@ -345,6 +347,73 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void getEntryByCitationKeyFindsEntryAfterKeyChange() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void getEntryByCitationKeyIgnoresClearedKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+
+        entry.clearCiteKey();
+
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+    }
+
+    @Test
+    void getEntryByCitationKeyIgnoresRemovedEntryChangingItsKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsDatabaseOrderAfterKeyChange() {
+        BibEntry first = new BibEntry().withCitationKey("BBB");
+        BibEntry second = new BibEntry().withCitationKey("AAA");
+        database.insertEntries(first, second);
+
+        first.setCitationKey("AAA");
+
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void containsEntryWithIdFollowsIdChange() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        String oldId = entry.getId();
+
+        entry.setId("newId");
+
+        assertFalse(database.containsEntryWithId(oldId));
+        assertTrue(database.containsEntryWithId("newId"));
+    }
+
+    @Test
+    void containsEntryWithIdIsFalseAfterRemoval() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+
+        database.removeEntry(entry);
+
+        assertFalse(database.containsEntryWithId(entry.getId()));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -458,4 +527,48 @@ class BibDatabaseTest {
         database.setPreamble("Oh yeah!");
         assertEquals(Optional.of("Oh yeah!"), database.getPreamble());
     }
+
+    @Test
+    void changingEntryUpdatesEntriesList() {
+        BibEntry entry = new BibEntry();
+        database.insertEntries(new BibEntry(), entry);
+        List<Integer> updatedIndices = new ArrayList<>();
+        database.getEntries().addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        updatedIndices.add(i);
+                    }
+                }
+            }
+        });
+
+        entry.setField(StandardField.TITLE, "title");
+        entry.setType(StandardEntryType.Book);
+
+        assertEquals(List.of(1, 1), updatedIndices);
+    }
+
+    @Test
+    void removeEntriesRemovesAllEntriesInOneChange() {
+        BibEntry first = new BibEntry();
+        BibEntry second = new BibEntry();
+        BibEntry third = new BibEntry();
+        BibEntry fourth = new BibEntry();
+        database.insertEntries(first, second, third, fourth);
+        List<BibEntry> removed = new ArrayList<>();
+        List<Integer> changes = new ArrayList<>();
+        database.getEntries().addListener((ListChangeListener<BibEntry>) change -> {
+            changes.add(1);
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        database.removeEntries(List.of(fourth, second));
+
+        assertEquals(List.of(first, third), database.getEntries());
+        assertEquals(List.of(second, fourth), removed);
+        assertEquals(1, changes.size());
+    }
 }
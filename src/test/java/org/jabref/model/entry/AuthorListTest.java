@@ -1098,21 +1098,21 @@ public class AuthorListTest {
     }
 
     @Test
-    public void parseGarbageCollectAuthorListForUnreachableKey() throws Exception {
+    public void parseKeepsAuthorListForUnreachableKeyAfterGarbageCollection() throws Exception {
         final String uniqueAuthorName = "Fleur Hornbach";
         // Note that "new String()" is needed, uniqueAuthorName is a reference to a String literal
         AuthorList uniqueAuthor = AuthorList.parse(new String(uniqueAuthorName));
         System.gc();
-        assertNotSame(uniqueAuthor, AuthorList.parse(uniqueAuthorName));
+        assertSame(uniqueAuthor, AuthorList.parse(uniqueAuthorName));
     }
 
     @Test
-    public void parseGarbageCollectUnreachableInstitution() throws Exception {
+    public void parseKeepsUnreachableInstitutionAfterGarbageCollection() throws Exception {
         final String uniqueInstitutionName = "{Unique LLC}";
         // Note that "new String()" is needed, uniqueAuthorName is a reference to a String literal
         AuthorList uniqueInstitution = AuthorList.parse(new String(uniqueInstitutionName));
         System.gc();
-        assertNotSame(uniqueInstitution, AuthorList.parse(uniqueInstitutionName));
+        assertSame(uniqueInstitution, AuthorList.parse(uniqueInstitutionName));
     }
 
     /**
@@ -4,12 +4,22 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.BibField;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldPriority;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.OrFields;
@@ -275,6 +285,26 @@ class BibEntryTest {
         assertEquals(new KeywordList(new Keyword("kw")), actual);
     }
 
+    @Test
+    void modifyingReturnedKeywordsDoesNotAffectOtherEntries() {
+        entry.setField(StandardField.KEYWORDS, "kw1, kw2");
+        BibEntry otherEntry = new BibEntry().withField(StandardField.KEYWORDS, "kw1, kw2");
+
+        entry.getKeywords(',').add("kw3");
+
+        assertEquals(new KeywordList("kw1", "kw2"), entry.getKeywords(','));
+        assertEquals(new KeywordList("kw1", "kw2"), otherEntry.getKeywords(','));
+    }
+
+    @Test
+    void getLatexFreeFieldReflectsChangedValue() {
+        entry.setField(StandardField.TITLE, "\\\"{a}");
+        assertEquals(Optional.of("ä"), entry.getLatexFreeField(StandardField.TITLE));
+
+        entry.setField(StandardField.TITLE, "\\\"{o}");
+        assertEquals(Optional.of("ö"), entry.getLatexFreeField(StandardField.TITLE));
+    }
+
     @Test
     void settingCiteKeyLeadsToCorrectCiteKey() {
         assertFalse(entry.hasCitationKey());
@@ -656,4 +686,162 @@ class BibEntryTest {
         entry = new BibEntry().withField(StandardField.AUTHOR, "value");
         assertFalse(entry.hasChanged());
     }
+
+    @Test
+    void sortKeyIsCachedUntilAFieldChanges() {
+        entry.setField(StandardField.TITLE, "first");
+        assertEquals("first", entry.getSortKey("title", e -> e.getField(StandardField.TITLE).orElse("")));
+        // cached, thus not computed again
+        assertEquals("first", entry.getSortKey("title", e -> "other"));
+
+        entry.setField(StandardField.TITLE, "second");
+        assertEquals("second", entry.getSortKey("title", e -> e.getField(StandardField.TITLE).orElse("")));
+    }
+
+    @Test
+    void sortKeyIsRecomputedAfterClearingAFieldOrChangingTheType() {
+        entry.setField(StandardField.TITLE, "first");
+        entry.getSortKey("title", e -> e.getField(StandardField.TITLE).orElse(""));
+
+        entry.clearField(StandardField.TITLE);
+        assertEquals("", entry.getSortKey("title", e -> e.getField(StandardField.TITLE).orElse("")));
+
+        entry.setType(StandardEntryType.Book);
+        assertEquals(StandardEntryType.Book, entry.getSortKey("title", BibEntry::getType));
+    }
+
+    @Test
+    void settingFieldOfEntryWithDeferredContentKeepsNewValue() {
+        entry.setCitationKey("key");
+        entry.setDeferredContent(() -> new BibEntry()
+                .withCitationKey("key")
+                .withField(StandardField.TITLE, "parsed")
+                .withField(StandardField.YEAR, "2021"));
+
+        entry.setField(StandardField.TITLE, "edited");
+
+        assertFalse(entry.hasDeferredContent());
+        assertEquals(Optional.of("edited"), entry.getField(StandardField.TITLE));
+        assertEquals(Optional.of("2021"), entry.getField(StandardField.YEAR));
+    }
+
+    @Test
+    void observableFieldsAndTypeReflectLaterChanges() {
+        entry.setField(StandardField.TITLE, "first");
+        ObservableMap<Field, String> fields = entry.getFieldsObservable();
+
+        entry.setField(StandardField.TITLE, "second");
+        entry.setField(StandardField.YEAR, "2021");
+        entry.clearField(StandardField.TITLE);
+        entry.setType(StandardEntryType.Book);
+
+        assertEquals(Map.of(StandardField.YEAR, "2021"), fields);
+        assertEquals(StandardEntryType.Book, entry.typeProperty().get());
+        assertEquals(Optional.of("2021"), entry.getFieldBinding(StandardField.YEAR).getValue());
+    }
+
+    @Test
+    void observableFieldsMatchFieldsAfterConcurrentWriters() throws Exception {
+        ObservableMap<Field, String> fields = entry.getFieldsObservable();
+        // slow listeners make it likely that the writers interleave
+        fields.addListener((MapChangeListener<Field, String>) change -> Thread.yield());
+        List<Thread> writers = new ArrayList<>();
+        for (int writer = 0; writer < 8; writer++) {
+            String value = String.valueOf(writer);
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    entry.setField(StandardField.TITLE, value + i);
+                    entry.setField(StandardField.YEAR, value);
+                    entry.clearField(StandardField.YEAR);
+                }
+            }));
+        }
+
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertEquals(entry.getFieldMap(), fields);
+    }
+
+    @Test
+    void fieldMapIsUnmodifiableSnapshot() {
+        entry.setField(StandardField.TITLE, "title");
+        Map<Field, String> fields = entry.getFieldMap();
+
+        entry.setField(StandardField.YEAR, "2021");
+
+        assertEquals(Map.of(StandardField.TITLE, "title"), fields);
+        assertThrows(UnsupportedOperationException.class, () -> fields.put(StandardField.YEAR, "2021"));
+    }
+
+    @Test
+    void changeListenerIsNotifiedOnceAboutEveryChange() {
+        List<FieldChangedEvent> events = new ArrayList<>();
+        Consumer<FieldChangedEvent> listener = events::add;
+        entry.registerChangeListener(listener);
+        entry.registerChangeListener(listener);
+
+        entry.setField(StandardField.TITLE, "title");
+        entry.setField(StandardField.TITLE, "new title");
+        entry.unregisterChangeListener(listener);
+        entry.clearField(StandardField.TITLE);
+
+        assertEquals(2, events.size());
+        assertTrue(events.get(0) instanceof FieldAddedOrRemovedEvent);
+        assertEquals("new title", events.get(1).getNewValue());
+    }
+
+    @Test
+    void setFieldsPostsSingleEventForAllChanges() {
+        entry.setField(StandardField.TITLE, "title");
+        entry.setField(StandardField.YEAR, "2020");
+        List<FieldChangedEvent> events = new ArrayList<>();
+        entry.registerChangeListener(events::add);
+        Map<Field, String> values = new LinkedHashMap<>();
+        values.put(StandardField.TITLE, "new title");
+        values.put(StandardField.YEAR, null);
+        values.put(StandardField.AUTHOR, "author");
+
+        entry.setFields(values, EntriesEventSource.LOCAL);
+
+        assertEquals(Map.of(StandardField.TITLE, "new title", StandardField.AUTHOR, "author"), entry.getFieldMap());
+        assertEquals(1, events.size());
+        assertEquals(List.of(
+                new FieldChange(entry, StandardField.TITLE, "title", "new title"),
+                new FieldChange(entry, StandardField.YEAR, "2020", null),
+                new FieldChange(entry, StandardField.AUTHOR, null, "author")),
+                events.get(0).getFieldChanges());
+    }
+
+    @Test
+    void setFieldsWithSingleChangePostsUsualEvent() {
+        entry.setField(StandardField.TITLE, "title");
+        List<FieldChangedEvent> events = new ArrayList<>();
+        entry.registerChangeListener(events::add);
+
+        entry.setFields(Map.of(StandardField.TITLE, "title", StandardField.YEAR, "2020"), EntriesEventSource.LOCAL);
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0) instanceof FieldAddedOrRemovedEvent);
+        assertEquals(StandardField.YEAR, events.get(0).getField());
+    }
+
+    @Test
+    void entryWithCrossrefReferencesOtherEntries() {
+        entry.setField(StandardField.CROSSREF, "parent");
+
+        assertTrue(entry.referencesOtherEntriesOrStrings());
+    }
+
+    @Test
+    void entryReferencesStringsAfterFieldChange() {
+        entry.setField(StandardField.TITLE, "A title");
+        assertFalse(entry.referencesOtherEntriesOrStrings());
+
+        entry.setField(StandardField.JOURNAL, "#jcss#");
+
+        assertTrue(entry.referencesOtherEntriesOrStrings());
+    }
 }
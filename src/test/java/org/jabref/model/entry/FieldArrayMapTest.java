@@ -0,0 +1,74 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FieldArrayMapTest {
+
+    @Test
+    void withAddsAndReplacesFields() {
+        FieldArrayMap map = FieldArrayMap.EMPTY
+                .with(StandardField.TITLE, "title")
+                .with(StandardField.YEAR, "2020")
+                .with(StandardField.TITLE, "new title");
+
+        assertEquals(Map.of(StandardField.TITLE, "new title", StandardField.YEAR, "2020"), map);
+        assertEquals(List.of(StandardField.TITLE, StandardField.YEAR), List.copyOf(map.keySet()));
+    }
+
+    @Test
+    void withoutRemovesField() {
+        FieldArrayMap map = FieldArrayMap.EMPTY
+                .with(StandardField.TITLE, "title")
+                .with(StandardField.YEAR, "2020")
+                .with(StandardField.AUTHOR, "author");
+
+        FieldArrayMap withoutYear = map.without(StandardField.YEAR);
+
+        assertEquals(Map.of(StandardField.TITLE, "title", StandardField.AUTHOR, "author"), withoutYear);
+        assertNull(withoutYear.get(StandardField.YEAR));
+        assertSame(withoutYear, withoutYear.without(StandardField.YEAR));
+        assertSame(FieldArrayMap.EMPTY, FieldArrayMap.EMPTY.with(StandardField.TITLE, "title").without(StandardField.TITLE));
+    }
+
+    @Test
+    void changesDoNotModifyOriginalMap() {
+        FieldArrayMap map = FieldArrayMap.EMPTY.with(StandardField.TITLE, "title");
+
+        map.with(StandardField.TITLE, "new title");
+        map.without(StandardField.TITLE);
+
+        assertEquals(Map.of(StandardField.TITLE, "title"), map);
+        assertFalse(FieldArrayMap.EMPTY.containsKey(StandardField.TITLE));
+    }
+
+    @Test
+    void unknownFieldsAreFoundByEqualFields() {
+        FieldArrayMap map = FieldArrayMap.EMPTY.with(new UnknownField("custom"), "value");
+
+        assertEquals("value", map.get(new UnknownField("custom")));
+    }
+
+    @Test
+    void equalsAndHashCodeMatchOtherMaps() {
+        Map<Object, String> hashMap = new HashMap<>(Map.of(StandardField.TITLE, "title", StandardField.YEAR, "2020"));
+        FieldArrayMap map = FieldArrayMap.EMPTY
+                .with(StandardField.YEAR, "2020")
+                .with(StandardField.TITLE, "title");
+
+        assertEquals(hashMap, map);
+        assertEquals(map, hashMap);
+        assertEquals(hashMap.hashCode(), map.hashCode());
+    }
+}
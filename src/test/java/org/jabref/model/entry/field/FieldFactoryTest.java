@@ -3,6 +3,7 @@ package org.jabref.model.entry.field;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class FieldFactoryTest {
     @Test
@@ -14,4 +15,25 @@ class FieldFactoryTest {
     void testOrFieldsThreeTerms() {
         assertEquals("aaa/bbb/ccc", FieldFactory.serializeOrFields(new UnknownField("aaa"), new UnknownField("bbb"), new UnknownField("ccc")));
     }
+
+    @Test
+    void parseFieldIgnoresCase() {
+        assertSame(StandardField.TITLE, FieldFactory.parseField("TiTlE"));
+        assertSame(SpecialField.RANKING, FieldFactory.parseField("Ranking"));
+        assertSame(IEEEField.CTLUSE_PAPER, FieldFactory.parseField("CTLUSE_PAPER"));
+    }
+
+    @Test
+    void parseFieldMapsBibtexkeyToCitationKey() {
+        assertSame(InternalField.KEY_FIELD, FieldFactory.parseField("BibTexKey"));
+    }
+
+    @Test
+    void parseFieldSharesUnknownFieldsWithSameName() {
+        Field field = FieldFactory.parseField("customField");
+
+        assertSame(field, FieldFactory.parseField("customField"));
+        assertEquals("customField", field.getName());
+        assertEquals("CUSTOMFIELD", FieldFactory.parseField("CUSTOMFIELD").getName());
+    }
 }
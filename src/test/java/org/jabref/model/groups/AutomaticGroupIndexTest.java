@@ -0,0 +1,87 @@
+package org.jabref.model.groups;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutomaticGroupIndexTest {
+
+    private final WordKeywordGroup groupA = new WordKeywordGroup("A", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, "A", true, ',', true);
+    private final WordKeywordGroup groupB = new WordKeywordGroup("B", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, "A > B", true, ',', true);
+    private final WordKeywordGroup groupC = new WordKeywordGroup("C", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, "C", true, ',', true);
+
+    private AutomaticGroupIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AutomaticGroupIndex(new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>'));
+    }
+
+    @Test
+    void countsEntriesOfSubgroupsAndTheirParents() {
+        index.updateEntries(List.of(
+                new BibEntry().withField(StandardField.KEYWORDS, "A > B, A"),
+                new BibEntry().withField(StandardField.KEYWORDS, "A > B"),
+                new BibEntry().withField(StandardField.KEYWORDS, "C")));
+
+        assertEquals(2, index.getEntryCount(List.of(groupA)));
+        assertEquals(2, index.getEntryCount(List.of(groupA, groupB)));
+        assertEquals(1, index.getEntryCount(List.of(groupC)));
+        assertEquals(0, index.getEntryCount(List.of(groupB)));
+    }
+
+    @Test
+    void getSubgroupsCreatesCombinedTree() {
+        index.updateEntries(List.of(
+                new BibEntry().withField(StandardField.KEYWORDS, "A > B"),
+                new BibEntry().withField(StandardField.KEYWORDS, "A, C")));
+
+        GroupTreeNode expectedA = new GroupTreeNode(groupA);
+        expectedA.addSubgroup(groupB);
+
+        assertEquals(List.of(expectedA, new GroupTreeNode(groupC)), index.getSubgroups());
+    }
+
+    @Test
+    void updateEntriesMovesChangedEntry() {
+        BibEntry entry = new BibEntry().withField(StandardField.KEYWORDS, "A > B");
+        index.updateEntries(List.of(entry));
+
+        entry.setField(StandardField.KEYWORDS, "C");
+
+        assertEquals(Set.of(groupA, groupC), index.updateEntries(List.of(entry)));
+        assertEquals(0, index.getEntryCount(List.of(groupA)));
+        assertEquals(1, index.getEntryCount(List.of(groupC)));
+        assertEquals(List.of(new GroupTreeNode(groupC)), index.getSubgroups());
+    }
+
+    @Test
+    void updateEntriesReportsNoChangeIfSubgroupsOfEntryStayTheSame() {
+        BibEntry entry = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        index.updateEntries(List.of(entry));
+
+        entry.setField(StandardField.TITLE, "Title");
+
+        assertEquals(Set.of(), index.updateEntries(List.of(entry)));
+    }
+
+    @Test
+    void removeEntriesRemovesEmptySubgroups() {
+        BibEntry entry = new BibEntry().withField(StandardField.KEYWORDS, "A > B");
+        index.updateEntries(List.of(entry));
+        assertTrue(index.hasSubgroups());
+
+        assertEquals(Set.of(groupA), index.removeEntries(List.of(entry)));
+        assertFalse(index.hasSubgroups());
+        assertEquals(0, index.getEntryCount(List.of(groupA, groupB)));
+    }
+}
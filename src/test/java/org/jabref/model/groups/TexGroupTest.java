@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @AllowedToUseLogic("because class under test relies on logic classes")
@@ -46,6 +47,15 @@ public class TexGroupTest {
         assertFalse(group.contains(notInAux));
     }
 
+    @Test
+    public void groupsWithSameAuxFileShareKeys() throws Exception {
+        Path auxFile = Path.of(TexGroupTest.class.getResource("paper.aux").toURI());
+        TexGroup group = new TexGroup("paper", GroupHierarchyType.INDEPENDENT, auxFile, new DefaultAuxParser(new BibDatabase()), new DummyFileUpdateMonitor(), metaData);
+        TexGroup otherGroup = new TexGroup("other", GroupHierarchyType.INDEPENDENT, auxFile, new DefaultAuxParser(new BibDatabase()), new DummyFileUpdateMonitor(), metaData);
+
+        assertSame(group.getKeysUsedInAux(), otherGroup.getKeysUsedInAux());
+    }
+
     @Test
     public void getFilePathReturnsRelativePath() throws Exception {
         Path auxFile = Path.of(TexGroupTest.class.getResource("paper.aux").toURI());
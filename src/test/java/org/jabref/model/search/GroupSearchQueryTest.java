@@ -0,0 +1,72 @@
+package org.jabref.model.search;
+
+import java.util.EnumSet;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class GroupSearchQueryTest {
+
+    @Test
+    void queriesWithSameExpressionAndFlagsShareRule() {
+        GroupSearchQuery query = new GroupSearchQuery("title=cat", EnumSet.noneOf(SearchFlags.class));
+        GroupSearchQuery otherQuery = new GroupSearchQuery("title=cat", EnumSet.noneOf(SearchFlags.class));
+
+        assertSame(query.getRule(), otherQuery.getRule());
+        assertNotSame(query.getRule(), new GroupSearchQuery("title=cat", EnumSet.of(SearchFlags.CASE_SENSITIVE)).getRule());
+    }
+
+    @Test
+    void isMatchCachesResultInEntry() {
+        GroupSearchQuery query = new GroupSearchQuery("title=cat", EnumSet.noneOf(SearchFlags.class));
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "cat");
+
+        assertTrue(query.isMatch(entry));
+        entry.getDerivedValue(GroupSearchResults.class, e -> fail("results should be cached"));
+    }
+
+    @Test
+    void isMatchEvaluatesChangedEntryAgain() {
+        GroupSearchQuery query = new GroupSearchQuery("title=cat", EnumSet.noneOf(SearchFlags.class));
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "cat");
+        assertTrue(query.isMatch(entry));
+
+        entry.setField(StandardField.TITLE, "dog");
+
+        assertFalse(query.isMatch(entry));
+    }
+
+    @Test
+    void indexOfReleasedQueryIsReused() {
+        int index = GroupSearchResults.acquireIndex();
+        GroupSearchResults.releaseIndex(index);
+
+        assertEquals(index, GroupSearchResults.acquireIndex());
+        GroupSearchResults.releaseIndex(index);
+    }
+
+    @Test
+    void resultOfReleasedQueryIsNotReturnedForReusedIndex() {
+        int index = GroupSearchResults.acquireIndex();
+        GroupSearchResults results = new GroupSearchResults();
+        assertTrue(results.isMatch(index, () -> true));
+        GroupSearchResults.releaseIndex(index);
+
+        int reusedIndex = GroupSearchResults.acquireIndex();
+
+        assertEquals(index, reusedIndex);
+        assertFalse(results.isMatch(reusedIndex, () -> false));
+        assertFalse(results.isMatch(reusedIndex, () -> fail("result should be cached")));
+        GroupSearchResults.releaseIndex(reusedIndex);
+    }
+}
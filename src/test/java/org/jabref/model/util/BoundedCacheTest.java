@@ -0,0 +1,73 @@
+package org.jabref.model.util;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String load(String key) {
+        loads.incrementAndGet();
+        return key.toUpperCase();
+    }
+
+    @Test
+    void valueIsLoadedOnlyOnce() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+
+        assertEquals("A", cache.get("a", this::load));
+        assertEquals("A", cache.get("a", this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void sizeIsBounded() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+
+        IntStream.range(0, 100).forEach(i -> cache.get("key" + i, this::load));
+
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    void invalidatedValueIsLoadedAgain() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+        cache.get("a", this::load);
+
+        cache.invalidate("a");
+
+        assertEquals(Optional.empty(), cache.getIfPresent("a"));
+        cache.get("a", this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void concurrentAccessLoadsEachKeyOnce() {
+        BoundedCache<String, String> cache = new BoundedCache<>(100);
+
+        IntStream.range(0, 10_000).parallel().forEach(i -> cache.get("key" + (i % 50), this::load));
+
+        assertEquals(50, loads.get());
+        assertEquals(50, cache.size());
+    }
+
+    @Test
+    void exceptionOfLoaderIsPassedOn() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("a", key -> {
+            throw new IllegalArgumentException();
+        }));
+    }
+}